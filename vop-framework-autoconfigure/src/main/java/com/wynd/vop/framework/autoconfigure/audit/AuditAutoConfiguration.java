@@ -1,15 +1,27 @@
 package com.wynd.vop.framework.autoconfigure.audit;
 
 import com.wynd.vop.framework.audit.AuditLogSerializer;
+import com.wynd.vop.framework.log.VopBanner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 
+import javax.annotation.PostConstruct;
+
 @Configuration
 @EnableAsync
 public class AuditAutoConfiguration {
 
+	/**
+	 * Render the error banners used by the audit and exception handling paths at startup,
+	 * rather than on the first failing request.
+	 */
+	@PostConstruct
+	public void preRenderBanners() {
+		VopBanner.preRender();
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public AuditLogSerializer auditLogSerializer() {
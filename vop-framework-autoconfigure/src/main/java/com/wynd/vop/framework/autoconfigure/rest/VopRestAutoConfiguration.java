@@ -1,9 +1,15 @@
 package com.wynd.vop.framework.autoconfigure.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wynd.vop.framework.client.rest.template.RestClientTemplate;
 import com.wynd.vop.framework.log.VopLogger;
 import com.wynd.vop.framework.log.VopLoggerFactory;
+import com.wynd.vop.framework.rest.exception.ErrorResponseCache;
 import com.wynd.vop.framework.rest.exception.VopRestGlobalExceptionHandler;
+import com.wynd.vop.framework.rest.log.VopRequestDebugFilter;
+import com.wynd.vop.framework.rest.log.VopServerTimingFilter;
+import com.wynd.vop.framework.rest.provider.StreamingProviderResponse;
+import com.wynd.vop.framework.rest.provider.StreamingProviderResponseWriter;
 import com.wynd.vop.framework.rest.provider.aspect.ProviderHttpAspect;
 import com.wynd.vop.framework.rest.provider.aspect.RestProviderTimerAspect;
 import com.wynd.vop.framework.util.HttpClientUtils;
@@ -13,8 +19,10 @@ import org.apache.http.impl.NoConnectionReuseStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.BufferingClientHttpRequestFactory;
@@ -64,27 +72,72 @@ public class VopRestAutoConfiguration {
     @Value("${vop.framework.client.rest.evictExpiredConnections:false}")
     private boolean evictExpiredConnections;
 
+	@Value("${vop.framework.log.requestDebug.secret:}")
+	private String requestDebugSecret;
+
+	@Value("${vop.framework.log.requestDebug.sampleRate:0}")
+	private double requestDebugSampleRate;
+
+	@Value("${vop.framework.log.requestDebug.maxTtlSeconds:3600}")
+	private long requestDebugMaxTtlSeconds;
+
+	@Value("${vop.framework.log.requestTimings.header:false}")
+	private boolean requestTimingsHeader;
+
+	@Value("${vop.framework.log.requestTimings.summaryLog:false}")
+	private boolean requestTimingsSummaryLog;
+
+	@Value("${vop.framework.rest.errorBodyCache.enabled:true}")
+	private boolean errorBodyCacheEnabled;
+
+	@Value("${vop.framework.rest.errorBodyCache.maxEntries:256}")
+	private int errorBodyCacheMaxEntries;
+
 	/**
 	 * Aspect bean of the {@link ProviderHttpAspect}
 	 * (currently executed before, after returning, and after throwing REST controllers).
 	 *
+	 * @param streamingResponseWriter the writer of the streaming responses, if any
 	 * @return ProviderHttpAspect
 	 */
 	@Bean
 	@ConditionalOnMissingBean
-	public ProviderHttpAspect providerHttpAspect() {
-		return new ProviderHttpAspect();
+	public ProviderHttpAspect providerHttpAspect(
+			final ObjectProvider<StreamingProviderResponseWriter> streamingResponseWriter) {
+		ProviderHttpAspect aspect = new ProviderHttpAspect();
+		aspect.setStreamingResponseWriter(streamingResponseWriter.getIfAvailable());
+		return aspect;
+	}
+
+	/**
+	 * Sets the application object mapper, if any, on the {@link StreamingProviderResponse}s of REST providers.
+	 *
+	 * @param objectMapper the application object mapper, if any
+	 * @return the writer of the streaming responses
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public StreamingProviderResponseWriter streamingProviderResponseWriter(final ObjectProvider<ObjectMapper> objectMapper) {
+		return new StreamingProviderResponseWriter(objectMapper.getIfUnique(ObjectMapper::new));
 	}
 
 	/**
 	 * Vop rest global exception handler.
+	 * Error responses with a parameterless message are pre-rendered with the application object mapper,
+	 * unless disabled with vop.framework.rest.errorBodyCache.enabled=false.
 	 *
+	 * @param objectMapper the application object mapper, if any
 	 * @return the vop rest global exception handler
 	 */
 	@Bean
 	@ConditionalOnMissingBean
-	public VopRestGlobalExceptionHandler vopRestGlobalExceptionHandler() {
-		return new VopRestGlobalExceptionHandler();
+	public VopRestGlobalExceptionHandler vopRestGlobalExceptionHandler(final ObjectProvider<ObjectMapper> objectMapper) {
+		VopRestGlobalExceptionHandler handler = new VopRestGlobalExceptionHandler();
+		ObjectMapper mapper = objectMapper.getIfUnique();
+		if (errorBodyCacheEnabled && (mapper != null)) {
+			handler.setErrorResponseCache(new ErrorResponseCache(mapper, errorBodyCacheMaxEntries));
+		}
+		return handler;
 	}
 
 	/**
@@ -99,6 +152,33 @@ public class VopRestAutoConfiguration {
 		return new RestProviderTimerAspect();
 	}
 
+	/**
+	 * Servlet filter bean of the {@link VopRequestDebugFilter}
+	 * (turns on DEBUG/TRACE logging for requests with a signed header, or picked at the sample rate).
+	 *
+	 * @return VopRequestDebugFilter
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public VopRequestDebugFilter vopRequestDebugFilter() {
+		return new VopRequestDebugFilter(requestDebugSecret, requestDebugSampleRate, requestDebugMaxTtlSeconds);
+	}
+
+	/**
+	 * Servlet filter bean of the {@link VopServerTimingFilter}
+	 * (records where request time was spent, reported in a Server-Timing header and/or a summary log line).
+	 * The header exposes internal timings to clients, so it is only added if
+	 * {@code vop.framework.log.requestTimings.header} is set to {@code true}.
+	 *
+	 * @return VopServerTimingFilter
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = "vop.framework.log.requestTimings.enabled", havingValue = "true", matchIfMissing = true)
+	public VopServerTimingFilter vopServerTimingFilter() {
+		return new VopServerTimingFilter(requestTimingsHeader, requestTimingsSummaryLog);
+	}
+
 	/**
 	 * Http components client http request factory.
 	 *
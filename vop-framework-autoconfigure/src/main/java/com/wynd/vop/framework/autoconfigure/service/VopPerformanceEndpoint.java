@@ -0,0 +1,61 @@
+package com.wynd.vop.framework.autoconfigure.service;
+
+import com.wynd.vop.framework.aspect.PerformanceLoggingAspect;
+import com.wynd.vop.framework.aspect.PerformanceTracker;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint {@code /actuator/vopperf} over the {@link PerformanceTracker} of the
+ * service and rest provider timer aspects.
+ * <ul>
+ * <li>{@code GET} - snapshot of the latency percentiles and slowest invocations of each method
+ * <li>{@code DELETE} - reset all statistics
+ * </ul>
+ * As with other actuator endpoints, it must be exposed, e.g. {@code management.endpoints.web.exposure.include=vopperf}.
+ */
+@Endpoint(id = VopPerformanceEndpoint.ID)
+public class VopPerformanceEndpoint {
+
+	/** The endpoint id */
+	public static final String ID = "vopperf";
+
+	private final PerformanceTracker tracker;
+
+	/**
+	 * Endpoint over the tracker of {@link PerformanceLoggingAspect}.
+	 */
+	public VopPerformanceEndpoint() {
+		this(PerformanceLoggingAspect.getTracker());
+	}
+
+	/**
+	 * Endpoint over a tracker.
+	 *
+	 * @param tracker the tracker
+	 */
+	public VopPerformanceEndpoint(final PerformanceTracker tracker) {
+		this.tracker = tracker;
+	}
+
+	/**
+	 * The statistics of each tracked method.
+	 *
+	 * @return the statistics, by method name
+	 */
+	@ReadOperation
+	public Map<String, PerformanceTracker.MethodSnapshot> snapshot() {
+		return tracker.snapshot();
+	}
+
+	/**
+	 * Discard the statistics of all methods.
+	 */
+	@DeleteOperation
+	public void reset() {
+		tracker.reset();
+	}
+}
@@ -1,11 +1,26 @@
 package com.wynd.vop.framework.autoconfigure.service;
 
 import com.wynd.vop.framework.aspect.AuditableAnnotationAspect;
+import com.wynd.vop.framework.aspect.PerformanceLoggingAspect;
+import com.wynd.vop.framework.aspect.PerformanceTracker;
+import com.wynd.vop.framework.exception.StackTracePolicy;
+import com.wynd.vop.framework.log.logback.VopMaskRules;
+import com.wynd.vop.framework.messages.MessageCatalog;
+import com.wynd.vop.framework.messages.MessageSeverity;
 import com.wynd.vop.framework.service.aspect.ServiceTimerAspect;
 import com.wynd.vop.framework.service.aspect.ServiceValidationAspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
 
 /**
  * Created by rthota on 8/24/17.
@@ -14,6 +29,85 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class VopServiceAutoConfiguration {
 
+	/** Invocations at least this slow are always logged by the timer aspects */
+	@Value("${vop.framework.perf.logThresholdMillis:0}")
+	private long logThresholdMillis;
+
+	/** Fraction of faster invocations logged by the timer aspects */
+	@Value("${vop.framework.perf.logSampleRate:0}")
+	private double logSampleRate;
+
+	/** Whether the timer aspects record invocations for the vopperf endpoint */
+	@Value("${vop.framework.perf.tracker.enabled:true}")
+	private boolean trackerEnabled;
+
+	/** Number of slowest invocations kept per method */
+	@Value("${vop.framework.perf.tracker.slowest:" + PerformanceTracker.DEFAULT_SLOWEST + "}")
+	private int trackerSlowest;
+
+	/** Maximum number of methods tracked */
+	@Value("${vop.framework.perf.tracker.maxMethods:" + PerformanceTracker.DEFAULT_MAX_METHODS + "}")
+	private int trackerMaxMethods;
+
+	/** Whether the arguments of the slowest invocations are kept, and exposed by the vopperf endpoint */
+	@Value("${vop.framework.perf.tracker.captureArguments:false}")
+	private boolean trackerCaptureArguments;
+
+	/** The rules masking the captured arguments; the base logback rules if the application has none */
+	@Autowired
+	private ObjectProvider<VopMaskRules> maskRulesProvider;
+
+	/** Whether exceptions for expected conditions are created without a stack trace */
+	@Value("${vop.framework.exception.stackless.enabled:true}")
+	private boolean stacklessEnabled;
+
+	/** Severities of the exceptions created without a stack trace */
+	@Value("${vop.framework.exception.stackless.severities:TRACE,DEBUG,INFO}")
+	private String[] stacklessSeverities;
+
+	/** Message keys of the exceptions created without a stack trace */
+	@Value("${vop.framework.exception.stackless.keys:vop.framework.validator.assertion,vop.framework.feign.message.received}")
+	private String[] stacklessKeys;
+
+	/**
+	 * Apply the logging and tracking configuration of the timer aspects.
+	 */
+	@PostConstruct
+	public void configurePerformanceLogging() {
+		PerformanceLoggingAspect.setLogThresholdMillis(logThresholdMillis);
+		PerformanceLoggingAspect.setLogSampleRate(logSampleRate);
+		PerformanceTracker tracker = PerformanceLoggingAspect.getTracker();
+		tracker.setEnabled(trackerEnabled);
+		tracker.setSlowest(trackerSlowest);
+		tracker.setMaxMethods(trackerMaxMethods);
+		tracker.setCaptureArguments(trackerCaptureArguments);
+		if (trackerCaptureArguments) {
+			tracker.setMaskRules(maskRulesProvider.getIfAvailable(VopMaskRules::defaultRules));
+		}
+	}
+
+	/**
+	 * Apply the stack trace policy of the VOP runtime exceptions.
+	 */
+	@PostConstruct
+	public void configureStackTracePolicy() {
+		StackTracePolicy.setEnabled(stacklessEnabled);
+		StackTracePolicy.setStacklessSeverities(Arrays.stream(stacklessSeverities).map(String::trim)
+				.filter(s -> !s.isEmpty()).map(MessageSeverity::fromValue).toArray(MessageSeverity[]::new));
+		StackTracePolicy.setStacklessKeys(Arrays.stream(stacklessKeys).map(String::trim)
+				.filter(s -> !s.isEmpty()).toArray(String[]::new));
+	}
+
+	/**
+	 * Reload the framework message templates after the refresh scope is refreshed.
+	 *
+	 * @param event the refresh event
+	 */
+	@EventListener
+	public void reloadMessageCatalog(final RefreshScopeRefreshedEvent event) {
+		MessageCatalog.reload();
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public AuditableAnnotationAspect auditableAnnotationAspect() {
@@ -32,4 +126,16 @@ public class VopServiceAutoConfiguration {
 		return new ServiceValidationAspect();
 	}
 
+	/**
+	 * The {@code /actuator/vopperf} endpoint over the timer aspects statistics.
+	 *
+	 * @return VopPerformanceEndpoint
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnAvailableEndpoint
+	public VopPerformanceEndpoint vopPerformanceEndpoint() {
+		return new VopPerformanceEndpoint();
+	}
+
 }
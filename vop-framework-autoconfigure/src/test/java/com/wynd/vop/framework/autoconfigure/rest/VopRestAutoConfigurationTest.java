@@ -2,8 +2,11 @@ package com.wynd.vop.framework.autoconfigure.rest;
 
 import com.wynd.vop.framework.autoconfigure.cache.TestConfigurationForAuditBeans;
 import com.wynd.vop.framework.autoconfigure.audit.AuditAutoConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wynd.vop.framework.rest.provider.StreamingProviderResponseWriter;
 import com.wynd.vop.framework.rest.provider.aspect.ProviderHttpAspect;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -83,11 +86,16 @@ public class VopRestAutoConfigurationTest {
 
 	@Test
 	public void testWebConfiguration() throws Exception {
-		assertNotNull(vopRestAutoConfiguration.providerHttpAspect());
+		assertNotNull(vopRestAutoConfiguration.providerHttpAspect(context.getBeanProvider(StreamingProviderResponseWriter.class)));
 		assertNotNull(vopRestAutoConfiguration.restProviderTimerAspect());
 		assertNotNull(vopRestAutoConfiguration.restClientTemplate());
 	}
 
+	@Test
+	public void testStreamingResponseWriterUsesApplicationMapper() {
+		assertSame(context.getBean(ObjectMapper.class), context.getBean(StreamingProviderResponseWriter.class).getObjectMapper());
+	}
+
 	@Test
 	public void testSetRetryHandlerToClientBuilder() throws Exception {
 		VopRestAutoConfiguration config = new VopRestAutoConfiguration();
@@ -0,0 +1,22 @@
+package com.wynd.vop.framework.autoconfigure.service;
+
+import com.wynd.vop.framework.aspect.PerformanceTracker;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class VopPerformanceEndpointTest {
+
+	@Test
+	public void testSnapshotAndReset() throws NoSuchMethodException {
+		PerformanceTracker tracker = new PerformanceTracker();
+		VopPerformanceEndpoint endpoint = new VopPerformanceEndpoint(tracker);
+		tracker.record(Object.class.getMethod("toString"), 2_000_000L, null);
+
+		assertEquals(1, endpoint.snapshot().get("java.lang.Object.toString()").getCount());
+
+		endpoint.reset();
+		assertTrue(endpoint.snapshot().isEmpty());
+	}
+}
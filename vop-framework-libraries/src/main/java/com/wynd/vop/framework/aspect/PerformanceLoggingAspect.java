@@ -6,6 +6,7 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Performance logging (elapsed execution time). This class should only be
@@ -16,6 +17,10 @@ import java.lang.reflect.Method;
  * {@code @After} advice. It would be necessary to maintain state between the
  * advice calls for the startMillis value. Spring can only maintain threadsafety
  * if injected (state) values are proxied, and a Long is not proxied.
+ * <p>
+ * Every invocation is recorded in the {@link #getTracker() tracker}. The exit message is logged at INFO
+ * for invocations that take at least {@link #setLogThresholdMillis(long) logThresholdMillis}, and for a
+ * {@link #setLogSampleRate(double) sample} of the others. By default every invocation is logged.
  *
 
  */
@@ -47,6 +52,18 @@ public class PerformanceLoggingAspect {
 	/** The Constant DOT. */
 	private static final String DOT = ".";
 
+	/** number of nanoseconds in a millisecond */
+	private static final long NUMBER_OF_NANOS_N_A_MILLI = 1_000_000L;
+
+	/** Aggregated elapsed times of all invocations */
+	private static final PerformanceTracker TRACKER = new PerformanceTracker();
+
+	/** Invocations at least this slow are always logged */
+	private static volatile long logThresholdMillis = 0;
+
+	/** The fraction of faster invocations that are logged */
+	private static volatile double logSampleRate = 0;
+
 	/**
 	 * Do not instantiate this class.
 	 */
@@ -75,7 +92,7 @@ public class PerformanceLoggingAspect {
 		Object returnObject = null;
 		Method method = null;
 		VopLogger methodLog = null;
-		final long startTime = System.currentTimeMillis();
+		final long startTime = System.nanoTime();
 
 		try {
 			method = ((MethodSignature) joinPoint.getStaticPart().getSignature()).getMethod();
@@ -91,14 +108,61 @@ public class PerformanceLoggingAspect {
 
 		} finally {
 			LOGGER.debug("PerformanceLoggingAspect after method was called.");
-			final long elapsedTime = System.currentTimeMillis() - startTime;
+			final long elapsedNanos = System.nanoTime() - startTime;
+			final long elapsedTime = elapsedNanos / NUMBER_OF_NANOS_N_A_MILLI;
+			TRACKER.record(method, elapsedNanos, joinPoint::getArgs);
 			final String callingClassAndMethod = method == null ? "null"
 					: method.getDeclaringClass().getSimpleName() + DOT + method.getName();
-			if (methodLog != null && methodLog.isInfoEnabled()) {
+			if (methodLog != null && methodLog.isInfoEnabled() && isLogged(elapsedTime)) {
 				methodLog.info(EXIT + OPEN_BRACKET + callingClassAndMethod + IN_ELAPSED_TIME
 						+ elapsedTime / NUMBER_OF_MILLIS_N_A_SECOND + SECS + CLOSE_BRACKET);
 			}
 		}
 		return returnObject;
 	}
+
+	/**
+	 * Whether the exit of an invocation is logged.
+	 *
+	 * @param elapsedMillis the elapsed time of the invocation
+	 * @return {@code true} if at or above the threshold, or sampled
+	 */
+	private static boolean isLogged(final long elapsedMillis) {
+		if (elapsedMillis >= logThresholdMillis) {
+			return true;
+		}
+		double rate = logSampleRate;
+		return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+	}
+
+	/**
+	 * The tracker of the elapsed times of all invocations, e.g. for the {@code vopperf} actuator endpoint.
+	 *
+	 * @return the tracker
+	 */
+	public static PerformanceTracker getTracker() {
+		return TRACKER;
+	}
+
+	/**
+	 * Invocations that take at least this long are logged at INFO. Default is {@code 0}, all invocations are logged.
+	 *
+	 * @param thresholdMillis the threshold in milliseconds
+	 */
+	public static void setLogThresholdMillis(final long thresholdMillis) {
+		logThresholdMillis = thresholdMillis;
+	}
+
+	/**
+	 * The fraction of invocations below the {@link #setLogThresholdMillis(long) threshold} that are still
+	 * logged at INFO. Default is {@code 0}.
+	 *
+	 * @param sampleRate the fraction, from {@code 0} to {@code 1}
+	 */
+	public static void setLogSampleRate(final double sampleRate) {
+		if (sampleRate < 0 || sampleRate > 1) {
+			throw new IllegalArgumentException("sampleRate must be from 0 to 1: " + sampleRate);
+		}
+		logSampleRate = sampleRate;
+	}
 }
@@ -0,0 +1,412 @@
+package com.wynd.vop.framework.aspect;
+
+import com.wynd.vop.framework.log.logback.VopMaskRules;
+import com.wynd.vop.framework.util.ObjectRenderer;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * In-memory aggregate of the elapsed times recorded by {@link PerformanceLoggingAspect}.
+ * <p>
+ * For each method, keeps a log-bucketed latency histogram (in the style of HdrHistogram, with values
+ * in microseconds and about 6% precision), and the slowest invocations. Recording into the histogram
+ * is lock-free. The list of slowest invocations is only locked by invocations that are slower than the
+ * fastest one already in it.
+ * <p>
+ * The arguments of the slowest invocations are only kept if {@link #setCaptureArguments(boolean) captureArguments}
+ * is set, summarized by {@link ObjectRenderer} and masked by the {@link #setMaskRules(VopMaskRules) mask rules}.
+ * <p>
+ * At most {@link #setMaxMethods(int) maxMethods} methods are tracked, later methods are ignored
+ * until the next {@link #reset()}.
+ */
+public class PerformanceTracker {
+
+	/** Default number of slowest invocations kept per method */
+	public static final int DEFAULT_SLOWEST = 10;
+	/** Default maximum number of methods tracked */
+	public static final int DEFAULT_MAX_METHODS = 1024;
+
+	/** Limits for the rendering of the arguments of slow invocations */
+	static final int ARGS_DEPTH = 2;
+	static final int ARGS_ELEMENTS = 8;
+	static final int ARGS_CHARS = 256;
+
+	/** Histogram buckets below this value (microseconds) have a width of 1 */
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	/** Highest power of two tracked; higher values (more than 12 days) are counted in the last bucket */
+	private static final int MAX_EXPONENT = 40;
+	private static final long MAX_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+	static final int BUCKETS = 2 * SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private static final double MICROS_IN_A_MILLI = 1000.0;
+	private static final double NANOS_IN_A_MILLI = 1_000_000.0;
+
+	/** Statistics, by method */
+	private final Map<Method, MethodStats> stats = new ConcurrentHashMap<>();
+
+	private volatile boolean enabled = true;
+	private volatile boolean captureArguments;
+	private volatile VopMaskRules maskRules = new VopMaskRules();
+	private volatile int slowest = DEFAULT_SLOWEST;
+	private volatile int maxMethods = DEFAULT_MAX_METHODS;
+
+	/**
+	 * Record the elapsed time of an invocation of the method.
+	 *
+	 * @param method the invoked method, ignored if {@code null}
+	 * @param elapsedNanos the elapsed time in nanoseconds
+	 * @param args supplies the invocation arguments, only called for invocations that are among the slowest
+	 */
+	public void record(final Method method, final long elapsedNanos, final Supplier<Object[]> args) {
+		if (!enabled || method == null) {
+			return;
+		}
+		MethodStats methodStats = stats.get(method);
+		if (methodStats == null) {
+			if (stats.size() >= maxMethods) {
+				return;
+			}
+			methodStats = stats.computeIfAbsent(method, m -> new MethodStats(slowest));
+		}
+		methodStats.record(Math.max(0L, elapsedNanos), captureArguments ? args : null, maskRules);
+	}
+
+	/**
+	 * A point in time copy of the statistics of all tracked methods.
+	 *
+	 * @return the statistics, by method name
+	 */
+	public Map<String, MethodSnapshot> snapshot() {
+		Map<String, MethodSnapshot> snapshot = new TreeMap<>();
+		for (Map.Entry<Method, MethodStats> entry : stats.entrySet()) {
+			snapshot.put(name(entry.getKey()), entry.getValue().snapshot());
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Discard the statistics of all methods.
+	 */
+	public void reset() {
+		stats.clear();
+	}
+
+	/**
+	 * The number of tracked methods.
+	 *
+	 * @return the number of tracked methods
+	 */
+	public int size() {
+		return stats.size();
+	}
+
+	/**
+	 * Enable or disable recording. Default is {@code true}.
+	 *
+	 * @param enabled whether invocations are recorded
+	 */
+	public void setEnabled(final boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Whether the arguments of the slowest invocations are kept. Default is {@code false}.
+	 * Fields annotated with {@link com.wynd.vop.framework.util.Sensitive} are masked, then the
+	 * {@link #setMaskRules(VopMaskRules) mask rules} are applied to the summarized arguments.
+	 *
+	 * @param captureArguments whether to keep the arguments
+	 */
+	public void setCaptureArguments(final boolean captureArguments) {
+		this.captureArguments = captureArguments;
+	}
+
+	/**
+	 * The rules that mask the summarized arguments of the slowest invocations, as in the logs.
+	 * Default is no rules.
+	 *
+	 * @param maskRules the rules, {@code null} for no rules
+	 */
+	public void setMaskRules(final VopMaskRules maskRules) {
+		this.maskRules = maskRules == null ? new VopMaskRules() : maskRules;
+	}
+
+	/**
+	 * The number of slowest invocations kept per method. Applies to methods first recorded after the call.
+	 * Default is {@value #DEFAULT_SLOWEST}.
+	 *
+	 * @param slowest the number of invocations, {@code 0} to keep none
+	 */
+	public void setSlowest(final int slowest) {
+		if (slowest < 0) {
+			throw new IllegalArgumentException("slowest must not be negative: " + slowest);
+		}
+		this.slowest = slowest;
+	}
+
+	/**
+	 * The maximum number of methods tracked. Default is {@value #DEFAULT_MAX_METHODS}.
+	 *
+	 * @param maxMethods the maximum number of methods
+	 */
+	public void setMaxMethods(final int maxMethods) {
+		if (maxMethods < 0) {
+			throw new IllegalArgumentException("maxMethods must not be negative: " + maxMethods);
+		}
+		this.maxMethods = maxMethods;
+	}
+
+	/**
+	 * The histogram bucket of a value.
+	 *
+	 * @param micros the value in microseconds
+	 * @return the bucket index
+	 */
+	static int bucket(final long micros) {
+		long value = Math.min(micros, MAX_MICROS);
+		if (value < 2 * SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		return 2 * SUB_BUCKETS + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS
+				+ (int) (value >>> shift) - SUB_BUCKETS;
+	}
+
+	/**
+	 * The highest value counted in a histogram bucket.
+	 *
+	 * @param bucket the bucket index
+	 * @return the value in microseconds
+	 */
+	static long highestValue(final int bucket) {
+		if (bucket < 2 * SUB_BUCKETS) {
+			return bucket;
+		}
+		int offset = bucket - 2 * SUB_BUCKETS;
+		int shift = offset / SUB_BUCKETS + 1;
+		long subBucket = SUB_BUCKETS + (long) (offset % SUB_BUCKETS);
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	private static String name(final Method method) {
+		StringBuilder name = new StringBuilder(method.getDeclaringClass().getName()).append('.')
+				.append(method.getName()).append('(');
+		Class<?>[] parameters = method.getParameterTypes();
+		for (int i = 0; i < parameters.length; i++) {
+			if (i > 0) {
+				name.append(',');
+			}
+			name.append(parameters[i].getSimpleName());
+		}
+		return name.append(')').toString();
+	}
+
+	private static double millis(final long micros) {
+		return micros / MICROS_IN_A_MILLI;
+	}
+
+	/**
+	 * The statistics of one method.
+	 */
+	static final class MethodStats {
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+		/** The slowest invocations, slowest first; guarded by this */
+		private final Invocation[] slowest;
+		private int slowestSize;
+		/** Invocations no slower than this cannot enter the slowest list */
+		private volatile long slowestFloor;
+
+		MethodStats(final int slowest) {
+			this.slowest = new Invocation[slowest];
+			this.slowestFloor = slowest == 0 ? Long.MAX_VALUE : 0L;
+		}
+
+		void record(final long elapsedNanos, final Supplier<Object[]> args, final VopMaskRules maskRules) {
+			buckets.incrementAndGet(bucket(elapsedNanos / 1000));
+			count.increment();
+			totalNanos.add(elapsedNanos);
+			maxNanos.accumulate(elapsedNanos);
+
+			if (elapsedNanos > slowestFloor) {
+				offer(new Invocation(elapsedNanos, Instant.now().toString(),
+						Thread.currentThread().getName(), summarize(args, maskRules)));
+			}
+		}
+
+		private synchronized void offer(final Invocation invocation) {
+			if (slowestSize == slowest.length && invocation.elapsedNanos <= slowest[slowestSize - 1].elapsedNanos) {
+				return;
+			}
+			int i = slowestSize < slowest.length ? slowestSize++ : slowestSize - 1;
+			while (i > 0 && slowest[i - 1].elapsedNanos < invocation.elapsedNanos) {
+				slowest[i] = slowest[i - 1];
+				i--;
+			}
+			slowest[i] = invocation;
+			if (slowestSize == slowest.length) {
+				slowestFloor = slowest[slowestSize - 1].elapsedNanos;
+			}
+		}
+
+		private static String summarize(final Supplier<Object[]> args, final VopMaskRules maskRules) {
+			if (args == null) {
+				return null;
+			}
+			Object[] values = args.get();
+			return values == null ? null
+					: maskRules.apply(ObjectRenderer.toString(values, ARGS_DEPTH, ARGS_ELEMENTS, ARGS_CHARS));
+		}
+
+		MethodSnapshot snapshot() {
+			long[] counts = new long[BUCKETS];
+			long total = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				counts[i] = buckets.get(i);
+				total += counts[i];
+			}
+			long max = maxNanos.get();
+			List<Invocation> slowestCopy;
+			synchronized (this) {
+				slowestCopy = new ArrayList<>(Arrays.asList(slowest).subList(0, slowestSize));
+			}
+			long invocations = count.sum();
+			return new MethodSnapshot(invocations,
+					invocations == 0 ? 0 : totalNanos.sum() / NANOS_IN_A_MILLI / invocations,
+					max / NANOS_IN_A_MILLI,
+					percentile(counts, total, 50.0, max), percentile(counts, total, 90.0, max),
+					percentile(counts, total, 99.0, max), percentile(counts, total, 99.9, max),
+					Collections.unmodifiableList(slowestCopy));
+		}
+
+		private static double percentile(final long[] counts, final long total, final double percentile,
+				final long maxNanos) {
+			if (total == 0) {
+				return 0;
+			}
+			long target = Math.max(1L, (long) Math.ceil(total * percentile / 100.0));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= target) {
+					return Math.min(millis(highestValue(i)), maxNanos / NANOS_IN_A_MILLI);
+				}
+			}
+			return maxNanos / NANOS_IN_A_MILLI;
+		}
+	}
+
+	/**
+	 * Point in time statistics of one method. Times are in milliseconds; percentiles are the highest
+	 * value of their histogram bucket, capped at the maximum.
+	 */
+	public static final class MethodSnapshot {
+		private final long count;
+		private final double meanMillis;
+		private final double maxMillis;
+		private final double p50Millis;
+		private final double p90Millis;
+		private final double p99Millis;
+		private final double p999Millis;
+		private final List<Invocation> slowest;
+
+		MethodSnapshot(final long count, final double meanMillis, final double maxMillis, final double p50Millis,
+				final double p90Millis, final double p99Millis, final double p999Millis, final List<Invocation> slowest) {
+			this.count = count;
+			this.meanMillis = meanMillis;
+			this.maxMillis = maxMillis;
+			this.p50Millis = p50Millis;
+			this.p90Millis = p90Millis;
+			this.p99Millis = p99Millis;
+			this.p999Millis = p999Millis;
+			this.slowest = slowest;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public double getMeanMillis() {
+			return meanMillis;
+		}
+
+		public double getMaxMillis() {
+			return maxMillis;
+		}
+
+		public double getP50Millis() {
+			return p50Millis;
+		}
+
+		public double getP90Millis() {
+			return p90Millis;
+		}
+
+		public double getP99Millis() {
+			return p99Millis;
+		}
+
+		public double getP999Millis() {
+			return p999Millis;
+		}
+
+		public List<Invocation> getSlowest() {
+			return slowest;
+		}
+	}
+
+	/**
+	 * One of the slowest invocations of a method.
+	 */
+	public static final class Invocation {
+		private final long elapsedNanos;
+		private final String timestamp;
+		private final String thread;
+		private final String arguments;
+
+		Invocation(final long elapsedNanos, final String timestamp, final String thread, final String arguments) {
+			this.elapsedNanos = elapsedNanos;
+			this.timestamp = timestamp;
+			this.thread = thread;
+			this.arguments = arguments;
+		}
+
+		public double getElapsedMillis() {
+			return elapsedNanos / NANOS_IN_A_MILLI;
+		}
+
+		/**
+		 * @return the ISO-8601 instant the invocation ended
+		 */
+		public String getTimestamp() {
+			return timestamp;
+		}
+
+		public String getThread() {
+			return thread;
+		}
+
+		/**
+		 * @return the summarized arguments, or {@code null} if not captured
+		 */
+		public String getArguments() {
+			return arguments;
+		}
+	}
+}
@@ -14,12 +14,14 @@ import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.datatype.joda.JodaModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.wynd.vop.framework.audit.model.ResponseAuditData;
+import com.wynd.vop.framework.jfr.AuditSerializeEvent;
+import com.wynd.vop.framework.jfr.AuditWriteEvent;
+import com.wynd.vop.framework.jfr.VopJfr;
 import com.wynd.vop.framework.log.VopLogger;
 import com.wynd.vop.framework.log.VopLoggerFactory;
 import com.wynd.vop.framework.messages.MessageSeverity;
 import com.wynd.vop.framework.audit.model.RequestAuditData;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
+import com.wynd.vop.framework.util.ObjectRenderer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -84,28 +86,27 @@ public class AuditLogSerializer implements Serializable {
 
 		String auditDetails = null;
 		if (auditData != null) {
+			final AuditSerializeEvent event = VopJfr.AVAILABLE ? AuditSerializeEvent.start() : null;
+			boolean fallback = false;
 			try {
 				auditDetails = mapper.writeValueAsString(auditData);
 			} catch (JsonProcessingException ex) {
+				fallback = true;
 				LOGGER.trace("Error occurred on ClassCast or JSON processing, calling custom toString()", ex);
 				try {
 					auditDetails = auditDataClass.cast(auditData).toString();
 				} catch (Exception e) {
 					LOGGER.trace(
-							"Error occurred on ClassCast or Custom toString() processing, calling ReflectionToStringBuilder",
+							"Error occurred on ClassCast or Custom toString() processing, calling ObjectRenderer",
 							e);
-					auditDetails = ReflectionToStringBuilder.toString(auditData, ToStringStyle.JSON_STYLE, false, false,
-							Object.class);
+					auditDetails = ObjectRenderer.toJson(auditData);
 				}
 			}
+			if (event != null) {
+				event.finish(auditData, auditDetails, fallback);
+			}
 		}
-		if (messageSeverity.equals(MessageSeverity.ERROR) || messageSeverity.equals(MessageSeverity.FATAL)) {
-			AuditLogger.error(auditEventData, auditDetails, t);
-		} else if (messageSeverity.equals(MessageSeverity.WARN)) {
-			AuditLogger.warn(auditEventData, auditDetails);
-		} else {
-			AuditLogger.info(auditEventData, auditDetails);
-		}
+		write(auditEventData, messageSeverity, auditDetails, t);
 	}
 
 	private void setupObjectMapper() {
@@ -265,12 +266,29 @@ public class AuditLogSerializer implements Serializable {
 	public void asyncAuditMessageData(final AuditEventData auditEventData, final String activityDetail,
 			final MessageSeverity messageSeverity, final Throwable t) {
 
+		write(auditEventData, messageSeverity, activityDetail, t);
+	}
+
+	/**
+	 * Write the audit details to the audit logger, at the level of the message severity.
+	 *
+	 * @param auditEventData data specific to the audit event
+	 * @param messageSeverity the message severity
+	 * @param auditDetails the audit details
+	 * @param t a throwable, if relevant (may be {@code null})
+	 */
+	private static void write(final AuditEventData auditEventData, final MessageSeverity messageSeverity,
+			final String auditDetails, final Throwable t) {
+		final AuditWriteEvent event = VopJfr.AVAILABLE ? AuditWriteEvent.start() : null;
 		if (messageSeverity.equals(MessageSeverity.ERROR) || messageSeverity.equals(MessageSeverity.FATAL)) {
-			AuditLogger.error(auditEventData, activityDetail, t);
+			AuditLogger.error(auditEventData, auditDetails, t);
 		} else if (messageSeverity.equals(MessageSeverity.WARN)) {
-			AuditLogger.warn(auditEventData, activityDetail);
+			AuditLogger.warn(auditEventData, auditDetails);
 		} else {
-			AuditLogger.info(auditEventData, activityDetail);
+			AuditLogger.info(auditEventData, auditDetails);
+		}
+		if (event != null) {
+			event.finish(auditEventData, messageSeverity, auditDetails);
 		}
 	}
 
@@ -4,9 +4,12 @@ import com.wynd.vop.framework.audit.model.MessageAuditData;
 import com.wynd.vop.framework.audit.model.ResponseAuditData;
 import com.wynd.vop.framework.constants.VopConstants;
 import com.wynd.vop.framework.exception.VopRuntimeException;
+import com.wynd.vop.framework.jfr.AuditEnqueueEvent;
+import com.wynd.vop.framework.jfr.VopJfr;
 import com.wynd.vop.framework.log.VopBanner;
 import com.wynd.vop.framework.log.VopLogger;
 import com.wynd.vop.framework.log.VopLoggerFactory;
+import com.wynd.vop.framework.log.VopRequestTimings;
 import com.wynd.vop.framework.messages.MessageKeys;
 import com.wynd.vop.framework.messages.MessageSeverity;
 import com.wynd.vop.framework.validation.Defense;
@@ -76,8 +79,14 @@ public class BaseAsyncAudit {
 	public void writeMessageAuditLog(final MessageAuditData messageAuditData,
 			final AuditEventData auditEventData, final MessageSeverity severity, final Throwable t, final Class<?> auditDataclass) {
 
+		final long startTime = System.nanoTime();
+		final AuditEnqueueEvent event = VopJfr.AVAILABLE ? AuditEnqueueEvent.start() : null;
 		getAsyncLogger().asyncAuditRequestResponseData(auditEventData, messageAuditData, auditDataclass,
 				severity, t);
+		if (event != null) {
+			event.finish(auditEventData, messageAuditData);
+		}
+		VopRequestTimings.record(VopRequestTimings.Span.AUDIT, startTime);
 	}
 
 	/**
@@ -92,8 +101,14 @@ public class BaseAsyncAudit {
 	public void writeRequestAuditLog(final RequestAuditData requestAuditData,
 			final AuditEventData auditEventData, final MessageSeverity severity, final Throwable t, final Class<?> auditDataclass) {
 
+		final long startTime = System.nanoTime();
+		final AuditEnqueueEvent event = VopJfr.AVAILABLE ? AuditEnqueueEvent.start() : null;
 		getAsyncLogger().asyncAuditRequestResponseData(auditEventData, requestAuditData, auditDataclass,
 				severity, t);
+		if (event != null) {
+			event.finish(auditEventData, requestAuditData);
+		}
+		VopRequestTimings.record(VopRequestTimings.Span.AUDIT, startTime);
 	}
 
 	/**
@@ -109,6 +124,8 @@ public class BaseAsyncAudit {
 			final AuditEventData auditEventData,
 			final MessageSeverity severity, final Throwable t) {
 
+		final long startTime = System.nanoTime();
+		final AuditEnqueueEvent event = VopJfr.AVAILABLE ? AuditEnqueueEvent.start() : null;
 		if (responseAuditData!=null) {
 			responseAuditData.setResponse(response);
 		}
@@ -116,6 +133,10 @@ public class BaseAsyncAudit {
 		LOGGER.debug("Invoking AuditLogSerializer.asyncLogRequestResponseAspectAuditData()");
 		getAsyncLogger().asyncAuditRequestResponseData(auditEventData, responseAuditData,
 				HttpResponseAuditData.class, severity == null ? MessageSeverity.INFO : severity, t);
+		if (event != null) {
+			event.finish(auditEventData, responseAuditData);
+		}
+		VopRequestTimings.record(VopRequestTimings.Span.AUDIT, startTime);
 	}
 
 	/**
@@ -2,7 +2,7 @@ package com.wynd.vop.framework.audit.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import com.wynd.vop.framework.util.ObjectRenderer;
 
 import java.util.Collections;
 import java.util.List;
@@ -106,7 +106,7 @@ public class HttpRequestAuditData extends RequestAuditData {
 	 */
 	@Override
 	public String toString() {
-		return ("HttpRequestAuditData{" + "headers=" + (headers == null ? "" : ReflectionToStringBuilder.toString(headers)) + ", uri='"
+		return ("HttpRequestAuditData{" + "headers=" + (headers == null ? "" : ObjectRenderer.toString(headers)) + ", uri='"
 				+ uri + "\'" + ", method='" + method + "', request='" + (getRequest() == null ? "[]" : getRequest().toString())
 				+ "', attachmentTextList='" + attachmentTextList + "'}");
 	}
@@ -2,7 +2,7 @@ package com.wynd.vop.framework.audit.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import com.wynd.vop.framework.util.ObjectRenderer;
 
 import java.util.List;
 import java.util.Map;
@@ -61,7 +61,7 @@ public class HttpResponseAuditData extends ResponseAuditData {
 	 */
 	@Override
 	public String toString() {
-		return "HttpResponseAuditData{" + "headers=" + (headers == null ? "" : ReflectionToStringBuilder.toString(headers)) + ", uri='"
+		return "HttpResponseAuditData{" + "headers=" + (headers == null ? "" : ObjectRenderer.toString(headers)) + ", uri='"
 				+ "', response='" + (getResponse() == null ? "" : getResponse().toString()) + "', attachmentTextList='"
 				+ attachmentTextList + "'}";
 	}
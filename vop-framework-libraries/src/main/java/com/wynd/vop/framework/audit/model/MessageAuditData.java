@@ -1,7 +1,7 @@
 package com.wynd.vop.framework.audit.model;
 
 import com.wynd.vop.framework.audit.AuditableData;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import com.wynd.vop.framework.util.ObjectRenderer;
 
 import java.io.Serializable;
 import java.util.Collections;
@@ -42,6 +42,6 @@ public class MessageAuditData implements Serializable, AuditableData {
 	 */
 	@Override
 	public String toString() {
-		return "MessageAuditData{" + (message == null ? "" : ReflectionToStringBuilder.toString(message)) + '}';
+		return "MessageAuditData{" + (message == null ? "" : ObjectRenderer.toString(message)) + '}';
 	}
 }
@@ -1,10 +1,10 @@
 package com.wynd.vop.framework.audit.model;
 
 import com.wynd.vop.framework.audit.AuditableData;
+import com.wynd.vop.framework.util.ObjectRenderer;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 
 public class RequestAuditData implements Serializable, AuditableData {
 
@@ -39,6 +39,6 @@ public class RequestAuditData implements Serializable, AuditableData {
    */
   @Override
   public String toString() {
-    return "RequestAuditData{request=" + (request == null ? "" : ReflectionToStringBuilder.toString(request)) + '}';
+    return "RequestAuditData{request=" + (request == null ? "" : ObjectRenderer.toString(request)) + '}';
   }
 }
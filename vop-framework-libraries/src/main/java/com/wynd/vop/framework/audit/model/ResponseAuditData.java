@@ -1,7 +1,7 @@
 package com.wynd.vop.framework.audit.model;
 
 import com.wynd.vop.framework.audit.AuditableData;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import com.wynd.vop.framework.util.ObjectRenderer;
 
 import java.io.Serializable;
 
@@ -39,6 +39,6 @@ public class ResponseAuditData implements Serializable, AuditableData {
 	 */
 	@Override
 	public String toString() {
-		return "ResponseAuditData{response=" + (getResponse() == null ? "" : ReflectionToStringBuilder.toString(getResponse())) + '}';
+		return "ResponseAuditData{response=" + (getResponse() == null ? "" : ObjectRenderer.toString(getResponse())) + '}';
 	}
 }
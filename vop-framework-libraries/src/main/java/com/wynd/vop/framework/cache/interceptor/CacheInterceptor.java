@@ -2,12 +2,16 @@ package com.wynd.vop.framework.cache.interceptor;
 
 import com.wynd.vop.framework.log.VopLogger;
 import com.wynd.vop.framework.log.VopLoggerFactory;
+import com.wynd.vop.framework.log.VopRequestTimings;
 import com.wynd.vop.framework.audit.AuditEventData;
 import com.wynd.vop.framework.audit.AuditEvents;
 import com.wynd.vop.framework.audit.BaseAsyncAudit;
 import com.wynd.vop.framework.audit.model.HttpResponseAuditData;
+import com.wynd.vop.framework.jfr.CacheGetEvent;
+import com.wynd.vop.framework.jfr.CachePutEvent;
+import com.wynd.vop.framework.jfr.VopJfr;
+import com.wynd.vop.framework.util.ObjectRenderer;
 import org.aopalliance.intercept.MethodInvocation;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 
@@ -73,7 +77,12 @@ public class CacheInterceptor extends org.springframework.cache.interceptor.Cach
 		Object response = null;
 
 		try {
-			response = super.invoke(invocation);
+			final long startTime = System.nanoTime();
+			try {
+				response = super.invoke(invocation);
+			} finally {
+				VopRequestTimings.record(VopRequestTimings.Span.CACHE, startTime);
+			}
 			if (!allowNullReturn && response == null) {
 				response = new Object();
 			}
@@ -86,7 +95,7 @@ public class CacheInterceptor extends org.springframework.cache.interceptor.Cach
 				LOGGER.debug(prefix + "  having annotations: " + Arrays.toString(invocation.getStaticPart().getAnnotations()));
 				LOGGER.debug(prefix + "Returning: " + (response == null
 						? "null"
-						: ReflectionToStringBuilder.toString(response, null, false, false, Object.class)));
+						: ObjectRenderer.toString(response)));
 			}
 
 			baseAsyncAudit.writeResponseAuditLog(response, new HttpResponseAuditData(), auditEventData, null, null);
@@ -98,4 +107,32 @@ public class CacheInterceptor extends org.springframework.cache.interceptor.Cach
 
 		return response;
 	}
+
+	/**
+	 * Records a {@link CacheGetEvent} for the lookup, when JFR is available.
+	 */
+	@Override
+	protected Cache.ValueWrapper doGet(final Cache cache, final Object key) {
+		if (!VopJfr.AVAILABLE) {
+			return super.doGet(cache, key);
+		}
+		final CacheGetEvent event = CacheGetEvent.start();
+		final Cache.ValueWrapper value = super.doGet(cache, key);
+		event.finish(cache.getName(), key, value != null);
+		return value;
+	}
+
+	/**
+	 * Records a {@link CachePutEvent} for the store, when JFR is available.
+	 */
+	@Override
+	protected void doPut(final Cache cache, final Object key, final Object result) {
+		if (!VopJfr.AVAILABLE) {
+			super.doPut(cache, key, result);
+			return;
+		}
+		final CachePutEvent event = CachePutEvent.start();
+		super.doPut(cache, key, result);
+		event.finish(cache.getName(), key, result);
+	}
 }
@@ -1,5 +1,8 @@
 package com.wynd.vop.framework.client.rest.template;
 
+import com.wynd.vop.framework.jfr.RestCallEvent;
+import com.wynd.vop.framework.jfr.VopJfr;
+import com.wynd.vop.framework.log.VopRequestTimings;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -74,7 +77,22 @@ public class RestClientTemplate {
 	 */
 	public <T> ResponseEntity<T> executeURL(String url, HttpMethod methodType, HttpEntity<?> requestEntity,
 			ParameterizedTypeReference<T> responseType) {
-		return this.restTemplate.exchange(url, methodType, requestEntity, responseType);
+		final long startTime = System.nanoTime();
+		final RestCallEvent event = VopJfr.AVAILABLE ? RestCallEvent.start() : null;
+		ResponseEntity<T> response = null;
+		RuntimeException exception = null;
+		try {
+			response = this.restTemplate.exchange(url, methodType, requestEntity, responseType);
+			return response;
+		} catch (RuntimeException e) {
+			exception = e;
+			throw e;
+		} finally {
+			if (event != null) {
+				event.finish(methodType, url, response == null ? 0 : response.getStatusCodeValue(), exception);
+			}
+			VopRequestTimings.record(VopRequestTimings.Span.REST, startTime);
+		}
 	}
 
 	/**
@@ -87,6 +105,21 @@ public class RestClientTemplate {
 	 * @return the response entity
 	 */
 	public <T> ResponseEntity<T> postForEntity(String url, HttpEntity<?> requestEntity, Class<T> responseType) {
-		return this.restTemplate.postForEntity(url, requestEntity, responseType);
+		final long startTime = System.nanoTime();
+		final RestCallEvent event = VopJfr.AVAILABLE ? RestCallEvent.start() : null;
+		ResponseEntity<T> response = null;
+		RuntimeException exception = null;
+		try {
+			response = this.restTemplate.postForEntity(url, requestEntity, responseType);
+			return response;
+		} catch (RuntimeException e) {
+			exception = e;
+			throw e;
+		} finally {
+			if (event != null) {
+				event.finish(HttpMethod.POST, url, response == null ? 0 : response.getStatusCodeValue(), exception);
+			}
+			VopRequestTimings.record(VopRequestTimings.Span.REST, startTime);
+		}
 	}
 }
@@ -2,18 +2,20 @@ package com.wynd.vop.framework.client.ws;
 
 import com.wynd.vop.framework.client.ws.interceptor.AuditWsInterceptor;
 import com.wynd.vop.framework.client.ws.interceptor.AuditWsInterceptorConfig;
+import com.wynd.vop.framework.client.ws.interceptor.SoapCallEventInterceptor;
 import com.wynd.vop.framework.exception.VopPartnerRuntimeException;
 import com.wynd.vop.framework.log.VopLogger;
 import com.wynd.vop.framework.log.VopLoggerFactory;
 import com.wynd.vop.framework.log.PerformanceLogMethodInterceptor;
+import com.wynd.vop.framework.log.VopRequestTimings;
 import com.wynd.vop.framework.messages.MessageKeys;
 import com.wynd.vop.framework.messages.MessageSeverity;
+import com.wynd.vop.framework.util.ObjectRenderer;
 import com.wynd.vop.framework.validation.Defense;
 import com.wynd.vop.framework.audit.BaseAsyncAudit;
 import com.wynd.vop.framework.util.HttpClientUtils;
 import io.jsonwebtoken.lang.Collections;
 import io.micrometer.core.instrument.MeterRegistry;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.HttpResponseInterceptor;
 import org.apache.http.config.RegistryBuilder;
@@ -53,6 +55,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.*;
 import java.security.cert.CertificateException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -93,6 +96,12 @@ public class BaseWsClientConfig {
 	@Value("${vop.framework.client.ws.micrometerEnabled:true}")
 	private boolean micrometerEnabled;
 
+	@Value("${vop.framework.client.ws.percentileHistogram:false}")
+	private boolean percentileHistogram;
+
+	@Value("${vop.framework.client.ws.sloMillis:}")
+	private long[] sloMillis;
+
 	@Value("${vop.framework.client.ws.useClientMachineFromRequest:true}")
 	private boolean useRequestClientMachine;
 
@@ -650,7 +659,7 @@ public class BaseWsClientConfig {
         
         final HttpClientBuilder httpClientBuilder = getHttpClientBuilder(httpRequestInterceptors, httpResponseInterceptors, keystore, privateKeyPass, truststore);
         
-        LOGGER.debug("HttpClient Object : %s% {}", ReflectionToStringBuilder.toString(httpClientBuilder));
+        LOGGER.debug("HttpClient Object : %s% {}", () -> ObjectRenderer.toString(httpClientBuilder));
         LOGGER.debug("Default Uri : %s% {}", endpoint);
         
         messageSender.setHttpClient(httpClientBuilder.build());
@@ -663,7 +672,7 @@ public class BaseWsClientConfig {
 		webServiceTemplate.setMarshaller(marshaller);
 		webServiceTemplate.setUnmarshaller(unmarshaller);
 		webServiceTemplate.setInterceptors(addAuditLoggingInterceptors(wsInterceptors));
-		LOGGER.debug("WebServiceTemplate {}: ", ReflectionToStringBuilder.toString(webServiceTemplate));
+		LOGGER.debug("WebServiceTemplate {}: ", () -> ObjectRenderer.toString(webServiceTemplate));
 		return webServiceTemplate;
 	}
     
@@ -762,7 +771,7 @@ public class BaseWsClientConfig {
                         .register("https", csf)
                         .build()); // NOSONAR
                 
-                LOGGER.debug("Added SSLConnection: {}", ReflectionToStringBuilder.toString(csf));
+                LOGGER.debug("Added SSLConnection: {}", () -> ObjectRenderer.toString(csf));
                 
             } catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException | UnrecoverableKeyException e) {
                 poolingConnectionManager = new PoolingHttpClientConnectionManager(); // NOSONAR
@@ -831,6 +840,8 @@ public class BaseWsClientConfig {
 	 * If the {@code wsInterceptor} parameter is NOT null or empty, an audit interceptor
 	 * will be added to log BEFORE the other interceptors run (a "raw" log),
 	 * and second interceptor to log AFTER the other interceptors run (a "wire" log).
+	 * <p>
+	 * A {@link SoapCallEventInterceptor} is added first, to time the whole call for Java Flight Recorder.
 	 *
 	 * @param wsInterceptors the ClientInterceptor array being added to the configuration
 	 * @return ClientInterceptor[] - the updated array of interceptors
@@ -840,9 +851,10 @@ public class BaseWsClientConfig {
 
 		// if no other interceptors run, no need to add "After" audit log
 		boolean logAfter = (wsInterceptors != null) && (wsInterceptors.length > 0);
-		LOGGER.debug("Initial ClientInterceptors list: " + Arrays.toString(wsInterceptors));
+		LOGGER.debug("Initial ClientInterceptors list: {}", () -> Arrays.toString(wsInterceptors));
 
 		List<ClientInterceptor> list = new ArrayList<>();
+		list.add(new SoapCallEventInterceptor());
 
 		/* Add audit logging interceptors for Before and After any other interceptors run */
 		if (!logAfter) {
@@ -857,7 +869,7 @@ public class BaseWsClientConfig {
 		}
 
 		ClientInterceptor[] newWsInterceptors = list.toArray(new ClientInterceptor[list.size()]);
-		LOGGER.debug("Final ClientInterceptors list: {}", Arrays.toString(newWsInterceptors));
+		LOGGER.debug("Final ClientInterceptors list: {}", () -> Arrays.toString(newWsInterceptors));
 		return newWsInterceptors;
 	}
 
@@ -896,7 +908,7 @@ public class BaseWsClientConfig {
 		if (schemaLocations != null) {
 			marshaller.setSchemas(schemaLocations);
 		}
-		LOGGER.debug("Successfully set Marshaller properties: {}", ReflectionToStringBuilder.toString(marshaller));
+		LOGGER.debug("Successfully set Marshaller properties: {}", () -> ObjectRenderer.toString(marshaller));
 		try {
 			marshaller.afterPropertiesSet();
 		} catch (final Exception ex) {
@@ -917,6 +929,12 @@ public class BaseWsClientConfig {
 		final PerformanceLogMethodInterceptor performanceLogMethodInteceptor = new PerformanceLogMethodInterceptor(meterRegistry);
 		performanceLogMethodInteceptor.setWarningThreshhold(methodWarningThreshhold);
 		performanceLogMethodInteceptor.setMicrometerEnabled(micrometerEnabled);
+		performanceLogMethodInteceptor.setRequestTimingSpan(VopRequestTimings.Span.SOAP);
+		performanceLogMethodInteceptor.setPercentileHistogram(percentileHistogram);
+		if (sloMillis != null) {
+			performanceLogMethodInteceptor.setServiceLevelObjectives(
+					Arrays.stream(sloMillis).mapToObj(Duration::ofMillis).toArray(Duration[]::new));
+		}
 		return performanceLogMethodInteceptor;
 	}
 
@@ -0,0 +1,80 @@
+package com.wynd.vop.framework.client.ws.interceptor;
+
+import com.wynd.vop.framework.jfr.SoapCallEvent;
+import com.wynd.vop.framework.jfr.VopJfr;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.client.support.interceptor.ClientInterceptor;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.transport.WebServiceConnection;
+import org.springframework.ws.transport.context.TransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+
+import java.net.URISyntaxException;
+
+/**
+ * This interceptor records a {@link SoapCallEvent} Java Flight Recorder event for each call of the
+ * {@link org.springframework.ws.client.core.WebServiceTemplate}, from before the first interceptor
+ * to after the last one completes.
+ * <p>
+ * Nothing is done unless JFR is available and the event is enabled.
+ */
+public class SoapCallEventInterceptor implements ClientInterceptor {
+
+	/** The message context property that holds the event of the call */
+	static final String EVENT_PROPERTY = SoapCallEventInterceptor.class.getName() + ".event";
+
+	@Override
+	public boolean handleRequest(final MessageContext messageContext) {
+		if (VopJfr.AVAILABLE) {
+			SoapCallEvent event = SoapCallEvent.start();
+			if (event.isEnabled()) {
+				messageContext.setProperty(EVENT_PROPERTY, event);
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean handleResponse(final MessageContext messageContext) {
+		return true;
+	}
+
+	@Override
+	public boolean handleFault(final MessageContext messageContext) {
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(final MessageContext messageContext, final Exception ex) {
+		if (!VopJfr.AVAILABLE) {
+			return;
+		}
+		Object event = messageContext.getProperty(EVENT_PROPERTY);
+		if (event instanceof SoapCallEvent) {
+			messageContext.removeProperty(EVENT_PROPERTY);
+			WebServiceMessage request = messageContext.getRequest();
+			boolean fault = messageContext.hasResponse() && messageContext.getResponse().hasFault();
+			((SoapCallEvent) event).finish(uri(), request instanceof SoapMessage ? ((SoapMessage) request).getSoapAction() : null,
+					fault, ex);
+		}
+	}
+
+	/**
+	 * The URI of the current connection.
+	 *
+	 * @return the URI, or {@code null} if not known
+	 */
+	private static String uri() {
+		TransportContext context = TransportContextHolder.getTransportContext();
+		WebServiceConnection connection = context == null ? null : context.getConnection();
+		if (connection == null) {
+			return null;
+		}
+		try {
+			return connection.getUri().toString();
+		} catch (URISyntaxException e) { // NOSONAR the uri is informational
+			return null;
+		}
+	}
+}
@@ -7,8 +7,8 @@ import com.wynd.vop.framework.log.VopLoggerFactory;
 import com.wynd.vop.framework.messages.MessageKeys;
 import com.wynd.vop.framework.messages.MessageSeverity;
 import com.wynd.vop.framework.transfer.PartnerTransferObjectMarker;
+import com.wynd.vop.framework.util.ObjectRenderer;
 import com.wynd.vop.framework.validation.Defense;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.HttpStatus;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
@@ -114,9 +114,9 @@ public abstract class AbstractRemoteServiceCallMock implements RemoteServiceCall
 		Defense.notNull(request, "To callMockService, the transfer object 'request' cannot be null.");
 		Defense.notNull(requestClass, "To callMockService, the 'requestClass' of the request transfer object cannot be null.");
 
-		LOGGER.debug("Running mock service on webserviceTemplate with request "
-				+ (request == null ? "null" : ReflectionToStringBuilder.toString(request)));
-		PartnerTransferObjectMarker response = null;
+		LOGGER.debug("Running mock service on webserviceTemplate with request {}",
+				() -> request == null ? "null" : ObjectRenderer.toString(request));
+		final PartnerTransferObjectMarker response;
 
 		final Source requestPayload =
 				marshalMockRequest((Jaxb2Marshaller) webserviceTemplate.getMarshaller(), request, requestClass);
@@ -133,8 +133,8 @@ public abstract class AbstractRemoteServiceCallMock implements RemoteServiceCall
 			mockSoapServer.verify();
 		}
 
-		LOGGER.debug("Ran mock service, returning response "
-				+ (response == null ? "null" : ReflectionToStringBuilder.toString(response)));
+		LOGGER.debug("Ran mock service, returning response {}",
+				() -> response == null ? "null" : ObjectRenderer.toString(response));
 		return response;
 	}
 
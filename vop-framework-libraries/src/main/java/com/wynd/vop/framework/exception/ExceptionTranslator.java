@@ -0,0 +1,144 @@
+package com.wynd.vop.framework.exception;
+
+import com.wynd.vop.framework.messages.MessageKey;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+
+/**
+ * How the throwables of one class are translated to VOP exceptions and consumer messages.
+ * <p>
+ * Translators are computed once per throwable class, and are held in a {@link ClassValue} so they are collected
+ * with the class. Use {@link #of(Throwable)} to get the translator of a throwable.
+ */
+public final class ExceptionTranslator {
+
+	/** The translators, by throwable class */
+	private static final ClassValue<ExceptionTranslator> TRANSLATORS = new ClassValue<ExceptionTranslator>() {
+		@Override
+		protected ExceptionTranslator computeValue(final Class<?> type) {
+			return new ExceptionTranslator(type);
+		}
+	};
+
+	/** How the throwable is translated to a {@link VopRuntimeException} */
+	private enum Kind {
+		/** Already a VopRuntimeException */
+		VOP_RUNTIME,
+		/** A VopExceptionExtender that must be wrapped with the same exception data */
+		VOP_EXTENDER,
+		/** Any other throwable, wrapped with the key supplied by the caller */
+		OTHER
+	}
+
+	/** How the throwable is translated */
+	private final Kind kind;
+
+	/** The simple name of the throwable class */
+	private final String simpleName;
+
+	/** The text that {@link Throwable#Throwable(Throwable)} puts before the message of a cause of this class */
+	private final String causePrefix;
+
+	/**
+	 * Compute the translator of a class.
+	 *
+	 * @param type the throwable class
+	 */
+	private ExceptionTranslator(final Class<?> type) {
+		if (VopRuntimeException.class.isAssignableFrom(type)) {
+			this.kind = Kind.VOP_RUNTIME;
+		} else if (VopExceptionExtender.class.isAssignableFrom(type)) {
+			this.kind = Kind.VOP_EXTENDER;
+		} else {
+			this.kind = Kind.OTHER;
+		}
+		this.simpleName = type.getSimpleName();
+		this.causePrefix = type.getName() + ":";
+	}
+
+	/**
+	 * The translator of the class of a throwable.
+	 *
+	 * @param throwable the throwable, must not be {@code null}
+	 * @return the translator
+	 */
+	public static ExceptionTranslator of(final Throwable throwable) {
+		return TRANSLATORS.get(throwable.getClass());
+	}
+
+	/**
+	 * The translator of a throwable class.
+	 *
+	 * @param type the throwable class
+	 * @return the translator
+	 */
+	public static ExceptionTranslator of(final Class<? extends Throwable> type) {
+		return TRANSLATORS.get(type);
+	}
+
+	/**
+	 * Whether the throwables of this class implement {@link VopExceptionExtender}.
+	 *
+	 * @return true, if the throwables carry {@link VopExceptionData}
+	 */
+	public boolean isVopException() {
+		return kind != Kind.OTHER;
+	}
+
+	/**
+	 * The simple name of the throwable class.
+	 *
+	 * @return the simple name
+	 */
+	public String getSimpleName() {
+		return simpleName;
+	}
+
+	/**
+	 * Translate a throwable of this class to a {@link VopRuntimeException}.
+	 * <ul>
+	 * <li>a VopRuntimeException is returned as-is
+	 * <li>any other {@link VopExceptionExtender} is wrapped, without a stack trace, in a VopRuntimeException with the
+	 * same exception data
+	 * <li>any other throwable is wrapped in a FATAL, 500 VopRuntimeException with the supplied key
+	 * </ul>
+	 *
+	 * @param throwable the throwable, of the class of this translator
+	 * @param messageKey the key for throwables that are not VOP exceptions
+	 * @return the runtime exception
+	 */
+	public VopRuntimeException toRuntimeException(final Throwable throwable, final MessageKey messageKey) {
+		switch (kind) {
+			case VOP_RUNTIME:
+				return (VopRuntimeException) throwable;
+			case VOP_EXTENDER:
+				VopExceptionData data = ((VopExceptionExtender) throwable).getExceptionData();
+				// the wrapped exception has the stack trace
+				return new VopRuntimeException(data.getMessageKey(), data.getSeverity(), data.getStatus(), throwable, false,
+						data.getParams());
+			default:
+				return new VopRuntimeException(messageKey, MessageSeverity.FATAL, HttpStatus.INTERNAL_SERVER_ERROR, throwable);
+		}
+	}
+
+	/**
+	 * The message of a throwable, without the class name that {@link Throwable#Throwable(Throwable)} puts in the
+	 * message when the cause has a message.
+	 *
+	 * @param throwable the throwable, may be {@code null}
+	 * @param noMessage the text to return if the throwable or its message is {@code null} or blank
+	 * @return the message
+	 */
+	public static String deriveMessage(final Throwable throwable, final String noMessage) {
+		if (throwable == null) {
+			return noMessage;
+		}
+		String msg = throwable.getMessage();
+		Throwable cause = throwable.getCause();
+		if ((cause != null) && StringUtils.isNotBlank(msg)) {
+			msg = StringUtils.remove(msg, of(cause).causePrefix);
+		}
+		return StringUtils.isBlank(msg) ? noMessage : msg;
+	}
+}
@@ -0,0 +1,132 @@
+package com.wynd.vop.framework.exception;
+
+import com.wynd.vop.framework.messages.MessageKey;
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Decides which {@link VopRuntimeException}s are created without a stack trace.
+ * <p>
+ * Exceptions thrown for expected conditions, such as failed {@code Defense} assertions or error responses from
+ * partners, are handled by the framework and their stack trace has no diagnostic value, but filling it is the most
+ * expensive part of creating the exception. An exception is created without a stack trace when its key, or its
+ * severity, is configured as stackless. Its cause, if any, keeps its own stack trace.
+ * <p>
+ * By default, the {@link MessageKeys#VOP_VALIDATOR_ASSERTION} and {@link MessageKeys#VOP_FEIGN_MESSAGE_RECEIVED}
+ * keys, and the severities below {@link MessageSeverity#WARN}, are stackless. Warnings keep their stack trace, as
+ * handlers may log them at {@code ERROR}.
+ */
+public final class StackTracePolicy {
+
+	/** The severities that are stackless by default */
+	private static final Set<MessageSeverity> DEFAULT_SEVERITIES = Collections.unmodifiableSet(
+			EnumSet.of(MessageSeverity.TRACE, MessageSeverity.DEBUG, MessageSeverity.INFO));
+
+	/** The keys that are stackless by default */
+	private static final Set<String> DEFAULT_KEYS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+			MessageKeys.VOP_VALIDATOR_ASSERTION.getKey(), MessageKeys.VOP_FEIGN_MESSAGE_RECEIVED.getKey())));
+
+	/** Whether any exception can be stackless */
+	private static volatile boolean enabled = true;
+
+	/** Exceptions of these severities are stackless */
+	private static volatile Set<MessageSeverity> stacklessSeverities = DEFAULT_SEVERITIES;
+
+	/** Exceptions with these keys are stackless */
+	private static volatile Set<String> stacklessKeys = DEFAULT_KEYS;
+
+	/**
+	 * Do not instantiate.
+	 */
+	private StackTracePolicy() {
+		throw new IllegalAccessError("StackTracePolicy is a static class. Do not instantiate it.");
+	}
+
+	/**
+	 * Whether an exception with the key and severity fills in its stack trace.
+	 *
+	 * @param key the message key of the exception, may be {@code null}
+	 * @param severity the severity of the exception, may be {@code null}
+	 * @return false, if the exception is stackless
+	 */
+	public static boolean isWritableStackTrace(final MessageKey key, final MessageSeverity severity) {
+		if (!enabled) {
+			return true;
+		}
+		if ((severity != null) && stacklessSeverities.contains(severity)) {
+			return false;
+		}
+		return (key == null) || !stacklessKeys.contains(key.getKey());
+	}
+
+	/**
+	 * Whether any exception can be stackless.
+	 *
+	 * @return true, if the policy is applied
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Whether any exception can be stackless. When disabled, all exceptions fill in their stack trace.
+	 *
+	 * @param enabled whether the policy is applied
+	 */
+	public static void setEnabled(final boolean enabled) {
+		StackTracePolicy.enabled = enabled;
+	}
+
+	/**
+	 * The severities of stackless exceptions.
+	 *
+	 * @return the severities
+	 */
+	public static Set<MessageSeverity> getStacklessSeverities() {
+		return stacklessSeverities;
+	}
+
+	/**
+	 * Set the severities of stackless exceptions.
+	 *
+	 * @param severities the severities, none if empty
+	 */
+	public static void setStacklessSeverities(final MessageSeverity... severities) {
+		Set<MessageSeverity> set = EnumSet.noneOf(MessageSeverity.class);
+		set.addAll(Arrays.asList(severities));
+		stacklessSeverities = Collections.unmodifiableSet(set);
+	}
+
+	/**
+	 * The keys of stackless exceptions, as in {@link MessageKey#getKey()}.
+	 *
+	 * @return the keys
+	 */
+	public static Set<String> getStacklessKeys() {
+		return stacklessKeys;
+	}
+
+	/**
+	 * Set the keys of stackless exceptions.
+	 *
+	 * @param keys the keys, as in {@link MessageKey#getKey()}, none if empty
+	 */
+	public static void setStacklessKeys(final String... keys) {
+		stacklessKeys = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(keys)));
+	}
+
+	/**
+	 * Restore the default policy.
+	 */
+	public static void reset() {
+		enabled = true;
+		stacklessSeverities = DEFAULT_SEVERITIES;
+		stacklessKeys = DEFAULT_KEYS;
+	}
+}
@@ -10,6 +10,8 @@ import org.springframework.http.HttpStatus;
  * <p>
  * To support the requirements of consumer responses, VOP Exception classes that need
  * to immediately bubble back to the provider controller should extend this class.
+ * <p>
+ * Exceptions for expected conditions are created without a stack trace, as configured by the {@link StackTracePolicy}.
  *
  * @see VopExceptionExtender
  * @see RuntimeException
@@ -53,7 +55,26 @@ public class VopRuntimeException extends RuntimeException implements VopExceptio
 	 */
 	public VopRuntimeException(final MessageKey key, final MessageSeverity severity, final HttpStatus status,
 			final Throwable cause, final String... params) {
-		super((key == null ? MessageKeys.NO_KEY.toString() : key.getMessage(params)), cause);
+		this(key, severity, status, cause, StackTracePolicy.isWritableStackTrace(key, severity), params);
+	}
+
+	/**
+	 * Constructs a new RuntimeException with the specified detail key, message, severity, status, and cause,
+	 * with or without a stack trace regardless of the {@link StackTracePolicy}.
+	 *
+	 * @see RuntimeException#RuntimeException(String, Throwable, boolean, boolean)
+	 *
+	 * @param key - the consumer-facing key that can uniquely identify the nature of the exception
+	 * @param severity - the severity of the event: FATAL (500 series), ERROR (400 series), WARN (200 series), or INFO/DEBUG/TRACE
+	 * @param status - the HTTP Status code that applies best to the encountered problem, see
+	 *            <a href="https://tools.ietf.org/html/rfc7231">https://tools.ietf.org/html/rfc7231</a>
+	 * @param cause - the throwable that caused this throwable
+	 * @param writableStackTrace - whether the stack trace is filled in
+	 * @param params - arguments to fill in any params in the MessageKey message (e.g. value for {0})
+	 */
+	public VopRuntimeException(final MessageKey key, final MessageSeverity severity, final HttpStatus status,
+			final Throwable cause, final boolean writableStackTrace, final String... params) {
+		super((key == null ? MessageKeys.NO_KEY.toString() : key.getMessage(params)), cause, true, writableStackTrace);
 		exceptionData = new VopExceptionData(key, severity, status, params);
 	}
 
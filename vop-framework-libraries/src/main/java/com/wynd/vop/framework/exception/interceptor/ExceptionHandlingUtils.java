@@ -1,6 +1,7 @@
 package com.wynd.vop.framework.exception.interceptor;
 
 import com.wynd.vop.framework.constants.VopConstants;
+import com.wynd.vop.framework.exception.ExceptionTranslator;
 import com.wynd.vop.framework.exception.VopExceptionExtender;
 import com.wynd.vop.framework.exception.VopRuntimeException;
 import com.wynd.vop.framework.log.VopBanner;
@@ -12,7 +13,6 @@ import com.wynd.vop.framework.messages.MessageSeverity;
 import org.slf4j.event.Level;
 import org.springframework.http.HttpStatus;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 
@@ -47,53 +47,36 @@ public final class ExceptionHandlingUtils {
 	}
 
 	/**
-	 * Resolve the throwable to an {@link VopRuntimeException} (or subclass of VopRuntimeException).
+	 * Resolve the throwable to an {@link VopRuntimeException} (or subclass of VopRuntimeException),
+	 * as translated by the {@link ExceptionTranslator} of its class.
 	 *
 	 * @param messageKey the message key to use for this type of exception
 	 * @param throwable the throwable
 	 * @return the runtime exception
-	 * @throws InstantiationException the instantiation exception
-	 * @throws IllegalAccessException the illegal access exception
 	 */
 	public static VopRuntimeException resolveRuntimeException(final MessageKey messageKey, final Throwable throwable) {
-		// custom exception type to represent the error
-		VopRuntimeException resolvedRuntimeException = null;
-
-		if (VopRuntimeException.class.isAssignableFrom(throwable.getClass())) {
-			// have to cast so the "Throwable throwable" variable can be returned as-is
-			resolvedRuntimeException = castToVopRuntimeException(throwable);
-
-		} else if (VopExceptionExtender.class.isAssignableFrom(throwable.getClass())) {
-			resolvedRuntimeException = convertFromVopExceptionExtender(throwable);
-
-		} else {
-			// make a new VopRuntimeException from the non-VOP throwable
-			resolvedRuntimeException =
-					new VopRuntimeException(messageKey, MessageSeverity.FATAL, HttpStatus.INTERNAL_SERVER_ERROR, throwable);
-		}
-
-		return resolvedRuntimeException;
+		return ExceptionTranslator.of(throwable).toRuntimeException(throwable, messageKey);
 	}
 
+	/**
+	 * Wrap a {@link VopExceptionExtender} in a {@link VopRuntimeException} with the same exception data.
+	 * <p>
+	 * The wrapper is created without a stack trace, as the wrapped throwable already has one.
+	 *
+	 * @param throwable the VOP throwable
+	 * @return the runtime exception, or the throwable itself if it already is one
+	 * @throws VopRuntimeException if the throwable is not a {@link VopExceptionExtender}
+	 */
 	static VopRuntimeException convertFromVopExceptionExtender(final Throwable throwable) {
-		VopRuntimeException resolvedRuntimeException = null;
-		try {
-			// cast "Throwable throwable" variable to the VOP exception interface
-			VopExceptionExtender vop = (VopExceptionExtender) throwable;
-			String [] stringArray = new String [] {};
-			// instantiate the Runtime version of the interface
-			resolvedRuntimeException = (VopRuntimeException) throwable.getClass()
-					.getConstructor(MessageKey.class, MessageSeverity.class, HttpStatus.class, Throwable.class, stringArray.getClass())
-					.newInstance(vop.getExceptionData().getMessageKey(), vop.getExceptionData().getSeverity(),
-							vop.getExceptionData().getStatus(), throwable, stringArray);
-		} catch (ClassCastException | IllegalAccessException | IllegalArgumentException | InstantiationException
-				| InvocationTargetException | NoSuchMethodException | SecurityException e) {
+		ExceptionTranslator translator = ExceptionTranslator.of(throwable);
+		if (!translator.isVopException()) {
+			// not a VopExceptionExtender, there is no exception data to convert
 			MessageKeys key = MessageKeys.VOP_EXCEPTION_HANDLER_ERROR_VALUES;
 			LOGGER.error(new VopBanner(VopConstants.RESOLVE_EXCEPTION, Level.ERROR),
-					key.getMessage(e.getClass().getName()), e);
-			throw new VopRuntimeException(key, MessageSeverity.FATAL, HttpStatus.INTERNAL_SERVER_ERROR, e);
+					key.getMessage(throwable.getClass().getName()), throwable);
+			throw new VopRuntimeException(key, MessageSeverity.FATAL, HttpStatus.INTERNAL_SERVER_ERROR, throwable);
 		}
-		return resolvedRuntimeException;
+		return translator.toRuntimeException(throwable, null);
 	}
 
 	static VopRuntimeException castToVopRuntimeException(final Throwable throwable) { // method added for testability
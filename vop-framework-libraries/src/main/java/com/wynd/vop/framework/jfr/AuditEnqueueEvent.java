@@ -0,0 +1,62 @@
+package com.wynd.vop.framework.jfr;
+
+import com.wynd.vop.framework.audit.AuditEventData;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Audit data captured on the request thread and handed off to the async audit logger.
+ * <p>
+ * See {@link VopJfr} for how the event is enabled and recorded.
+ */
+@Name("com.wynd.vop.AuditEnqueue")
+@Label("Audit Enqueue")
+@Category({ VopJfr.CATEGORY, "Audit" })
+@Description("Audit data captured on the request thread and handed off to the async audit logger")
+@Enabled(false)
+@StackTrace(false)
+public class AuditEnqueueEvent extends Event {
+
+	@Label("Audit Event")
+	String event;
+
+	@Label("Activity")
+	String activity;
+
+	@Label("Audit Data Class")
+	String auditDataClass;
+
+	/**
+	 * Create the event and start its timing.
+	 *
+	 * @return the event
+	 */
+	public static AuditEnqueueEvent start() {
+		AuditEnqueueEvent jfrEvent = new AuditEnqueueEvent();
+		jfrEvent.begin();
+		return jfrEvent;
+	}
+
+	/**
+	 * End the timing, and commit the event if it is enabled and over its threshold.
+	 *
+	 * @param auditEventData the audit meta-data, may be {@code null}
+	 * @param auditData the audit data, may be {@code null}
+	 */
+	public void finish(final AuditEventData auditEventData, final Object auditData) {
+		end();
+		if (shouldCommit()) {
+			if (auditEventData != null) {
+				event = String.valueOf(auditEventData.getEvent());
+				activity = auditEventData.getActivity();
+			}
+			auditDataClass = auditData == null ? null : auditData.getClass().getName();
+			commit();
+		}
+	}
+}
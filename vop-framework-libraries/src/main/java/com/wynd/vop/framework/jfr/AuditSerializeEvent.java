@@ -0,0 +1,62 @@
+package com.wynd.vop.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Audit data serialized to JSON by the async audit logger.
+ * <p>
+ * See {@link VopJfr} for how the event is enabled and recorded.
+ */
+@Name("com.wynd.vop.AuditSerialize")
+@Label("Audit Serialize")
+@Category({ VopJfr.CATEGORY, "Audit" })
+@Description("Audit data serialized to JSON by the async audit logger")
+@Enabled(false)
+@StackTrace(false)
+public class AuditSerializeEvent extends Event {
+
+	@Label("Audit Data Class")
+	String auditDataClass;
+
+	@Label("Length")
+	@Description("Number of characters of the serialized audit data")
+	long length;
+
+	@Label("Fallback")
+	@Description("Whether JSON serialization failed, and the audit data was rendered otherwise")
+	boolean fallback;
+
+	/**
+	 * Create the event and start its timing.
+	 *
+	 * @return the event
+	 */
+	public static AuditSerializeEvent start() {
+		AuditSerializeEvent event = new AuditSerializeEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End the timing, and commit the event if it is enabled and over its threshold.
+	 *
+	 * @param auditData the audit data
+	 * @param serialized the serialized audit data, may be {@code null}
+	 * @param fallback whether JSON serialization failed
+	 */
+	public void finish(final Object auditData, final String serialized, final boolean fallback) {
+		end();
+		if (shouldCommit()) {
+			this.auditDataClass = auditData == null ? null : auditData.getClass().getName();
+			this.length = serialized == null ? 0 : serialized.length();
+			this.fallback = fallback;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.wynd.vop.framework.jfr;
+
+import com.wynd.vop.framework.audit.AuditEventData;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Audit record written to the audit log by the async audit logger.
+ * <p>
+ * See {@link VopJfr} for how the event is enabled and recorded.
+ */
+@Name("com.wynd.vop.AuditWrite")
+@Label("Audit Write")
+@Category({ VopJfr.CATEGORY, "Audit" })
+@Description("Audit record written to the audit log by the async audit logger")
+@Enabled(false)
+@StackTrace(false)
+public class AuditWriteEvent extends Event {
+
+	@Label("Audit Event")
+	String event;
+
+	@Label("Severity")
+	String severity;
+
+	@Label("Length")
+	@Description("Number of characters of the audit details")
+	long length;
+
+	/**
+	 * Create the event and start its timing.
+	 *
+	 * @return the event
+	 */
+	public static AuditWriteEvent start() {
+		AuditWriteEvent jfrEvent = new AuditWriteEvent();
+		jfrEvent.begin();
+		return jfrEvent;
+	}
+
+	/**
+	 * End the timing, and commit the event if it is enabled and over its threshold.
+	 *
+	 * @param auditEventData the audit meta-data, may be {@code null}
+	 * @param severity the severity of the record
+	 * @param details the audit details, may be {@code null}
+	 */
+	public void finish(final AuditEventData auditEventData, final Object severity, final String details) {
+		end();
+		if (shouldCommit()) {
+			event = auditEventData == null ? null : String.valueOf(auditEventData.getEvent());
+			this.severity = String.valueOf(severity);
+			length = details == null ? 0 : details.length();
+			commit();
+		}
+	}
+}
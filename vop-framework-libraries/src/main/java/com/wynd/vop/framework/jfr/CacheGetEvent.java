@@ -0,0 +1,61 @@
+package com.wynd.vop.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Cache lookup by the framework cache interceptor. Keys are identified by type and hash code only.
+ * <p>
+ * See {@link VopJfr} for how the event is enabled and recorded.
+ */
+@Name("com.wynd.vop.CacheGet")
+@Label("Cache Get")
+@Category({ VopJfr.CATEGORY, "Cache" })
+@Description("Cache lookup by the framework cache interceptor")
+@Enabled(false)
+@StackTrace(false)
+public class CacheGetEvent extends Event {
+
+	@Label("Cache Name")
+	String cacheName;
+
+	@Label("Key")
+	@Description("Type and hash code of the key")
+	String key;
+
+	@Label("Hit")
+	boolean hit;
+
+	/**
+	 * Create the event and start its timing.
+	 *
+	 * @return the event
+	 */
+	public static CacheGetEvent start() {
+		CacheGetEvent event = new CacheGetEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End the timing, and commit the event if it is enabled and over its threshold.
+	 *
+	 * @param cacheName the cache name
+	 * @param key the key
+	 * @param hit whether the key was found
+	 */
+	public void finish(final String cacheName, final Object key, final boolean hit) {
+		end();
+		if (shouldCommit()) {
+			this.cacheName = cacheName;
+			this.key = VopJfr.identify(key);
+			this.hit = hit;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.wynd.vop.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Cache store by the framework cache interceptor. Keys are identified by type and hash code only.
+ * <p>
+ * See {@link VopJfr} for how the event is enabled and recorded.
+ */
+@Name("com.wynd.vop.CachePut")
+@Label("Cache Put")
+@Category({ VopJfr.CATEGORY, "Cache" })
+@Description("Cache store by the framework cache interceptor")
+@Enabled(false)
+@StackTrace(false)
+public class CachePutEvent extends Event {
+
+	@Label("Cache Name")
+	String cacheName;
+
+	@Label("Key")
+	@Description("Type and hash code of the key")
+	String key;
+
+	@Label("Value Class")
+	String valueClass;
+
+	/**
+	 * Create the event and start its timing.
+	 *
+	 * @return the event
+	 */
+	public static CachePutEvent start() {
+		CachePutEvent event = new CachePutEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End the timing, and commit the event if it is enabled and over its threshold.
+	 *
+	 * @param cacheName the cache name
+	 * @param key the key
+	 * @param value the cached value, may be {@code null}
+	 */
+	public void finish(final String cacheName, final Object key, final Object value) {
+		end();
+		if (shouldCommit()) {
+			this.cacheName = cacheName;
+			this.key = VopJfr.identify(key);
+			this.valueClass = value == null ? null : value.getClass().getName();
+			commit();
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.wynd.vop.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * REST partner call through the framework rest client template.
+ * <p>
+ * See {@link VopJfr} for how the event is enabled and recorded.
+ */
+@Name("com.wynd.vop.RestCall")
+@Label("REST Call")
+@Category({ VopJfr.CATEGORY, "Partner" })
+@Description("REST partner call through the framework rest client template")
+@Enabled(false)
+@StackTrace(false)
+public class RestCallEvent extends Event {
+
+	@Label("HTTP Method")
+	String method;
+
+	@Label("URL")
+	@Description("URL, without query string")
+	String url;
+
+	@Label("Status")
+	@Description("HTTP status code, 0 if the call failed")
+	int status;
+
+	@Label("Exception")
+	String exception;
+
+	/**
+	 * Create the event and start its timing.
+	 *
+	 * @return the event
+	 */
+	public static RestCallEvent start() {
+		RestCallEvent event = new RestCallEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End the timing, and commit the event if it is enabled and over its threshold.
+	 *
+	 * @param method the HTTP method
+	 * @param url the URL
+	 * @param status the HTTP status code, 0 if the call failed
+	 * @param exception the exception the call ended with, may be {@code null}
+	 */
+	public void finish(final Object method, final String url, final int status, final Throwable exception) {
+		end();
+		if (shouldCommit()) {
+			this.method = String.valueOf(method);
+			this.url = VopJfr.stripQuery(url);
+			this.status = status;
+			this.exception = exception == null ? null : exception.getClass().getName();
+			commit();
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.wynd.vop.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SOAP partner call through a web service template created by the framework web service client configuration.
+ * <p>
+ * See {@link VopJfr} for how the event is enabled and recorded.
+ */
+@Name("com.wynd.vop.SoapCall")
+@Label("SOAP Call")
+@Category({ VopJfr.CATEGORY, "Partner" })
+@Description("SOAP partner call through a framework web service template")
+@Enabled(false)
+@StackTrace(false)
+public class SoapCallEvent extends Event {
+
+	@Label("URI")
+	@Description("Endpoint URI, without query string")
+	String uri;
+
+	@Label("SOAP Action")
+	String soapAction;
+
+	@Label("Fault")
+	boolean fault;
+
+	@Label("Exception")
+	String exception;
+
+	/**
+	 * Create the event and start its timing.
+	 *
+	 * @return the event
+	 */
+	public static SoapCallEvent start() {
+		SoapCallEvent event = new SoapCallEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End the timing, and commit the event if it is enabled and over its threshold.
+	 *
+	 * @param uri the endpoint URI, may be {@code null}
+	 * @param soapAction the SOAP action, may be {@code null}
+	 * @param fault whether the response is a SOAP fault
+	 * @param exception the exception the call ended with, may be {@code null}
+	 */
+	public void finish(final String uri, final String soapAction, final boolean fault, final Throwable exception) {
+		end();
+		if (shouldCommit()) {
+			this.uri = VopJfr.stripQuery(uri);
+			this.soapAction = soapAction;
+			this.fault = fault;
+			this.exception = exception == null ? null : exception.getClass().getName();
+			commit();
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.wynd.vop.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.Method;
+
+/**
+ * Validation of a service request or response by the service validation aspect.
+ * <p>
+ * See {@link VopJfr} for how the event is enabled and recorded.
+ */
+@Name("com.wynd.vop.Validation")
+@Label("Service Validation")
+@Category({ VopJfr.CATEGORY, "Service" })
+@Description("Validation of a service request or response by the service validation aspect")
+@Enabled(false)
+@StackTrace(false)
+public class ValidationEvent extends Event {
+
+	/** Phase of the validation of the service request */
+	public static final String REQUEST = "request";
+	/** Phase of the validation of the service response */
+	public static final String RESPONSE = "response";
+
+	@Label("Service Method")
+	String method;
+
+	@Label("Phase")
+	@Description("request or response")
+	String phase;
+
+	@Label("Messages")
+	@Description("Number of messages on the response after validation")
+	int messages;
+
+	/**
+	 * Create the event and start its timing.
+	 *
+	 * @return the event
+	 */
+	public static ValidationEvent start() {
+		ValidationEvent event = new ValidationEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End the timing, and commit the event if it is enabled and over its threshold.
+	 *
+	 * @param method the validated service method, may be {@code null}
+	 * @param phase {@link #REQUEST} or {@link #RESPONSE}
+	 * @param messages the number of messages after validation
+	 */
+	public void finish(final Method method, final String phase, final int messages) {
+		end();
+		if (shouldCommit()) {
+			this.method = method == null ? null : method.getDeclaringClass().getSimpleName() + "." + method.getName();
+			this.phase = phase;
+			this.messages = messages;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.wynd.vop.framework.jfr;
+
+/**
+ * Entry point of the VOP Framework Java Flight Recorder events.
+ * <p>
+ * The events are declared disabled, so they are not recorded by the JDK {@code default} and {@code profile}
+ * settings. They are turned on per event type by JFR settings, e.g. the bundled {@value #SETTINGS} profile,
+ * next to a JDK profile (JDK 17 or later; on earlier JDKs, copy its events into a custom profile):
+ * <pre>
+ * -XX:StartFlightRecording:settings=default,/path/to/vop-framework.jfc
+ * </pre>
+ * Framework code only touches the event classes when {@link #AVAILABLE} is true, so it runs unchanged on a JRE
+ * without {@code jdk.jfr} (before 8u262). Each event is created, timed and checked with
+ * {@code shouldCommit()} before any of its fields are computed; a disabled event costs a constant check,
+ * and its allocation is removed by the JIT.
+ */
+public final class VopJfr {
+
+	/** The classpath location of the bundled JFR settings */
+	public static final String SETTINGS = "jfr/vop-framework.jfc";
+
+	/** The JFR category of all framework events */
+	static final String CATEGORY = "VOP Framework";
+
+	/** Whether the JRE supports JFR */
+	public static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+	/**
+	 * Do not instantiate.
+	 */
+	private VopJfr() {
+		throw new IllegalAccessError("VopJfr is a static class. Do not instantiate it.");
+	}
+
+	/**
+	 * Check for JFR by reflection, so this class loads on any JRE.
+	 *
+	 * @return true if JFR can be used
+	 */
+	private static boolean isFlightRecorderAvailable() {
+		try {
+			Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder");
+			return Boolean.TRUE.equals(flightRecorder.getMethod("isAvailable").invoke(null));
+		} catch (ReflectiveOperationException | LinkageError | SecurityException e) { // NOSONAR no JFR
+			return false;
+		}
+	}
+
+	/**
+	 * A short, bounded identifier for a value that may be sensitive: its type and hash code.
+	 *
+	 * @param value the value
+	 * @return {@code SimpleName#hash}, or {@code null}
+	 */
+	static String identify(final Object value) {
+		return value == null ? null : value.getClass().getSimpleName() + "#" + Integer.toHexString(value.hashCode());
+	}
+
+	/**
+	 * A URL without its query string and fragment, which may carry sensitive values.
+	 *
+	 * @param url the url
+	 * @return the url up to the first {@code ?} or {@code #}
+	 */
+	static String stripQuery(final String url) {
+		if (url == null) {
+			return null;
+		}
+		for (int i = 0; i < url.length(); i++) {
+			char c = url.charAt(i);
+			if (c == '?' || c == '#') {
+				return url.substring(0, i);
+			}
+		}
+		return url;
+	}
+}
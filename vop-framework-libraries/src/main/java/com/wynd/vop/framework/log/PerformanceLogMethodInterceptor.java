@@ -5,7 +5,10 @@ import io.micrometer.core.instrument.Timer;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -17,11 +20,15 @@ import java.util.concurrent.TimeUnit;
  * This method takes a configurable 'warningThreshhold', the number of milliseconds until performance is considered a "warning."
  * If/when the 'warningThreshhold' is exceeded the performance will be logged as at a warning level.
  *
+ * The logger, log message prefixes, warning threshold and micrometer timer of each intercepted method are resolved
+ * on its first call, and kept in a lock-free cache. The cache is cleared when a setter changes the configuration.
+ * The timer can publish a percentile histogram, client side percentiles and SLO buckets.
+ *
  */
 public class PerformanceLogMethodInterceptor implements MethodInterceptor {
 
-	/** number of milliseconds in a second */
-	private static final double NUMBER_OF_MILLIS_N_A_SECOND = 1000.0;
+	/** number of nanoseconds in a second */
+	private static final double NUMBER_OF_NANOS_N_A_SECOND = 1_000_000_000.0;
 
 	/** the default warning threshold */
 	public static final Integer DEFAULT_WARNING_THRESHHOLD = Integer.valueOf(1500);
@@ -63,6 +70,21 @@ public class PerformanceLogMethodInterceptor implements MethodInterceptor {
 	/** Whether micrometer metrics should be enabled */
 	private boolean micrometerEnabled;
 
+	/** Whether the timers publish a percentile histogram */
+	private boolean percentileHistogram;
+
+	/** The client side percentiles published by the timers, if any */
+	private double[] percentiles;
+
+	/** The SLO buckets published by the timers, if any */
+	private Duration[] serviceLevelObjectives;
+
+	/** The request timing span the intercepted calls are recorded in, if any */
+	private VopRequestTimings.Span requestTimingSpan;
+
+	/** The resolved descriptor of each intercepted method */
+	private final Map<Method, MethodDescriptor> descriptors = new ConcurrentHashMap<>();
+
 	public PerformanceLogMethodInterceptor(MeterRegistry meterRegistry) {
 		this.meterRegistry = meterRegistry;
 	}
@@ -74,45 +96,75 @@ public class PerformanceLogMethodInterceptor implements MethodInterceptor {
 	 */
 	@Override
 	public final Object invoke(final MethodInvocation methodInvocation) throws Throwable {
-		final VopLogger methodLog = VopLoggerFactory.getLogger(methodInvocation.getMethod().getDeclaringClass());
+		final Method method = methodInvocation.getMethod();
+		MethodDescriptor descriptor = descriptors.get(method);
+		if (descriptor == null) {
+			descriptor = descriptors.computeIfAbsent(method, this::describe);
+		}
+		final VopLogger methodLog = descriptor.logger;
 
 		// only log entry at the debug level
 		if (methodLog.isDebugEnabled()) {
-			methodLog.debug(ENTER + OPEN_BRACKET + methodInvocation.getMethod().getDeclaringClass().getSimpleName() + DOT
-					+ methodInvocation.getMethod().getName() + CLOSE_BRACKET);
+			methodLog.debug(descriptor.enterMessage);
 		}
 
-		final long startTime = System.currentTimeMillis();
-		final Object retVal = methodInvocation.proceed();
-		final long elapsedTime = System.currentTimeMillis() - startTime;
+		final long startTime = System.nanoTime();
+		final Object retVal;
+		try {
+			retVal = methodInvocation.proceed();
+		} finally {
+			if (requestTimingSpan != null) {
+				VopRequestTimings.record(requestTimingSpan, startTime);
+			}
+		}
+		final long elapsedNanos = System.nanoTime() - startTime;
 
-		final String callingClassAndMethod =
-				methodInvocation.getMethod().getDeclaringClass().getSimpleName() + DOT + methodInvocation.getMethod().getName();
-		final long warningThreshold = getWarningThreshold(callingClassAndMethod);
 		// log exit performance timing at the warning, info or debug level
-		if (elapsedTime > warningThreshold) {
-			methodLog.warn(PERFORMANCE_WARNING_RESPONSE_FOR + OPEN_BRACKET + callingClassAndMethod + IN_ELAPSED_TIME + elapsedTime
-					/ NUMBER_OF_MILLIS_N_A_SECOND + SECS + CLOSE_BRACKET
-					+ " is slower than configured threshold of [" + warningThreshold + CLOSE_BRACKET + MILLIS);
+		if (elapsedNanos > descriptor.warningThresholdNanos) {
+			methodLog.warn(descriptor.warningPrefix + elapsedNanos / NUMBER_OF_NANOS_N_A_SECOND + descriptor.warningSuffix);
 		} else if (methodLog.isDebugEnabled()) {
-			methodLog.debug(EXIT + OPEN_BRACKET + callingClassAndMethod + IN_ELAPSED_TIME + elapsedTime / NUMBER_OF_MILLIS_N_A_SECOND
-					+ SECS + CLOSE_BRACKET);
+			methodLog.debug(descriptor.exitPrefix + elapsedNanos / NUMBER_OF_NANOS_N_A_SECOND + SECS + CLOSE_BRACKET);
 		} else if (methodLog.isInfoEnabled()) {
-			methodLog.info(EXIT + OPEN_BRACKET + callingClassAndMethod + IN_ELAPSED_TIME + elapsedTime / NUMBER_OF_MILLIS_N_A_SECOND
-					+ SECS + CLOSE_BRACKET);
+			methodLog.info(descriptor.exitPrefix + elapsedNanos / NUMBER_OF_NANOS_N_A_SECOND + SECS + CLOSE_BRACKET);
 		}
 
-		if (micrometerEnabled && meterRegistry != null) {
-			Timer timer = Timer
-					.builder(callingClassAndMethod)
-					.register(meterRegistry);
-
-			timer.record(elapsedTime, TimeUnit.MILLISECONDS);
+		if (descriptor.timer != null) {
+			descriptor.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
 		}
 
 		return retVal;
 	}
 
+	/**
+	 * Resolve everything about a method that does not change from call to call.
+	 *
+	 * @param method the intercepted method
+	 * @return the descriptor
+	 */
+	private MethodDescriptor describe(final Method method) {
+		final String callingClassAndMethod = method.getDeclaringClass().getSimpleName() + DOT + method.getName();
+		final long warningThreshold = getWarningThreshold(callingClassAndMethod);
+
+		Timer timer = null;
+		if (micrometerEnabled && meterRegistry != null) {
+			Timer.Builder builder = Timer.builder(callingClassAndMethod).publishPercentileHistogram(percentileHistogram);
+			if (percentiles != null && percentiles.length > 0) {
+				builder.publishPercentiles(percentiles);
+			}
+			if (serviceLevelObjectives != null && serviceLevelObjectives.length > 0) {
+				builder.serviceLevelObjectives(serviceLevelObjectives);
+			}
+			timer = builder.register(meterRegistry);
+		}
+
+		return new MethodDescriptor(VopLoggerFactory.getLogger(method.getDeclaringClass()),
+				ENTER + OPEN_BRACKET + callingClassAndMethod + CLOSE_BRACKET,
+				EXIT + OPEN_BRACKET + callingClassAndMethod + IN_ELAPSED_TIME,
+				PERFORMANCE_WARNING_RESPONSE_FOR + OPEN_BRACKET + callingClassAndMethod + IN_ELAPSED_TIME,
+				SECS + CLOSE_BRACKET + " is slower than configured threshold of [" + warningThreshold + CLOSE_BRACKET + MILLIS,
+				TimeUnit.MILLISECONDS.toNanos(warningThreshold), timer);
+	}
+
 	/**
 	 * Get the warning threshold
 	 *
@@ -157,6 +209,7 @@ public class PerformanceLogMethodInterceptor implements MethodInterceptor {
 	 */
 	public final void setWarningThreshhold(final Integer warningThreshhold) {
 		this.warningThreshhold = warningThreshhold;
+		descriptors.clear();
 	}
 
 	/**
@@ -166,10 +219,51 @@ public class PerformanceLogMethodInterceptor implements MethodInterceptor {
 	 */
 	public final void setClassAndMethodSpecificWarningThreshold(final Map<String, Integer> classAndMethodSpecificWarningThreshold) {
 		this.classAndMethodSpecificWarningThreshold = classAndMethodSpecificWarningThreshold;
+		descriptors.clear();
 	}
 
 	public void setMicrometerEnabled(boolean micrometerEnabled) {
 		this.micrometerEnabled = micrometerEnabled;
+		descriptors.clear();
+	}
+
+	/**
+	 * The {@link VopRequestTimings} span that intercepted calls are added to, e.g. {@code SOAP} for web service clients.
+	 *
+	 * @param requestTimingSpan the span, or {@code null} to not record request timings
+	 */
+	public void setRequestTimingSpan(final VopRequestTimings.Span requestTimingSpan) {
+		this.requestTimingSpan = requestTimingSpan;
+	}
+
+	/**
+	 * Whether the micrometer timers publish a percentile histogram, e.g. for Prometheus {@code histogram_quantile}.
+	 *
+	 * @param percentileHistogram true to publish the histogram
+	 */
+	public void setPercentileHistogram(final boolean percentileHistogram) {
+		this.percentileHistogram = percentileHistogram;
+		descriptors.clear();
+	}
+
+	/**
+	 * The client side percentiles published by the micrometer timers, e.g. {@code 0.5, 0.95, 0.99}.
+	 *
+	 * @param percentiles the percentiles
+	 */
+	public void setPercentiles(final double... percentiles) {
+		this.percentiles = percentiles;
+		descriptors.clear();
+	}
+
+	/**
+	 * The SLO buckets published by the micrometer timers, e.g. the warning threshold.
+	 *
+	 * @param serviceLevelObjectives the SLO boundaries
+	 */
+	public void setServiceLevelObjectives(final Duration... serviceLevelObjectives) {
+		this.serviceLevelObjectives = serviceLevelObjectives;
+		descriptors.clear();
 	}
 
 	public boolean getMicrometerEnabled() {
@@ -179,4 +273,30 @@ public class PerformanceLogMethodInterceptor implements MethodInterceptor {
 	public MeterRegistry getMeterRegistry() {
 		return meterRegistry;
 	}
+
+	/**
+	 * Everything about an intercepted method that does not change from call to call.
+	 */
+	private static final class MethodDescriptor {
+		private final VopLogger logger;
+		private final String enterMessage;
+		private final String exitPrefix;
+		private final String warningPrefix;
+		private final String warningSuffix;
+		private final long warningThresholdNanos;
+		/** The timer, or null if micrometer is not enabled */
+		private final Timer timer;
+
+		MethodDescriptor(final VopLogger logger, final String enterMessage, final String exitPrefix,
+				final String warningPrefix, final String warningSuffix, final long warningThresholdNanos,
+				final Timer timer) {
+			this.logger = logger;
+			this.enterMessage = enterMessage;
+			this.exitPrefix = exitPrefix;
+			this.warningPrefix = warningPrefix;
+			this.warningSuffix = warningSuffix;
+			this.warningThresholdNanos = warningThresholdNanos;
+			this.timer = timer;
+		}
+	}
 }
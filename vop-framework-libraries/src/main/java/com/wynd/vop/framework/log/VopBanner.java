@@ -1,12 +1,20 @@
 package com.wynd.vop.framework.log;
 
 import com.github.lalyos.jfiglet.FigletFont;
+import com.wynd.vop.framework.constants.VopConstants;
 import org.slf4j.event.Level;
 
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Object that represents text in the form of ASCII Art.
- *
-
+ * <p>
+ * The font is parsed once, and rendered banners are cached by text and level
+ * (up to {@value #MAX_CACHED_BANNERS} of them), so error paths that log the same banner
+ * on every failure do not re-render it. The {@link VopConstants} banner texts can be
+ * rendered ahead of time with {@link #preRender()}.
  */
 public class VopBanner {
 
@@ -20,6 +28,15 @@ public class VopBanner {
 	/** The font file */
 	protected static final String FONT_FILE = "classpath:/flf/digital.flf";
 
+	/** Maximum number of rendered banners kept in the cache */
+	static final int MAX_CACHED_BANNERS = 256;
+
+	/** Banner texts from {@link VopConstants} */
+	private static final String[] CONSTANT_BANNER_TEXTS = { VopConstants.INTERCEPTOR_EXCEPTION, VopConstants.RESOLVE_EXCEPTION };
+
+	/** Rendered banners, keyed by the text passed to the font */
+	private static final Map<String, String> BANNERS = new ConcurrentHashMap<>();
+
 	/**
 	 * Create an ASCII Art representation of some text.
 	 * The static {@link #newBanner(String, Level)} convenience method does the same.
@@ -45,6 +62,18 @@ public class VopBanner {
 		return new VopBanner(bannerText, level);
 	}
 
+	/**
+	 * Render the {@link VopConstants} banner texts at every level, so they are
+	 * already cached when the error paths that use them are first hit.
+	 */
+	public static void preRender() {
+		for (final String text : CONSTANT_BANNER_TEXTS) {
+			for (final Level level : Level.values()) {
+				createBannerString(text, level);
+			}
+		}
+	}
+
 	/**
 	 * Get the text used in the banner.
 	 *
@@ -102,25 +131,50 @@ public class VopBanner {
 	}
 
 	/**
-	 * Creates the banner ASCII Art string.
+	 * Creates the banner ASCII Art string, or gets it from the cache.
 	 *
 	 * @param banner the banner
 	 * @param level the level
 	 * @return the string
 	 */
-	private String createBannerString(final String banner, final Level level) {
+	private static String createBannerString(final String banner, final Level level) {
 		String rtnBanner = banner;
 		if (rtnBanner == null) {
 			rtnBanner = "";
 		}
 		rtnBanner = (level == null ? "" : level.name() + ": ") + rtnBanner.toUpperCase();
+
+		String cached = BANNERS.get(rtnBanner);
+		if (cached != null) {
+			return cached;
+		}
+		final FigletFont font = FontHolder.FONT;
+		if (font == null) {
+			return fallbackBanner(banner);
+		}
 		try {
-			rtnBanner = "\n" + FigletFont.convertOneLine(FONT_FILE, rtnBanner);
+			cached = "\n" + font.convert(rtnBanner);
 		} catch (final Exception exc) {
 			LOGGER.debug("Error creating ascii art.  Not a huge deal.", exc);
-			rtnBanner = "!!!!!!!!!!!!!!!!!!!!!!!!!!!!! " + banner + " !!!!!!!!!!!!!!!!!!!!!!!!!!!!!";
+			return fallbackBanner(banner);
+		}
+		if (BANNERS.size() < MAX_CACHED_BANNERS) {
+			BANNERS.putIfAbsent(rtnBanner, cached);
 		}
-		return rtnBanner;
+		return cached;
+	}
+
+	private static String fallbackBanner(final String banner) {
+		return "!!!!!!!!!!!!!!!!!!!!!!!!!!!!! " + banner + " !!!!!!!!!!!!!!!!!!!!!!!!!!!!!";
+	}
+
+	/**
+	 * The number of cached banners.
+	 *
+	 * @return the cache size
+	 */
+	static int cachedBanners() {
+		return BANNERS.size();
 	}
 
 	/**
@@ -129,7 +183,7 @@ public class VopBanner {
 	 * @param level the log level
 	 * @return Level a non-null log level
 	 */
-	private Level getSafeLevel(final Level level) {
+	private static Level getSafeLevel(final Level level) {
 		Level useLevel = level;
 		if (level == null) {
 			useLevel = Level.INFO;
@@ -137,4 +191,22 @@ public class VopBanner {
 		return useLevel;
 	}
 
+	/**
+	 * Parses the font file the first time a banner is rendered.
+	 */
+	private static final class FontHolder {
+		private static final FigletFont FONT = loadFont();
+
+		private FontHolder() {
+		}
+
+		private static FigletFont loadFont() {
+			try (InputStream stream = FigletFont.class.getResourceAsStream(FONT_FILE.substring("classpath:".length()))) {
+				return stream == null ? null : new FigletFont(stream);
+			} catch (final Exception exc) {
+				LOGGER.debug("Error loading ascii art font " + FONT_FILE + ".  Not a huge deal.", exc);
+				return null;
+			}
+		}
+	}
 }
@@ -107,6 +107,31 @@ public class VopBaseLogger {
 		return this.logger;
 	}
 
+	/**
+	 * Whether the logger is enabled for the level and marker.
+	 * <p>
+	 * If log level is {@code null}, DEBUG is assumed.
+	 * <p>
+	 * The check runs the logback turbo filters, so levels raised for a single request by
+	 * {@link VopRequestDebugTurboFilter} are honored here.
+	 *
+	 * @param level the log level
+	 * @param marker the marker (or null)
+	 * @return true if an event at the level would be logged
+	 */
+	protected boolean isEnabled(final Level level, final Marker marker) {
+		if (org.slf4j.event.Level.ERROR.equals(level)) {
+			return logger.isErrorEnabled(marker);
+		} else if (org.slf4j.event.Level.WARN.equals(level)) {
+			return logger.isWarnEnabled(marker);
+		} else if (org.slf4j.event.Level.INFO.equals(level)) {
+			return logger.isInfoEnabled(marker);
+		} else if (org.slf4j.event.Level.TRACE.equals(level)) {
+			return logger.isTraceEnabled(marker);
+		}
+		return logger.isDebugEnabled(marker);
+	}
+
 	/* ================ Logger ================ */
 
 	/**
@@ -117,6 +142,10 @@ public class VopBaseLogger {
 	 * @param message the message to log
 	 */
 	protected void sendlog(final Level level, final Marker marker, final String message, final Throwable t) {
+		// sanitizing and splitting are wasted if the event would be discarded anyway
+		if (!isEnabled(level, marker)) {
+			return;
+		}
 
 		String stackTrace = getStackTraceAsString(t);
 		List<String> logThis = splitStringToLength(
@@ -15,7 +15,9 @@ public enum VopLogMarkers {
 	/** Indicates an Exception occurred. */
 	EXCEPTION(MarkerFactory.getMarker("EXCEPTION")),
 	/** Indicates the log is related to a testing effort (e.g. for triage) */
-	TEST(MarkerFactory.getMarker("TEST"));
+	TEST(MarkerFactory.getMarker("TEST")),
+	/** Indicates the log summarizes repeated events that were suppressed (see {@link VopLogStormFilter}). */
+	SUPPRESSED(MarkerFactory.getMarker("SUPPRESSED"));
 
 	/** the marker for an enum member */
 	private Marker marker;
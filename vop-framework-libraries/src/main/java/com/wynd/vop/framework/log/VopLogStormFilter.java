@@ -0,0 +1,327 @@
+package com.wynd.vop.framework.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A logback turbo filter that suppresses log storms - the same event logged over and over,
+ * e.g. while a partner or redis is down.
+ * <p>
+ * Events at or above {@link #setLevel(String) level} (default WARN) are fingerprinted by logger, level,
+ * message template and exception class. The first {@link #setBurst(int) burst} events of each fingerprint
+ * are logged in every {@link #setWindowMillis(long) window}; the rest are denied and counted.
+ * At the end of each window one summary event with the suppressed count is logged for each
+ * fingerprint that had suppressed events, marked with {@link VopLogMarkers#SUPPRESSED}.
+ * <p>
+ * {@link VopLogger} formats arguments into the message before logback sees it, so the template is
+ * approximated from the first {@link #setTemplateLength(int) templateLength} characters of the message,
+ * with every run of digits treated as the same value.
+ * <p>
+ * Counters are kept in a lock-free map bounded to {@link #setMaxFingerprints(int) maxFingerprints} entries.
+ * When the map is full, events with new fingerprints are not suppressed. Idle fingerprints are evicted
+ * at the end of each window.
+ * <p>
+ * Usage is declared in the {@code vop-framework-logback-starter.xml} logback configuration.
+ */
+public class VopLogStormFilter extends TurboFilter {
+
+	/** Default number of events per fingerprint logged in each window */
+	public static final int DEFAULT_BURST = 10;
+	/** Default window length */
+	public static final long DEFAULT_WINDOW_MILLIS = 10000L;
+	/** Default maximum number of tracked fingerprints */
+	public static final int DEFAULT_MAX_FINGERPRINTS = 1000;
+	/** Default number of message characters used as the template */
+	public static final int DEFAULT_TEMPLATE_LENGTH = 1024;
+
+	/** Number of message characters copied into the summary */
+	private static final int SAMPLE_LENGTH = 256;
+	/** 64 bit FNV-1a */
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	/** Counters per fingerprint hash */
+	private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+	/** Events below this level are never suppressed */
+	private Level level = Level.WARN;
+	/** Events logged per fingerprint per window */
+	private int burst = DEFAULT_BURST;
+	/** The window length */
+	private long windowMillis = DEFAULT_WINDOW_MILLIS;
+	/** Maximum number of tracked fingerprints */
+	private int maxFingerprints = DEFAULT_MAX_FINGERPRINTS;
+	/** Number of message characters used as the template */
+	private int templateLength = DEFAULT_TEMPLATE_LENGTH;
+
+	/** Closes each window */
+	private ScheduledExecutorService scheduler;
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ch.qos.logback.classic.turbo.TurboFilter#start()
+	 */
+	@Override
+	public void start() {
+		if (burst < 0 || windowMillis <= 0 || maxFingerprints <= 0 || templateLength <= 0) {
+			addError("Invalid configuration for " + getName() + ": burst=" + burst + ", windowMillis=" + windowMillis
+					+ ", maxFingerprints=" + maxFingerprints + ", templateLength=" + templateLength);
+			return;
+		}
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "vop-log-storm-filter");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleAtFixedRate(this::closeWindow, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+		super.start();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ch.qos.logback.classic.turbo.TurboFilter#stop()
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+		counters.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ch.qos.logback.classic.turbo.TurboFilter#decide(org.slf4j.Marker, ch.qos.logback.classic.Logger,
+	 * ch.qos.logback.classic.Level, java.lang.String, java.lang.Object[], java.lang.Throwable)
+	 */
+	@Override
+	public FilterReply decide(final Marker marker, final Logger logger, final Level eventLevel, final String format,
+			final Object[] params, final Throwable t) {
+		// isXxxEnabled() checks have no format, and disabled events are never counted
+		if (!isStarted() || format == null || eventLevel == null || !eventLevel.isGreaterOrEqual(level)
+				|| !eventLevel.isGreaterOrEqual(logger.getEffectiveLevel())
+				|| (marker != null && marker.contains(VopLogMarkers.SUPPRESSED.getMarker()))) {
+			return FilterReply.NEUTRAL;
+		}
+
+		Throwable throwable = t;
+		if (throwable == null && params != null && params.length > 0 && params[params.length - 1] instanceof Throwable) {
+			throwable = (Throwable) params[params.length - 1];
+		}
+		String exceptionClass = throwable == null ? null : throwable.getClass().getName();
+
+		Long fingerprint = fingerprint(logger.getName(), eventLevel, format, exceptionClass);
+		Counter counter = counters.get(fingerprint);
+		if (counter == null) {
+			if (counters.size() >= maxFingerprints) {
+				return FilterReply.NEUTRAL;
+			}
+			Counter created = new Counter(logger.getName(), eventLevel, exceptionClass,
+					format.length() > SAMPLE_LENGTH ? format.substring(0, SAMPLE_LENGTH) : format);
+			counter = counters.putIfAbsent(fingerprint, created);
+			if (counter == null) {
+				counter = created;
+			}
+		}
+
+		if (counter.passed.incrementAndGet() <= burst) {
+			return FilterReply.NEUTRAL;
+		}
+		counter.suppressed.incrementAndGet();
+		return FilterReply.DENY;
+	}
+
+	/**
+	 * Hash the fingerprint fields, treating each run of digits in the template as the same value.
+	 *
+	 * @param loggerName the logger name
+	 * @param eventLevel the event level
+	 * @param format the message or message template
+	 * @param exceptionClass the exception class name, or null
+	 * @return the fingerprint hash
+	 */
+	private Long fingerprint(final String loggerName, final Level eventLevel, final String format,
+			final String exceptionClass) {
+		long hash = FNV_OFFSET;
+		hash = hash(hash, loggerName, loggerName.length());
+		hash = (hash ^ eventLevel.toInt()) * FNV_PRIME;
+		if (exceptionClass != null) {
+			hash = hash(hash, exceptionClass, exceptionClass.length());
+		}
+		boolean inDigits = false;
+		int length = Math.min(format.length(), templateLength);
+		for (int i = 0; i < length; i++) {
+			char c = format.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (inDigits) {
+					continue;
+				}
+				inDigits = true;
+				c = '#';
+			} else {
+				inDigits = false;
+			}
+			hash = (hash ^ c) * FNV_PRIME;
+		}
+		return Long.valueOf(hash);
+	}
+
+	private static long hash(final long seed, final String value, final int length) {
+		long hash = seed;
+		for (int i = 0; i < length; i++) {
+			hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+		}
+		return (hash ^ 0xff) * FNV_PRIME;
+	}
+
+	/**
+	 * End the current window: log a summary for every fingerprint that had suppressed events,
+	 * reset the counters, and evict fingerprints that had no events in the window.
+	 */
+	void closeWindow() {
+		LoggerContext loggerContext = getContext() instanceof LoggerContext ? (LoggerContext) getContext() : null;
+		Iterator<Counter> iterator = counters.values().iterator();
+		while (iterator.hasNext()) {
+			Counter counter = iterator.next();
+			int passed = counter.passed.getAndSet(0);
+			long suppressed = counter.suppressed.getAndSet(0);
+			if (passed == 0) {
+				iterator.remove();
+			}
+			if (suppressed > 0 && loggerContext != null) {
+				summarize(loggerContext.getLogger(counter.loggerName), counter, suppressed);
+			}
+		}
+	}
+
+	/**
+	 * Log the summary for a fingerprint, on the original logger and at the original level.
+	 *
+	 * @param logger the original logger
+	 * @param counter the counter for the fingerprint
+	 * @param suppressed the number of events suppressed in the window
+	 */
+	private void summarize(final Logger logger, final Counter counter, final long suppressed) {
+		String format = "Suppressed {} repeated log events in the last {} ms (exception: {}), first seen as: {}";
+		Object[] args = { suppressed, windowMillis, counter.exceptionClass, counter.sample };
+		Marker marker = VopLogMarkers.SUPPRESSED.getMarker();
+		if (Level.ERROR.equals(counter.level)) {
+			logger.error(marker, format, args);
+		} else if (Level.WARN.equals(counter.level)) {
+			logger.warn(marker, format, args);
+		} else if (Level.INFO.equals(counter.level)) {
+			logger.info(marker, format, args);
+		} else if (Level.DEBUG.equals(counter.level)) {
+			logger.debug(marker, format, args);
+		} else {
+			logger.trace(marker, format, args);
+		}
+	}
+
+	/**
+	 * The number of tracked fingerprints.
+	 *
+	 * @return the number of fingerprints
+	 */
+	int fingerprints() {
+		return counters.size();
+	}
+
+	/* ***************************** PROPERTIES ***************************** */
+
+	/**
+	 * Events below this level are never suppressed, default WARN.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <level>} tag was provided in the config.
+	 *
+	 * @param level the level name
+	 */
+	public void setLevel(final String level) {
+		this.level = Level.toLevel(level, Level.WARN);
+	}
+
+	/**
+	 * The number of events per fingerprint logged in each window, default {@value #DEFAULT_BURST}.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <burst>} tag was provided in the config.
+	 *
+	 * @param burst the burst
+	 */
+	public void setBurst(final int burst) {
+		this.burst = burst;
+	}
+
+	/**
+	 * The window length in milliseconds, default {@value #DEFAULT_WINDOW_MILLIS}.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <windowMillis>} tag was provided in the config.
+	 *
+	 * @param windowMillis the window length
+	 */
+	public void setWindowMillis(final long windowMillis) {
+		this.windowMillis = windowMillis;
+	}
+
+	/**
+	 * The maximum number of tracked fingerprints, default {@value #DEFAULT_MAX_FINGERPRINTS}.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <maxFingerprints>} tag was provided in the config.
+	 *
+	 * @param maxFingerprints the maximum
+	 */
+	public void setMaxFingerprints(final int maxFingerprints) {
+		this.maxFingerprints = maxFingerprints;
+	}
+
+	/**
+	 * The number of message characters used as the template, default {@value #DEFAULT_TEMPLATE_LENGTH}.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <templateLength>} tag was provided in the config.
+	 *
+	 * @param templateLength the template length
+	 */
+	public void setTemplateLength(final int templateLength) {
+		this.templateLength = templateLength;
+	}
+
+	/**
+	 * Per fingerprint counters. The counters are reset at the end of each window.
+	 */
+	private static final class Counter {
+		/** Fingerprint values, kept for the summary */
+		private final String loggerName;
+		private final Level level;
+		private final String exceptionClass;
+		private final String sample;
+
+		/** Events seen in the current window */
+		private final AtomicInteger passed = new AtomicInteger();
+		/** Events suppressed in the current window */
+		private final AtomicLong suppressed = new AtomicLong();
+
+		Counter(final String loggerName, final Level level, final String exceptionClass, final String sample) {
+			this.loggerName = loggerName;
+			this.level = level;
+			this.exceptionClass = exceptionClass;
+			this.sample = sample;
+		}
+	}
+}
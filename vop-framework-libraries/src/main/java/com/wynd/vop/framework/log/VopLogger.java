@@ -3,6 +3,8 @@ package com.wynd.vop.framework.log;
 import org.slf4j.event.Level;
 import org.slf4j.helpers.MessageFormatter;
 
+import java.util.function.Supplier;
+
 /**
  * A logger for the platform that extends and enhances org.slf4j.Logger.
  * <p>
@@ -611,6 +613,289 @@ public class VopLogger extends VopBaseLogger {
 
 	//
 	//
+	/* ================ Lazy (Supplier) logging ================ */
+
+	/*
+	 * The methods below take suppliers for the message or the format arguments.
+	 * Suppliers are only called after the level check, so expensive arguments
+	 * (e.g. object dumps) cost nothing when the level is disabled.
+	 * Note that a Supplier passed as a single plain Object argument
+	 * (e.g. debug(String, Object)) is not called, so pass suppliers as lambdas or method references.
+	 */
+
+	/**
+	 * Log a message at the TRACE level, calling the supplier only if the logger is enabled for TRACE.
+	 *
+	 * @param msgSupplier supplies the message to be logged
+	 */
+	public void trace(Supplier<?> msgSupplier) {
+		if (super.isEnabled(Level.TRACE, null)) {
+			super.sendlog(Level.TRACE,
+					null,
+					supply(msgSupplier),
+					null);
+		}
+	}
+
+	/**
+	 * Log an exception (throwable) at the TRACE level with an accompanying message,
+	 * calling the supplier only if the logger is enabled for TRACE.
+	 *
+	 * @param msgSupplier supplies the message accompanying the exception
+	 * @param t the exception (throwable) to log
+	 */
+	public void trace(Supplier<?> msgSupplier, Throwable t) {
+		if (super.isEnabled(Level.TRACE, null)) {
+			super.sendlog(Level.TRACE,
+					null,
+					supply(msgSupplier),
+					t);
+		}
+	}
+
+	/**
+	 * Log a message at the TRACE level according to the specified format and supplied arguments,
+	 * calling the suppliers only if the logger is enabled for TRACE.
+	 *
+	 * @param format the format string
+	 * @param argSuppliers supply the arguments
+	 */
+	public void trace(String format, Supplier<?>... argSuppliers) {
+		if (super.isEnabled(Level.TRACE, null)) {
+			super.sendlog(Level.TRACE,
+					null,
+					MessageFormatter.arrayFormat(format, supply(argSuppliers)).getMessage(),
+					null);
+		}
+	}
+
+	/**
+	 * Log a message at the DEBUG level, calling the supplier only if the logger is enabled for DEBUG.
+	 *
+	 * @param msgSupplier supplies the message to be logged
+	 */
+	public void debug(Supplier<?> msgSupplier) {
+		if (super.isEnabled(Level.DEBUG, null)) {
+			super.sendlog(Level.DEBUG,
+					null,
+					supply(msgSupplier),
+					null);
+		}
+	}
+
+	/**
+	 * Log an exception (throwable) at the DEBUG level with an accompanying message,
+	 * calling the supplier only if the logger is enabled for DEBUG.
+	 *
+	 * @param msgSupplier supplies the message accompanying the exception
+	 * @param t the exception (throwable) to log
+	 */
+	public void debug(Supplier<?> msgSupplier, Throwable t) {
+		if (super.isEnabled(Level.DEBUG, null)) {
+			super.sendlog(Level.DEBUG,
+					null,
+					supply(msgSupplier),
+					t);
+		}
+	}
+
+	/**
+	 * Log a message at the DEBUG level according to the specified format and supplied arguments,
+	 * calling the suppliers only if the logger is enabled for DEBUG.
+	 *
+	 * @param format the format string
+	 * @param argSuppliers supply the arguments
+	 */
+	public void debug(String format, Supplier<?>... argSuppliers) {
+		if (super.isEnabled(Level.DEBUG, null)) {
+			super.sendlog(Level.DEBUG,
+					null,
+					MessageFormatter.arrayFormat(format, supply(argSuppliers)).getMessage(),
+					null);
+		}
+	}
+
+	/**
+	 * Log a message at the INFO level, calling the supplier only if the logger is enabled for INFO.
+	 *
+	 * @param msgSupplier supplies the message to be logged
+	 */
+	public void info(Supplier<?> msgSupplier) {
+		if (super.isEnabled(Level.INFO, null)) {
+			super.sendlog(Level.INFO,
+					null,
+					supply(msgSupplier),
+					null);
+		}
+	}
+
+	/**
+	 * Log an exception (throwable) at the INFO level with an accompanying message,
+	 * calling the supplier only if the logger is enabled for INFO.
+	 *
+	 * @param msgSupplier supplies the message accompanying the exception
+	 * @param t the exception (throwable) to log
+	 */
+	public void info(Supplier<?> msgSupplier, Throwable t) {
+		if (super.isEnabled(Level.INFO, null)) {
+			super.sendlog(Level.INFO,
+					null,
+					supply(msgSupplier),
+					t);
+		}
+	}
+
+	/**
+	 * Log a message at the INFO level according to the specified format and supplied arguments,
+	 * calling the suppliers only if the logger is enabled for INFO.
+	 *
+	 * @param format the format string
+	 * @param argSuppliers supply the arguments
+	 */
+	public void info(String format, Supplier<?>... argSuppliers) {
+		if (super.isEnabled(Level.INFO, null)) {
+			super.sendlog(Level.INFO,
+					null,
+					MessageFormatter.arrayFormat(format, supply(argSuppliers)).getMessage(),
+					null);
+		}
+	}
+
+	/**
+	 * Log a message at the WARN level, calling the supplier only if the logger is enabled for WARN.
+	 *
+	 * @param msgSupplier supplies the message to be logged
+	 */
+	public void warn(Supplier<?> msgSupplier) {
+		if (super.isEnabled(Level.WARN, null)) {
+			super.sendlog(Level.WARN,
+					null,
+					supply(msgSupplier),
+					null);
+		}
+	}
+
+	/**
+	 * Log an exception (throwable) at the WARN level with an accompanying message,
+	 * calling the supplier only if the logger is enabled for WARN.
+	 *
+	 * @param msgSupplier supplies the message accompanying the exception
+	 * @param t the exception (throwable) to log
+	 */
+	public void warn(Supplier<?> msgSupplier, Throwable t) {
+		if (super.isEnabled(Level.WARN, null)) {
+			super.sendlog(Level.WARN,
+					null,
+					supply(msgSupplier),
+					t);
+		}
+	}
+
+	/**
+	 * Log a message at the WARN level according to the specified format and supplied arguments,
+	 * calling the suppliers only if the logger is enabled for WARN.
+	 *
+	 * @param format the format string
+	 * @param argSuppliers supply the arguments
+	 */
+	public void warn(String format, Supplier<?>... argSuppliers) {
+		if (super.isEnabled(Level.WARN, null)) {
+			super.sendlog(Level.WARN,
+					null,
+					MessageFormatter.arrayFormat(format, supply(argSuppliers)).getMessage(),
+					null);
+		}
+	}
+
+	/**
+	 * Log a message at the ERROR level, calling the supplier only if the logger is enabled for ERROR.
+	 *
+	 * @param msgSupplier supplies the message to be logged
+	 */
+	public void error(Supplier<?> msgSupplier) {
+		if (super.isEnabled(Level.ERROR, null)) {
+			super.sendlog(Level.ERROR,
+					null,
+					supply(msgSupplier),
+					null);
+		}
+	}
+
+	/**
+	 * Log an exception (throwable) at the ERROR level with an accompanying message,
+	 * calling the supplier only if the logger is enabled for ERROR.
+	 *
+	 * @param msgSupplier supplies the message accompanying the exception
+	 * @param t the exception (throwable) to log
+	 */
+	public void error(Supplier<?> msgSupplier, Throwable t) {
+		if (super.isEnabled(Level.ERROR, null)) {
+			super.sendlog(Level.ERROR,
+					null,
+					supply(msgSupplier),
+					t);
+		}
+	}
+
+	/**
+	 * Log a message at the ERROR level according to the specified format and supplied arguments,
+	 * calling the suppliers only if the logger is enabled for ERROR.
+	 *
+	 * @param format the format string
+	 * @param argSuppliers supply the arguments
+	 */
+	public void error(String format, Supplier<?>... argSuppliers) {
+		if (super.isEnabled(Level.ERROR, null)) {
+			super.sendlog(Level.ERROR,
+					null,
+					MessageFormatter.arrayFormat(format, supply(argSuppliers)).getMessage(),
+					null);
+		}
+	}
+
+	/**
+	 * Log a message at an arbitrary log level, calling the supplier only if the logger is enabled for the level.
+	 *
+	 * @param level the org.slf4j.event.Level
+	 * @param msgSupplier supplies the message to be logged
+	 */
+	public void log(Level level, Supplier<?> msgSupplier) {
+		if (super.isEnabled(level, null)) {
+			super.sendlog(level,
+					null,
+					supply(msgSupplier),
+					null);
+		}
+	}
+
+	/**
+	 * Get the supplied value as a String.
+	 *
+	 * @param supplier the supplier, may be {@code null}
+	 * @return the supplied value, or {@code null}
+	 */
+	private static String supply(Supplier<?> supplier) {
+		Object value = supplier == null ? null : supplier.get();
+		return value == null ? null : value.toString();
+	}
+
+	/**
+	 * Get the supplied values, for use as format arguments.
+	 *
+	 * @param suppliers the suppliers, may be {@code null}
+	 * @return the supplied values
+	 */
+	private static Object[] supply(Supplier<?>[] suppliers) {
+		if (suppliers == null) {
+			return new Object[0];
+		}
+		Object[] args = new Object[suppliers.length];
+		for (int i = 0; i < suppliers.length; i++) {
+			args[i] = suppliers[i] == null ? null : suppliers[i].get();
+		}
+		return args;
+	}
+
 	// =======================================================================
 	// =======================================================================
 	// ======= ­                                                        =======
@@ -0,0 +1,66 @@
+package com.wynd.vop.framework.log;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The thread-local flag that turns on DEBUG and TRACE logging for the current request.
+ * <p>
+ * The flag is set and cleared by the request debug servlet filter, and read by {@link VopRequestDebugTurboFilter}
+ * on every level check. A count of the threads that have the flag set is kept next to it, so while no request
+ * is being debugged, {@link #isEnabled()} costs a single volatile read and never touches the thread-local.
+ * <p>
+ * Calls to {@link #enable()} must be paired with {@link #disable()} in a {@code finally} block on the same thread.
+ */
+public final class VopRequestDebug {
+
+	/** The number of threads that have the flag set */
+	private static final AtomicInteger ACTIVE = new AtomicInteger();
+
+	/** The flag for the current thread; null when not set */
+	private static final ThreadLocal<Boolean> ENABLED = new ThreadLocal<>();
+
+	/**
+	 * Do not instantiate.
+	 */
+	private VopRequestDebug() {
+		throw new IllegalAccessError("VopRequestDebug is a static class. Do not instantiate it.");
+	}
+
+	/**
+	 * Turn on DEBUG and TRACE logging for the current thread.
+	 */
+	public static void enable() {
+		if (ENABLED.get() == null) {
+			ENABLED.set(Boolean.TRUE);
+			ACTIVE.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Turn off DEBUG and TRACE logging for the current thread.
+	 */
+	public static void disable() {
+		if (ENABLED.get() != null) {
+			ENABLED.remove();
+			ACTIVE.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Whether DEBUG and TRACE logging is turned on for the current thread.
+	 *
+	 * @return true if turned on
+	 */
+	public static boolean isEnabled() {
+		return ACTIVE.get() != 0 && ENABLED.get() != null;
+	}
+
+	/**
+	 * The number of threads with DEBUG and TRACE logging turned on.
+	 *
+	 * @return the number of threads
+	 */
+	static int active() {
+		return ACTIVE.get();
+	}
+}
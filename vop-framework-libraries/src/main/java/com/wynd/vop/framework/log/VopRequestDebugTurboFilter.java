@@ -0,0 +1,65 @@
+package com.wynd.vop.framework.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Marker;
+
+/**
+ * A logback turbo filter that accepts DEBUG and TRACE events while {@link VopRequestDebug} is enabled
+ * for the current thread, whatever level the logger is configured at.
+ * <p>
+ * Turbo filters run inside the logger's {@code isXxxEnabled()} checks, so the level checks in
+ * {@link VopBaseLogger} and the lazy (supplier) methods of {@link VopLogger} see the raised level too,
+ * and build their messages only for the debugged request. For every other request the filter costs
+ * the single flag check in {@link VopRequestDebug#isEnabled()}.
+ * <p>
+ * The accepted loggers can be narrowed with {@link #setLoggerPrefixes(String) loggerPrefixes}.
+ * <p>
+ * Usage is declared in the {@code vop-framework-logback-starter.xml} logback configuration.
+ */
+public class VopRequestDebugTurboFilter extends TurboFilter {
+
+	/** Logger name prefixes that are accepted; empty accepts all loggers */
+	private String[] loggerPrefixes = new String[0];
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ch.qos.logback.classic.turbo.TurboFilter#decide(org.slf4j.Marker, ch.qos.logback.classic.Logger,
+	 * ch.qos.logback.classic.Level, java.lang.String, java.lang.Object[], java.lang.Throwable)
+	 */
+	@Override
+	public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format,
+			final Object[] params, final Throwable t) {
+		if (!VopRequestDebug.isEnabled() || !isStarted() || level == null || level.isGreaterOrEqual(Level.INFO)) {
+			return FilterReply.NEUTRAL;
+		}
+		if (loggerPrefixes.length == 0) {
+			return FilterReply.ACCEPT;
+		}
+		String name = logger.getName();
+		for (String prefix : loggerPrefixes) {
+			if (name.startsWith(prefix)) {
+				return FilterReply.ACCEPT;
+			}
+		}
+		return FilterReply.NEUTRAL;
+	}
+
+	/* ***************************** PROPERTIES ***************************** */
+
+	/**
+	 * Comma separated logger name prefixes that are accepted, by default all loggers.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <loggerPrefixes>} tag was provided in the config.
+	 *
+	 * @param loggerPrefixes the prefixes
+	 */
+	public void setLoggerPrefixes(final String loggerPrefixes) {
+		this.loggerPrefixes = StringUtils.isBlank(loggerPrefixes) ? new String[0]
+				: StringUtils.stripAll(StringUtils.split(loggerPrefixes, ','));
+	}
+}
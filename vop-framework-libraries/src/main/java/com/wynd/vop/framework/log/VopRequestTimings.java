@@ -0,0 +1,232 @@
+package com.wynd.vop.framework.log;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The thread-local accumulator of where the time of the current request was spent.
+ * <p>
+ * Each {@link Span} has a preallocated slot of total nanoseconds and call count. Framework aspects, interceptors and
+ * clients take {@link System#nanoTime()} before the timed work, and pass it to {@link #record(Span, long)} when done.
+ * Times are inclusive: a span nested in another (e.g. a REST partner call made by service logic) is counted in both.
+ * Work done on other threads than the request thread is not recorded.
+ * <p>
+ * Recording is turned on for the current thread by {@link #start()}, usually in the server timing servlet filter,
+ * which must call {@link #stop()} in a {@code finally} block on the same thread. As with {@link VopRequestDebug},
+ * while no thread is recording, {@link #record(Span, long)} costs a single volatile read.
+ */
+public final class VopRequestTimings {
+
+	/**
+	 * The kinds of work timed within a request. The metric name is used in the {@code Server-Timing} header.
+	 */
+	public enum Span {
+		/** Service request and response validation */
+		VALIDATION("validation"),
+		/** Service method, including everything it calls */
+		SERVICE("service"),
+		/** Cached method, including the method itself on a cache miss */
+		CACHE("cache"),
+		/** SOAP partner calls */
+		SOAP("soap"),
+		/** REST partner calls */
+		REST("rest"),
+		/** Capture of audit data, up to the hand off to the async audit logger */
+		AUDIT("audit");
+
+		private final String metric;
+
+		Span(final String metric) {
+			this.metric = metric;
+		}
+
+		/**
+		 * The {@code Server-Timing} metric name.
+		 *
+		 * @return the metric name
+		 */
+		public String metric() {
+			return metric;
+		}
+	}
+
+	/** The {@code Server-Timing} metric name of the whole request */
+	public static final String TOTAL = "total";
+
+	private static final Span[] SPANS = Span.values();
+
+	private static final long NANOS_IN_A_MICRO = 1000L;
+	private static final long MICROS_IN_A_MILLI = 1000L;
+
+	/** The number of threads recording */
+	private static final AtomicInteger ACTIVE = new AtomicInteger();
+
+	/** The accumulator of each thread, reused from request to request */
+	private static final ThreadLocal<VopRequestTimings> CURRENT = ThreadLocal.withInitial(VopRequestTimings::new);
+
+	private final long[] nanos = new long[SPANS.length];
+	private final int[] counts = new int[SPANS.length];
+	private boolean recording;
+	private long startNanos;
+	private long totalNanos;
+
+	/**
+	 * Use {@link #start()}.
+	 */
+	private VopRequestTimings() {
+		super();
+	}
+
+	/**
+	 * Clear the timings of the current thread, and start recording.
+	 */
+	public static void start() {
+		VopRequestTimings timings = CURRENT.get();
+		for (int i = 0; i < SPANS.length; i++) {
+			timings.nanos[i] = 0L;
+			timings.counts[i] = 0;
+		}
+		timings.totalNanos = 0L;
+		if (!timings.recording) {
+			timings.recording = true;
+			ACTIVE.incrementAndGet();
+		}
+		timings.startNanos = System.nanoTime();
+	}
+
+	/**
+	 * Stop recording on the current thread. The timings remain readable until the next {@link #start()}.
+	 */
+	public static void stop() {
+		VopRequestTimings timings = CURRENT.get();
+		if (timings.recording) {
+			timings.totalNanos = System.nanoTime() - timings.startNanos;
+			timings.recording = false;
+			ACTIVE.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Whether the current thread is recording.
+	 *
+	 * @return true if recording
+	 */
+	public static boolean isRecording() {
+		return ACTIVE.get() != 0 && CURRENT.get().recording;
+	}
+
+	/**
+	 * Add the time elapsed since {@code startNanos} to the span, if the current thread is recording.
+	 *
+	 * @param span the span
+	 * @param startNanos the {@link System#nanoTime()} taken before the timed work
+	 */
+	public static void record(final Span span, final long startNanos) {
+		if (ACTIVE.get() == 0) {
+			return;
+		}
+		VopRequestTimings timings = CURRENT.get();
+		if (timings.recording) {
+			timings.nanos[span.ordinal()] += System.nanoTime() - startNanos;
+			timings.counts[span.ordinal()]++;
+		}
+	}
+
+	/**
+	 * The total time of a span on the current thread.
+	 *
+	 * @param span the span
+	 * @return the time in nanoseconds
+	 */
+	public static long nanos(final Span span) {
+		return CURRENT.get().nanos[span.ordinal()];
+	}
+
+	/**
+	 * The number of times a span was recorded on the current thread.
+	 *
+	 * @param span the span
+	 * @return the count
+	 */
+	public static int count(final Span span) {
+		return CURRENT.get().counts[span.ordinal()];
+	}
+
+	/**
+	 * The {@code Server-Timing} header value of the current thread, e.g.
+	 * {@code total;dur=12.345, service;dur=10.002, rest;dur=7.5}. Spans that were not recorded are left out.
+	 * While recording, the total is the time elapsed so far.
+	 *
+	 * @return the header value
+	 */
+	public static String serverTiming() {
+		VopRequestTimings timings = CURRENT.get();
+		StringBuilder header = new StringBuilder(128).append(TOTAL).append(";dur=");
+		appendMillis(header, timings.total());
+		for (int i = 0; i < SPANS.length; i++) {
+			if (timings.counts[i] > 0) {
+				header.append(", ").append(SPANS[i].metric).append(";dur=");
+				appendMillis(header, timings.nanos[i]);
+			}
+		}
+		return header.toString();
+	}
+
+	/**
+	 * A one line summary of the timings of the current thread, e.g.
+	 * {@code total=12.345ms service=10.002ms/1 rest=7.5ms/2}, with the call count of each span.
+	 *
+	 * @return the summary
+	 */
+	public static String summary() {
+		VopRequestTimings timings = CURRENT.get();
+		StringBuilder summary = new StringBuilder(128).append(TOTAL).append('=');
+		appendMillis(summary, timings.total());
+		summary.append("ms");
+		for (int i = 0; i < SPANS.length; i++) {
+			if (timings.counts[i] > 0) {
+				summary.append(' ').append(SPANS[i].metric).append('=');
+				appendMillis(summary, timings.nanos[i]);
+				summary.append("ms/").append(timings.counts[i]);
+			}
+		}
+		return summary.toString();
+	}
+
+	/**
+	 * The number of threads recording.
+	 *
+	 * @return the number of threads
+	 */
+	static int active() {
+		return ACTIVE.get();
+	}
+
+	private long total() {
+		return recording ? System.nanoTime() - startNanos : totalNanos;
+	}
+
+	/**
+	 * Append nanoseconds as milliseconds with up to 3 decimals, without going through floating point formatting.
+	 *
+	 * @param builder the builder
+	 * @param nanos the nanoseconds
+	 */
+	static void appendMillis(final StringBuilder builder, final long nanos) {
+		long micros = Math.max(0L, nanos) / NANOS_IN_A_MICRO;
+		builder.append(micros / MICROS_IN_A_MILLI);
+		int fraction = (int) (micros % MICROS_IN_A_MILLI);
+		if (fraction != 0) {
+			builder.append('.');
+			if (fraction < 100) {
+				builder.append('0');
+			}
+			if (fraction < 10) {
+				builder.append('0');
+			}
+			while (fraction % 10 == 0) {
+				fraction /= 10;
+			}
+			builder.append(fraction);
+		}
+	}
+}
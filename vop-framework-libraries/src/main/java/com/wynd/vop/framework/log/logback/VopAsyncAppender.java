@@ -0,0 +1,528 @@
+package com.wynd.vop.framework.log.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A non-blocking, level-aware replacement for logback's {@code AsyncAppender}.
+ * <p>
+ * Events are handed to a single worker thread through a bounded lock-free queue. Under pressure,
+ * events are dropped by level instead of blocking the logging thread:
+ * <ul>
+ * <li>TRACE, DEBUG and INFO events are dropped once fewer than {@link #setDiscardingThreshold(int) discardingThreshold}
+ * slots are free</li>
+ * <li>WARN events are dropped when the queue is full</li>
+ * <li>ERROR and audit events (MDC {@code logType=auditlogs}) wait for a free slot, but never longer than
+ * {@link #setMaxBlockMillis(long) maxBlockMillis}, and are dropped after that</li>
+ * </ul>
+ * Dropped events are counted per level. The queue depth and drop counts are published as micrometer meters
+ * ({@value #METER_QUEUE_DEPTH} and {@value #METER_DROPPED}, tagged with the appender name) on the global registry,
+ * and a summary is logged every {@link #setReportMillis(long) reportMillis} if any event was dropped.
+ * <p>
+ * Usage is declared in the {@code vop-framework-logback-starter.xml} logback configuration.
+ */
+public class VopAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+		implements AppenderAttachable<ILoggingEvent>, MeterBinder {
+
+	/** Default maximum number of queued events */
+	public static final int DEFAULT_QUEUE_SIZE = 8192;
+	/** Default time an ERROR or audit event may wait for a free slot */
+	public static final long DEFAULT_MAX_BLOCK_MILLIS = 50L;
+	/** Default time the worker may take to flush the queue on stop */
+	public static final long DEFAULT_MAX_FLUSH_MILLIS = 1000L;
+	/** Default interval between drop summaries */
+	public static final long DEFAULT_REPORT_MILLIS = 60000L;
+
+	/** Meter names */
+	static final String METER_QUEUE_DEPTH = "vop.logging.async.queue.depth";
+	static final String METER_DROPPED = "vop.logging.async.dropped";
+
+	/** MDC logType value of audit events, see {@code AuditLogger} */
+	private static final String AUDIT_LOG_TYPE = "auditlogs";
+	/** How long a waiting producer or an idle worker parks at a time */
+	private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+	private static final long WORKER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+	/** Levels in drop counter order */
+	private static final Level[] LEVELS = { Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR };
+
+	/** The downstream appenders */
+	private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+
+	/** The queued events, bounded by {@link #depth} */
+	private final Queue<ILoggingEvent> queue = new ConcurrentLinkedQueue<>();
+	/** Number of queued events, reserved before an event is added */
+	private final AtomicInteger depth = new AtomicInteger();
+	/** Dropped events, indexed like {@link #LEVELS} */
+	private final AtomicLongArray dropped = new AtomicLongArray(LEVELS.length);
+	/** Meters registered on the global registry, removed on stop */
+	private final List<Meter> meters = new ArrayList<>();
+
+	private int queueSize = DEFAULT_QUEUE_SIZE;
+	/** Free slots below which TRACE, DEBUG and INFO events are dropped, -1 for a fifth of the queue */
+	private int discardingThreshold = -1;
+	private long maxBlockMillis = DEFAULT_MAX_BLOCK_MILLIS;
+	private long maxFlushMillis = DEFAULT_MAX_FLUSH_MILLIS;
+	private long reportMillis = DEFAULT_REPORT_MILLIS;
+	private boolean includeCallerData;
+	private boolean metricsEnabled = true;
+
+	/** The worker thread, and whether it is parked waiting for events */
+	private volatile Thread worker;
+	private volatile boolean workerWaiting;
+
+	/** Drop total at the last summary, only accessed by the worker */
+	private long reportedDrops;
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ch.qos.logback.core.UnsynchronizedAppenderBase#start()
+	 */
+	@Override
+	public void start() {
+		if (isStarted()) {
+			return;
+		}
+		if (queueSize < 1 || maxBlockMillis < 0 || maxFlushMillis < 0 || reportMillis <= 0) {
+			addError("Invalid configuration for " + getName() + ": queueSize=" + queueSize + ", maxBlockMillis="
+					+ maxBlockMillis + ", maxFlushMillis=" + maxFlushMillis + ", reportMillis=" + reportMillis);
+			return;
+		}
+		if (discardingThreshold < 0) {
+			discardingThreshold = queueSize / 5;
+		} else if (discardingThreshold >= queueSize) {
+			addWarn("discardingThreshold " + discardingThreshold + " of " + getName() + " is not below queueSize "
+					+ queueSize + ", using " + (queueSize - 1) + " so that INFO and lower events are not all discarded.");
+			discardingThreshold = queueSize - 1;
+		}
+		if (!appenders.iteratorForAppenders().hasNext()) {
+			addWarn("No appenders attached to [" + getName() + "], events will be discarded.");
+		}
+
+		super.start();
+		Thread thread = new Thread(this::work, "vop-async-appender-" + getName());
+		thread.setDaemon(true);
+		worker = thread;
+		thread.start();
+
+		if (metricsEnabled) {
+			bindTo(Metrics.globalRegistry);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ch.qos.logback.core.UnsynchronizedAppenderBase#stop()
+	 */
+	@Override
+	public void stop() {
+		if (!isStarted()) {
+			return;
+		}
+		super.stop();
+
+		Thread thread = worker;
+		worker = null;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+			try {
+				thread.join(maxFlushMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (thread.isAlive()) {
+				addWarn("Max flush time of " + maxFlushMillis + " ms exceeded, " + depth.get()
+						+ " queued events were discarded by " + getName());
+				thread.interrupt();
+			}
+		}
+
+		synchronized (meters) {
+			for (Meter meter : meters) {
+				Metrics.globalRegistry.remove(meter);
+			}
+			meters.clear();
+		}
+		appenders.detachAndStopAllAppenders();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ch.qos.logback.core.UnsynchronizedAppenderBase#append(java.lang.Object)
+	 */
+	@Override
+	protected void append(final ILoggingEvent event) {
+		Level level = event.getLevel();
+		boolean priority = level.isGreaterOrEqual(Level.ERROR) || isAudit(event);
+		int limit;
+		if (priority || level.isGreaterOrEqual(Level.WARN)) {
+			limit = queueSize;
+		} else {
+			limit = queueSize - discardingThreshold;
+		}
+
+		if (!reserve(limit) && !(priority && awaitSlot(limit))) {
+			dropped.incrementAndGet(indexOf(level));
+			return;
+		}
+
+		event.prepareForDeferredProcessing();
+		if (includeCallerData) {
+			event.getCallerData();
+		}
+		queue.offer(event);
+		if (workerWaiting) {
+			Thread thread = worker;
+			if (thread != null) {
+				LockSupport.unpark(thread);
+			}
+		}
+	}
+
+	/**
+	 * Reserve a slot in the queue, if fewer than {@code limit} events are queued.
+	 *
+	 * @param limit the queue depth at which the event is rejected
+	 * @return true if a slot was reserved
+	 */
+	private boolean reserve(final int limit) {
+		int current = depth.get();
+		while (current < limit) {
+			if (depth.compareAndSet(current, current + 1)) {
+				return true;
+			}
+			current = depth.get();
+		}
+		return false;
+	}
+
+	/**
+	 * Wait for a free slot, until the {@link #setMaxBlockMillis(long) maxBlockMillis} deadline.
+	 *
+	 * @param limit the queue depth at which the event is rejected
+	 * @return true if a slot was reserved before the deadline
+	 */
+	private boolean awaitSlot(final int limit) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxBlockMillis);
+		while (isStarted() && System.nanoTime() - deadline < 0) {
+			LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+			if (reserve(limit)) {
+				return true;
+			}
+			if (Thread.currentThread().isInterrupted()) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isAudit(final ILoggingEvent event) {
+		Map<String, String> mdc = event.getMDCPropertyMap();
+		return mdc != null && AUDIT_LOG_TYPE.equals(mdc.get("logType"));
+	}
+
+	private static int indexOf(final Level level) {
+		for (int i = LEVELS.length - 1; i > 0; i--) {
+			if (level.isGreaterOrEqual(LEVELS[i])) {
+				return i;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * The worker loop: pass queued events to the downstream appenders, park while the queue is empty,
+	 * and log a drop summary every {@link #setReportMillis(long) reportMillis}.
+	 * After stop, the queue is flushed before the loop ends.
+	 */
+	private void work() {
+		long nextReport = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(reportMillis);
+		while (true) {
+			ILoggingEvent event = queue.poll();
+			if (event != null) {
+				depth.decrementAndGet();
+				dispatch(event);
+			} else if (worker == null) {
+				break;
+			} else {
+				workerWaiting = true;
+				// re-check after publishing the flag, so a concurrent offer is not missed
+				if (queue.isEmpty() && worker != null) {
+					LockSupport.parkNanos(this, WORKER_PARK_NANOS);
+				}
+				workerWaiting = false;
+			}
+
+			if (System.nanoTime() - nextReport >= 0) {
+				report();
+				nextReport = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(reportMillis);
+			}
+			if (Thread.interrupted()) {
+				break;
+			}
+		}
+		report();
+	}
+
+	private void dispatch(final ILoggingEvent event) {
+		try {
+			appenders.appendLoopOnAppenders(event);
+		} catch (RuntimeException e) {
+			addError("Failed to dispatch event from " + getName(), e);
+		}
+	}
+
+	/**
+	 * Log a summary if events were dropped since the last summary.
+	 */
+	void report() {
+		long total = droppedCount();
+		long delta = total - reportedDrops;
+		if (delta <= 0) {
+			return;
+		}
+		reportedDrops = total;
+		StringBuilder counts = new StringBuilder();
+		for (int i = 0; i < LEVELS.length; i++) {
+			long count = dropped.get(i);
+			if (count > 0) {
+				counts.append(counts.length() == 0 ? "" : ", ").append(LEVELS[i]).append('=').append(count);
+			}
+		}
+		String message = "Async appender " + getName() + " dropped " + delta + " log events in the last "
+				+ reportMillis + " ms (queue depth " + depth.get() + " of " + queueSize + ", total dropped " + counts + ")";
+		if (getContext() instanceof LoggerContext) {
+			Logger logger = ((LoggerContext) getContext()).getLogger(VopAsyncAppender.class);
+			logger.warn(message);
+		} else {
+			addWarn(message);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see io.micrometer.core.instrument.binder.MeterBinder#bindTo(io.micrometer.core.instrument.MeterRegistry)
+	 */
+	@Override
+	public void bindTo(final MeterRegistry registry) {
+		String name = getName() == null ? "" : getName();
+		synchronized (meters) {
+			meters.add(Gauge.builder(METER_QUEUE_DEPTH, depth, AtomicInteger::get)
+					.description("Events waiting in the async log appender queue")
+					.tag("appender", name)
+					.register(registry));
+			for (int i = 0; i < LEVELS.length; i++) {
+				final int index = i;
+				meters.add(FunctionCounter.builder(METER_DROPPED, dropped, counts -> counts.get(index))
+						.description("Events dropped by the async log appender")
+						.tag("appender", name)
+						.tag("level", LEVELS[i].toString())
+						.register(registry));
+			}
+		}
+	}
+
+	/**
+	 * The number of queued events.
+	 *
+	 * @return the queue depth
+	 */
+	public int getQueueDepth() {
+		return depth.get();
+	}
+
+	/**
+	 * The number of events dropped since the appender was created.
+	 *
+	 * @return the dropped events
+	 */
+	public long droppedCount() {
+		long total = 0;
+		for (int i = 0; i < LEVELS.length; i++) {
+			total += dropped.get(i);
+		}
+		return total;
+	}
+
+	/**
+	 * The number of events at the given level dropped since the appender was created.
+	 *
+	 * @param level the level
+	 * @return the dropped events
+	 */
+	public long droppedCount(final Level level) {
+		return dropped.get(indexOf(level));
+	}
+
+	/* ***************************** PROPERTIES ***************************** */
+
+	/**
+	 * The maximum number of queued events, default {@value #DEFAULT_QUEUE_SIZE}.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <queueSize>} tag was provided in the config.
+	 *
+	 * @param queueSize the queue size
+	 */
+	public void setQueueSize(final int queueSize) {
+		this.queueSize = queueSize;
+	}
+
+	public int getQueueSize() {
+		return queueSize;
+	}
+
+	/**
+	 * The number of free slots below which TRACE, DEBUG and INFO events are dropped, default a fifth of the queue.
+	 * A threshold that is not below the queue size is lowered to {@code queueSize - 1} on start.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <discardingThreshold>} tag was provided in the config.
+	 *
+	 * @param discardingThreshold the threshold
+	 */
+	public void setDiscardingThreshold(final int discardingThreshold) {
+		this.discardingThreshold = discardingThreshold;
+	}
+
+	public int getDiscardingThreshold() {
+		return discardingThreshold;
+	}
+
+	/**
+	 * The maximum time an ERROR or audit event waits for a free slot, default {@value #DEFAULT_MAX_BLOCK_MILLIS}.
+	 * Zero never waits.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <maxBlockMillis>} tag was provided in the config.
+	 *
+	 * @param maxBlockMillis the deadline in milliseconds
+	 */
+	public void setMaxBlockMillis(final long maxBlockMillis) {
+		this.maxBlockMillis = maxBlockMillis;
+	}
+
+	public long getMaxBlockMillis() {
+		return maxBlockMillis;
+	}
+
+	/**
+	 * The maximum time the worker may take to flush the queue on stop, default {@value #DEFAULT_MAX_FLUSH_MILLIS}.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <maxFlushMillis>} tag was provided in the config.
+	 *
+	 * @param maxFlushMillis the flush time in milliseconds
+	 */
+	public void setMaxFlushMillis(final long maxFlushMillis) {
+		this.maxFlushMillis = maxFlushMillis;
+	}
+
+	public long getMaxFlushMillis() {
+		return maxFlushMillis;
+	}
+
+	/**
+	 * The interval between drop summaries, default {@value #DEFAULT_REPORT_MILLIS}.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <reportMillis>} tag was provided in the config.
+	 *
+	 * @param reportMillis the interval in milliseconds
+	 */
+	public void setReportMillis(final long reportMillis) {
+		this.reportMillis = reportMillis;
+	}
+
+	public long getReportMillis() {
+		return reportMillis;
+	}
+
+	/**
+	 * Whether caller data is captured before the event is queued, default false. Capturing caller data is expensive.
+	 * <p>
+	 * Called by logback to set the value, if an {@code <includeCallerData>} tag was provided in the config.
+	 *
+	 * @param includeCallerData true to capture caller data
+	 */
+	public void setIncludeCallerData(final boolean includeCallerData) {
+		this.includeCallerData = includeCallerData;
+	}
+
+	public boolean isIncludeCallerData() {
+		return includeCallerData;
+	}
+
+	/**
+	 * Whether the queue depth and drop counts are registered on the micrometer global registry on start, default true.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <metricsEnabled>} tag was provided in the config.
+	 *
+	 * @param metricsEnabled true to register the meters
+	 */
+	public void setMetricsEnabled(final boolean metricsEnabled) {
+		this.metricsEnabled = metricsEnabled;
+	}
+
+	public boolean isMetricsEnabled() {
+		return metricsEnabled;
+	}
+
+	/* ***************************** APPENDER ATTACHABLE ***************************** */
+
+	@Override
+	public void addAppender(Appender<ILoggingEvent> newAppender) {
+		appenders.addAppender(newAppender);
+	}
+
+	@Override
+	public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+		return appenders.iteratorForAppenders();
+	}
+
+	@Override
+	public Appender<ILoggingEvent> getAppender(String name) {
+		return appenders.getAppender(name);
+	}
+
+	@Override
+	public boolean isAttached(Appender<ILoggingEvent> appender) {
+		return appenders.isAttached(appender);
+	}
+
+	@Override
+	public void detachAndStopAllAppenders() {
+		appenders.detachAndStopAllAppenders();
+	}
+
+	@Override
+	public boolean detachAppender(Appender<ILoggingEvent> appender) {
+		return appenders.detachAppender(appender);
+	}
+
+	@Override
+	public boolean detachAppender(String name) {
+		return appenders.detachAppender(name);
+	}
+}
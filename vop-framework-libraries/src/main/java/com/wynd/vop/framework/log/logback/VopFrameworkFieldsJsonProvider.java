@@ -0,0 +1,114 @@
+package com.wynd.vop.framework.log.logback;
+
+import ch.qos.logback.classic.pattern.Abbreviator;
+import ch.qos.logback.classic.pattern.TargetLengthBasedClassNameAbbreviator;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import net.logstash.logback.composite.AbstractJsonProvider;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A logstash provider that writes the fixed VOP Framework fields, in place of the {@code <pattern>} provider:
+ * <pre>
+ * "logType": "%mdc{logType:-applogs}",
+ * "severity": "%level",
+ * "class": "%logger{40}",
+ * "pid": "${PID:-}"
+ * </pre>
+ * The output is the same as the pattern provider's, without parsing and rendering a pattern layout for every event.
+ * The field names are serialized once, and abbreviated logger names are cached, up to {@value #MAX_CACHED_LOGGERS}
+ * loggers.
+ * <p>
+ * Usage of this class is declared in the {@code vop-framework-logback-starter.xml} logback configuration.
+ */
+public class VopFrameworkFieldsJsonProvider extends AbstractJsonProvider<ILoggingEvent> {
+
+	/** The MDC key, and field name, of the log type */
+	public static final String LOG_TYPE = "logType";
+	/** The log type of events that do not set one */
+	public static final String DEFAULT_LOG_TYPE = "applogs";
+	/** The length logger names are abbreviated to */
+	public static final int LOGGER_LENGTH = 40;
+
+	/** Logger names beyond this many are abbreviated on every event */
+	static final int MAX_CACHED_LOGGERS = 4096;
+
+	private static final SerializableString LOG_TYPE_FIELD = new SerializedString(LOG_TYPE);
+	private static final SerializableString SEVERITY_FIELD = new SerializedString("severity");
+	private static final SerializableString CLASS_FIELD = new SerializedString("class");
+	private static final SerializableString PID_FIELD = new SerializedString("pid");
+
+	private final Abbreviator abbreviator = new TargetLengthBasedClassNameAbbreviator(LOGGER_LENGTH);
+
+	/** Abbreviated logger names, by logger name */
+	private final Map<String, String> abbreviations = new ConcurrentHashMap<>();
+
+	/** The process id */
+	private String pid = "";
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see net.logstash.logback.composite.JsonProvider#writeTo(com.fasterxml.jackson.core.JsonGenerator,
+	 * java.lang.Object)
+	 */
+	@Override
+	public void writeTo(final JsonGenerator generator, final ILoggingEvent event) throws IOException {
+		Map<String, String> mdc = event.getMDCPropertyMap();
+		String logType = mdc == null ? null : mdc.get(LOG_TYPE);
+
+		generator.writeFieldName(LOG_TYPE_FIELD);
+		generator.writeString(logType == null ? DEFAULT_LOG_TYPE : logType);
+		generator.writeFieldName(SEVERITY_FIELD);
+		generator.writeString(String.valueOf(event.getLevel()));
+		generator.writeFieldName(CLASS_FIELD);
+		generator.writeString(abbreviate(event.getLoggerName()));
+		generator.writeFieldName(PID_FIELD);
+		generator.writeString(pid);
+	}
+
+	/**
+	 * Abbreviate a logger name the same way as {@code %logger{40}}.
+	 *
+	 * @param loggerName the logger name
+	 * @return the abbreviated name
+	 */
+	String abbreviate(final String loggerName) {
+		if (loggerName == null) {
+			return "";
+		}
+		String abbreviated = abbreviations.get(loggerName);
+		if (abbreviated == null) {
+			abbreviated = abbreviator.abbreviate(loggerName);
+			if (abbreviations.size() < MAX_CACHED_LOGGERS) {
+				abbreviations.put(loggerName, abbreviated);
+			}
+		}
+		return abbreviated;
+	}
+
+	/**
+	 * The number of cached abbreviations.
+	 *
+	 * @return the number of cached abbreviations
+	 */
+	int cachedLoggers() {
+		return abbreviations.size();
+	}
+
+	/**
+	 * The process id written as the {@code pid} field, usually {@code ${PID:-}}.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <pid>} tag was provided in the config.
+	 *
+	 * @param pid the process id
+	 */
+	public void setPid(final String pid) {
+		this.pid = pid == null ? "" : pid;
+	}
+}
@@ -0,0 +1,54 @@
+package com.wynd.vop.framework.log.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import net.logstash.logback.encoder.LoggingEventCompositeJsonEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * A logstash composite JSON encoder that encodes each event into a byte buffer reused by the logging thread,
+ * instead of a new, growing buffer for every event.
+ * <p>
+ * The output is the same as {@link LoggingEventCompositeJsonEncoder}'s for the same providers. Combined with
+ * {@link VopFrameworkFieldsJsonProvider} in place of the {@code <pattern>} provider, it is the encoder used by the
+ * framework console appender, behind a {@link VopMaskingAppender}.
+ * <p>
+ * Usage of this class is declared in the {@code vop-framework-logback-starter.xml} logback configuration.
+ */
+public class VopJsonEncoder extends LoggingEventCompositeJsonEncoder {
+
+	/** Buffers grown larger than this are not kept for reuse by the thread */
+	static final int MAX_RETAINED_BUFFER = 65536;
+
+	private static final byte[] EMPTY_BYTES = new byte[0];
+
+	/** Per-thread buffer for the encoded event */
+	private static final ThreadLocal<ByteArrayOutputStream> BUFFERS =
+			ThreadLocal.withInitial(() -> new ByteArrayOutputStream(4096));
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see net.logstash.logback.encoder.CompositeJsonEncoder#encode(ch.qos.logback.core.spi.DeferredProcessingAware)
+	 */
+	@Override
+	public byte[] encode(final ILoggingEvent event) {
+		if (!isStarted()) {
+			throw new IllegalStateException("Encoder is not started");
+		}
+		ByteArrayOutputStream buffer = BUFFERS.get();
+		buffer.reset();
+		try {
+			encode(event, buffer);
+			return buffer.toByteArray();
+		} catch (IOException e) {
+			addWarn("Error encountered while encoding log event. Event: " + event, e);
+			return EMPTY_BYTES;
+		} finally {
+			if (buffer.size() > MAX_RETAINED_BUFFER) {
+				BUFFERS.remove();
+			}
+		}
+	}
+}
@@ -0,0 +1,309 @@
+package com.wynd.vop.framework.log.logback;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A compiled, single pass masking engine for a set of {@link VopMaskRule} instances.
+ * <p>
+ * All rule patterns are merged into one alternation, so the input is scanned left-to-right exactly once,
+ * and every match of every rule is masked in place in a single output buffer.
+ * When two rules match at the same position, the rule that was added first wins.
+ * <p>
+ * Before the regex is run at all, the input is checked against a pre-computed table of the characters
+ * that could possibly start a match for any rule (e.g. only digits for the default framework rules).
+ * If no such character occurs, the input is returned as-is without any allocation.
+ * <p>
+ * Rule sets that cannot be merged into one pattern (numbered back-references, duplicate group names)
+ * fall back to one pass per rule, applied in the order the rules were added.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+final class VopMaskEngine {
+
+	/** The character used to mask sensitive data */
+	static final char MASK_CHAR = '*';
+
+	/** Flags used to compile the rule patterns, see {@link VopMaskRule.Definition#rule()} */
+	private static final int FLAGS = Pattern.DOTALL | Pattern.MULTILINE;
+	/** Numbered back-references are relative to the rule pattern, and cannot survive the merge */
+	private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\[1-9]");
+	/** A positive lookbehind in a probe pattern defeats the first-character probe */
+	private static final String LOOKBEHIND = "(?<=";
+
+	/** Character class table values */
+	private static final byte UNKNOWN = 0;
+	private static final byte NEVER = 1;
+	private static final byte CANDIDATE = 2;
+
+	/** An engine that never masks anything */
+	static final VopMaskEngine EMPTY = new VopMaskEngine(new Pass[0], new Pattern[0]);
+
+	/** The passes to run over the input, exactly one unless the rules could not be merged */
+	private final Pass[] passes;
+	/** Patterns used to decide if a character can start a match for any rule */
+	private final Pattern[] probes;
+	/** Lazily populated table of characters that can start a match, indexed by char value */
+	private final byte[] candidates = new byte[Character.MAX_VALUE + 1];
+
+	/**
+	 * Use {@link #compile(Collection)}.
+	 *
+	 * @param passes the passes to run
+	 * @param probes the first character probe patterns, or {@code null} entries for "any character"
+	 */
+	private VopMaskEngine(final Pass[] passes, final Pattern[] probes) {
+		this.passes = passes;
+		this.probes = probes;
+	}
+
+	/**
+	 * Compile the rules into a masking engine.
+	 *
+	 * @param rules the rules, in order of priority
+	 * @return the engine
+	 */
+	static VopMaskEngine compile(final Collection<VopMaskRule> rules) {
+		if (rules == null || rules.isEmpty()) {
+			return EMPTY;
+		}
+
+		List<Pattern> probes = new ArrayList<>(rules.size());
+		for (VopMaskRule rule : rules) {
+			probes.add(probeFor(rule.definition));
+		}
+
+		Pass merged = mergedPass(rules);
+		Pass[] passes;
+		if (merged != null) {
+			passes = new Pass[] { merged };
+		} else {
+			passes = new Pass[rules.size()];
+			int i = 0;
+			for (VopMaskRule rule : rules) {
+				passes[i++] = new Pass(rule.definition.maskPattern, new int[] { 0 }, new int[] { 1 },
+						new VopMaskRule[] { rule });
+			}
+		}
+		return new VopMaskEngine(passes, probes.toArray(new Pattern[0]));
+	}
+
+	/**
+	 * Build a single alternation of all rule patterns, each wrapped in its own marker group.
+	 * For rule <i>i</i> the marker group is at {@code offset} and the masked group at {@code offset + 1}.
+	 *
+	 * @param rules the rules to merge
+	 * @return the merged pass, or {@code null} if the rules cannot be merged
+	 */
+	private static Pass mergedPass(final Collection<VopMaskRule> rules) {
+		StringBuilder regex = new StringBuilder();
+		int[] markers = new int[rules.size()];
+		int[] groups = new int[rules.size()];
+		VopMaskRule[] ordered = new VopMaskRule[rules.size()];
+
+		int i = 0;
+		int offset = 1;
+		for (VopMaskRule rule : rules) {
+			Pattern pattern = rule.definition.maskPattern;
+			if (BACK_REFERENCE.matcher(pattern.pattern()).find()) {
+				return null;
+			}
+			if (i > 0) {
+				regex.append('|');
+			}
+			regex.append('(').append(pattern.pattern()).append(')');
+			markers[i] = offset;
+			groups[i] = offset + 1;
+			ordered[i] = rule;
+			offset += 1 + pattern.matcher("").groupCount();
+			i++;
+		}
+
+		try {
+			return new Pass(Pattern.compile(regex.toString(), FLAGS), markers, groups, ordered);
+		} catch (PatternSyntaxException e) { // NOSONAR fall back to one pass per rule
+			return null;
+		}
+	}
+
+	/**
+	 * Any match of a rule requires its prefix (when provided) or its pattern to match
+	 * starting at some character in the input. That regex is used to probe which characters can start a match.
+	 *
+	 * @param definition the rule definition
+	 * @return the probe pattern, or {@code null} if any character must be treated as a candidate
+	 */
+	private static Pattern probeFor(final VopMaskRule.Definition definition) {
+		String probe = StringUtils.isBlank(definition.getPrefix()) ? definition.getPattern() : definition.getPrefix();
+		if (probe == null || probe.contains(LOOKBEHIND)) {
+			return null;
+		}
+		try {
+			return Pattern.compile(probe, FLAGS);
+		} catch (PatternSyntaxException e) { // NOSONAR conservative fallback
+			return null;
+		}
+	}
+
+	/**
+	 * Find the index of the first character that could start a match for any rule.
+	 *
+	 * @param input the input to check
+	 * @return the index, or -1 if no rule can match the input
+	 */
+	int firstCandidate(final CharSequence input) {
+		if (passes.length == 0 || input == null) {
+			return -1;
+		}
+		for (int i = 0; i < input.length(); i++) {
+			if (isCandidate(input.charAt(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Determine if the character can start a match for any rule.
+	 * Results are cached; the benign race on the table only ever writes the same value.
+	 *
+	 * @param c the character
+	 * @return true if a match could start with the character
+	 */
+	private boolean isCandidate(final char c) {
+		byte known = candidates[c];
+		if (known == UNKNOWN) {
+			known = probe(c) ? CANDIDATE : NEVER;
+			candidates[c] = known;
+		}
+		return known == CANDIDATE;
+	}
+
+	/**
+	 * A character is a candidate if any probe matches it, or needs more input to decide.
+	 *
+	 * @param c the character
+	 * @return true if a match could start with the character
+	 */
+	private boolean probe(final char c) {
+		if (Character.isSurrogate(c)) {
+			return true;
+		}
+		String single = String.valueOf(c);
+		for (Pattern probe : probes) {
+			if (probe == null) {
+				return true;
+			}
+			Matcher matcher = probe.matcher(single);
+			if (matcher.lookingAt() || matcher.hitEnd()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Apply all rules to a string value.
+	 *
+	 * @param input the input
+	 * @return the masked value, or the input itself if nothing was masked
+	 */
+	String apply(final String input) {
+		int from = firstCandidate(input);
+		if (from < 0) {
+			return input;
+		}
+		char[] masked = input.toCharArray();
+		return maskInto(input, from, masked) ? new String(masked) : input;
+	}
+
+	/**
+	 * Mask every match of every rule directly in {@code dest}, which must already hold
+	 * the characters of {@code input} starting at index 0. Masking never changes the length.
+	 *
+	 * @param input the original input
+	 * @param from the first candidate index, as returned by {@link #firstCandidate(CharSequence)}
+	 * @param dest the buffer holding a copy of the input, masked in place
+	 * @return true if any character was masked
+	 */
+	boolean maskInto(final CharSequence input, final int from, final char[] dest) {
+		if (from < 0) {
+			return false;
+		}
+		boolean masked = false;
+		CharSequence source = input;
+		int start = from;
+		for (Pass pass : passes) {
+			masked |= pass.maskInto(source, start, dest);
+			if (passes.length > 1) {
+				// later passes must see what the earlier passes masked
+				source = CharBuffer.wrap(dest, 0, input.length());
+				start = 0;
+			}
+		}
+		return masked;
+	}
+
+	/**
+	 * One left-to-right scan of the input with a (possibly merged) pattern.
+	 */
+	private static final class Pass {
+		/** The pattern to scan with */
+		private final Pattern pattern;
+		/** Per rule, the group that is only set when that rule matched */
+		private final int[] markers;
+		/** Per rule, the group to be masked */
+		private final int[] groups;
+		/** The rules, in priority order */
+		private final VopMaskRule[] rules;
+		/** Matchers are reset and reused per thread, so masking does not allocate one per message */
+		private final ThreadLocal<Matcher> matchers;
+
+		Pass(final Pattern pattern, final int[] markers, final int[] groups, final VopMaskRule[] rules) {
+			this.pattern = pattern;
+			this.markers = markers;
+			this.groups = groups;
+			this.rules = rules;
+			this.matchers = ThreadLocal.withInitial(() -> this.pattern.matcher(""));
+		}
+
+		boolean maskInto(final CharSequence source, final int from, final char[] dest) {
+			Matcher matcher = matchers.get().reset(source);
+			try {
+				if (!matcher.find(from)) {
+					return false;
+				}
+				boolean masked = false;
+				do {
+					int rule = matchedRule(matcher);
+					if (rule >= 0) {
+						int start = matcher.start(groups[rule]);
+						if (start >= 0) {
+							masked |= rules[rule].mask(dest, start, matcher.end(groups[rule]));
+						}
+					}
+				} while (matcher.find());
+				return masked;
+			} finally {
+				// do not retain the message until the next event on this thread
+				matcher.reset("");
+			}
+		}
+
+		private int matchedRule(final Matcher matcher) {
+			for (int i = 0; i < markers.length; i++) {
+				if (markers[i] == 0 || matcher.start(markers[i]) >= 0) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+}
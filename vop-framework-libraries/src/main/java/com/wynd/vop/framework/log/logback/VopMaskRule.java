@@ -3,6 +3,7 @@ package com.wynd.vop.framework.log.logback;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 
+import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -48,20 +49,43 @@ public class VopMaskRule {
 
 	/**
 	 * Applies the masking rule to the input string.
+	 * <p>
+	 * Every match is masked in place, in one left-to-right pass.
+	 * To apply a number of rules, use {@link VopMaskRules#apply(String)}.
 	 *
 	 * @param input - the PII that needs to be masked.
 	 * @return the masked version of the input.
 	 */
 	String apply(String input) {
 		Matcher matcher = definition.maskPattern.matcher(input);
-		if (matcher.find()) {
-			String match = matcher.group(1);
-			int unmaskedLen = (match.length() - definition.unmasked < 0 ? 0 : match.length() - definition.unmasked);
-			String mask = StringUtils.repeat("*", Math.min(match.length(), unmaskedLen));
-			String replacement = mask + match.substring(mask.length());
-			return input.replace(match, replacement);
+		char[] masked = null;
+		while (matcher.find()) {
+			if (matcher.start(1) >= 0) {
+				if (masked == null) {
+					masked = input.toCharArray();
+				}
+				mask(masked, matcher.start(1), matcher.end(1));
+			}
+		}
+		return masked == null ? input : new String(masked);
+	}
+
+	/**
+	 * Masks the matched characters between {@code start} (inclusive) and {@code end} (exclusive),
+	 * leaving the last {@link Definition#unmasked} characters of the match as-is.
+	 *
+	 * @param dest - the buffer to mask in place
+	 * @param start - the start index of the match
+	 * @param end - the end index of the match
+	 * @return true if any character was masked
+	 */
+	boolean mask(char[] dest, int start, int end) {
+		int maskedEnd = end - definition.unmasked;
+		if (maskedEnd <= start) {
+			return false;
 		}
-		return input;
+		Arrays.fill(dest, start, maskedEnd, VopMaskEngine.MASK_CHAR);
+		return true;
 	}
 
 	/**
@@ -300,4 +324,4 @@ public class VopMaskRule {
 					"definition", "bracesPattern", "maskPattern");
 		}
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -2,29 +2,47 @@ package com.wynd.vop.framework.log.logback;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.function.BinaryOperator;
 
 /**
  * A set of logback rules to mask sensitive data.
+ * <p>
+ * The rules are compiled into a single {@link VopMaskEngine}, so that all rules
+ * are applied to a message in one left-to-right pass.
  */
 public class VopMaskRules {
 
-	/** A NO-OP combiner for stream reduction (See {@link #apply(String, String)}. Do not use parallel streams. */
-	private static final BinaryOperator<String> NO_OP = (in, out) -> {
-		throw new UnsupportedOperationException("No parallel streams or mismatched arg types for this reduction.");
-	};
-
 	/** The list of rules */
 	private final Set<VopMaskRule> rules = new LinkedHashSet<>();
 
+	/** The engine compiled from the current rules */
+	private volatile VopMaskEngine engine = VopMaskEngine.EMPTY;
+
+	/**
+	 * A new set of the base rules declared in {@code vop-framework-logback-starter.xml}:
+	 * credit card, US bank account and SSN numbers, with the last 4 characters left unmasked.
+	 * <p>
+	 * For masking outside of logback, e.g. data exposed by actuator endpoints.
+	 *
+	 * @return the rules
+	 */
+	public static VopMaskRules defaultRules() {
+		VopMaskRules rules = new VopMaskRules();
+		rules.addRule(new VopMaskRule.Definition("Credit Card", "", "", "\\d{13,19}", 4));
+		rules.addRule(new VopMaskRule.Definition("Bank Account USA", "", "", "\\b[0-9]{12,17}\\b", 4));
+		rules.addRule(new VopMaskRule.Definition("SSN", "", "",
+				"\\b(?!000)(?!666)(?!9)[0-9]{3}[ -]?(?!00)[0-9]{2}[ -]?(?!0000)[0-9]{4}\\b", 4));
+		return rules;
+	}
+
 	/**
 	 * Adds the rule definition to the set of rules.
 	 *
 	 * @param definition
 	 *            the definition
 	 */
-	public void addRule(VopMaskRule.Definition definition) {
+	public synchronized void addRule(VopMaskRule.Definition definition) {
 		rules.add(definition.rule());
+		engine = VopMaskEngine.compile(rules);
 	}
 
 	/**
@@ -38,6 +56,15 @@ public class VopMaskRules {
 	 * @return the string
 	 */
 	public String apply(String input) {
-		return rules.stream().reduce(input, (out, rule) -> rule.apply(out), NO_OP);
+		return engine.apply(input);
+	}
+
+	/**
+	 * The engine compiled from the current set of rules.
+	 *
+	 * @return the engine
+	 */
+	VopMaskEngine engine() {
+		return engine;
 	}
 }
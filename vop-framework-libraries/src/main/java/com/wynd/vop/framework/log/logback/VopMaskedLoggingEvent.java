@@ -0,0 +1,176 @@
+package com.wynd.vop.framework.log.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.LoggerContextVO;
+import org.slf4j.Marker;
+
+import java.util.Map;
+
+/**
+ * A read-only view of a logging event with its message and string arguments masked.
+ * <p>
+ * The original event is never modified, so other appenders still see it as it was logged.
+ * Masking is done lazily, the first time the message, arguments or formatted message is read,
+ * so events that are filtered out downstream are never masked at all.
+ * <p>
+ * Only {@link CharSequence} arguments are masked; other arguments (e.g. logstash structured arguments)
+ * are passed through untouched.
+ *
+ * @see VopMaskingAppender
+ */
+final class VopMaskedLoggingEvent implements ILoggingEvent {
+
+	/** The original event */
+	private final ILoggingEvent delegate;
+	/** The engine to mask with */
+	private final VopMaskEngine engine;
+
+	/** Lazily masked values */
+	private String message;
+	private boolean messageMasked;
+	private Object[] arguments;
+	private boolean argumentsMasked;
+	private String formattedMessage;
+	private boolean formattedMessageMasked;
+
+	/**
+	 * Create a masked view of the event.
+	 *
+	 * @param delegate the original event
+	 * @param engine the masking engine
+	 */
+	VopMaskedLoggingEvent(final ILoggingEvent delegate, final VopMaskEngine engine) {
+		this.delegate = delegate;
+		this.engine = engine;
+	}
+
+	/**
+	 * The original, unmasked event.
+	 *
+	 * @return the event
+	 */
+	ILoggingEvent getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public String getMessage() {
+		if (!messageMasked) {
+			message = engine.apply(delegate.getMessage());
+			messageMasked = true;
+		}
+		return message;
+	}
+
+	@Override
+	public Object[] getArgumentArray() {
+		if (!argumentsMasked) {
+			arguments = maskArguments(delegate.getArgumentArray());
+			argumentsMasked = true;
+		}
+		return arguments;
+	}
+
+	/**
+	 * Copy the arguments only if one of them had to be masked.
+	 *
+	 * @param args the original arguments
+	 * @return the masked arguments
+	 */
+	private Object[] maskArguments(final Object[] args) {
+		if (args == null) {
+			return null;
+		}
+		Object[] masked = args;
+		for (int i = 0; i < args.length; i++) {
+			if (args[i] instanceof CharSequence) {
+				String value = args[i].toString();
+				String maskedValue = engine.apply(value);
+				if (maskedValue != value || !(args[i] instanceof String)) {
+					if (masked == args) {
+						masked = args.clone();
+					}
+					masked[i] = maskedValue;
+				}
+			}
+		}
+		return masked;
+	}
+
+	@Override
+	public String getFormattedMessage() {
+		if (!formattedMessageMasked) {
+			formattedMessage = engine.apply(delegate.getFormattedMessage());
+			formattedMessageMasked = true;
+		}
+		return formattedMessage;
+	}
+
+	@Override
+	public String getThreadName() {
+		return delegate.getThreadName();
+	}
+
+	@Override
+	public Level getLevel() {
+		return delegate.getLevel();
+	}
+
+	@Override
+	public String getLoggerName() {
+		return delegate.getLoggerName();
+	}
+
+	@Override
+	public LoggerContextVO getLoggerContextVO() {
+		return delegate.getLoggerContextVO();
+	}
+
+	@Override
+	public IThrowableProxy getThrowableProxy() {
+		return delegate.getThrowableProxy();
+	}
+
+	@Override
+	public StackTraceElement[] getCallerData() {
+		return delegate.getCallerData();
+	}
+
+	@Override
+	public boolean hasCallerData() {
+		return delegate.hasCallerData();
+	}
+
+	@Override
+	public Marker getMarker() {
+		return delegate.getMarker();
+	}
+
+	@Override
+	public Map<String, String> getMDCPropertyMap() {
+		return delegate.getMDCPropertyMap();
+	}
+
+	@Override
+	@Deprecated
+	public Map<String, String> getMdc() {
+		return delegate.getMdc();
+	}
+
+	@Override
+	public long getTimeStamp() {
+		return delegate.getTimeStamp();
+	}
+
+	@Override
+	public void prepareForDeferredProcessing() {
+		delegate.prepareForDeferredProcessing();
+	}
+
+	@Override
+	public String toString() {
+		return "[" + getLevel() + "] " + getFormattedMessage();
+	}
+}
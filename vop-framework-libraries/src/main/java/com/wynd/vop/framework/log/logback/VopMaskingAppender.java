@@ -0,0 +1,134 @@
+package com.wynd.vop.framework.log.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.Iterator;
+
+/**
+ * A logback appender decorator that masks sensitive data before events reach the attached appenders.
+ * <p>
+ * Each event is wrapped in a lightweight masked view; the original event is not modified,
+ * and nothing is masked until an attached appender actually reads the message or its arguments.
+ * This replaces the reflective event mutation of {@link VopMaskingFilter}.
+ * <p>
+ * Usage is declared in the {@code vop-framework-logback-starter.xml} logback configuration, as
+ * {@code VOP_FRAMEWORK_CONSOLE_LOG_ENCODER} in front of the JSON console appender.
+ * <p>
+ * Example configuration:
+ * <pre>
+ * &lt;appender name="MASKED_CONSOLE" class="com.wynd.vop.framework.log.logback.VopMaskingAppender"&gt;
+ *   &lt;rules&gt;
+ *     &lt;rule&gt;
+ *       &lt;name&gt;SSN&lt;/name&gt;
+ *       &lt;pattern&gt;\d{3}-?\d{2}-?\d{4}&lt;/pattern&gt;
+ *       &lt;unmasked&gt;4&lt;/unmasked&gt;
+ *     &lt;/rule&gt;
+ *   &lt;/rules&gt;
+ *   &lt;appender-ref ref="CONSOLE" /&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ */
+public class VopMaskingAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+		implements AppenderAttachable<ILoggingEvent> {
+
+	/** The decorated appenders */
+	private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+
+	/** The rules to apply to event messages and arguments */
+	private VopMaskRules rules = new VopMaskRules();
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ch.qos.logback.core.UnsynchronizedAppenderBase#start()
+	 */
+	@Override
+	public void start() {
+		if (!appenders.iteratorForAppenders().hasNext()) {
+			addWarn("No appenders attached to [" + getName() + "], masked events will be discarded.");
+		}
+		super.start();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ch.qos.logback.core.UnsynchronizedAppenderBase#stop()
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		appenders.detachAndStopAllAppenders();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ch.qos.logback.core.UnsynchronizedAppenderBase#append(java.lang.Object)
+	 */
+	@Override
+	protected void append(ILoggingEvent event) {
+		appenders.appendLoopOnAppenders(new VopMaskedLoggingEvent(event, rules.engine()));
+	}
+
+	/**
+	 * Sets the rules to be used by this appender.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <rules>} tag was provided in the config.
+	 *
+	 * @param rules the new rules
+	 */
+	public void setRules(VopMaskRules rules) {
+		this.rules = rules == null ? new VopMaskRules() : rules;
+	}
+
+	/**
+	 * The rules used by this appender.
+	 *
+	 * @return the rules
+	 */
+	public VopMaskRules getRules() {
+		return rules;
+	}
+
+	/* ***************************** APPENDER ATTACHABLE ***************************** */
+
+	@Override
+	public void addAppender(Appender<ILoggingEvent> newAppender) {
+		appenders.addAppender(newAppender);
+	}
+
+	@Override
+	public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+		return appenders.iteratorForAppenders();
+	}
+
+	@Override
+	public Appender<ILoggingEvent> getAppender(String name) {
+		return appenders.getAppender(name);
+	}
+
+	@Override
+	public boolean isAttached(Appender<ILoggingEvent> appender) {
+		return appenders.isAttached(appender);
+	}
+
+	@Override
+	public void detachAndStopAllAppenders() {
+		appenders.detachAndStopAllAppenders();
+	}
+
+	@Override
+	public boolean detachAppender(Appender<ILoggingEvent> appender) {
+		return appenders.detachAppender(appender);
+	}
+
+	@Override
+	public boolean detachAppender(String name) {
+		return appenders.detachAppender(name);
+	}
+}
@@ -1,6 +1,7 @@
 package com.wynd.vop.framework.log.logback;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.boolex.EvaluationException;
 import ch.qos.logback.core.boolex.EventEvaluatorBase;
 import com.wynd.vop.framework.exception.VopRuntimeException;
@@ -12,27 +13,33 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.springframework.http.HttpStatus;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static java.util.regex.Pattern.compile;
-
 /**
  * A logback "evaluator filter" to mask sensitive data that can be identified
  * by regular expression.
  * <p>
  * See <a href="https://logback.qos.ch/manual/filters.html#evalutatorFilter">
  * https://logback.qos.ch/manual/filters.html#evalutatorFilter</a>
- *
-
- *
+ * <p>
+ * Note that this filter modifies the event itself, so the masked values are seen by every appender.
+ * Prefer {@link VopMaskingAppender}, which masks a read-only view of the event, only when it is appended.
+ * <p>
+ * The event fields are written through {@link MethodHandle}s that are resolved once per class load,
+ * and only {@link CharSequence} message arguments are masked.
  */
 public class VopMaskingFilter extends EventEvaluatorBase<ILoggingEvent> {
 	/** Class logger */
 	private static final VopLogger LOGGER = VopLoggerFactory.getLogger(VopMaskingFilter.class);
 	/** Constant for an empty string */
 	private static final String EMPTY = "";
+	/** Setter for the {@code message} field of logback's {@link LoggingEvent}, or null if not accessible */
+	private static final MethodHandle MESSAGE_SETTER = setterFor("message");
+	/** Setter for the {@code argumentArray} field of logback's {@link LoggingEvent}, or null if not accessible */
+	private static final MethodHandle ARGUMENTS_SETTER = setterFor("argumentArray");
 
 	/*
 	 * Note that {@link EventEvaluatorBase} already has
@@ -47,8 +54,8 @@ public class VopMaskingFilter extends EventEvaluatorBase<ILoggingEvent> {
 	/** The number of characters to be left unmasked */
 	private int unmasked = 0;
 
-	/** Compiled masking pattern */
-	Pattern maskPattern;
+	/** Masking rule compiled from the filter properties */
+	VopMaskRule maskRule;
 
 	/** Compiled pattern used to remove braces from a string */
 	Pattern bracesPattern = Pattern.compile("[{}]+");
@@ -114,22 +121,40 @@ public class VopMaskingFilter extends EventEvaluatorBase<ILoggingEvent> {
 		}
 
 		try {
-			if (maskPattern == null) {
-				this.maskPattern = parseAndCompile();
+			VopMaskRule rule = maskRule;
+			if (rule == null) {
+				rule = new VopMaskRule.Definition(StringUtils.defaultIfBlank(super.getName(), getClass().getSimpleName()),
+						prefix, suffix, pattern, unmasked).rule();
+				this.maskRule = rule;
 			}
 
 			// mask message
-			String message = mask(event.getMessage());
-			updateMessage(event, message);
+			String message = event.getMessage();
+			if (message != null) {
+				String masked = rule.apply(message);
+				if (masked != message) { // NOSONAR identity check, apply returns the input if nothing was masked
+					updateMessage(event, masked);
+				}
+			}
 
 			// mask message arguments
 			Object[] args = event.getArgumentArray();
 			if (args != null) {
+				boolean changed = false;
 				for (int i = 0; i < args.length; i++) {
-					args[i] = mask((String) args[i]);
+					if (args[i] instanceof CharSequence) {
+						String arg = args[i].toString();
+						String masked = rule.apply(arg);
+						if (masked != arg) { // NOSONAR identity check, apply returns the input if nothing was masked
+							args[i] = masked;
+							changed = true;
+						}
+					}
+				}
+				if (changed) {
+					updateArgs(event, args);
 				}
 			}
-			updateArgs(event, args);
 		} catch (Exception e) { // NOSONAR intentionally broad catch
 			throw new EvaluationException("Could not apply mask due to " + e.getClass().getSimpleName(), e);
 		}
@@ -139,50 +164,33 @@ public class VopMaskingFilter extends EventEvaluatorBase<ILoggingEvent> {
 	}
 
 	/**
-	 * Places regex grouping parens around the pattern, and establishes the prefix as a regex lookbehind
-	 * and the suffix as a regex lookahead. The result is a clearly defined grouping regex of one group.
-	 *
-	 * @return the complete pattern, including prefix and suffix
-	 */
-	private Pattern parseAndCompile() {
-		String parsedPrefix = StringUtils.isBlank(this.prefix) ? "" : "(?<=" + this.prefix + ")(?:\\s*)";
-		String parsedSuffix = StringUtils.isBlank(this.suffix) ? "" : "(?:\\s*)(?=" + this.suffix + ")";
-		String validatedPattern = pattern.startsWith("(") ? this.pattern : "(" + this.pattern + ")";
-		return compile(parsedPrefix + validatedPattern + parsedSuffix, Pattern.DOTALL | Pattern.MULTILINE);
-	}
-
-	/**
-	 * Applies the masking rule to the input string.
+	 * Resolve a setter for a private field of logback's {@link LoggingEvent}, once.
 	 *
-	 * @param input - the PII that needs to be masked.
-	 * @return the masked version of the input.
+	 * @param fieldName - the field name
+	 * @return the setter, or {@code null} if the field is not accessible in this version of logback
 	 */
-	private String mask(String input) {
-		Matcher matcher = this.maskPattern.matcher(input);
-		if (matcher.find()) {
-			String match = matcher.group(1);
-			int unmaskedLen = (match.length() - this.unmasked < 0 ? 0 : match.length() - this.unmasked);
-			String mask = StringUtils.repeat("*", Math.min(match.length(), unmaskedLen));
-			String replacement = mask + match.substring(mask.length());
-			return input.replace(match, replacement);
+	private static MethodHandle setterFor(String fieldName) {
+		try {
+			Field field = LoggingEvent.class.getDeclaredField(fieldName);
+			field.setAccessible(true);
+			return MethodHandles.lookup().unreflectSetter(field);
+		} catch (NoSuchFieldException | IllegalAccessException | RuntimeException e) { // NOSONAR reported on use
+			return null;
 		}
-		return input;
 	}
 
 	/**
-	 * Uses reflection to replace the {@code event} argument
+	 * Uses a cached field setter to replace the message of the {@code event} argument
 	 * with the value of the {@code updatedMessage} argument.
 	 *
 	 * @param event - the logging event to modify
 	 * @param updatedMessage - the message that will replace the existing message
-	 * @throws VopRuntimeException - if some programming issue causes reflection to fail
+	 * @throws VopRuntimeException - if the event cannot be updated
 	 */
 	protected void updateMessage(ILoggingEvent event, String updatedMessage) {
 		try {
-			Field field = event.getClass().getDeclaredField("message");
-			field.setAccessible(true);
-			field.set(event, updatedMessage);
-		} catch (NoSuchFieldException | IllegalAccessException e) {
+			setField(MESSAGE_SETTER, event, updatedMessage);
+		} catch (Throwable e) { // NOSONAR MethodHandle.invoke declares Throwable
 			LOGGER.error("Programming error: could not set log message due to " + e.getClass().getSimpleName());
 			throw new VopRuntimeException(MessageKeys.VOP_DEV_ILLEGAL_INVOCATION, MessageSeverity.ERROR, HttpStatus.BAD_REQUEST,
 					e.getClass().getName(), "set()", "Field [message]", ILoggingEvent.class.getName());
@@ -190,25 +198,38 @@ public class VopMaskingFilter extends EventEvaluatorBase<ILoggingEvent> {
 	}
 
 	/**
-	 * Uses reflection to replace the {@code event} argument
-	 * with the value of the {@code updatedMessage} argument.
+	 * Uses a cached field setter to replace the arguments of the {@code event} argument
+	 * with the value of the {@code args} argument.
 	 *
 	 * @param event - the logging event to modify
 	 * @param args - the message arguments that will replace the existing args
-	 * @throws VopRuntimeException - if some programming issue causes reflection to fail
+	 * @throws VopRuntimeException - if the event cannot be updated
 	 */
 	protected void updateArgs(ILoggingEvent event, Object[] args) {
 		try {
-			Field field = event.getClass().getDeclaredField("argumentArray");
-			field.setAccessible(true);
-			field.set(event, args);
-		} catch (NoSuchFieldException | IllegalAccessException e) {
+			setField(ARGUMENTS_SETTER, event, args);
+		} catch (Throwable e) { // NOSONAR MethodHandle.invoke declares Throwable
 			LOGGER.error("Programming error: could not set log message due to " + e.getClass().getSimpleName());
 			throw new VopRuntimeException(MessageKeys.VOP_DEV_ILLEGAL_INVOCATION, MessageSeverity.ERROR, HttpStatus.BAD_REQUEST,
 					e.getClass().getName(), "set()", "Field [argumentArray]", ILoggingEvent.class.getName());
 		}
 	}
 
+	/**
+	 * Write a field value through the cached setter.
+	 *
+	 * @param setter - the cached setter, may be null
+	 * @param event - the logging event to modify
+	 * @param value - the new field value
+	 * @throws Throwable - if the event is not a {@link LoggingEvent}, or the setter is not available
+	 */
+	private static void setField(MethodHandle setter, ILoggingEvent event, Object value) throws Throwable {
+		if (setter == null || !(event instanceof LoggingEvent)) {
+			throw new IllegalAccessException("Cannot update " + (event == null ? null : event.getClass().getName()));
+		}
+		setter.invoke((LoggingEvent) event, value);
+	}
+
 	/* ***************************** PROPERTIES ***************************** */
 
 	/**
@@ -230,7 +251,7 @@ public class VopMaskingFilter extends EventEvaluatorBase<ILoggingEvent> {
 	 */
 	public void setPrefix(String prefix) {
 		this.prefix = prefix;
-		maskPattern = null;
+		maskRule = null;
 	}
 
 	/**
@@ -252,7 +273,7 @@ public class VopMaskingFilter extends EventEvaluatorBase<ILoggingEvent> {
 	 */
 	public void setSuffix(String suffix) {
 		this.suffix = suffix;
-		maskPattern = null;
+		maskRule = null;
 	}
 
 	/**
@@ -274,7 +295,7 @@ public class VopMaskingFilter extends EventEvaluatorBase<ILoggingEvent> {
 	 */
 	public void setPattern(String pattern) {
 		this.pattern = pattern;
-		maskPattern = null;
+		maskRule = null;
 	}
 
 	/**
@@ -295,6 +316,7 @@ public class VopMaskingFilter extends EventEvaluatorBase<ILoggingEvent> {
 	 */
 	public void setUnmasked(int unmasked) {
 		this.unmasked = unmasked;
+		maskRule = null;
 	}
 
 	/* ***************************** OVERRIDES ***************************** */
@@ -326,7 +348,7 @@ public class VopMaskingFilter extends EventEvaluatorBase<ILoggingEvent> {
 		// superclass must be included to include "name" field, so must also exclude super's "started" field
 		// reflectUpToClass arg is not inclusive, so must be set to the super.superclass
 		return EqualsBuilder.reflectionEquals(this, obj, false, super.getClass().getSuperclass(),
-				"started", "EMPTY", "LOGGER", "bracesPattern", "maskPattern");
+				"started", "EMPTY", "LOGGER", "MESSAGE_SETTER", "ARGUMENTS_SETTER", "bracesPattern", "maskRule");
 	}
 
 	/*
@@ -10,13 +10,29 @@ import java.io.IOException;
 /**
  * A logstash message provider to the generator in the JSON object context.
  * <p>
- * Usage of this class is declared in the {@code vop-framework-logback-starter.xml} logback configuration.
+ * The {@code vop-framework-logback-starter.xml} logback configuration masks events with a {@link VopMaskingAppender}
+ * instead. This provider is for encoders that are not behind a masking appender; do not use both, or the message is
+ * masked twice.
+ * <p>
+ * By default the provider runs in streaming mode: the formatted message is masked in a per-thread
+ * scratch buffer and written straight from that buffer to the generator, and messages that contain
+ * no character that could start a rule match are written as-is. Either way, no masked copy of the
+ * message is created. Set {@code <streaming>false</streaming>} to mask through {@link VopMaskRules#apply(String)}.
  */
 public class VopMaskingMessageProvider extends MessageJsonProvider {
 
+	/** Scratch buffers larger than this are not kept for reuse by the thread */
+	static final int MAX_RETAINED_BUFFER = 16384;
+
+	/** Per-thread scratch buffer for the masked characters */
+	private static final ThreadLocal<char[]> BUFFERS = ThreadLocal.withInitial(() -> new char[1024]);
+
 	/** The rules to apply to event messages */
 	private VopMaskRules rules;
 
+	/** Whether to stream masked characters to the generator */
+	private boolean streaming = true;
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -27,7 +43,48 @@ public class VopMaskingMessageProvider extends MessageJsonProvider {
 	 */
 	@Override
 	public void writeTo(JsonGenerator generator, ILoggingEvent event) throws IOException {
-		JsonWritingUtils.writeStringField(generator, getFieldName(), rules.apply(event.getFormattedMessage()));
+		if (!streaming) {
+			JsonWritingUtils.writeStringField(generator, getFieldName(), rules.apply(event.getFormattedMessage()));
+			return;
+		}
+		writeMasked(generator, getFieldName(), event.getFormattedMessage(), rules.engine());
+	}
+
+	/**
+	 * Write the masked message as a string field, without creating a masked copy of the message.
+	 *
+	 * @param generator the generator to write to
+	 * @param fieldName the field name
+	 * @param message the unmasked message
+	 * @param engine the masking engine
+	 * @throws IOException if the generator fails
+	 */
+	static void writeMasked(JsonGenerator generator, String fieldName, String message, VopMaskEngine engine)
+			throws IOException {
+		if (message == null || !JsonWritingUtils.shouldWriteField(fieldName)) {
+			return;
+		}
+
+		int from = engine.firstCandidate(message);
+		if (from < 0) {
+			// fast path, nothing in the message can be masked
+			generator.writeStringField(fieldName, message);
+			return;
+		}
+
+		int length = message.length();
+		char[] buffer = BUFFERS.get();
+		if (buffer.length < length) {
+			buffer = new char[Math.max(length, buffer.length * 2)];
+			if (buffer.length <= MAX_RETAINED_BUFFER) {
+				BUFFERS.set(buffer);
+			}
+		}
+		message.getChars(0, length, buffer, 0);
+		engine.maskInto(message, from, buffer);
+
+		generator.writeFieldName(fieldName);
+		generator.writeString(buffer, 0, length);
 	}
 
 	/**
@@ -44,4 +101,25 @@ public class VopMaskingMessageProvider extends MessageJsonProvider {
 	public void setRules(VopMaskRules rules) {
 		this.rules = rules;
 	}
+
+	/**
+	 * Whether masked characters are streamed to the generator from a reused buffer.
+	 *
+	 * @return true if streaming
+	 */
+	public boolean isStreaming() {
+		return streaming;
+	}
+
+	/**
+	 * Whether masked characters are streamed to the generator from a reused buffer (the default),
+	 * or a masked copy of the message is created first.
+	 * <p>
+	 * Called by logback to set the value, if a {@code <streaming>} tag was provided in the config.
+	 *
+	 * @param streaming true to stream
+	 */
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
 }
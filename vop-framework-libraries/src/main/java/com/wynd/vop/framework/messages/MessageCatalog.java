@@ -0,0 +1,91 @@
+package com.wynd.vop.framework.messages;
+
+import com.wynd.vop.framework.log.VopLogger;
+import com.wynd.vop.framework.log.VopLoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The compiled message templates of the {@link MessageKeys}, loaded once from the framework-messages.properties
+ * file on the classpath.
+ * <p>
+ * Keys that are missing from the properties file use the default message of the key. The templates are held in
+ * an immutable map that is replaced as a whole by {@link #reload()}, so they can be read without locking.
+ */
+public final class MessageCatalog {
+	/** Class logger */
+	private static final VopLogger LOGGER = VopLoggerFactory.getLogger(MessageCatalog.class);
+
+	/** The properties file to get from the classpath */
+	static final String PROPERTIES_FILE = "framework-messages.properties";
+
+	/** The templates of all the keys */
+	private static volatile Map<MessageKeys, MessageTemplate> templates = load(MessageCatalog.class.getClassLoader());
+
+	/**
+	 * Do not instantiate.
+	 */
+	private MessageCatalog() {
+		throw new IllegalAccessError("MessageCatalog is a static class. Do not instantiate it.");
+	}
+
+	/**
+	 * Format the message of a key.
+	 *
+	 * @param key the message key
+	 * @param params arguments to fill in any params in the message (e.g. value for {0})
+	 * @return the message
+	 */
+	public static String getMessage(final MessageKeys key, final String... params) {
+		return templates.get(key).format(params);
+	}
+
+	/**
+	 * Reload the properties file, e.g. after a refresh of the application context.
+	 */
+	public static void reload() {
+		templates = load(MessageCatalog.class.getClassLoader());
+		LOGGER.debug("Reloaded " + templates.size() + " framework message templates");
+	}
+
+	/**
+	 * Compile the templates of all the keys from the properties file of a class loader.
+	 *
+	 * @param classLoader the class loader
+	 * @return the templates, with the default message of the keys if the properties file cannot be read
+	 */
+	static Map<MessageKeys, MessageTemplate> load(final ClassLoader classLoader) {
+		Properties properties = new Properties();
+		URL resource = classLoader == null ? ClassLoader.getSystemResource(PROPERTIES_FILE)
+				: classLoader.getResource(PROPERTIES_FILE);
+		if (resource == null) {
+			LOGGER.warn(PROPERTIES_FILE + " was not found on the classpath, default messages will be used");
+		} else {
+			try (InputStream in = resource.openStream();
+					Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+				properties.load(reader);
+			} catch (IOException e) {
+				LOGGER.warn("Could not read " + PROPERTIES_FILE + ", default messages will be used", e);
+				properties.clear();
+			}
+		}
+
+		Locale locale = Locale.getDefault();
+		Map<MessageKeys, MessageTemplate> compiled = new EnumMap<>(MessageKeys.class);
+		for (MessageKeys key : MessageKeys.values()) {
+			String pattern = properties.getProperty(key.getKey(), key.getDefaultMessage());
+			compiled.put(key, new MessageTemplate(pattern, locale));
+		}
+		return Collections.unmodifiableMap(compiled);
+	}
+}
@@ -1,9 +1,5 @@
 package com.wynd.vop.framework.messages;
 
-import org.springframework.context.support.ReloadableResourceBundleMessageSource;
-
-import java.util.Locale;
-
 /**
  * A message @PropertySource for Service Vop*Exception and *Message list.
  * <p>
@@ -14,6 +10,8 @@ import java.util.Locale;
  * <u>Usage and Maintenance</u><br/>
  * Any change in framework-messages.properties must be reflected in this class.<br/>
  * Any change in this class must be reflected in framework-messages.properties.
+ * <p>
+ * The messages are formatted from the templates of the {@link MessageCatalog}.
  *
 
  */
@@ -194,17 +192,6 @@ public enum MessageKeys implements MessageKey {
 
 	;
 
-	/** The filename "name" part of the properties file to get from the classpath */
-	private static final String PROPERTIES_FILE = "framework-messages";
-	/** The spring message source */
-	private static ReloadableResourceBundleMessageSource messageSource;
-	/* Populate the message source from the properties file */
-	static {
-		messageSource = new ReloadableResourceBundleMessageSource();
-		messageSource.setBasename("classpath:" + PROPERTIES_FILE);
-		messageSource.setDefaultEncoding("UTF-8");
-	}
-
 	/** The key - must be identical to the key in framework-messages.properties */
 	private String key;
 	/** A default message, in case the key is not found in framework-messages.properties */
@@ -238,6 +225,15 @@ public enum MessageKeys implements MessageKey {
 	 */
 	@Override
 	public String getMessage(final String... params) {
-		return messageSource.getMessage(this.key, params, this.defaultMessage, Locale.getDefault());
+		return MessageCatalog.getMessage(this, params);
+	}
+
+	/**
+	 * The message used when the key is not found in framework-messages.properties.
+	 *
+	 * @return the default message
+	 */
+	String getDefaultMessage() {
+		return this.defaultMessage;
 	}
 }
@@ -0,0 +1,168 @@
+package com.wynd.vop.framework.messages;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A message pattern, parsed once, that can be formatted by any number of threads.
+ * <p>
+ * Patterns that only have plain <tt>{n}</tt> arguments, which is the case of all the framework messages, are
+ * compiled into literal text and argument indexes. Other patterns, e.g. with <tt>{0,number}</tt> arguments,
+ * are formatted by a copy of a {@link MessageFormat} prototype, as {@link MessageFormat} is not thread-safe.
+ * <p>
+ * The output is the same as the spring message source: the pattern is returned as-is when there are no
+ * arguments, and is otherwise formatted as by {@link MessageFormat#format(Object)}.
+ */
+final class MessageTemplate {
+
+	/** The pattern */
+	private final String pattern;
+
+	/** Literal text before each argument, and after the last one; null if the pattern is not plain */
+	private final String[] literals;
+
+	/** Index of each argument; null if the pattern is not plain */
+	private final int[] arguments;
+
+	/** Prototype for patterns that are not plain; null if the pattern is plain or cannot be parsed */
+	private final MessageFormat prototype;
+
+	/**
+	 * Compile a pattern.
+	 *
+	 * @param pattern the pattern
+	 * @param locale the locale of the pattern
+	 */
+	MessageTemplate(final String pattern, final Locale locale) {
+		this.pattern = pattern;
+
+		List<String> literalList = new ArrayList<>();
+		List<Integer> argumentList = new ArrayList<>();
+		if (parse(pattern, literalList, argumentList)) {
+			this.literals = literalList.toArray(new String[literalList.size()]);
+			this.arguments = new int[argumentList.size()];
+			for (int i = 0; i < arguments.length; i++) {
+				arguments[i] = argumentList.get(i);
+			}
+			this.prototype = null;
+		} else {
+			this.literals = null;
+			this.arguments = null;
+			this.prototype = newMessageFormat(pattern, locale);
+		}
+	}
+
+	/**
+	 * The pattern.
+	 *
+	 * @return the pattern
+	 */
+	String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * Format the pattern with the arguments.
+	 *
+	 * @param params the arguments, may be {@code null}
+	 * @return the message
+	 */
+	String format(final String... params) {
+		if ((params == null) || (params.length == 0)) {
+			return pattern;
+		}
+		if (literals != null) {
+			StringBuilder sb = new StringBuilder(pattern.length() + (16 * params.length));
+			for (int i = 0; i < arguments.length; i++) {
+				sb.append(literals[i]);
+				int argument = arguments[i];
+				if (argument < params.length) {
+					sb.append(params[argument]);
+				} else {
+					sb.append('{').append(argument).append('}');
+				}
+			}
+			return sb.append(literals[arguments.length]).toString();
+		}
+		if (prototype != null) {
+			return ((MessageFormat) prototype.clone()).format(params);
+		}
+		return pattern;
+	}
+
+	/**
+	 * Parse a pattern with plain <tt>{n}</tt> arguments, following the {@link MessageFormat} quoting rules.
+	 *
+	 * @param pattern the pattern
+	 * @param literals the list to add the literal text to
+	 * @param arguments the list to add the argument indexes to
+	 * @return false, if the pattern is not plain
+	 */
+	private static boolean parse(final String pattern, final List<String> literals, final List<Integer> arguments) {
+		StringBuilder literal = new StringBuilder(pattern.length());
+		boolean quoted = false;
+		int i = 0;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i);
+			if (c == '\'') {
+				if ((i + 1 < pattern.length()) && (pattern.charAt(i + 1) == '\'')) {
+					literal.append('\'');
+					i += 2;
+					continue;
+				}
+				quoted = !quoted;
+			} else if (quoted || (c != '{')) {
+				literal.append(c);
+			} else {
+				int close = pattern.indexOf('}', i);
+				if ((close < 0) || !isIndex(pattern, i + 1, close)) {
+					return false;
+				}
+				literals.add(literal.toString());
+				arguments.add(Integer.valueOf(pattern.substring(i + 1, close)));
+				literal.setLength(0);
+				i = close;
+			}
+			i++;
+		}
+		literals.add(literal.toString());
+		return true;
+	}
+
+	/**
+	 * Whether a range of the pattern is an argument index.
+	 *
+	 * @param pattern the pattern
+	 * @param start the start of the range
+	 * @param end the end of the range
+	 * @return true, if the range is a small number
+	 */
+	private static boolean isIndex(final String pattern, final int start, final int end) {
+		if ((end == start) || (end - start > 4)) {
+			return false;
+		}
+		for (int i = start; i < end; i++) {
+			if ((pattern.charAt(i) < '0') || (pattern.charAt(i) > '9')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Create the prototype for a pattern that is not plain.
+	 *
+	 * @param pattern the pattern
+	 * @param locale the locale
+	 * @return the prototype, or {@code null} if the pattern cannot be parsed
+	 */
+	private static MessageFormat newMessageFormat(final String pattern, final Locale locale) {
+		try {
+			return new MessageFormat(pattern, locale);
+		} catch (IllegalArgumentException e) { // NOSONAR the pattern is returned as-is
+			return null;
+		}
+	}
+}
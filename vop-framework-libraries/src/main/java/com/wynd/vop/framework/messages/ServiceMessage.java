@@ -3,12 +3,15 @@ package com.wynd.vop.framework.messages;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wynd.vop.framework.util.RenderedByGetter;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.springframework.http.HttpStatus;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.bind.annotation.XmlElement;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 
 /**
  * ServiceMessage is a generic abstraction of a "message" or "notification" which is layer agnostic and can be used to communicate
@@ -34,7 +37,8 @@ public class ServiceMessage extends AbstractMessage {
 	@NotNull
 	private String key = MessageKeys.NO_KEY.getKey();
 
-	/** The message, with values already replaced for any replaceable parameters */
+	/** The message, with values replaced for any replaceable parameters; resolved on first read */
+	@RenderedByGetter
 	private String text;
 	/** String representation of the {@link HttpStatus#value()} */
 	private String status;
@@ -83,12 +87,12 @@ public class ServiceMessage extends AbstractMessage {
 		this.severity = severity;
 		this.httpStatus = httpStatus;
 		this.messageKey = key;
-		this.messageParams = params;
+		// copied, as the text is resolved after the caller may have reused the array
+		this.messageParams = params == null ? null : params.clone();
 
 		if (key != null) {
 			this.key = key.getKey();
 		}
-		this.text = key == null ? null : key.getMessage(params);
 		this.status = httpStatus == null ? null : Integer.toString(httpStatus.value());
 	}
 
@@ -128,11 +132,19 @@ public class ServiceMessage extends AbstractMessage {
 
 	/**
 	 * Gets the text of the message.
+	 * <p>
+	 * The text is formatted from the message key on the first call, so messages that are never read or serialized
+	 * do not pay for it.
 	 *
 	 * @return the text
 	 */
 	public final String getText() {
-		return this.text;
+		String resolved = this.text;
+		if ((resolved == null) && (this.messageKey != null)) {
+			resolved = this.messageKey.getMessage(this.messageParams);
+			this.text = resolved;
+		}
+		return resolved;
 	}
 
 	/**
@@ -144,6 +156,17 @@ public class ServiceMessage extends AbstractMessage {
 		return this.severity;
 	}
 
+	/**
+	 * Resolve the text before the message is serialized, so the serialized form carries it.
+	 *
+	 * @param out the object output stream
+	 * @throws IOException if the message cannot be written
+	 */
+	private void writeObject(final ObjectOutputStream out) throws IOException {
+		getText();
+		out.defaultWriteObject();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
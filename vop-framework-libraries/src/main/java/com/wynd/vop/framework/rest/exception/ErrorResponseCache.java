@@ -0,0 +1,316 @@
+package com.wynd.vop.framework.rest.exception;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.wynd.vop.framework.log.VopLogger;
+import com.wynd.vop.framework.log.VopLoggerFactory;
+import com.wynd.vop.framework.messages.MessageKey;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import com.wynd.vop.framework.rest.provider.Message;
+import com.wynd.vop.framework.rest.provider.ProviderResponse;
+import com.wynd.vop.framework.util.HttpHeadersUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pre-rendered <tt>application/problem+json</tt> bodies of the {@link ProviderResponse}s with a single message whose
+ * text is the parameterless message of its key, such as the responses of {@link VopRestGlobalExceptionHandler} for
+ * the same few exceptions during an overload or a partner outage.
+ * <p>
+ * Each body is serialized once with the application {@link ObjectMapper}, and later responses only write the
+ * timestamp of the message between the pre-rendered JSON. Messages with any other text, e.g. with parameters or
+ * the message of an exception, are not cached and must be rendered on the normal path.
+ * <p>
+ * The body of a cached response is still a {@link ProviderResponse} with its message, so advice and subclasses that
+ * read or change the body keep working. It writes the pre-rendered JSON only while its message is unchanged, and
+ * only to a JSON generator; otherwise it is serialized as any other {@link ProviderResponse}.
+ */
+public class ErrorResponseCache {
+
+	/** Class logger */
+	private static final VopLogger LOGGER = VopLoggerFactory.getLogger(ErrorResponseCache.class);
+
+	/** Default maximum number of cached bodies */
+	public static final int DEFAULT_MAX_ENTRIES = 256;
+
+	/** The format of the message timestamp, as declared on {@code Message#getTimestamp()} */
+	private static final String TIMESTAMP_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+
+	/** The timestamp the bodies are rendered with, to find where the timestamp goes */
+	private static final Date SENTINEL = new Date(0L);
+
+	/** The headers of all error responses, read-only */
+	private static final HttpHeaders HEADERS = HttpHeaders.readOnlyHttpHeaders(HttpHeadersUtil.buildHttpHeadersForError());
+
+	/** The mapper the bodies are serialized with */
+	private final ObjectMapper objectMapper;
+
+	/** The timestamp format, in the time zone and locale of the mapper */
+	private final DateTimeFormatter timestampFormatter;
+
+	/** The formatted sentinel timestamp */
+	private final String sentinel;
+
+	/** Maximum number of cached bodies */
+	private final int maxEntries;
+
+	/** The bodies, by message */
+	private final ConcurrentMap<Entry, Body> bodies = new ConcurrentHashMap<>();
+
+	/** The last formatted timestamp, shared by the responses of the same millisecond */
+	private volatile Timestamp lastTimestamp = new Timestamp(-1L, null);
+
+	/**
+	 * Cache bodies serialized by the mapper, up to the default number of bodies.
+	 *
+	 * @param objectMapper the mapper of the HTTP message converter
+	 */
+	public ErrorResponseCache(final ObjectMapper objectMapper) {
+		this(objectMapper, DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Cache bodies serialized by the mapper.
+	 *
+	 * @param objectMapper the mapper of the HTTP message converter
+	 * @param maxEntries maximum number of cached bodies
+	 */
+	public ErrorResponseCache(final ObjectMapper objectMapper, final int maxEntries) {
+		this.objectMapper = objectMapper;
+		this.maxEntries = maxEntries;
+		this.timestampFormatter = DateTimeFormatter.ofPattern(TIMESTAMP_PATTERN, objectMapper.getSerializationConfig().getLocale())
+				.withZone(objectMapper.getSerializationConfig().getTimeZone().toZoneId());
+		this.sentinel = timestampFormatter.format(SENTINEL.toInstant());
+	}
+
+	/**
+	 * The response for a single message, if the text is the parameterless message of the key.
+	 *
+	 * @param severity the message severity
+	 * @param key the message key
+	 * @param text the message text
+	 * @param status the message and response status
+	 * @return the response with a {@link ProviderResponse} body that writes the pre-rendered JSON, or {@code null} if the
+	 *         response must be rendered on the normal path
+	 */
+	public ResponseEntity<Object> getResponse(final MessageSeverity severity, final MessageKey key, final String text,
+			final HttpStatus status) {
+		if ((severity == null) || (key == null) || (text == null) || (status == null)) {
+			return null;
+		}
+		Entry entry = new Entry(severity, key, status);
+		Body body = bodies.get(entry);
+		if ((body == null) || !body.text.equals(text)) {
+			// the text of the key changes when the messages are reloaded
+			if (!text.equals(key.getMessage()) || ((body == null) && (bodies.size() >= maxEntries))) {
+				return null;
+			}
+			body = render(severity, key, text, status);
+			bodies.put(entry, body);
+		}
+		if (body.prefix == null) {
+			return null;
+		}
+		return new ResponseEntity<>(new CachedResponse(severity, key, status, body, currentTimestamp()), HEADERS, status);
+	}
+
+	/**
+	 * The current time, formatted as the message timestamp.
+	 *
+	 * @return the timestamp
+	 */
+	private Timestamp currentTimestamp() {
+		long now = System.currentTimeMillis();
+		Timestamp timestamp = lastTimestamp;
+		if (timestamp.millis != now) {
+			timestamp = new Timestamp(now, timestampFormatter.format(Instant.ofEpochMilli(now)));
+			lastTimestamp = timestamp;
+		}
+		return timestamp;
+	}
+
+	/**
+	 * The number of cached bodies.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return bodies.size();
+	}
+
+	/**
+	 * Serialize the body of a message, and split it around the timestamp.
+	 *
+	 * @param severity the message severity
+	 * @param key the message key
+	 * @param text the message text
+	 * @param status the message status
+	 * @return the body, without bytes if it cannot be pre-rendered
+	 */
+	private Body render(final MessageSeverity severity, final MessageKey key, final String text, final HttpStatus status) {
+		ProviderResponse response = new ProviderResponse();
+		response.addMessage(severity, key.getKey(), text, status);
+		response.getMessages().get(0).setTimestamp(SENTINEL);
+		try {
+			String json = objectMapper.writeValueAsString(response);
+			int at = json.indexOf(sentinel);
+			if ((at < 0) || (json.indexOf(sentinel, at + 1) >= 0)) {
+				// the mapper does not write the timestamp as declared, or the text looks like a timestamp
+				LOGGER.debug("Error response body for " + key.getKey() + " cannot be pre-rendered");
+				return new Body(text, null, null);
+			}
+			return new Body(text, new SerializedString(json.substring(0, at)),
+					new SerializedString(json.substring(at + sentinel.length())));
+		} catch (JsonProcessingException e) {
+			LOGGER.debug("Error response body for " + key.getKey() + " cannot be pre-rendered", e);
+			return new Body(text, null, null);
+		}
+	}
+
+	/**
+	 * The identity of a cached body.
+	 */
+	private static final class Entry {
+		private final MessageSeverity severity;
+		private final MessageKey key;
+		private final HttpStatus status;
+		private final int hash;
+
+		Entry(final MessageSeverity severity, final MessageKey key, final HttpStatus status) {
+			this.severity = severity;
+			this.key = key;
+			this.status = status;
+			this.hash = Objects.hash(severity, key, status);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof Entry)) {
+				return false;
+			}
+			Entry other = (Entry) obj;
+			return (severity == other.severity) && (status == other.status) && key.equals(other.key);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/**
+	 * A formatted timestamp.
+	 */
+	private static final class Timestamp {
+		private final long millis;
+		private final String text;
+
+		Timestamp(final long millis, final String text) {
+			this.millis = millis;
+			this.text = text;
+		}
+	}
+
+	/**
+	 * A pre-rendered body, split around the timestamp. The serialized strings keep their UTF-8 bytes once written.
+	 */
+	private static final class Body {
+		private final String text;
+		private final SerializedString prefix;
+		private final SerializedString suffix;
+
+		Body(final String text, final SerializedString prefix, final SerializedString suffix) {
+			this.text = text;
+			this.prefix = prefix;
+			this.suffix = suffix;
+		}
+	}
+
+	/**
+	 * The body of a cached response: a {@link ProviderResponse} with its single message, that writes the
+	 * pre-rendered JSON while the message is unchanged.
+	 */
+	static final class CachedResponse extends ProviderResponse implements JsonSerializable {
+		private static final long serialVersionUID = 6213705139614822415L;
+
+		/** The message of the pre-rendered JSON */
+		private final Message message;
+
+		/** The severity name, key and status of the message */
+		private final String severity;
+		private final String key;
+		private final HttpStatus status;
+
+		/** The timestamp of the message, and its time */
+		private final Date date;
+		private final long millis;
+
+		/** The pre-rendered JSON, and the formatted timestamp */
+		private final transient Body body;
+		private final String timestamp;
+
+		CachedResponse(final MessageSeverity severity, final MessageKey key, final HttpStatus status, final Body body,
+				final Timestamp timestamp) {
+			super();
+			addMessage(severity, key.getKey(), body.text, status);
+			this.message = getMessages().get(0);
+			this.severity = severity.name();
+			this.key = key.getKey();
+			this.status = status;
+			this.date = new Date(timestamp.millis);
+			this.millis = timestamp.millis;
+			this.message.setTimestamp(date);
+			this.body = body;
+			this.timestamp = timestamp.text;
+		}
+
+		@Override
+		public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+			if (!(gen instanceof JsonGeneratorImpl) || !isUnchanged()) {
+				ProviderResponse response = new ProviderResponse();
+				response.setMessages(getMessages());
+				serializers.defaultSerializeValue(response, gen);
+				return;
+			}
+			gen.writeRawValue(body.prefix);
+			gen.writeRaw(timestamp);
+			gen.writeRaw(body.suffix);
+		}
+
+		@Override
+		public void serializeWithType(final JsonGenerator gen, final SerializerProvider serializers,
+				final TypeSerializer typeSer) throws IOException {
+			// a cached body is only ever the root value of a response, which has no type id
+			serialize(gen, serializers);
+		}
+
+		/**
+		 * Whether the response still has only the message of the pre-rendered JSON, as it was rendered.
+		 *
+		 * @return true, if the pre-rendered JSON can be written
+		 */
+		private boolean isUnchanged() {
+			List<Message> messages = getMessages();
+			return (body != null) && (messages.size() == 1) && (messages.get(0) == message)
+					&& (message.getTimestamp() == date) && (date.getTime() == millis)
+					&& severity.equals(message.getSeverity()) && key.equals(message.getKey())
+					&& body.text.equals(message.getText()) && (message.getHttpStatus() == status);
+		}
+	}
+}
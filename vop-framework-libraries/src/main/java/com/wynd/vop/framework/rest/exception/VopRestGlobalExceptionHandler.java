@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wynd.vop.framework.audit.AuditEventData;
 import com.wynd.vop.framework.audit.AuditEvents;
+import com.wynd.vop.framework.exception.ExceptionTranslator;
 import com.wynd.vop.framework.exception.VopException;
 import com.wynd.vop.framework.exception.VopExceptionExtender;
 import com.wynd.vop.framework.exception.VopPartnerException;
@@ -66,6 +67,9 @@ public class VopRestGlobalExceptionHandler extends BaseHttpProviderPointcuts {
 	@Autowired
 	private MessageSource messageSource;
 
+	/** Pre-rendered bodies of error responses with a parameterless message, if any */
+	private ErrorResponseCache errorResponseCache;
+
 	/**
 	 * Return value if no exception exists to provide a message.
 	 * To get default message text, use {@link #deriveMessage(Exception)}.
@@ -80,6 +84,16 @@ public class VopRestGlobalExceptionHandler extends BaseHttpProviderPointcuts {
 
 
 
+	/**
+	 * Set the cache of pre-rendered error response bodies.
+	 * If not set, all error responses are rendered by the HTTP message converters.
+	 *
+	 * @param errorResponseCache the cache, may be {@code null}
+	 */
+	public void setErrorResponseCache(final ErrorResponseCache errorResponseCache) {
+		this.errorResponseCache = errorResponseCache;
+	}
+
 	/**
 	 * For java.lang.Exception and all subclasses.
 	 * If exception message is empty, gets message of the cause if it exists.
@@ -88,30 +102,12 @@ public class VopRestGlobalExceptionHandler extends BaseHttpProviderPointcuts {
 	 * @return String the message
 	 */
 	private String deriveMessage(final Exception ex) {
-		if (ex == null) {
-			return NO_EXCEPTION_MESSAGE;
-		}
-
 		/*
 		 * If exception message is empty, and if cause is not null,
-		 * then cause class name will be in the exception message.
-		 * So get the cause classname so we can scrub it out of the message.
+		 * then cause class name will be in the exception message,
+		 * so the translator scrubs it out of the message.
 		 */
-		String causeClassname = (ex.getCause() == null
-				? null
-				: ex.getCause().getClass().getName() + ":");
-
-		/* Scrub any occurrances of cause classname from exception message */
-		String msg = (causeClassname != null && StringUtils.isNotBlank(ex.getMessage())
-				? ex.getMessage().replaceAll(causeClassname, "")
-				: ex.getMessage());
-
-		/* Final check for empty */
-		if (StringUtils.isBlank(msg)) {
-			msg = NO_EXCEPTION_MESSAGE;
-		}
-
-		return msg;
+		return ExceptionTranslator.deriveMessage(ex, NO_EXCEPTION_MESSAGE);
 	}
 
 
@@ -209,10 +205,31 @@ public class VopRestGlobalExceptionHandler extends BaseHttpProviderPointcuts {
 	 */
 	protected ResponseEntity<Object> failSafeHandler() {
 		log(Level.ERROR, null, MessageKeys.NO_KEY, MessageSeverity.FATAL, HttpStatus.INTERNAL_SERVER_ERROR);
-		ProviderResponse apiError = new ProviderResponse();
-		apiError.addMessage(MessageSeverity.FATAL, MessageKeys.NO_KEY.getKey(), MessageKeys.NO_KEY.getMessage(),
+		return errorResponse(MessageSeverity.FATAL, MessageKeys.NO_KEY, MessageKeys.NO_KEY.getMessage(),
 				HttpStatus.INTERNAL_SERVER_ERROR);
-		return new ResponseEntity<>(apiError, HttpHeadersUtil.buildHttpHeadersForError(), HttpStatus.INTERNAL_SERVER_ERROR);
+	}
+
+	/**
+	 * The error response with a single message, in a {@link ProviderResponse} body.
+	 * If the message has no parameters, the body writes the JSON pre-rendered by the {@link ErrorResponseCache}.
+	 *
+	 * @param severity - the MessageSeverity to report
+	 * @param key - the key to report
+	 * @param text - the message text
+	 * @param httpResponseStatus - the status to put on the message and the HTTP Response Entity
+	 * @return ResponseEntity the HTTP Response Entity
+	 */
+	private ResponseEntity<Object> errorResponse(final MessageSeverity severity, final MessageKey key, final String text,
+			final HttpStatus httpResponseStatus) {
+		if (errorResponseCache != null) {
+			ResponseEntity<Object> cached = errorResponseCache.getResponse(severity, key, text, httpResponseStatus);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		ProviderResponse apiError = new ProviderResponse();
+		apiError.addMessage(severity, key.getKey(), text, httpResponseStatus);
+		return new ResponseEntity<>(apiError, HttpHeadersUtil.buildHttpHeadersForError(), httpResponseStatus);
 	}
 
 	/**
@@ -245,13 +262,10 @@ public class VopRestGlobalExceptionHandler extends BaseHttpProviderPointcuts {
 		if (ex == null) {
 			return failSafeHandler();
 		}
-		ProviderResponse apiError = new ProviderResponse();
-
 		MessageKey derivedKey = deriveKey(key);
 		log(ex, derivedKey, severity, httpResponseStatus, params);
-		apiError.addMessage(severity, derivedKey.getKey(), deriveMessage(ex), httpResponseStatus);
 
-		return new ResponseEntity<>(apiError, HttpHeadersUtil.buildHttpHeadersForError(), httpResponseStatus);
+		return errorResponse(severity, derivedKey, deriveMessage(ex), httpResponseStatus);
 	}
 
 	/**
@@ -269,18 +283,14 @@ public class VopRestGlobalExceptionHandler extends BaseHttpProviderPointcuts {
 		if (ex == null) {
 			return failSafeHandler();
 		}
-		ProviderResponse apiError = new ProviderResponse();
-
 		MessageKey derivedKey = deriveKey(key);
 		log(ex, derivedKey, severity, httpResponseStatus, params);
 
 		if (hideExceptionMessage){
-			apiError.addMessage(severity, derivedKey.getKey(), deriveMessageFromKey(key), httpResponseStatus);
+			return errorResponse(severity, derivedKey, deriveMessageFromKey(key), httpResponseStatus);
 		}else{
-			apiError.addMessage(severity, derivedKey.getKey(), deriveMessage(ex), httpResponseStatus);
+			return errorResponse(severity, derivedKey, deriveMessage(ex), httpResponseStatus);
 		}
-
-		return new ResponseEntity<>(apiError, HttpHeadersUtil.buildHttpHeadersForError(), httpResponseStatus);
 	}
 
 	// 400
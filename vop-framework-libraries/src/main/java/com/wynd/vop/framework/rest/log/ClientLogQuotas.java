@@ -0,0 +1,111 @@
+package com.wynd.vop.framework.rest.log;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-origin token bucket quotas for client log entries.
+ * <p>
+ * Each origin may log up to {@code capacity} entries in a burst, refilled at {@code refillPerSecond}
+ * entries per second. At most {@code maxOrigins} origins get their own bucket; beyond that,
+ * new origins share a single overflow bucket, so the memory used is bounded no matter how many
+ * distinct origins send requests.
+ *
+ * @see LoggingController
+ */
+public final class ClientLogQuotas {
+
+	/** The key of the bucket shared by origins that did not get their own */
+	static final String OVERFLOW_ORIGIN = "*";
+
+	private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+	private final int capacity;
+	private final double refillPerNano;
+	private final int maxOrigins;
+	private final LongSupplier nanoClock;
+
+	/**
+	 * Create quotas.
+	 *
+	 * @param capacity the burst size per origin
+	 * @param refillPerSecond the sustained entries per second per origin
+	 * @param maxOrigins the maximum number of origins with their own bucket
+	 */
+	public ClientLogQuotas(final int capacity, final double refillPerSecond, final int maxOrigins) {
+		this(capacity, refillPerSecond, maxOrigins, System::nanoTime);
+	}
+
+	/**
+	 * Create quotas with the given clock.
+	 *
+	 * @param capacity the burst size per origin
+	 * @param refillPerSecond the sustained entries per second per origin
+	 * @param maxOrigins the maximum number of origins with their own bucket
+	 * @param nanoClock the clock, in nanoseconds
+	 */
+	ClientLogQuotas(final int capacity, final double refillPerSecond, final int maxOrigins, final LongSupplier nanoClock) {
+		if (capacity < 1 || refillPerSecond <= 0 || maxOrigins < 1) {
+			throw new IllegalArgumentException("Invalid client log quota: capacity=" + capacity + ", refillPerSecond="
+					+ refillPerSecond + ", maxOrigins=" + maxOrigins);
+		}
+		this.capacity = capacity;
+		this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+		this.maxOrigins = maxOrigins;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Take one token from the origin's bucket.
+	 *
+	 * @param origin the origin
+	 * @return 0 if a token was taken, otherwise the number of milliseconds until a token is available
+	 */
+	public long tryAcquire(final String origin) {
+		return bucketFor(origin).tryAcquire(nanoClock.getAsLong());
+	}
+
+	private Bucket bucketFor(final String origin) {
+		Bucket bucket = buckets.get(origin);
+		if (bucket != null) {
+			return bucket;
+		}
+		String key = buckets.size() < maxOrigins ? origin : OVERFLOW_ORIGIN;
+		return buckets.computeIfAbsent(key, k -> new Bucket(capacity, nanoClock.getAsLong()));
+	}
+
+	/**
+	 * The number of buckets, including the overflow bucket.
+	 *
+	 * @return the number of buckets
+	 */
+	int buckets() {
+		return buckets.size();
+	}
+
+	/**
+	 * A token bucket, refilled lazily when tokens are taken.
+	 */
+	private final class Bucket {
+		private double tokens;
+		private long refilledAt;
+
+		Bucket(final int tokens, final long now) {
+			this.tokens = tokens;
+			this.refilledAt = now;
+		}
+
+		synchronized long tryAcquire(final long now) {
+			tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+			refilledAt = now;
+			if (tokens >= 1) {
+				tokens -= 1;
+				return 0;
+			}
+			long waitNanos = (long) Math.ceil((1 - tokens) / refillPerNano);
+			return Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+		}
+	}
+}
@@ -1,63 +1,369 @@
 package com.wynd.vop.framework.rest.log;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.wynd.vop.framework.log.VopBaseLogger;
 import com.wynd.vop.framework.log.VopLogger;
 import com.wynd.vop.framework.log.VopLoggerFactory;
+import com.wynd.vop.framework.log.logback.VopMaskRules;
 import com.wynd.vop.framework.rest.log.model.ClientLogEntry;
+import com.wynd.vop.framework.sanitize.Sanitizer;
 import com.wynd.vop.framework.swagger.SwaggerResponseMessages;
-import javax.validation.Valid;
-
-
+import net.logstash.logback.marker.Markers;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.Marker;
 import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
-import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 
-import com.wynd.vop.framework.rest.log.model.ClientLogEntryList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 
 /**
  * Exposes an endpoint to allow client UI applications, specifically those
  * based on the vop-archetype-ui-react project, to persist client-side log messages
- * 
+ * <p>
+ * The request body ({@code {"logs": [ ... ]}}, see {@link com.wynd.vop.framework.rest.log.model.ClientLogEntryList})
+ * is parsed one entry at a time, and each entry is logged as soon as it is read, with its attributes
+ * as structured JSON fields rather than formatted into the message. Requests are limited per origin
+ * (the scheme, host and port of the {@code Referer}) by {@link ClientLogQuotas}:
+ * <ul>
+ * <li>entries beyond {@code vop.framework.rest.log.maxBatchSize} are rejected with 413</li>
+ * <li>entries beyond the origin's quota are rejected with 429 and a {@code Retry-After} header</li>
+ * </ul>
+ * Entries read before a limit was hit are still recorded.
+ * <p>
+ * The structured fields are not seen by the masking message provider, so their values are masked
+ * here with the {@link #setMaskRules(VopMaskRules) mask rules} before they are added to the log event.
+ *
  * @since 4.0.5
  */
 @RestController
 @RequestMapping("/log")
 public class LoggingController implements SwaggerResponseMessages {
 	private static final VopLogger LOGGER = VopLoggerFactory.getLogger(LoggingController.class);
-	private static final String LOG_FORMAT = "{ timestamp: %s, origin: %s, logger: %s, trace_id: %s, span_id: %s, message: %s }";
-	
+
+	/** Default maximum number of entries per request */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+	/** Default burst of entries per origin */
+	public static final int DEFAULT_QUOTA_CAPACITY = 200;
+	/** Default sustained entries per second per origin */
+	public static final double DEFAULT_QUOTA_REFILL_PER_SECOND = 20;
+	/** Default maximum number of origins with their own quota */
+	public static final int DEFAULT_QUOTA_MAX_ORIGINS = 1000;
+
 	private static final String API_OPERATION_VALUE = "Persist an entry in the application logs";
 	private static final String API_OPERATION_NOTES = "Allows a client UI application to persist log messages on the server.";
-	
-	
+
+	private static final String RECORDED = "Log message recorded.";
+	private static final String INVALID_BODY = "Request body must be a JSON object with a \"logs\" array of log entries.";
+	private static final String MESSAGE_REQUIRED = "Log message required";
+	private static final String LEVEL_REQUIRED = "Log severity level required [trace, debug, info, warn, error]";
+	private static final String TIMESTAMP_REQUIRED = "Timestamp of log message required";
+
+	/** Origins longer than this are truncated */
+	private static final int MAX_ORIGIN_LENGTH = 256;
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private final int maxBatchSize;
+	private final ClientLogQuotas quotas;
+	private VopMaskRules maskRules = VopMaskRules.defaultRules();
+
+	/**
+	 * Create the controller with the default limits.
+	 */
+	public LoggingController() {
+		this(DEFAULT_MAX_BATCH_SIZE, DEFAULT_QUOTA_CAPACITY, DEFAULT_QUOTA_REFILL_PER_SECOND, DEFAULT_QUOTA_MAX_ORIGINS);
+	}
+
+	/**
+	 * Create the controller with the configured limits.
+	 *
+	 * @param maxBatchSize the maximum number of entries per request
+	 * @param quotaCapacity the burst of entries per origin
+	 * @param quotaRefillPerSecond the sustained entries per second per origin
+	 * @param quotaMaxOrigins the maximum number of origins with their own quota
+	 */
+	@Autowired
+	public LoggingController(@Value("${vop.framework.rest.log.maxBatchSize:100}") final int maxBatchSize,
+			@Value("${vop.framework.rest.log.quota.capacity:200}") final int quotaCapacity,
+			@Value("${vop.framework.rest.log.quota.refillPerSecond:20}") final double quotaRefillPerSecond,
+			@Value("${vop.framework.rest.log.quota.maxOrigins:1000}") final int quotaMaxOrigins) {
+		this.maxBatchSize = maxBatchSize;
+		this.quotas = new ClientLogQuotas(quotaCapacity, quotaRefillPerSecond, quotaMaxOrigins);
+	}
+
+	/**
+	 * The rules used to mask the structured fields of each entry.
+	 * Defaults to {@link VopMaskRules#defaultRules()}.
+	 *
+	 * @param maskRules the rules, {@code null} for the default rules
+	 */
+	@Autowired(required = false)
+	public void setMaskRules(final VopMaskRules maskRules) {
+		this.maskRules = maskRules == null ? VopMaskRules.defaultRules() : maskRules;
+	}
+
 	@PostMapping(consumes = { MediaType.APPLICATION_JSON_VALUE }, produces = { MediaType.TEXT_PLAIN_VALUE })
 	@ApiOperation(value = API_OPERATION_VALUE,  notes = API_OPERATION_NOTES)
+	@ApiImplicitParams({
+			@ApiImplicitParam(name = "logs", value = "logs", required = true, paramType = "body",
+					dataType = "ClientLogEntryList") })
 	@ApiResponses(value = {
 			@ApiResponse(code = 200, message = MESSAGE_200),
 			@ApiResponse(code = 400, message = MESSAGE_400),
+			@ApiResponse(code = 413, message = MESSAGE_413),
+			@ApiResponse(code = 429, message = MESSAGE_429),
 			@ApiResponse(code = 500, message = MESSAGE_500) })
 	public ResponseEntity<String> recordLogMessages(
-			@RequestHeader(name = "Referer") String origin,
-			@ApiParam(value = "logs") @Valid @RequestBody final ClientLogEntryList logs) {
-		for (ClientLogEntry log : logs.getLogs()) {
-			Level logLevel = Level.valueOf(StringUtils.upperCase(log.getLevel()));
-			String formattedMsg = String.format(LOG_FORMAT, log.getTimestamp(), origin, log.getLogger(),
-					log.getTraceId(), log.getSpanId(), log.getMessage(), log.getStacktrace());
+			@RequestHeader(name = "Referer") final String referer,
+			final InputStream logs) throws IOException {
+		final String origin = originOf(referer);
+		int recorded = 0;
+
+		try (JsonParser parser = JSON_FACTORY.createParser(logs)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return plainText(HttpStatus.BAD_REQUEST, INVALID_BODY);
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				final String field = parser.getCurrentName();
+				if (parser.nextToken() != JsonToken.START_ARRAY || !"logs".equals(field)) {
+					parser.skipChildren();
+					continue;
+				}
+
+				JsonToken token;
+				while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+					if (token != JsonToken.START_OBJECT) {
+						parser.skipChildren();
+						continue;
+					}
+					if (recorded >= maxBatchSize) {
+						return plainText(HttpStatus.PAYLOAD_TOO_LARGE, "Batch exceeds the maximum of " + maxBatchSize
+								+ " log messages. The first " + recorded + " were recorded.");
+					}
+
+					final ClientLogEntry entry = readEntry(parser);
+					final Level level = levelOf(entry.getLevel());
+					final String invalid = validate(entry, level);
+					if (invalid != null) {
+						return plainText(HttpStatus.BAD_REQUEST, invalid);
+					}
+
+					final long retryAfterMillis = quotas.tryAcquire(origin);
+					if (retryAfterMillis > 0) {
+						final long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999));
+						return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+								.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+								.contentType(MediaType.TEXT_PLAIN)
+								.body("Log quota exceeded. " + recorded + " log messages were recorded. Retry after "
+										+ retryAfterSeconds + " seconds.");
+					}
+
+					record(origin, entry, level);
+					recorded++;
+				}
+			}
+		} catch (final JsonProcessingException e) {
+			return plainText(HttpStatus.BAD_REQUEST, INVALID_BODY);
+		}
+
+		return plainText(HttpStatus.OK, RECORDED);
+	}
+
+	/**
+	 * Read the fields of one log entry. The parser must be positioned on the START_OBJECT of the entry.
+	 *
+	 * @param parser the parser
+	 * @return the entry
+	 * @throws IOException if the body cannot be read
+	 */
+	private static ClientLogEntry readEntry(final JsonParser parser) throws IOException {
+		final ClientLogEntry entry = new ClientLogEntry();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			final String field = parser.getCurrentName();
+			final JsonToken token = parser.nextToken();
+			if (token.isStructStart()) {
+				parser.skipChildren();
+				continue;
+			}
+			final String value = token == JsonToken.VALUE_NULL ? null : parser.getText();
+			switch (field) {
+				case "message":
+					entry.setMessage(value);
+					break;
+				case "level":
+					entry.setLevel(value);
+					break;
+				case "timestamp":
+					entry.setTimestamp(value);
+					break;
+				case "logger":
+					entry.setLogger(value);
+					break;
+				case "stacktrace":
+					entry.setStacktrace(value);
+					break;
+				case "traceId":
+					entry.setTraceId(value);
+					break;
+				case "spanId":
+					entry.setSpanId(value);
+					break;
+				default:
+					break;
+			}
+		}
+		return entry;
+	}
 
-			LOGGER.log(logLevel, formattedMsg);
+	/**
+	 * The same constraints as the {@link ClientLogEntry} bean validation annotations.
+	 *
+	 * @param entry the entry
+	 * @param level the parsed level, or {@code null}
+	 * @return the violation message, or {@code null} if the entry is valid
+	 */
+	private static String validate(final ClientLogEntry entry, final Level level) {
+		if (entry.getMessage() == null) {
+			return MESSAGE_REQUIRED;
 		}
-		
-		return ResponseEntity.status(HttpStatus.OK).body("Log message recorded.");
+		if (level == null) {
+			return LEVEL_REQUIRED;
+		}
+		if (entry.getTimestamp() == null) {
+			return TIMESTAMP_REQUIRED;
+		}
+		return null;
+	}
+
+	/**
+	 * Log the entry with its attributes as structured fields. Nothing is formatted into the message.
+	 *
+	 * @param origin the origin
+	 * @param entry the entry
+	 * @param level the level
+	 */
+	private void record(final String origin, final ClientLogEntry entry, final Level level) {
+		final Logger logger = LOGGER.getLoggerInterfaceImpl();
+		if (!isEnabled(logger, level)) {
+			return;
+		}
+
+		final Marker marker = Markers.appendEntries(fieldsOf(origin, entry));
+		final String message = StringUtils.left(Sanitizer.stripXss(entry.getMessage()), VopBaseLogger.MAX_MSG_LENGTH);
+
+		if (Level.ERROR.equals(level)) {
+			logger.error(marker, message);
+		} else if (Level.WARN.equals(level)) {
+			logger.warn(marker, message);
+		} else if (Level.INFO.equals(level)) {
+			logger.info(marker, message);
+		} else if (Level.TRACE.equals(level)) {
+			logger.trace(marker, message);
+		} else {
+			logger.debug(marker, message);
+		}
+	}
+
+	/**
+	 * The attributes of the entry as structured fields, masked with the mask rules.
+	 *
+	 * @param origin the origin
+	 * @param entry the entry
+	 * @return the fields
+	 */
+	Map<String, Object> fieldsOf(final String origin, final ClientLogEntry entry) {
+		final Map<String, Object> fields = new LinkedHashMap<>();
+		putIfNotNull(fields, "client_timestamp", entry.getTimestamp());
+		putIfNotNull(fields, "client_origin", origin);
+		putIfNotNull(fields, "client_logger", entry.getLogger());
+		putIfNotNull(fields, "client_trace_id", entry.getTraceId());
+		putIfNotNull(fields, "client_span_id", entry.getSpanId());
+		if (entry.getStacktrace() != null) {
+			putIfNotNull(fields, "client_stacktrace",
+					StringUtils.left(Sanitizer.stripXss(entry.getStacktrace()), VopBaseLogger.MAX_STACK_TRACE_TEXT_LENGTH));
+		}
+		return fields;
+	}
+
+	private static boolean isEnabled(final Logger logger, final Level level) {
+		if (Level.ERROR.equals(level)) {
+			return logger.isErrorEnabled();
+		} else if (Level.WARN.equals(level)) {
+			return logger.isWarnEnabled();
+		} else if (Level.INFO.equals(level)) {
+			return logger.isInfoEnabled();
+		} else if (Level.TRACE.equals(level)) {
+			return logger.isTraceEnabled();
+		}
+		return logger.isDebugEnabled();
+	}
+
+	private void putIfNotNull(final Map<String, Object> fields, final String name, final String value) {
+		if (value != null) {
+			fields.put(name, maskRules.apply(value));
+		}
+	}
+
+	/**
+	 * Case insensitive level lookup.
+	 *
+	 * @param level the level name
+	 * @return the level, or {@code null} if the name is not a level
+	 */
+	private static Level levelOf(final String level) {
+		if (level != null) {
+			for (final Level value : Level.values()) {
+				if (value.name().equalsIgnoreCase(level)) {
+					return value;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The origin (scheme, host and port) of the referer, or the referer itself if it is not an absolute URI.
+	 *
+	 * @param referer the Referer header
+	 * @return the origin
+	 */
+	static String originOf(final String referer) {
+		try {
+			final URI uri = URI.create(referer);
+			if (uri.getScheme() != null && uri.getHost() != null) {
+				return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() < 0 ? "" : ":" + uri.getPort());
+			}
+		} catch (final IllegalArgumentException e) { // NOSONAR not a URI, use the raw value
+			LOGGER.trace("Referer is not a URI: {}", e.getMessage());
+		}
+		return StringUtils.left(referer, MAX_ORIGIN_LENGTH);
+	}
+
+	private static ResponseEntity<String> plainText(final HttpStatus status, final String body) {
+		return ResponseEntity.status(status).contentType(MediaType.TEXT_PLAIN).body(body);
 	}
 }
@@ -0,0 +1,173 @@
+package com.wynd.vop.framework.rest.log;
+
+import com.wynd.vop.framework.log.VopLogger;
+import com.wynd.vop.framework.log.VopLoggerFactory;
+import com.wynd.vop.framework.log.VopRequestDebug;
+import com.wynd.vop.framework.log.VopRequestDebugTurboFilter;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servlet filter that turns on DEBUG and TRACE logging for a single request, by setting the
+ * {@link VopRequestDebug} flag for the duration of the request.
+ * The flag is acted on by {@link VopRequestDebugTurboFilter}.
+ * <p>
+ * A request is debugged if either:
+ * <ul>
+ * <li>it carries a valid {@value #DEBUG_HEADER} header, signed with the shared secret; or
+ * <li>it is picked at random, at the configured sample rate.
+ * </ul>
+ * The header value is {@code <expiry>.<signature>}, where expiry is in epoch seconds, and the signature is the
+ * unpadded base64url HMAC-SHA256 of the expiry, keyed with the secret (see {@link #sign(String, long)}).
+ * Expired headers, and headers that expire further ahead than the maximum time to live, are ignored.
+ * <p>
+ * Debugged requests have the {@value #MDC_KEY} MDC entry set to {@code header} or {@code sample},
+ * so their events can be found in the log stream.
+ */
+public class VopRequestDebugFilter extends OncePerRequestFilter {
+
+	/** The header that requests debug logging */
+	public static final String DEBUG_HEADER = "X-Vop-Debug";
+	/** The MDC key set on debugged requests */
+	public static final String MDC_KEY = "debugSampled";
+
+	private static final VopLogger LOGGER = VopLoggerFactory.getLogger(VopRequestDebugFilter.class);
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	/** The HMAC key, or null if signed headers are not accepted */
+	private final SecretKeySpec key;
+	/** The fraction of requests that are debugged */
+	private final double sampleRate;
+	/** The latest expiry accepted, relative to now */
+	private final long maxTtlSeconds;
+
+	/**
+	 * Create the filter.
+	 *
+	 * @param secret the shared secret for signed headers; blank to ignore the header
+	 * @param sampleRate the fraction of requests that are debugged, 0 to 1
+	 * @param maxTtlSeconds the latest expiry accepted on a signed header, in seconds from now
+	 */
+	public VopRequestDebugFilter(final String secret, final double sampleRate, final long maxTtlSeconds) {
+		if (sampleRate < 0 || sampleRate > 1 || maxTtlSeconds <= 0) {
+			throw new IllegalArgumentException(
+					"Invalid request debug settings: sampleRate=" + sampleRate + ", maxTtlSeconds=" + maxTtlSeconds);
+		}
+		this.key = StringUtils.isBlank(secret) ? null
+				: new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+		this.sampleRate = sampleRate;
+		this.maxTtlSeconds = maxTtlSeconds;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.springframework.web.filter.OncePerRequestFilter#doFilterInternal(javax.servlet.http.HttpServletRequest,
+	 * javax.servlet.http.HttpServletResponse, javax.servlet.FilterChain)
+	 */
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+			final FilterChain filterChain) throws ServletException, IOException {
+		String reason = debugReason(request);
+		if (reason == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		VopRequestDebug.enable();
+		MDC.put(MDC_KEY, reason);
+		try {
+			LOGGER.debug("Debug logging turned on by {} for {} {}", reason, request.getMethod(), request.getRequestURI());
+			filterChain.doFilter(request, response);
+		} finally {
+			MDC.remove(MDC_KEY);
+			VopRequestDebug.disable();
+		}
+	}
+
+	/**
+	 * Decide whether the request is debugged.
+	 *
+	 * @param request the request
+	 * @return {@code header}, {@code sample}, or null if the request is not debugged
+	 */
+	String debugReason(final HttpServletRequest request) {
+		if (key != null) {
+			String header = request.getHeader(DEBUG_HEADER);
+			if (header != null && isValid(header, TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()))) {
+				return "header";
+			}
+		}
+		if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+			return "sample";
+		}
+		return null;
+	}
+
+	/**
+	 * Verify the expiry and signature of a header value.
+	 *
+	 * @param header the header value
+	 * @param nowSeconds the current time, in epoch seconds
+	 * @return true if the header is valid
+	 */
+	boolean isValid(final String header, final long nowSeconds) {
+		int dot = header.indexOf('.');
+		if (dot <= 0) {
+			return false;
+		}
+		long expiry;
+		try {
+			expiry = Long.parseLong(header.substring(0, dot));
+		} catch (NumberFormatException e) { // NOSONAR rejected below
+			return false;
+		}
+		if (expiry < nowSeconds || expiry - nowSeconds > maxTtlSeconds) {
+			LOGGER.debug("Ignoring expired or too long lived {} header", DEBUG_HEADER);
+			return false;
+		}
+		byte[] expected = signature(key, expiry).getBytes(StandardCharsets.US_ASCII);
+		byte[] actual = header.substring(dot + 1).getBytes(StandardCharsets.US_ASCII);
+		return MessageDigest.isEqual(expected, actual);
+	}
+
+	/**
+	 * Create a {@value #DEBUG_HEADER} header value, e.g. for tooling that requests debug logging.
+	 *
+	 * @param secret the shared secret
+	 * @param expiryEpochSeconds the expiry, in epoch seconds
+	 * @return the header value
+	 */
+	public static String sign(final String secret, final long expiryEpochSeconds) {
+		return expiryEpochSeconds + "."
+				+ signature(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM), expiryEpochSeconds);
+	}
+
+	private static String signature(final SecretKeySpec key, final long expiry) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(key);
+			byte[] hmac = mac.doFinal(Long.toString(expiry).getBytes(StandardCharsets.US_ASCII));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(hmac);
+		} catch (GeneralSecurityException e) {
+			// every JRE supports HmacSHA256
+			throw new IllegalStateException(HMAC_ALGORITHM + " is not available", e);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package com.wynd.vop.framework.rest.log;
+
+import com.wynd.vop.framework.log.VopLogger;
+import com.wynd.vop.framework.log.VopLoggerFactory;
+import com.wynd.vop.framework.log.VopRequestTimings;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Servlet filter that records the {@link VopRequestTimings} of each request, and reports them:
+ * <ul>
+ * <li>as a {@value #SERVER_TIMING_HEADER} response header, if enabled. The header is added just before the response
+ * is committed, so the total is the time until the response body started;
+ * <li>as a single INFO summary line per request, if enabled.
+ * </ul>
+ * The header tells clients where server time was spent, so it should only be enabled where that is acceptable.
+ */
+public class VopServerTimingFilter extends OncePerRequestFilter {
+
+	/** The response header */
+	public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+	private static final VopLogger LOGGER = VopLoggerFactory.getLogger(VopServerTimingFilter.class);
+
+	/** Whether the response header is added */
+	private final boolean header;
+	/** Whether a summary line is logged */
+	private final boolean summaryLog;
+
+	/**
+	 * Create the filter.
+	 *
+	 * @param header whether to add the {@value #SERVER_TIMING_HEADER} response header
+	 * @param summaryLog whether to log a summary line for each request
+	 */
+	public VopServerTimingFilter(final boolean header, final boolean summaryLog) {
+		this.header = header;
+		this.summaryLog = summaryLog;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.springframework.web.filter.OncePerRequestFilter#doFilterInternal(javax.servlet.http.HttpServletRequest,
+	 * javax.servlet.http.HttpServletResponse, javax.servlet.FilterChain)
+	 */
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+			final FilterChain filterChain) throws ServletException, IOException {
+		ServerTimingResponse timedResponse = header ? new ServerTimingResponse(response) : null;
+		VopRequestTimings.start();
+		try {
+			filterChain.doFilter(request, timedResponse == null ? response : timedResponse);
+		} finally {
+			VopRequestTimings.stop();
+			if (timedResponse != null) {
+				timedResponse.addServerTiming();
+			}
+			if (summaryLog && LOGGER.isInfoEnabled()) {
+				LOGGER.info("Request timings {} {} {}: {}", request.getMethod(), request.getRequestURI(),
+						response.getStatus(), VopRequestTimings.summary());
+			}
+		}
+	}
+
+	/**
+	 * Adds the {@value #SERVER_TIMING_HEADER} header once, when the response is about to be committed,
+	 * or at the end of the request if it was not.
+	 */
+	static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+		private boolean added;
+
+		ServerTimingResponse(final HttpServletResponse response) {
+			super(response);
+		}
+
+		void addServerTiming() {
+			if (!added) {
+				added = true;
+				if (!isCommitted()) {
+					setHeader(SERVER_TIMING_HEADER, VopRequestTimings.serverTiming());
+				}
+			}
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			addServerTiming();
+			return super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			addServerTiming();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			addServerTiming();
+			super.flushBuffer();
+		}
+
+		@Override
+		public void sendError(final int sc) throws IOException {
+			addServerTiming();
+			super.sendError(sc);
+		}
+
+		@Override
+		public void sendError(final int sc, final String msg) throws IOException {
+			addServerTiming();
+			super.sendError(sc, msg);
+		}
+
+		@Override
+		public void sendRedirect(final String location) throws IOException {
+			addServerTiming();
+			super.sendRedirect(location);
+		}
+	}
+}
@@ -7,8 +7,14 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.springframework.http.HttpStatus;
 
 import javax.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Message model object used to return messages (errors, warnings, etc) to the service consumer.
@@ -22,6 +28,15 @@ public class Message implements Serializable {
 	 */
 	private static final String[] EQUALS_HASH_EXCLUDE_FIELDS = new String[] { "text" };
 
+	/** The severities, by name */
+	private static final Map<String, MessageSeverity> SEVERITIES = new HashMap<>();
+
+	static {
+		for (final MessageSeverity value : MessageSeverity.values()) {
+			SEVERITIES.put(value.name(), value);
+		}
+	}
+
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
 	private Date timestamp; // NOSONAR cannot be final
 
@@ -33,6 +48,12 @@ public class Message implements Serializable {
 	@NotNull
 	private String severity;
 
+	/** The severity enum of the severity name, {@code null} if the name is not a severity. */
+	private transient MessageSeverity messageSeverity;
+
+	/** The message lists that hold the message, notified when its severity changes. */
+	private transient List<ProviderResponse.Messages> owners;
+
 	/** The Http status. */
 	private Integer status;
 
@@ -63,6 +84,7 @@ public class Message implements Serializable {
 	public Message(final String severity, final String key, final String text, final Integer httpStatus) {
 		this();
 		this.severity = severity;
+		this.messageSeverity = SEVERITIES.get(severity);
 		this.key = key;
 		this.text = text;
 		this.status = httpStatus;
@@ -158,6 +180,49 @@ public class Message implements Serializable {
 	 */
 	public final void setSeverity(final String severity) {
 		this.severity = severity;
+		this.messageSeverity = SEVERITIES.get(severity);
+		if (owners != null) {
+			for (final ProviderResponse.Messages owner : owners) {
+				owner.messageChanged();
+			}
+		}
+	}
+
+	/**
+	 * The severity as a {@link MessageSeverity}.
+	 *
+	 * @return the severity, or {@code null} if the severity is not the name of a {@link MessageSeverity}
+	 */
+	final MessageSeverity messageSeverity() {
+		return messageSeverity;
+	}
+
+	/**
+	 * Notify the list of changes to the severity, until it is {@link #removeOwner(ProviderResponse.Messages) removed}.
+	 *
+	 * @param owner the list the message was added to
+	 */
+	final void addOwner(final ProviderResponse.Messages owner) {
+		if (owners == null) {
+			owners = new ArrayList<>(1);
+		}
+		for (final ProviderResponse.Messages added : owners) {
+			if (added == owner) {
+				return;
+			}
+		}
+		owners.add(owner);
+	}
+
+	/**
+	 * Stop notifying the list of changes to the severity.
+	 *
+	 * @param owner the list the message was removed from
+	 */
+	final void removeOwner(final ProviderResponse.Messages owner) {
+		if (owners != null) {
+			owners.removeIf(added -> added == owner);
+		}
 	}
 
 	/**
@@ -207,6 +272,18 @@ public class Message implements Serializable {
 		return HashCodeBuilder.reflectionHashCode(this, EQUALS_HASH_EXCLUDE_FIELDS);
 	}
 
+	/**
+	 * Read the message, and look up its severity.
+	 *
+	 * @param in the stream
+	 * @throws IOException if the stream cannot be read
+	 * @throws ClassNotFoundException if a class is not found
+	 */
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		messageSeverity = SEVERITIES.get(severity);
+	}
+
 	/**
 	 * Returns a String that shows the full content of the Message.
 	 */
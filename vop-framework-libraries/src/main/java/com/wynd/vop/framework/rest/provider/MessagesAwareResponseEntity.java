@@ -5,7 +5,7 @@ import org.springframework.http.ResponseEntity;
 
 public class MessagesAwareResponseEntity<T extends ProviderResponse> extends ResponseEntity<T> {
     public MessagesAwareResponseEntity(T body, HttpStatus successStatus) {
-        super(body, body.getMessages().stream()
+        super(body, body.getMessagesIfAny().stream()
                 .filter(message -> !message.getHttpStatus().is2xxSuccessful())
                 .findAny()
                 .map(Message::getHttpStatus)
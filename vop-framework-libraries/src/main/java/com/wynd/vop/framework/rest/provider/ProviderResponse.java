@@ -2,11 +2,15 @@ package com.wynd.vop.framework.rest.provider;
 
 import com.wynd.vop.framework.messages.MessageSeverity;
 import com.wynd.vop.framework.transfer.AbstractResponseObject;
+import com.wynd.vop.framework.transfer.MessageList;
 import com.wynd.vop.framework.transfer.ProviderTransferObjectMarker;
 import org.springframework.http.HttpStatus;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -18,7 +22,7 @@ import java.util.List;
 public class ProviderResponse extends AbstractResponseObject implements ProviderTransferObjectMarker, Serializable {
 	private static final long serialVersionUID = -7175439119647120860L;
 
-	/** The messages. */
+	/** The messages, a {@link Messages} list once created. */
 	private List<Message> messages;
 
 	/**
@@ -40,15 +44,12 @@ public class ProviderResponse extends AbstractResponseObject implements Provider
 	 */
 	public final void addMessage(final MessageSeverity severity, final String key, final String text,
 			final HttpStatus httpStatus) {
-		if (messages == null) {
-			messages = new LinkedList<>();
-		}
 		final Message message = new Message();
 		message.setSeverity(severity == null ? null : severity.name());
 		message.setKey(key);
 		message.setText(text);
 		message.setStatus(httpStatus == null ? null : httpStatus.value());
-		messages.add(message);
+		getMessages().add(message);
 	}
 
 	/**
@@ -57,48 +58,169 @@ public class ProviderResponse extends AbstractResponseObject implements Provider
 	 * @param messages the messages
 	 */
 	public final void addMessages(final List<Message> messages) {
-		if (this.messages == null) {
-			this.messages = new LinkedList<>();
-		}
-		this.messages.addAll(messages);
+		getMessages().addAll(messages);
 	}
 
 	/**
 	 * Gets the messages.
+	 * The list is created on the first call, and its array on the first message.
 	 *
 	 * @return the messages
 	 */
 	public final List<Message> getMessages() {
 		if (messages == null) {
-			messages = new LinkedList<>();
+			messages = new Messages();
 		}
 		return this.messages;
 	}
 
 	/**
-	 * Sets the messages by replacing any existing messages.
+	 * The messages, or a shared empty list if there are none, without creating the list.
+	 *
+	 * @return the messages, read-only
+	 */
+	final List<Message> getMessagesIfAny() {
+		return messages == null ? Collections.<Message> emptyList() : messages;
+	}
+
+	/**
+	 * Sets the messages by replacing any existing messages with a copy of the new messages.
 	 *
 	 * @param messages the new messages
 	 */
 	public final void setMessages(final List<Message> messages) {
-		this.messages = messages;
+		this.messages = messages == null ? null : new Messages(messages);
 	}
 
 	/**
-	 * Checks for messages of type.
+	 * Checks for messages of type, without creating the list.
 	 *
 	 * @param severity the severity
 	 * @return true, if successful
 	 */
 	@Override
 	protected boolean hasMessagesOfType(final MessageSeverity severity) {
-		for (final Message message : getMessages()) {
-			if (severity.name().equals(message.getSeverity())) {
-				return true;
+		if (messages instanceof Messages) {
+			return ((Messages) messages).hasSeverity(severity);
+		}
+		if (messages != null) {
+			for (final Message message : messages) {
+				if ((message != null) && (message.messageSeverity() == severity)) {
+					return true;
+				}
 			}
 		}
 		return false;
 	}
 
+	/**
+	 * Read the response, and copy messages serialized in another list type.
+	 *
+	 * @param in the stream
+	 * @throws IOException if the stream cannot be read
+	 * @throws ClassNotFoundException if a class is not found
+	 */
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		if ((messages != null) && !(messages instanceof Messages)) {
+			messages = new Messages(messages);
+		}
+	}
+
+	/**
+	 * The list of {@link Message}s. A message can change its severity with {@link Message#setSeverity(String)}
+	 * once it is added, so each message notifies the lists that hold it, and they recompute their severities.
+	 */
+	static final class Messages extends MessageList<Message> {
+		private static final long serialVersionUID = 2710586361432245157L;
+
+		Messages() {
+			super();
+		}
+
+		Messages(final Collection<Message> messages) {
+			super(messages);
+		}
+
+		@Override
+		protected MessageSeverity severityOf(final Message message) {
+			return message == null ? null : message.messageSeverity();
+		}
+
+		@Override
+		public void add(final int index, final Message message) {
+			super.add(index, message);
+			if (message != null) {
+				message.addOwner(this);
+			}
+		}
+
+		@Override
+		public Message set(final int index, final Message message) {
+			final Message old = super.set(index, message);
+			if (message != null) {
+				message.addOwner(this);
+			}
+			release(old);
+			return old;
+		}
+
+		@Override
+		public Message remove(final int index) {
+			final Message old = super.remove(index);
+			release(old);
+			return old;
+		}
+
+		@Override
+		public void clear() {
+			final Object[] removed = toArray();
+			super.clear();
+			for (final Object message : removed) {
+				release((Message) message);
+			}
+		}
+
+		/**
+		 * Called by a message of the list when its severity has changed.
+		 */
+		void messageChanged() {
+			severityChanged();
+		}
+
+		/**
+		 * Stop the notifications of a message that was removed, unless the list still holds it.
+		 *
+		 * @param message the removed message, may be {@code null}
+		 */
+		private void release(final Message message) {
+			if (message == null) {
+				return;
+			}
+			for (int i = 0; i < size(); i++) {
+				if (get(i) == message) {
+					return;
+				}
+			}
+			message.removeOwner(this);
+		}
+
+		/**
+		 * Read the messages, and have them notify the list.
+		 *
+		 * @param in the stream
+		 * @throws IOException if the stream cannot be read
+		 * @throws ClassNotFoundException if a class is not found
+		 */
+		private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+			in.defaultReadObject();
+			for (int i = 0; i < size(); i++) {
+				final Message message = get(i);
+				if (message != null) {
+					message.addOwner(this);
+				}
+			}
+		}
+	}
 
 }
\ No newline at end of file
@@ -0,0 +1,300 @@
+package com.wynd.vop.framework.rest.provider;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.wynd.vop.framework.log.VopLogger;
+import com.wynd.vop.framework.log.VopLoggerFactory;
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A provider response for large result sets, whose items are written to the consumer one by one as they are read
+ * from an {@link Iterator} or a {@link Stream}, so the result set is never held in memory.
+ * <p>
+ * The response is written as <tt>{"items":[...],"messages":[...]}</tt>. The messages are written after the items,
+ * so messages added while the items are read, e.g. if reading fails, are sent to the consumer. The items can only
+ * be read, and so the response written, once.
+ * <p>
+ * Return it from a REST controller as {@code ResponseEntity<StreamingProviderResponse<T>>}, e.g. with
+ * {@link #toResponseEntity()}, so Spring MVC writes it asynchronously as a {@link StreamingResponseBody}. Any other
+ * Jackson serialization of the response also writes the items one by one. The audit of the response only records
+ * the first items, up to {@link #getAuditHeadSize()}, and the number of items.
+ * <p>
+ * {@link #writeTo(OutputStream)} writes with the mapper of the response, set by the
+ * {@link StreamingProviderResponseWriter} bean for the responses of REST providers, or a plain mapper.
+ *
+ * @param <T> the item type
+ */
+public class StreamingProviderResponse<T> extends ProviderResponse implements StreamingResponseBody, JsonSerializable {
+	private static final long serialVersionUID = 4530839470135917232L;
+
+	/** Class logger */
+	private static final VopLogger LOGGER = VopLoggerFactory.getLogger(StreamingProviderResponse.class);
+
+	/** The name of the items field */
+	public static final String ITEMS_FIELD = "items";
+
+	/** The name of the messages field */
+	public static final String MESSAGES_FIELD = "messages";
+
+	/** Default number of items recorded by the audit */
+	public static final int DEFAULT_AUDIT_HEAD_SIZE = 10;
+
+	/** The mapper of the responses that have none */
+	private static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper();
+
+	/** The items to write */
+	private final transient Iterator<T> items;
+
+	/** The stream of the items, closed once the items are written; null if the items are not a stream */
+	private final transient Stream<T> stream;
+
+	/** The mapper of this response; a plain mapper if null */
+	private transient ObjectMapper objectMapper;
+
+	/** Number of items recorded by the audit */
+	private int auditHeadSize = DEFAULT_AUDIT_HEAD_SIZE;
+
+	/** Called with the summary of the response once it is written */
+	private transient Consumer<Summary<T>> completionListener;
+
+	/**
+	 * A response with the items of an iterator.
+	 *
+	 * @param items the items
+	 */
+	public StreamingProviderResponse(final Iterator<T> items) {
+		this(items, null);
+	}
+
+	/**
+	 * A response with the items of a stream. The stream is closed once its items are written.
+	 *
+	 * @param items the items
+	 */
+	public StreamingProviderResponse(final Stream<T> items) {
+		this(items.iterator(), items);
+	}
+
+	/**
+	 * A response with items.
+	 *
+	 * @param items the items
+	 * @param stream the stream of the items, or {@code null}
+	 */
+	private StreamingProviderResponse(final Iterator<T> items, final Stream<T> stream) {
+		super();
+		this.items = Objects.requireNonNull(items, "items");
+		this.stream = stream;
+	}
+
+	/**
+	 * The mapper of this response.
+	 *
+	 * @return the mapper, or {@code null} if the response is written with a plain mapper
+	 */
+	public ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+
+	/**
+	 * Set the mapper of this response.
+	 *
+	 * @param objectMapper the mapper, or {@code null} for a plain mapper
+	 */
+	public void setObjectMapper(final ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Number of items recorded by the audit.
+	 *
+	 * @return the number of items
+	 */
+	public int getAuditHeadSize() {
+		return auditHeadSize;
+	}
+
+	/**
+	 * Set the number of items recorded by the audit.
+	 *
+	 * @param auditHeadSize the number of items
+	 */
+	public void setAuditHeadSize(final int auditHeadSize) {
+		this.auditHeadSize = Math.max(0, auditHeadSize);
+	}
+
+	/**
+	 * Set the listener called with the summary of the response once it is written, e.g. to audit it.
+	 *
+	 * @param completionListener the listener, or {@code null}
+	 */
+	public void setCompletionListener(final Consumer<Summary<T>> completionListener) {
+		this.completionListener = completionListener;
+	}
+
+	/**
+	 * A 200 response entity with a JSON content type, as needed for Spring MVC to write this response.
+	 *
+	 * @return the response entity
+	 */
+	public ResponseEntity<StreamingProviderResponse<T>> toResponseEntity() {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(this);
+	}
+
+	/**
+	 * Write the response with the mapper of this response, or a plain mapper.
+	 *
+	 * @param outputStream the stream of the response body, not closed
+	 * @throws IOException if the response cannot be written
+	 */
+	@Override
+	public void writeTo(final OutputStream outputStream) throws IOException {
+		ObjectMapper mapper = objectMapper == null ? DEFAULT_OBJECT_MAPPER : objectMapper;
+		try (JsonGenerator generator = mapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			// the generator buffer is written through as it fills, there is no need to flush each value
+			mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE).writeValue(generator, this);
+		}
+	}
+
+	/**
+	 * Write the items, then the messages.
+	 * <p>
+	 * If reading an item fails, the items written so far are kept and an error message is added to the messages.
+	 *
+	 * @param generator the generator
+	 * @param serializers the serializers of the items and messages
+	 * @throws IOException if the response cannot be written
+	 */
+	@Override
+	public void serialize(final JsonGenerator generator, final SerializerProvider serializers) throws IOException {
+		List<T> head = new ArrayList<>(Math.min(auditHeadSize, DEFAULT_AUDIT_HEAD_SIZE));
+		long count = 0;
+		try {
+			generator.writeStartObject();
+			generator.writeArrayFieldStart(ITEMS_FIELD);
+			while (true) {
+				T item;
+				try {
+					if (!items.hasNext()) {
+						break;
+					}
+					item = items.next();
+				} catch (RuntimeException e) {
+					LOGGER.error("Reading the items of " + getClass().getSimpleName() + " failed after " + count + " items", e);
+					MessageKeys key = MessageKeys.VOP_GLOBAL_GENERAL_EXCEPTION;
+					addMessage(MessageSeverity.FATAL, key.getKey(),
+							key.getMessage(e.getClass().getSimpleName(), e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
+					break;
+				}
+				serializers.defaultSerializeValue(item, generator);
+				if (head.size() < auditHeadSize) {
+					head.add(item);
+				}
+				count++;
+			}
+			generator.writeEndArray();
+			generator.writeFieldName(MESSAGES_FIELD);
+			serializers.defaultSerializeValue(getMessagesIfAny(), generator);
+			generator.writeEndObject();
+		} finally {
+			if (stream != null) {
+				stream.close();
+			}
+			if (completionListener != null) {
+				completionListener.accept(new Summary<>(Collections.unmodifiableList(head), count, getMessagesIfAny()));
+			}
+		}
+	}
+
+	/**
+	 * Write the response without type information, as its type is not read back.
+	 *
+	 * @param generator the generator
+	 * @param serializers the serializers of the items and messages
+	 * @param typeSerializer the type serializer, not used
+	 * @throws IOException if the response cannot be written
+	 */
+	@Override
+	public void serializeWithType(final JsonGenerator generator, final SerializerProvider serializers,
+			final TypeSerializer typeSerializer) throws IOException {
+		serialize(generator, serializers);
+	}
+
+	/**
+	 * What was written to the consumer: the first items, the number of items and the messages.
+	 *
+	 * @param <T> the item type
+	 */
+	public static final class Summary<T> {
+
+		/** The first items */
+		private final List<T> head;
+
+		/** The number of items */
+		private final long itemCount;
+
+		/** The messages */
+		private final List<Message> messages;
+
+		/**
+		 * The summary of a response.
+		 *
+		 * @param head the first items
+		 * @param itemCount the number of items
+		 * @param messages the messages
+		 */
+		Summary(final List<T> head, final long itemCount, final List<Message> messages) {
+			this.head = head;
+			this.itemCount = itemCount;
+			this.messages = messages;
+		}
+
+		/**
+		 * The first items, up to the audit head size.
+		 *
+		 * @return the items
+		 */
+		public List<T> getHead() {
+			return head;
+		}
+
+		/**
+		 * The number of items written.
+		 *
+		 * @return the number of items
+		 */
+		public long getItemCount() {
+			return itemCount;
+		}
+
+		/**
+		 * The messages written after the items.
+		 *
+		 * @return the messages
+		 */
+		public List<Message> getMessages() {
+			return messages;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.wynd.vop.framework.rest.provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Objects;
+
+/**
+ * Sets the application {@link ObjectMapper} on the {@link StreamingProviderResponse}s returned by REST providers,
+ * so their items are written with the same mapper as the other responses.
+ * <p>
+ * Responses that already have a mapper keep it. Responses that are never prepared are written with a plain
+ * {@link ObjectMapper}.
+ */
+public class StreamingProviderResponseWriter {
+
+	/** The mapper the responses are written with */
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * A writer of responses with a mapper.
+	 *
+	 * @param objectMapper the mapper, e.g. the mapper of the HTTP message converters
+	 */
+	public StreamingProviderResponseWriter(final ObjectMapper objectMapper) {
+		this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+	}
+
+	/**
+	 * The mapper the responses are written with.
+	 *
+	 * @return the mapper
+	 */
+	public ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+
+	/**
+	 * Set the mapper on a response, unless it already has one.
+	 *
+	 * @param response the response
+	 */
+	public void prepare(final StreamingProviderResponse<?> response) {
+		if (response.getObjectMapper() == null) {
+			response.setObjectMapper(objectMapper);
+		}
+	}
+}
@@ -37,16 +37,35 @@ public class BaseHttpProviderPointcuts extends AuditHttpRequestResponse {
 	 * <li>that are public in scope
 	 * <li>where the method returns {@code com.wynd.vop.framework.transfer.ProviderTransferObjectMarker+} or
 	 * {@code org.springframework.http.ResponseEntity<com.wynd.vop.framework.transfer.ProviderTransferObjectMarker+>}
+	 * <li>or is a streaming response operation (see the {@link #publicStreamingResponseRestMethod()} pointcut)
 	 * </ol>
 	 */
 	@Pointcut("restController() && ("
 			+ "execution(public org.springframework.http.ResponseEntity<com.wynd.vop.framework.transfer.ProviderTransferObjectMarker+> *(..))"
 			+ " || execution(public com.wynd.vop.framework.transfer.ProviderTransferObjectMarker+ *(..))"
-			+ ")")
+			+ ") || publicStreamingResponseRestMethod()")
 	protected static final void publicServiceResponseRestMethod() {
 		// Do nothing.
 	}
 
+	/**
+	 * This point cut selects REST endpoint operations that stream their response to external consumers.
+	 * Those are operations that...
+	 * <ol>
+	 * <li>are in a rest controller class (see the {@link #restController()} pointcut)
+	 * <li>that are public in scope
+	 * <li>where the method returns {@code com.wynd.vop.framework.rest.provider.StreamingProviderResponse+} or
+	 * {@code org.springframework.http.ResponseEntity<com.wynd.vop.framework.rest.provider.StreamingProviderResponse+>}
+	 * </ol>
+	 */
+	@Pointcut("restController() && ("
+			+ "execution(public org.springframework.http.ResponseEntity<com.wynd.vop.framework.rest.provider.StreamingProviderResponse+> *(..))"
+			+ " || execution(public com.wynd.vop.framework.rest.provider.StreamingProviderResponse+ *(..))"
+			+ ")")
+	protected static final void publicStreamingResponseRestMethod() {
+		// Do nothing.
+	}
+
 	/**
 	 * This point cut selects REST endpoint operations that are of interest to external consumers. Those are operations that...
 	 * <ol>
@@ -2,13 +2,16 @@ package com.wynd.vop.framework.rest.provider.aspect;
 
 import com.wynd.vop.framework.audit.AuditEventData;
 import com.wynd.vop.framework.audit.AuditEvents;
+import com.wynd.vop.framework.exception.ExceptionTranslator;
 import com.wynd.vop.framework.exception.VopExceptionExtender;
 import com.wynd.vop.framework.log.VopLogger;
 import com.wynd.vop.framework.log.VopLoggerFactory;
 import com.wynd.vop.framework.messages.MessageKeys;
 import com.wynd.vop.framework.messages.MessageSeverity;
 import com.wynd.vop.framework.rest.provider.ProviderResponse;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import com.wynd.vop.framework.rest.provider.StreamingProviderResponse;
+import com.wynd.vop.framework.rest.provider.StreamingProviderResponseWriter;
+import com.wynd.vop.framework.util.ObjectRenderer;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.AfterThrowing;
@@ -18,6 +21,8 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -58,6 +63,19 @@ public class ProviderHttpAspect extends BaseHttpProviderPointcuts {
 	/** Attempting to write the response to the audit logs */
 	private static final String ATTEMPTING_WRITE_RESPONSE = "writeResponseAudit";
 
+	/** Sets the application mapper on streaming responses; none if null */
+	private StreamingProviderResponseWriter streamingResponseWriter;
+
+	/**
+	 * Set the writer that sets the application mapper on the streaming responses.
+	 * If not set, streaming responses are written with a plain mapper.
+	 *
+	 * @param streamingResponseWriter the writer, may be {@code null}
+	 */
+	public void setStreamingResponseWriter(final StreamingProviderResponseWriter streamingResponseWriter) {
+		this.streamingResponseWriter = streamingResponseWriter;
+	}
+
 	/**
 	 * Perform audit logging on the request, before the operation is executed.
 	 *
@@ -65,7 +83,7 @@ public class ProviderHttpAspect extends BaseHttpProviderPointcuts {
 	 */
 	@Before("!auditableAnnotation() && (publicServiceResponseRestMethod() || publicResourceDownloadRestMethod())")
 	public void beforeAuditAdvice(final JoinPoint joinPoint) {
-		LOGGER.debug(BEFORE_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
+		LOGGER.debug(() -> BEFORE_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
 
 		List<Object> requestArgs = null;
 		AuditEventData auditEventData = null;
@@ -106,13 +124,9 @@ public class ProviderHttpAspect extends BaseHttpProviderPointcuts {
 	 */
 	@AfterReturning(pointcut = "!auditableAnnotation() && (publicServiceResponseRestMethod() || publicResourceDownloadRestMethod())", returning = "responseToConsumer")
 	public void afterreturningAuditAdvice(final JoinPoint joinPoint, final Object responseToConsumer) {
-		LOGGER.debug(AFTER_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
-		if (responseToConsumer != null) {
-			LOGGER.debug(
-					AFTER_ADVICE + " responseToConsumer: " + ReflectionToStringBuilder.toString(responseToConsumer, null, true, true));
-		} else {
-			LOGGER.debug(AFTER_ADVICE + " responseToConsumer: null");
-		}
+		LOGGER.debug(() -> AFTER_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
+		LOGGER.debug(AFTER_ADVICE + " responseToConsumer: {}", () -> responseToConsumer == null ? "null"
+				: ObjectRenderer.toString(responseToConsumer));
 
 		AuditEventData auditEventData = null;
 		ProviderResponse providerResponse = null;
@@ -132,11 +146,21 @@ public class ProviderHttpAspect extends BaseHttpProviderPointcuts {
 				}
 			}
 
+			if ((providerResponse instanceof StreamingProviderResponse) && (streamingResponseWriter != null)) {
+				streamingResponseWriter.prepare((StreamingProviderResponse<?>) providerResponse);
+			}
+
 			Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
 
 			auditEventData = new AuditEventData(AuditEvents.API_REST_RESPONSE, method.getName(),
 					method.getDeclaringClass().getName());
 
+			if (providerResponse instanceof StreamingProviderResponse) {
+				// the items are not read yet, audit what is written to the consumer
+				auditWhenWritten((StreamingProviderResponse<?>) providerResponse, auditEventData);
+				return;
+			}
+
 			super.auditServletResponse().writeHttpResponseAuditLog(
 					providerResponse == null ? responseToConsumer : providerResponse, auditEventData,
 							MessageSeverity.INFO, null);
@@ -149,6 +173,29 @@ public class ProviderHttpAspect extends BaseHttpProviderPointcuts {
 		}
 	}
 
+	/**
+	 * Audit the summary of a streaming response, with its first items and its number of items, once it has been
+	 * written to the consumer, possibly on another thread.
+	 *
+	 * @param <T> the item type
+	 * @param response the streaming response
+	 * @param auditEventData the audit event of the response
+	 */
+	private <T> void auditWhenWritten(final StreamingProviderResponse<T> response, final AuditEventData auditEventData) {
+		final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		response.setCompletionListener(summary -> {
+			RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+			RequestContextHolder.setRequestAttributes(requestAttributes);
+			try {
+				auditServletResponse().writeHttpResponseAuditLog(summary, auditEventData, MessageSeverity.INFO, null);
+			} catch (Throwable throwable) { // NOSONAR intentionally catching throwable
+				handleInternalException(AFTER_ADVICE, ATTEMPTING_WRITE_RESPONSE, auditEventData, throwable);
+			} finally {
+				RequestContextHolder.setRequestAttributes(previous);
+			}
+		});
+	}
+
 	/**
 	 * Perform audit logging after application has thrown an exception. Any
 	 * exceptions thrown back to the endpoint operation will be intercepted by
@@ -161,22 +208,23 @@ public class ProviderHttpAspect extends BaseHttpProviderPointcuts {
 	 */
 	@AfterThrowing(pointcut = "!auditableAnnotation() && (publicServiceResponseRestMethod() || publicResourceDownloadRestMethod())", throwing = "throwable")
 	public ResponseEntity<ProviderResponse> afterThrowingAdvice(final JoinPoint joinPoint, final Throwable throwable) {
-		LOGGER.debug(AFTER_THROWING_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
-		LOGGER.debug(AFTER_THROWING_ADVICE + " throwable: {}" + throwable);
+		LOGGER.debug(() -> AFTER_THROWING_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
+		LOGGER.debug(AFTER_THROWING_ADVICE + " throwable: {}", () -> String.valueOf(throwable));
 
 		AuditEventData auditEventData = null;
 		ResponseEntity<ProviderResponse> providerResponse = null;
 
 		try {
 			ProviderResponse response = new ProviderResponse();
-			if (VopExceptionExtender.class.isAssignableFrom(throwable.getClass())) {
+			ExceptionTranslator translator = ExceptionTranslator.of(throwable);
+			if (translator.isVopException()) {
 				VopExceptionExtender vopee = (VopExceptionExtender) throwable;
 				response.addMessage(MessageSeverity.ERROR, vopee.getExceptionData().getKey(), throwable.getMessage(),
 						vopee.getExceptionData().getStatus());
 			} else {
 				MessageKeys key = MessageKeys.VOP_GLOBAL_GENERAL_EXCEPTION;
 				response.addMessage(MessageSeverity.ERROR, key.getKey(),
-						key.getMessage(throwable.getClass().getSimpleName(), throwable.getMessage()),
+						key.getMessage(translator.getSimpleName(), throwable.getMessage()),
 						HttpStatus.BAD_REQUEST);
 			}
 
@@ -7,10 +7,13 @@ import com.wynd.vop.framework.messages.MessageSeverity;
 import com.wynd.vop.framework.messages.ServiceMessage;
 import com.wynd.vop.framework.transfer.AbstractResponseObject;
 import com.wynd.vop.framework.transfer.DomainTransferObjectMarker;
+import com.wynd.vop.framework.transfer.MessageList;
 import org.springframework.http.HttpStatus;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,7 +22,7 @@ import java.util.List;
 public class DomainResponse extends AbstractResponseObject implements DomainTransferObjectMarker, Serializable {
 	private static final long serialVersionUID = -3937937807439785385L;
 
-	/** The serviceMessages. */
+	/** The serviceMessages, a {@link ServiceMessages} list once created. */
 	private List<ServiceMessage> serviceMessages;
 
 	/** Whether the response should be cached or not */
@@ -47,10 +50,7 @@ public class DomainResponse extends AbstractResponseObject implements DomainTran
 	 */
 	public final void addMessage(final MessageSeverity severity, final HttpStatus httpStatus, final MessageKey key,
 			final String... params) {
-		if (serviceMessages == null) {
-			serviceMessages = new LinkedList<>();
-		}
-		serviceMessages.add(new ServiceMessage(severity, httpStatus, key, params));
+		getMessages().add(new ServiceMessage(severity, httpStatus, key, params));
 	}
 
 	/**
@@ -69,10 +69,7 @@ public class DomainResponse extends AbstractResponseObject implements DomainTran
 	 */
 	public final void addMessage(final MessageSeverity severity, final HttpStatus httpStatus, final ConstraintParam[] constraintParams,
 			final MessageKey key, final String... params) {
-		if (serviceMessages == null) {
-			serviceMessages = new LinkedList<>();
-		}
-		serviceMessages.add(new ServiceMessage(severity, httpStatus, constraintParams, key, params));
+		getMessages().add(new ServiceMessage(severity, httpStatus, constraintParams, key, params));
 	}
 
 	/**
@@ -81,35 +78,38 @@ public class DomainResponse extends AbstractResponseObject implements DomainTran
 	 * @param newMessages the newMessages
 	 */
 	public final void addMessages(final List<ServiceMessage> newMessages) {
-		if (serviceMessages == null) {
-			serviceMessages = new LinkedList<>();
-		}
-		serviceMessages.addAll(newMessages);
+		getMessages().addAll(newMessages);
 	}
 
 	/**
 	 * Gets the list of ServiceMessages.
+	 * The list is created on the first call, and its array on the first message.
 	 *
 	 * @return the serviceMessages
 	 */
 	public final List<ServiceMessage> getMessages() {
 		if (serviceMessages == null) {
-			serviceMessages = new LinkedList<>();
+			serviceMessages = new ServiceMessages();
 		}
 		return this.serviceMessages;
 	}
 
 	/**
-	 * Checks for serviceMessages of severity type.
+	 * Checks for serviceMessages of severity type, without creating the list.
 	 *
 	 * @param severity the severity
 	 * @return true, if successful
 	 */
 	@Override
 	protected boolean hasMessagesOfType(final MessageSeverity severity) {
-		for (final ServiceMessage serviceMessage : getMessages()) {
-			if (severity.equals(serviceMessage.getSeverity())) {
-				return true;
+		if (serviceMessages instanceof ServiceMessages) {
+			return ((ServiceMessages) serviceMessages).hasSeverity(severity);
+		}
+		if (serviceMessages != null) {
+			for (final ServiceMessage serviceMessage : serviceMessages) {
+				if ((serviceMessage != null) && severity.equals(serviceMessage.getSeverity())) {
+					return true;
+				}
 			}
 		}
 		return false;
@@ -133,4 +133,38 @@ public class DomainResponse extends AbstractResponseObject implements DomainTran
 		this.doNotCacheResponse = doNotCacheResponse;
 	}
 
+	/**
+	 * Read the response, and copy serviceMessages serialized in another list type.
+	 *
+	 * @param in the stream
+	 * @throws IOException if the stream cannot be read
+	 * @throws ClassNotFoundException if a class is not found
+	 */
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		if ((serviceMessages != null) && !(serviceMessages instanceof ServiceMessages)) {
+			serviceMessages = new ServiceMessages(serviceMessages);
+		}
+	}
+
+	/**
+	 * The list of {@link ServiceMessage}s. A service message cannot change its severity, so the bitmask is kept.
+	 */
+	private static final class ServiceMessages extends MessageList<ServiceMessage> {
+		private static final long serialVersionUID = -1785170245431569284L;
+
+		ServiceMessages() {
+			super();
+		}
+
+		ServiceMessages(final Collection<ServiceMessage> messages) {
+			super(messages);
+		}
+
+		@Override
+		protected MessageSeverity severityOf(final ServiceMessage message) {
+			return message == null ? null : message.getSeverity();
+		}
+	}
+
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.wynd.vop.framework.service.aspect;
 
 import com.wynd.vop.framework.aspect.PerformanceLoggingAspect;
+import com.wynd.vop.framework.log.VopRequestTimings;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -12,8 +13,13 @@ public class ServiceTimerAspect extends BaseServiceAspect {
 
 	@Around("publicStandardServiceMethod() && !restController()")
 	public Object aroundAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
-		// thrown exceptions are handled in the PerformanceLoggingAspect
-		return PerformanceLoggingAspect.aroundAdvice(joinPoint);
+		final long startTime = System.nanoTime();
+		try {
+			// thrown exceptions are handled in the PerformanceLoggingAspect
+			return PerformanceLoggingAspect.aroundAdvice(joinPoint);
+		} finally {
+			VopRequestTimings.record(VopRequestTimings.Span.SERVICE, startTime);
+		}
 	}
 
 }
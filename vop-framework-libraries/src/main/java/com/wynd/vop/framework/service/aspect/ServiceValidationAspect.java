@@ -1,26 +1,43 @@
 package com.wynd.vop.framework.service.aspect;
 
 import com.wynd.vop.framework.exception.VopRuntimeException;
+import com.wynd.vop.framework.exception.interceptor.ExceptionHandlingUtils;
+import com.wynd.vop.framework.jfr.ValidationEvent;
+import com.wynd.vop.framework.jfr.VopJfr;
 import com.wynd.vop.framework.log.VopLogger;
 import com.wynd.vop.framework.log.VopLoggerFactory;
+import com.wynd.vop.framework.log.VopRequestTimings;
 import com.wynd.vop.framework.messages.MessageKeys;
 import com.wynd.vop.framework.messages.MessageSeverity;
 import com.wynd.vop.framework.messages.ServiceMessage;
 import com.wynd.vop.framework.service.DomainResponse;
 import com.wynd.vop.framework.validation.AbstractStandardValidator;
+import com.wynd.vop.framework.validation.StatelessValidator;
+import com.wynd.vop.framework.validation.ValidationContext;
 import com.wynd.vop.framework.validation.Validator;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import com.wynd.vop.framework.validation.ValidatorAdapter;
+import com.wynd.vop.framework.validation.ValidatorIndex;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
+import org.springframework.util.ClassUtils;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This aspect invokes business validations on eligible service API methods.
@@ -35,7 +52,14 @@ import java.util.List;
  * </ol>
  * <p>
  * Validators called by this aspect <b>should</b> extend {@link AbstractStandardValidator} or
- * similar implementation.
+ * similar implementation, or implement {@link StatelessValidator}. One instance of each {@link StatelessValidator}
+ * is shared by all calls; it is the validator bean of the Spring context if there is exactly one,
+ * otherwise it is created by the aspect.
+ * <p>
+ * The calling method, the validator classes of its parameter and return types, and the constructor of
+ * its return type are resolved once per service method into a validation plan, so that service
+ * calls do not have to look them up. Validator classes are taken from the {@link ValidatorIndex} generated at
+ * compile time, and only looked up by name for classes that are not indexed.
  *
  * Developers note: this class cannot be converted to {@code @Before} and {@code @After}
  * advice. JoinPoint.proceed() is called conditionally on success/failure of input validation.
@@ -43,20 +67,51 @@ import java.util.List;
  *
  * @see Validator
  * @see AbstractStandardValidator
+ * @see StatelessValidator
  *
 
  */
 @Aspect
 @Order(-9998)
-public class ServiceValidationAspect extends BaseServiceAspect {
+public class ServiceValidationAspect extends BaseServiceAspect implements BeanFactoryAware {
 
 	private static final VopLogger LOGGER = VopLoggerFactory.getLogger(ServiceValidationAspect.class);
 
 	/** Text added to end of class name to determine its validator name */
 	private static final String POSTFIX = "Validator";
 
-	/** keep track of previous resolveValidatorClass() calls to reduce (noticeable in prod) overhead  - ConcurrentHashMap can't store null values, so manually synchronize instead */
-	private static final HashMap<String,Class> resolvedClasses = new HashMap<String,Class>();
+	/** The validators indexed at compile time, loaded once at startup */
+	private static final ValidatorIndex INDEX = ValidatorIndex.load(ServiceValidationAspect.class.getClassLoader());
+
+	/** The validation plans of the service methods called so far */
+	private static final ConcurrentMap<Method, ValidationPlan> PLANS = new ConcurrentHashMap<>();
+
+	/** The validator class of each model class, empty if there is no validator */
+	private static final ClassValue<Optional<Class<?>>> VALIDATORS = new ClassValue<Optional<Class<?>>>() {
+		@Override
+		protected Optional<Class<?>> computeValue(final Class<?> type) {
+			return Optional.ofNullable(findValidatorClass(type));
+		}
+	};
+
+	/** The plan used when the calling method cannot be determined */
+	private static final ValidationPlan NO_METHOD = new ValidationPlan(null);
+
+	/** The validator instance of each validator class */
+	private final ConcurrentMap<Class<?>, StatelessValidator<Object>> validators = new ConcurrentHashMap<>();
+
+	/** The bean factory validator beans are taken from, may be {@code null} */
+	private BeanFactory beanFactory;
+
+	/**
+	 * Set the bean factory validator beans are taken from.
+	 *
+	 * @param beanFactory the bean factory
+	 */
+	@Override
+	public void setBeanFactory(final BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
 
 	/**
 	 * Around advice for{@link BaseServiceAspect#serviceImpl()} pointcut.
@@ -66,7 +121,7 @@ public class ServiceValidationAspect extends BaseServiceAspect {
 	 * <p>
 	 * Validators called by this aspect <b>should</b> extend {@link AbstractStandardValidator} or
 	 * similar implementation.
-	 * 
+	 *
 	 * Developers note: this class cannot be converted to {@code @Before} and {@code @After}
 	 * advice. JoinPoint.proceed() is called conditionally on success/failure of input validation.
 	 * Before and After advice does not provide that opportunity.
@@ -75,7 +130,6 @@ public class ServiceValidationAspect extends BaseServiceAspect {
 	 * @return Object
 	 * @throws Throwable
 	 */
-	@SuppressWarnings("unchecked")
 	@Around("publicStandardServiceMethod() && serviceImpl()")
 	public Object aroundAdvice(final ProceedingJoinPoint joinPoint) throws Throwable {
 
@@ -85,21 +139,22 @@ public class ServiceValidationAspect extends BaseServiceAspect {
 		try {
 			LOGGER.debug("Validating service interface request inputs.");
 
-			// get the request and the calling method from the JoinPoint
-			List<Object> methodParams = Arrays.asList(joinPoint.getArgs());
-			Method method = null;
-			if (joinPoint.getArgs().length > 0) {
-				Class<?>[] methodParamTypes = new Class<?>[methodParams.size()];
-				for (int i = 0; i < methodParams.size(); i++) {
-					Object param = methodParams.get(i);
-					methodParamTypes[i] = param == null ? null : param.getClass();
-				}
-				method = joinPoint.getSignature().getDeclaringType().getDeclaredMethod(joinPoint.getSignature().getName(),
-						methodParamTypes);
-			}
+			// get the request and the validation plan of the calling method from the JoinPoint
+			final Object[] args = joinPoint.getArgs();
+			final ValidationPlan plan = planFor(joinPoint, args);
+			final Method method = plan.method;
 
 			// attempt to validate all inputs to the method
-			domainResponse = validateInputsToTheMethod(methodParams, method);
+			final long validationStart = System.nanoTime();
+			final ValidationEvent validationEvent = VopJfr.AVAILABLE ? ValidationEvent.start() : null;
+			try {
+				domainResponse = validateInputsToTheMethod(args, plan);
+			} finally {
+				if (validationEvent != null) {
+					validationEvent.finish(method, ValidationEvent.REQUEST, messageCount(domainResponse));
+				}
+				VopRequestTimings.record(VopRequestTimings.Span.VALIDATION, validationStart);
+			}
 
 			// if there were no errors from validation, proceed with the actual method
 			if (!didValidationPass(domainResponse)) { // NOSONAR didValidationPass is not always true, unlike what sonar believes
@@ -111,7 +166,16 @@ public class ServiceValidationAspect extends BaseServiceAspect {
 				domainResponse = (DomainResponse) joinPoint.proceed();
 
 				// only call post-proceed() validation if there are no errors on the response
-				callPostValidationBasedOnDomainResponse(joinPoint, domainResponse, method);
+				final long postValidationStart = System.nanoTime();
+				final ValidationEvent postValidationEvent = VopJfr.AVAILABLE ? ValidationEvent.start() : null;
+				try {
+					callPostValidationBasedOnDomainResponse(joinPoint, domainResponse, plan);
+				} finally {
+					if (postValidationEvent != null) {
+						postValidationEvent.finish(method, ValidationEvent.RESPONSE, messageCount(domainResponse));
+					}
+					VopRequestTimings.record(VopRequestTimings.Span.VALIDATION, postValidationStart);
+				}
 			}
 		} finally {
 			LOGGER.debug(this.getClass().getSimpleName() + " after method was called.");
@@ -126,16 +190,27 @@ public class ServiceValidationAspect extends BaseServiceAspect {
 	 *
 	 * @param joinPoint the join point
 	 * @param domainResponse the domain response
-	 * @param method the method
+	 * @param plan the validation plan of the method
 	 */
 	private void callPostValidationBasedOnDomainResponse(final ProceedingJoinPoint joinPoint, DomainResponse domainResponse,
-			Method method) {
+			ValidationPlan plan) {
 		if ((domainResponse != null) && !(domainResponse.hasErrors() || domainResponse.hasFatals())) {
 			LOGGER.debug("Validating service interface response outputs.");
-			validateResponse(domainResponse, domainResponse.getMessages(), method, joinPoint.getArgs());
+			validate(domainResponse, plan.responseValidator(domainResponse),
+					new ValidationContext(plan.method, domainResponse.getMessages(), joinPoint.getArgs()));
 		}
 	}
 
+	/**
+	 * The number of messages on the domain response.
+	 *
+	 * @param domainResponse the domain response, may be {@code null}
+	 * @return the number of messages
+	 */
+	private static int messageCount(final DomainResponse domainResponse) {
+		return (domainResponse == null) || (domainResponse.getMessages() == null) ? 0 : domainResponse.getMessages().size();
+	}
+
 	/**
 	 * Returns {@code true} if DomainResponse is not {@code null} and its messages list is {@code null} or empty.
 	 *
@@ -147,23 +222,26 @@ public class ServiceValidationAspect extends BaseServiceAspect {
 	}
 
 	/**
-	 * Validates all input args to a method.
+	 * Validates all input args to a method. {@code null} args are not validated.
 	 *
-	 * @param methodParams - the method args
-	 * @param method - the method being executed
-	 * @return 
+	 * @param args - the method args
+	 * @param plan - the validation plan of the method being executed
+	 * @return the response with the validation error messages, or {@code null} if there are none
 	 */
-	private DomainResponse validateInputsToTheMethod(final List<Object> methodParams, final Method method) {
+	private DomainResponse validateInputsToTheMethod(final Object[] args, final ValidationPlan plan) {
 		DomainResponse response = null;
-		if (methodParams != null) {
+		if (args != null) {
 			List<ServiceMessage> messages = new ArrayList<>();
+			ValidationContext context = new ValidationContext(plan.method, messages);
 
-			for (final Object arg : methodParams) {
-				validateRequest(arg, messages, method);
+			for (int i = 0; i < args.length; i++) {
+				if (args[i] != null) {
+					validate(args[i], plan.parameterValidator(i, args[i]), context);
+				}
 			}
 			// add any validation error messages
 			if (!messages.isEmpty()) {
-				response = addValidationErrorMessages(method, messages);
+				response = addValidationErrorMessages(plan, messages);
 			}
 		}
 
@@ -171,25 +249,14 @@ public class ServiceValidationAspect extends BaseServiceAspect {
 	}
 
 	/**
-	 * Adds the validation error messages.
+	 * Adds the validation error messages to a new instance of the return type of the method.
 	 *
-	 * @param method the method
+	 * @param plan the validation plan of the method
 	 * @param messages the messages
 	 * @return the domain response
 	 */
-	private DomainResponse addValidationErrorMessages(final Method method, final List<ServiceMessage> messages) {
-		DomainResponse response = null;
-		try {
-			response = (DomainResponse) method.getReturnType().newInstance();
-		}catch (InstantiationException e) {
-			LOGGER.error("Could not return input validation errors because the class " + method.getReturnType() + " could not be instantiated", e);
-			throw new VopRuntimeException(MessageKeys.VOP_DEV_ILLEGAL_INSTANTIATION, MessageSeverity.ERROR,
-					HttpStatus.INTERNAL_SERVER_ERROR, method.getReturnType().getSimpleName());
-		}catch (IllegalAccessException e) {
-			LOGGER.error("Could not return input validation errors because the class " + method.getReturnType() + " could not be accessed", e);
-			throw new VopRuntimeException(MessageKeys.VOP_DEV_ILLEGAL_ACCESS, MessageSeverity.ERROR,
-					HttpStatus.INTERNAL_SERVER_ERROR, method.getReturnType().getSimpleName());
-		}
+	private DomainResponse addValidationErrorMessages(final ValidationPlan plan, final List<ServiceMessage> messages) {
+		DomainResponse response = plan.newResponse();
 		response.addMessages(messages);
 		return response;
 	}
@@ -204,139 +271,365 @@ public class ServiceValidationAspect extends BaseServiceAspect {
 	 * @param validatorClass
 	 * @param e
 	 * @param object
-	 * @throws VopRuntimeException
+	 * @return VopRuntimeException the exception to throw
 	 */
-	private void handleValidatorInstantiationExceptions(final Class<?> validatorClass, final Exception e, final Object object) {
+	private VopRuntimeException handleValidatorInstantiationExceptions(final Class<?> validatorClass, final Exception e,
+			final Object object) {
 		// Validator programming issue - throw exception
 		MessageKeys key = MessageKeys.VOP_DEV_ILLEGAL_INVOCATION;
 		String[] params = new String[] { (validatorClass != null ? validatorClass.getName() : "null"), "validate",
 				object.getClass().getName(), Validator.class.getName() };
 		LOGGER.error(key.getMessage(params), e);
-		throw new VopRuntimeException(key, MessageSeverity.FATAL, HttpStatus.INTERNAL_SERVER_ERROR, e, params);
+		return new VopRuntimeException(key, MessageSeverity.FATAL, HttpStatus.INTERNAL_SERVER_ERROR, e, params);
 	}
 
 	/**
-	 * Locate the {@link Validator} for the request object, and if it exists,
-	 * invoke the {@link Validator#getValidatedType()} method. If the
-	 * Validator does not exist, a warning is logged and validation
-	 * will be skipped.
-	 * <p>
-	 * Validator implementations <b>must</b> exist in a validators package
-	 * under the package in which {@code object} exists.
-	 *
-	 * @see Validator
-	 * @see AbstractStandardValidator
+	 * Invoke the validator on the object, if there is a validator.
 	 *
 	 * @param object the object to validate
-	 * @param messages list on which to return validation messages
-	 * @param callingMethod optional; the method that caused this validator to be called
+	 * @param validatorClass the validator class, validation is skipped if {@code null}
+	 * @param context the calling method, supplemental objects and messages of the validation
 	 */
-	private void validateRequest(final Object object, final List<ServiceMessage> messages, final Method callingMethod) {
-
-		Class<?> validatorClass = this.resolveValidatorClass(object);
-
+	private void validate(final Object object, final Class<?> validatorClass, final ValidationContext context) {
 		//validation is skipped if validatorClass is null
 		if (validatorClass != null) {
-			// invoke the validator - no supplemental objects
-			try {
-				invokeValidator(object, messages, callingMethod, validatorClass);
-
-			} catch (InstantiationException | IllegalAccessException | NullPointerException e) {
-				handleValidatorInstantiationExceptions(validatorClass, e, object);
-			}
+			invokeValidator(object, validatorInstance(validatorClass, object), context);
 		}
 	}
 
 	/**
 	 * Invoke validator.
+	 * <p>
+	 * Exceptions thrown by a {@link StatelessValidator} are resolved to a {@link VopRuntimeException}, as
+	 * {@link AbstractStandardValidator} does for its subclasses.
 	 *
 	 * @param object the object
-	 * @param messages the messages
-	 * @param callingMethod the calling method
+	 * @param validator the validator
+	 * @param context the calling method, supplemental objects and messages of the validation
+	 */
+	private void invokeValidator(final Object object, final StatelessValidator<Object> validator, final ValidationContext context) {
+		if (validator instanceof ValidatorAdapter) {
+			validator.validate(object, context);
+			return;
+		}
+		try {
+			validator.validate(object, context);
+		} catch (RuntimeException e) {
+			final VopRuntimeException runtime =
+					ExceptionHandlingUtils.resolveRuntimeException(MessageKeys.VOP_VALIDATOR_INITIALIZE_ERROR_UNEXPECTED, e);
+			throw runtime != null ? runtime : e;
+		}
+	}
+
+	/**
+	 * The validator instance of a validator class, created the first time the class is used.
+	 *
 	 * @param validatorClass the validator class
-	 * @param supplemental the supplemental
-	 * @throws InstantiationException the instantiation exception
-	 * @throws IllegalAccessException the illegal access exception
+	 * @param object the object to validate
+	 * @return the validator
+	 * @throws VopRuntimeException if the validator cannot be created
 	 */
-	private void invokeValidator(final Object object, final List<ServiceMessage> messages, final Method callingMethod,
-			final Class<?> validatorClass, final Object... supplemental) throws InstantiationException, IllegalAccessException {
-		Validator<?> validator = (Validator<?>) validatorClass.newInstance();
-		validator.setCallingMethod(callingMethod);
-		validator.initValidate(object, messages, supplemental);
+	private StatelessValidator<Object> validatorInstance(final Class<?> validatorClass, final Object object) {
+		StatelessValidator<Object> validator = validators.get(validatorClass);
+		if (validator == null) {
+			validator = validators.computeIfAbsent(validatorClass, type -> createValidator(type, object));
+		}
+		return validator;
 	}
 
 	/**
-	 * Locate the {@link Validator} for the object, and if it exists,
-	 * invoke the {@link Validator#getValidatedType()} method. If the
-	 * Validator does not exist, a warning is logged and validation
-	 * will be skipped.
+	 * Create the validator instance of a validator class.
 	 * <p>
-	 * Validator implementations <b>must</b> exist in a validators package
-	 * under the package in which {@code object} exists.
+	 * A {@link StatelessValidator} is the single bean of its class in the Spring context, or a new instance of the
+	 * class. A {@link Validator} is invoked through a {@link ValidatorAdapter}, which creates an instance for each call.
 	 *
-	 * @see Validator
-	 * @see AbstractStandardValidator
+	 * @param validatorClass the validator class
+	 * @param object the object to validate
+	 * @return the validator
+	 * @throws VopRuntimeException if the validator cannot be created
+	 */
+	@SuppressWarnings("unchecked")
+	private StatelessValidator<Object> createValidator(final Class<?> validatorClass, final Object object) {
+		if (StatelessValidator.class.isAssignableFrom(validatorClass)) {
+			Object bean = beanFactory == null ? null : beanFactory.getBeanProvider(validatorClass).getIfUnique();
+			try {
+				return (StatelessValidator<Object>) (bean != null ? bean : validatorClass.newInstance());
+			} catch (InstantiationException | IllegalAccessException e) {
+				throw handleValidatorInstantiationExceptions(validatorClass, e, object);
+			}
+		}
+		if (Validator.class.isAssignableFrom(validatorClass)) {
+			return new ValidatorAdapter<>((Class<? extends Validator<?>>) validatorClass);
+		}
+		throw handleValidatorInstantiationExceptions(validatorClass,
+				new ClassCastException(validatorClass.getName() + " is not a " + Validator.class.getSimpleName()), object);
+	}
+
+	/**
+	 * The validation plan of the method of the join point.
+	 * <p>
+	 * The method is taken from the {@link MethodSignature} when there is one. Otherwise it is looked up by
+	 * name and arguments on the declaring type, which is slow, but only happens for signatures
+	 * that are not created by Spring AOP or AspectJ.
+	 * <p>
+	 * The plans are keyed by {@link Method} rather than by {@link JoinPoint.StaticPart}, because Spring AOP
+	 * creates a new static part for every call.
 	 *
-	 * @param object
-	 * @param messages
-	 * @param callingMethod
-	 * @param requestObjects
+	 * @param joinPoint the join point
+	 * @param args the args of the join point
+	 * @return the plan
 	 */
-	private void validateResponse(final DomainResponse object, final List<ServiceMessage> messages, final Method callingMethod,
-			final Object... requestObjects) {
+	private static ValidationPlan planFor(final JoinPoint joinPoint, final Object[] args) {
+		Signature signature = joinPoint.getSignature();
+		Method method = signature instanceof MethodSignature ? ((MethodSignature) signature).getMethod() : null;
+		if (method == null) {
+			method = findMethod(signature, args);
+		}
+		return planFor(method);
+	}
 
-		Class<?> validatorClass = this.resolveValidatorClass(object);
+	/**
+	 * The validation plan of a method, built the first time the method is called.
+	 *
+	 * @param method the method, may be {@code null}
+	 * @return the plan
+	 */
+	private static ValidationPlan planFor(final Method method) {
+		if (method == null) {
+			return NO_METHOD;
+		}
+		ValidationPlan plan = PLANS.get(method);
+		if (plan == null) {
+			plan = PLANS.computeIfAbsent(method, ValidationPlan::new);
+		}
+		return plan;
+	}
 
-		//validation is skipped if validatorClass is null
-		if (validatorClass != null) {
-			// invoke the validator, sned request objects as well
-			try {
-				invokeValidator(object, messages, callingMethod, validatorClass, requestObjects);
+	/**
+	 * Find the declared method of the signature that accepts the args.
+	 *
+	 * @param signature the signature
+	 * @param args the args
+	 * @return the method, or {@code null} if it could not be found
+	 */
+	private static Method findMethod(final Signature signature, final Object[] args) {
+		Class<?> declaringType = signature == null ? null : signature.getDeclaringType();
+		if ((declaringType == null) || (args == null)) {
+			return null;
+		}
+		for (Method candidate : declaringType.getDeclaredMethods()) {
+			if (candidate.getName().equals(signature.getName()) && acceptsArgs(candidate, args)) {
+				return candidate;
+			}
+		}
+		return null;
+	}
 
-			} catch (InstantiationException | IllegalAccessException | NullPointerException e) {
-				handleValidatorInstantiationExceptions(validatorClass, e, object);
+	/**
+	 * Whether the method can be called with the args.
+	 *
+	 * @param method the method
+	 * @param args the args
+	 * @return true, if each arg can be assigned to its parameter
+	 */
+	private static boolean acceptsArgs(final Method method, final Object[] args) {
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		if (parameterTypes.length != args.length) {
+			return false;
+		}
+		for (int i = 0; i < args.length; i++) {
+			if (!ClassUtils.isAssignableValue(parameterTypes[i], args[i])) {
+				return false;
 			}
 		}
+		return true;
+	}
+
+	/**
+	 * Determine the Validator class for the model class that is to be validated.
+	 *
+	 * @param type the model class
+	 * @return the validator class, or {@code null} if there is none
+	 */
+	private static Class<?> resolveValidatorClass(final Class<?> type) {
+		return VALIDATORS.get(type).orElse(null);
 	}
 
 	/**
-	 * Determine the Validator class for the model object that is to be validated.
+	 * Find the Validator class for the model class, with the class loader.
 	 * <p>
 	 * The pattern for Validator classes is:<br/>
 	 * <tt><i>model.objects.class.package</i>.validators.<i>ModelObjectClassSimpleName</i>Validator</tt>
 	 *
-	 * @param object
-	 * @return
+	 * @param type the model class
+	 * @return the validator class, or {@code null} if there is none
 	 */
-	private Class<?> resolveValidatorClass(final Object object) {
-		// Deduce the validator class name based on the pattern
-		String qualifiedValidatorName = object.getClass().getPackage() + ".validators." + object.getClass().getSimpleName() + POSTFIX;
-		qualifiedValidatorName = qualifiedValidatorName.replaceAll("package\\s+", "");
-
-		// check previously-resolved classes
-		synchronized (resolvedClasses) {
-			if (resolvedClasses.containsKey(qualifiedValidatorName)) {
-				return resolvedClasses.get(qualifiedValidatorName);
-			}
+	private static Class<?> findValidatorClass(final Class<?> type) {
+		// the compile-time index is authoritative for its classes; classes not in it are looked up by name
+		String qualifiedValidatorName = INDEX.getValidatorName(type);
+		if ((qualifiedValidatorName == null) && INDEX.contains(type)) {
+			LOGGER.debug("No validator indexed for " + type.getName() + " - skipping validation");
+			return null;
+		}
+		if (qualifiedValidatorName == null) {
+			// Deduce the validator class name based on the pattern
+			Package typePackage = type.getPackage();
+			qualifiedValidatorName = (typePackage == null ? "" : typePackage.getName() + ".") + "validators."
+					+ type.getSimpleName() + POSTFIX;
 		}
 
-		// find out if a validator exists for object
-		Class<?> validatorClass = null;
+		// find out if a validator exists for the class
 		try {
-			validatorClass = Class.forName(qualifiedValidatorName);
-		} catch (ClassNotFoundException e) {
-			// no validator, return without error
+			return Class.forName(qualifiedValidatorName);
+		} catch (ClassNotFoundException e) { // NOSONAR no validator, return without error
 			LOGGER.warn("Could not find validator class " + qualifiedValidatorName
-					+ " - skipping validation for object " + ReflectionToStringBuilder.toString(object));
+					+ " - skipping validation for objects of " + type.getName());
+			return null;
 		}
+	}
 
-		// add resolved class to cache, null or otherwise, to prevent future classloader hits
-		synchronized (resolvedClasses) {
-			resolvedClasses.put(qualifiedValidatorName, validatorClass);
-			if (resolvedClasses.size() == 1000) {
-				LOGGER.warn("ServiceValidationAspect internal cache 'resolvedClasses' is over 1000 entries - this most likely indicates a dynamic class-name issue and will be a serious memory leak");
+	/**
+	 * Everything the aspect needs to validate the calls of a service method, resolved once.
+	 */
+	private static final class ValidationPlan {
+
+		/** The service method, may be {@code null} */
+		private final Method method;
+
+		/** The declared parameter types of the method */
+		private final Class<?>[] parameterTypes;
+
+		/** The validator class of each declared parameter type, {@code null} if there is none */
+		private final Class<?>[] parameterValidators;
+
+		/** The declared return type of the method */
+		private final Class<?> returnType;
+
+		/** The validator class of the declared return type, {@code null} if there is none */
+		private final Class<?> responseValidator;
+
+		/** The no-arg constructor of the return type, {@code null} if it is not a {@link DomainResponse} class */
+		private final Constructor<?> responseConstructor;
+
+		/**
+		 * Build the plan of the method.
+		 *
+		 * @param method the method, may be {@code null}
+		 */
+		ValidationPlan(final Method method) {
+			this.method = method;
+			this.parameterTypes = method == null ? new Class<?>[0] : method.getParameterTypes();
+			this.parameterValidators = new Class<?>[parameterTypes.length];
+			for (int i = 0; i < parameterTypes.length; i++) {
+				parameterValidators[i] = declaredValidator(parameterTypes[i]);
+			}
+			this.returnType = method == null ? null : method.getReturnType();
+			this.responseValidator = declaredValidator(returnType);
+			this.responseConstructor = responseConstructorOf(returnType);
+		}
+
+		/**
+		 * The validator class of an arg.
+		 *
+		 * @param index the index of the parameter
+		 * @param arg the arg, not {@code null}
+		 * @return the validator class, or {@code null} if there is none
+		 */
+		Class<?> parameterValidator(final int index, final Object arg) {
+			if ((index < parameterTypes.length) && (arg.getClass() == parameterTypes[index])) {
+				return parameterValidators[index];
+			}
+			return resolveValidatorClass(arg.getClass());
+		}
+
+		/**
+		 * The validator class of a response.
+		 *
+		 * @param response the response, not {@code null}
+		 * @return the validator class, or {@code null} if there is none
+		 */
+		Class<?> responseValidator(final DomainResponse response) {
+			return response.getClass() == returnType ? responseValidator : resolveValidatorClass(response.getClass());
+		}
+
+		/**
+		 * A new instance of the return type of the method.
+		 *
+		 * @return the response
+		 * @throws VopRuntimeException if the return type cannot be instantiated
+		 */
+		DomainResponse newResponse() {
+			try {
+				if (responseConstructor == null) {
+					throw new InstantiationException(String.valueOf(returnType));
+				}
+				return (DomainResponse) responseConstructor.newInstance();
+			} catch (InvocationTargetException e) {
+				if (e.getCause() instanceof Error) {
+					throw (Error) e.getCause();
+				}
+				throw responseException(e.getCause());
+			} catch (InstantiationException | IllegalAccessException e) {
+				throw responseException(e);
+			}
+		}
+
+		/**
+		 * The exception to throw when the return type cannot be instantiated.
+		 *
+		 * @param e the cause
+		 * @return the exception
+		 */
+		private RuntimeException responseException(final Throwable e) {
+			if (e instanceof IllegalAccessException) {
+				LOGGER.error("Could not return input validation errors because the class " + returnType + " could not be accessed", e);
+				return new VopRuntimeException(MessageKeys.VOP_DEV_ILLEGAL_ACCESS, MessageSeverity.ERROR,
+						HttpStatus.INTERNAL_SERVER_ERROR, simpleName(returnType));
+			}
+			if (e instanceof RuntimeException) {
+				return (RuntimeException) e;
+			}
+			LOGGER.error("Could not return input validation errors because the class " + returnType + " could not be instantiated", e);
+			return new VopRuntimeException(MessageKeys.VOP_DEV_ILLEGAL_INSTANTIATION, MessageSeverity.ERROR,
+					HttpStatus.INTERNAL_SERVER_ERROR, simpleName(returnType));
+		}
+
+		/**
+		 * The validator class of a declared type. Abstract types, which include interfaces, primitives and arrays,
+		 * are never the class of an arg or response, so they are not looked up.
+		 *
+		 * @param type the declared type, may be {@code null}
+		 * @return the validator class, or {@code null} if there is none
+		 */
+		private static Class<?> declaredValidator(final Class<?> type) {
+			return (type == null) || Modifier.isAbstract(type.getModifiers()) ? null : resolveValidatorClass(type);
+		}
+
+		/**
+		 * The no-arg constructor of a {@link DomainResponse} class.
+		 *
+		 * @param type the class, may be {@code null}
+		 * @return the constructor, or {@code null} if there is none
+		 */
+		private static Constructor<?> responseConstructorOf(final Class<?> type) {
+			if ((type == null) || !DomainResponse.class.isAssignableFrom(type)) {
+				return null;
 			}
+			try {
+				return type.getDeclaredConstructor();
+			} catch (NoSuchMethodException e) { // NOSONAR reported when a response is needed
+				return null;
+			}
+		}
+
+		/**
+		 * The simple name of a class.
+		 *
+		 * @param type the class, may be {@code null}
+		 * @return the simple name, or "null"
+		 */
+		private static String simpleName(final Class<?> type) {
+			return type == null ? "null" : type.getSimpleName();
 		}
-		return validatorClass;
 	}
 }
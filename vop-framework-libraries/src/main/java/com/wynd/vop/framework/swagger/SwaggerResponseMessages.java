@@ -22,6 +22,12 @@ public interface SwaggerResponseMessages { // NOSONAR constants must be in this
 	/** The Constant MESSAGE_403 FORBIDDEN */
 	static final String MESSAGE_403 = "Access to the resource is Forbidden.  Please verify if you have permission to access this resource. Response will contain \"messages\" element with additional information on the error.";
 
+	/** The Constant MESSAGE_413 PAYLOAD TOO LARGE */
+	static final String MESSAGE_413 = "The Request is larger than the service accepts. Response will describe how much of the Request was processed.  This request shouldn't be retried until reduced.";
+
+	/** The Constant MESSAGE_429 TOO MANY REQUESTS */
+	static final String MESSAGE_429 = "Too many Requests have been received from this client. The Retry-After header gives the number of seconds to wait before retrying.";
+
 	/** The Constant MESSAGE_500 INTERNAL SERVER ERROR (some issue in the server-side code) */
 	static final String MESSAGE_500 =
 			"There was an error encountered processing the Request. Response will contain \"messages\" element with additional information on the error. Please retry. If problem persists, please contact support with a copy of the Response.";
@@ -0,0 +1,225 @@
+package com.wynd.vop.framework.transfer;
+
+import com.wynd.vop.framework.messages.MessageSeverity;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * The messages of a response, in an array that is only allocated when the first message is added.
+ * <p>
+ * The list keeps a bitmask of the severities of its messages, so {@link #hasSeverity(MessageSeverity)} does not
+ * walk the messages. The severity of a message is read when the message is added to the list, so lists of
+ * messages that can change their severity once added must call {@link #severityChanged()} when it changes.
+ * <p>
+ * The list serializes as any other list of its messages, in JSON, XML or java serialization.
+ *
+ * @param <M> the message type
+ */
+public abstract class MessageList<M> extends AbstractList<M> implements RandomAccess, Serializable {
+	private static final long serialVersionUID = 6021546727374716305L;
+
+	/** The array of all empty lists */
+	private static final Object[] EMPTY = {};
+
+	/** Capacity of the array allocated for the first message */
+	private static final int INITIAL_CAPACITY = 4;
+
+	/** The messages, from 0 to size */
+	private transient Object[] elements = EMPTY;
+
+	/** The number of messages */
+	private transient int size;
+
+	/** The severities of the messages, one bit per {@link MessageSeverity} ordinal */
+	private transient int severities;
+
+	/**
+	 * An empty list.
+	 */
+	protected MessageList() {
+		super();
+	}
+
+	/**
+	 * A list of messages.
+	 *
+	 * @param messages the messages
+	 */
+	protected MessageList(final Collection<? extends M> messages) {
+		super();
+		addAll(messages);
+	}
+
+	/**
+	 * The severity of a message.
+	 *
+	 * @param message the message, may be {@code null}
+	 * @return the severity, or {@code null} if it has none
+	 */
+	protected abstract MessageSeverity severityOf(M message);
+
+	/**
+	 * Recompute the bitmask of the severities, after the severity of a message in the list has changed.
+	 */
+	protected final void severityChanged() {
+		computeSeverities();
+	}
+
+	/**
+	 * Whether any message is of the severity.
+	 *
+	 * @param severity the severity
+	 * @return true, if a message has the severity
+	 */
+	public boolean hasSeverity(final MessageSeverity severity) {
+		return (severities & bit(severity)) != 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public M get(final int index) {
+		checkIndex(index, size);
+		return (M) elements[index];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public M set(final int index, final M message) {
+		M old = get(index);
+		elements[index] = message;
+		computeSeverities();
+		return old;
+	}
+
+	@Override
+	public void add(final int index, final M message) {
+		checkIndex(index, size + 1);
+		ensureCapacity(size + 1);
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = message;
+		size++;
+		severities |= bit(severityOf(message));
+		modCount++;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean addAll(final Collection<? extends M> messages) {
+		Object[] added = messages.toArray();
+		ensureCapacity(size + added.length);
+		for (Object message : added) {
+			add(size, (M) message);
+		}
+		return added.length > 0;
+	}
+
+	@Override
+	public M remove(final int index) {
+		M old = get(index);
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		elements[--size] = null;
+		computeSeverities();
+		modCount++;
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		elements = EMPTY;
+		size = 0;
+		severities = 0;
+		modCount++;
+	}
+
+	/**
+	 * The bit of a severity.
+	 *
+	 * @param severity the severity, may be {@code null}
+	 * @return the bit, none if the severity is {@code null}
+	 */
+	private static int bit(final MessageSeverity severity) {
+		return severity == null ? 0 : 1 << severity.ordinal();
+	}
+
+	/**
+	 * Grow the array, if needed, to hold a number of messages.
+	 *
+	 * @param capacity the number of messages
+	 */
+	private void ensureCapacity(final int capacity) {
+		if (capacity > elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(capacity, Math.max(INITIAL_CAPACITY, elements.length * 2)));
+		}
+	}
+
+	/**
+	 * Compute the severities of all the messages.
+	 */
+	@SuppressWarnings("unchecked")
+	private void computeSeverities() {
+		int bits = 0;
+		for (int i = 0; i < size; i++) {
+			bits |= bit(severityOf((M) elements[i]));
+		}
+		severities = bits;
+	}
+
+	/**
+	 * Check that an index is in a range.
+	 *
+	 * @param index the index
+	 * @param bound the end of the range, excluded
+	 */
+	private static void checkIndex(final int index, final int bound) {
+		if ((index < 0) || (index >= bound)) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (bound - 1));
+		}
+	}
+
+	/**
+	 * Write the number of messages, then the messages.
+	 *
+	 * @param out the stream
+	 * @throws IOException if the stream cannot be written
+	 */
+	private void writeObject(final ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeInt(size);
+		for (int i = 0; i < size; i++) {
+			out.writeObject(elements[i]);
+		}
+	}
+
+	/**
+	 * Read the messages, and compute their severities.
+	 *
+	 * @param in the stream
+	 * @throws IOException if the stream cannot be read
+	 * @throws ClassNotFoundException if the class of a message is not found
+	 */
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		int count = in.readInt();
+		if (count < 0) {
+			throw new InvalidObjectException("Invalid message count: " + count);
+		}
+		elements = count == 0 ? EMPTY : new Object[count];
+		for (int i = 0; i < count; i++) {
+			elements[i] = in.readObject();
+		}
+		size = count;
+		computeSeverities();
+	}
+}
@@ -0,0 +1,554 @@
+package com.wynd.vop.framework.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders objects as strings for logging and auditing, in place of {@code ReflectionToStringBuilder}.
+ * <p>
+ * Objects are rendered field by field, nested objects included, with:
+ * <ul>
+ * <li>field accessors ({@link MethodHandle}s) looked up once per class and cached;
+ * <li>a maximum nesting depth - deeper objects are rendered as {@code ClassName@identityHash};
+ * <li>a maximum number of elements rendered for each collection, map or array;
+ * <li>a maximum number of characters in the result - longer results are cut and end with {@value #TRUNCATED};
+ * <li>cycle detection - an object that contains itself is rendered as {@code <cycle ClassName@identityHash>};
+ * <li>masking of fields annotated with {@link Sensitive}, using {@link MaskUtil};
+ * <li>fields annotated with {@link RenderedByGetter} read through their getter, e.g. lazily resolved values.
+ * </ul>
+ * As with {@code ReflectionToStringBuilder}, static and transient fields are left out, and fields are listed
+ * by name, subclass fields first. Strings, numbers, enums and other JDK types ({@code java.*} and {@code javax.*})
+ * are rendered by their own {@code toString()}.
+ * <p>
+ * {@link #toString(Object)} renders as {@code ClassName[field=value,...]}; {@link #toJson(Object)} renders as JSON.
+ */
+public final class ObjectRenderer {
+
+	/** Default maximum nesting depth */
+	public static final int DEFAULT_MAX_DEPTH = 5;
+	/** Default maximum number of elements rendered for each collection, map or array */
+	public static final int DEFAULT_MAX_ELEMENTS = 64;
+	/** Default maximum number of characters in the result */
+	public static final int DEFAULT_MAX_CHARS = 16384;
+
+	/** Appended to results that were cut at the character limit */
+	static final String TRUNCATED = "...";
+	/** How nulls are rendered by {@link #toString(Object)} */
+	static final String NULL = "<null>";
+	/** Replaces sensitive values that are not simple */
+	static final String MASKED = "******";
+
+	/** The getter type, so getters can be called with {@code invokeExact} */
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/** How each class is rendered */
+	private static final ClassValue<Kind> KINDS = new ClassValue<Kind>() {
+		@Override
+		protected Kind computeValue(final Class<?> type) {
+			return kindOf(type);
+		}
+	};
+
+	/** The field accessors of each class rendered as {@link Kind#OBJECT} */
+	private static final ClassValue<Accessor[]> ACCESSORS = new ClassValue<Accessor[]>() {
+		@Override
+		protected Accessor[] computeValue(final Class<?> type) {
+			return accessorsOf(type);
+		}
+	};
+
+	/**
+	 * Do not instantiate.
+	 */
+	private ObjectRenderer() {
+		throw new IllegalAccessError("ObjectRenderer is a static class. Do not instantiate it.");
+	}
+
+	/**
+	 * Render an object as {@code ClassName[field=value,...]}, with the default limits.
+	 *
+	 * @param object the object, may be null
+	 * @return the rendered object
+	 */
+	public static String toString(final Object object) {
+		return toString(object, DEFAULT_MAX_DEPTH, DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_CHARS);
+	}
+
+	/**
+	 * Render an object as {@code ClassName[field=value,...]}.
+	 *
+	 * @param object the object, may be null
+	 * @param maxDepth the maximum nesting depth
+	 * @param maxElements the maximum number of elements rendered for each collection, map or array
+	 * @param maxChars the maximum number of characters, before {@value #TRUNCATED} is appended
+	 * @return the rendered object
+	 */
+	public static String toString(final Object object, final int maxDepth, final int maxElements, final int maxChars) {
+		return render(object, false, maxDepth, maxElements, maxChars);
+	}
+
+	/**
+	 * Render an object as JSON, with the default limits.
+	 * <p>
+	 * This is not the format of {@code ReflectionToStringBuilder} with {@code ToStringStyle.JSON_STYLE}, which
+	 * rendered nested objects by their own {@code toString()}: here nested objects are rendered field by field as
+	 * JSON objects, down to the nesting depth, and collections, maps and the result are cut at the limits.
+	 *
+	 * @param object the object, may be null
+	 * @return the rendered object
+	 */
+	public static String toJson(final Object object) {
+		return toJson(object, DEFAULT_MAX_DEPTH, DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_CHARS);
+	}
+
+	/**
+	 * Render an object as JSON. Results cut at the character limit are not valid JSON.
+	 *
+	 * @param object the object, may be null
+	 * @param maxDepth the maximum nesting depth
+	 * @param maxElements the maximum number of elements rendered for each collection, map or array
+	 * @param maxChars the maximum number of characters, before {@value #TRUNCATED} is appended
+	 * @return the rendered object
+	 */
+	public static String toJson(final Object object, final int maxDepth, final int maxElements, final int maxChars) {
+		return render(object, true, maxDepth, maxElements, maxChars);
+	}
+
+	private static String render(final Object object, final boolean json, final int maxDepth, final int maxElements,
+			final int maxChars) {
+		if (maxDepth < 0 || maxElements < 0 || maxChars < 1) {
+			throw new IllegalArgumentException("Invalid render limits: maxDepth=" + maxDepth + ", maxElements="
+					+ maxElements + ", maxChars=" + maxChars);
+		}
+		Rendering rendering = new Rendering(json, maxDepth, maxElements, maxChars);
+		try {
+			rendering.value(object, 0);
+		} catch (RuntimeException e) { // NOSONAR e.g. a collection modified while rendered, keep what was rendered
+			rendering.string("<" + e.getClass().getSimpleName() + ">");
+		}
+		return rendering.result();
+	}
+
+	/**
+	 * Decide how a class is rendered.
+	 *
+	 * @param type the class
+	 * @return the kind
+	 */
+	static Kind kindOf(final Class<?> type) {
+		if (type.isArray()) {
+			return Kind.ARRAY;
+		} else if (Map.class.isAssignableFrom(type)) {
+			return Kind.MAP;
+		} else if (Collection.class.isAssignableFrom(type)) {
+			return Kind.COLLECTION;
+		} else if (Number.class.isAssignableFrom(type) || Boolean.class.equals(type)) {
+			return Kind.LITERAL;
+		} else if (CharSequence.class.isAssignableFrom(type) || Enum.class.isAssignableFrom(type)
+				|| type.getName().startsWith("java.") || type.getName().startsWith("javax.")) {
+			return Kind.SCALAR;
+		}
+		return Kind.OBJECT;
+	}
+
+	/**
+	 * Look up the field accessors of a class and its superclasses.
+	 *
+	 * @param type the class
+	 * @return the accessors
+	 */
+	private static Accessor[] accessorsOf(final Class<?> type) {
+		List<Accessor> accessors = new ArrayList<>();
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		for (Class<?> declaring = type; declaring != null && declaring != Object.class;
+				declaring = declaring.getSuperclass()) {
+			Field[] fields = declaring.getDeclaredFields();
+			Arrays.sort(fields, Comparator.comparing(Field::getName));
+			for (Field field : fields) {
+				int modifiers = field.getModifiers();
+				if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+						|| field.getName().indexOf('$') >= 0) {
+					continue;
+				}
+				try {
+					MethodHandle getter = field.isAnnotationPresent(RenderedByGetter.class) ? beanGetterOf(lookup, field) : null;
+					if (getter == null) {
+						field.setAccessible(true);
+						getter = lookup.unreflectGetter(field);
+					}
+					getter = getter.asType(GETTER_TYPE);
+					accessors.add(new Accessor(field.getName(), getter, field.getAnnotation(Sensitive.class)));
+				} catch (IllegalAccessException | RuntimeException e) { // NOSONAR fields that cannot be read are left out
+					continue;
+				}
+			}
+		}
+		return accessors.toArray(new Accessor[accessors.size()]);
+	}
+
+	/**
+	 * Look up the bean getter of a field, in the class that declares the field.
+	 *
+	 * @param lookup the lookup
+	 * @param field the field
+	 * @return the getter, or null if the class has none
+	 * @throws IllegalAccessException if the getter cannot be accessed
+	 */
+	private static MethodHandle beanGetterOf(final MethodHandles.Lookup lookup, final Field field)
+			throws IllegalAccessException {
+		String property = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+		for (String prefix : new String[] { "get", "is" }) {
+			try {
+				Method method = field.getDeclaringClass().getDeclaredMethod(prefix + property);
+				if (!Modifier.isStatic(method.getModifiers()) && field.getType().equals(method.getReturnType())) {
+					method.setAccessible(true);
+					return lookup.unreflect(method);
+				}
+			} catch (NoSuchMethodException e) { // NOSONAR try the next prefix
+				continue;
+			}
+		}
+		return null;
+	}
+
+	private static String identity(final Object object) {
+		return simpleName(object.getClass()) + "@" + Integer.toHexString(System.identityHashCode(object));
+	}
+
+	private static String simpleName(final Class<?> type) {
+		String name = type.getSimpleName();
+		return name.isEmpty() ? type.getName() : name;
+	}
+
+	/**
+	 * How values of a class are rendered.
+	 */
+	enum Kind {
+		/** Numbers and booleans, by toString() and unquoted in JSON */
+		LITERAL,
+		/** Strings, enums and other JDK types, by toString() */
+		SCALAR,
+		ARRAY,
+		COLLECTION,
+		MAP,
+		/** Field by field */
+		OBJECT
+	}
+
+	/**
+	 * A cached field accessor.
+	 */
+	private static final class Accessor {
+		private final String name;
+		private final MethodHandle getter;
+		/** The masking for the field, or null if not sensitive */
+		private final Sensitive sensitive;
+
+		Accessor(final String name, final MethodHandle getter, final Sensitive sensitive) {
+			this.name = name;
+			this.getter = getter;
+			this.sensitive = sensitive;
+		}
+	}
+
+	/**
+	 * The state of one call to render.
+	 */
+	private static final class Rendering {
+		private final boolean json;
+		private final int maxDepth;
+		private final int maxElements;
+		private final int maxChars;
+
+		private final StringBuilder builder = new StringBuilder();
+		/** The containers being rendered, to detect cycles */
+		private final Set<Object> path = Collections.newSetFromMap(new IdentityHashMap<>());
+		/** Whether the character limit was reached */
+		private boolean truncated;
+
+		Rendering(final boolean json, final int maxDepth, final int maxElements, final int maxChars) {
+			this.json = json;
+			this.maxDepth = maxDepth;
+			this.maxElements = maxElements;
+			this.maxChars = maxChars;
+		}
+
+		String result() {
+			return truncated ? builder.append(TRUNCATED).toString() : builder.toString();
+		}
+
+		void value(final Object value, final int depth) {
+			if (truncated) {
+				return;
+			}
+			if (value == null) {
+				append(json ? "null" : NULL);
+				return;
+			}
+			Kind kind = KINDS.get(value.getClass());
+			if (kind == Kind.LITERAL) {
+				append(value.toString());
+				return;
+			} else if (kind == Kind.SCALAR) {
+				string(value.toString());
+				return;
+			}
+
+			if (depth >= maxDepth) {
+				string(identity(value));
+				return;
+			}
+			if (!path.add(value)) {
+				string("<cycle " + identity(value) + ">");
+				return;
+			}
+			try {
+				if (kind == Kind.ARRAY) {
+					array(value, depth + 1);
+				} else if (kind == Kind.COLLECTION) {
+					collection((Collection<?>) value, depth + 1);
+				} else if (kind == Kind.MAP) {
+					map((Map<?, ?>) value, depth + 1);
+				} else {
+					object(value, depth + 1);
+				}
+			} finally {
+				path.remove(value);
+			}
+		}
+
+		private void array(final Object array, final int depth) {
+			int length = Array.getLength(array);
+			int count = Math.min(length, maxElements);
+			append("[");
+			for (int i = 0; i < count && !truncated; i++) {
+				if (i > 0) {
+					append(",");
+				}
+				value(Array.get(array, i), depth);
+			}
+			more(count, length);
+			append("]");
+		}
+
+		private void collection(final Collection<?> collection, final int depth) {
+			int size = collection.size();
+			int count = 0;
+			append("[");
+			for (Object element : collection) {
+				if (count == maxElements || truncated) {
+					break;
+				}
+				if (count++ > 0) {
+					append(",");
+				}
+				value(element, depth);
+			}
+			more(count, size);
+			append("]");
+		}
+
+		private void map(final Map<?, ?> map, final int depth) {
+			int size = map.size();
+			int count = 0;
+			append("{");
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				if (count == maxElements || truncated) {
+					break;
+				}
+				if (count++ > 0) {
+					append(",");
+				}
+				if (json) {
+					string(String.valueOf(entry.getKey()));
+					append(":");
+				} else {
+					value(entry.getKey(), depth);
+					append("=");
+				}
+				value(entry.getValue(), depth);
+			}
+			if (count < size && !truncated) {
+				if (count > 0) {
+					append(",");
+				}
+				if (json) {
+					string(TRUNCATED);
+					append(":");
+					string("+" + (size - count) + " more");
+				} else {
+					append(TRUNCATED + "(+" + (size - count) + " more)");
+				}
+			}
+			append("}");
+		}
+
+		private void object(final Object object, final int depth) {
+			if (!json) {
+				append(simpleName(object.getClass()));
+			}
+			append(json ? "{" : "[");
+			boolean first = true;
+			for (Accessor accessor : ACCESSORS.get(object.getClass())) {
+				if (truncated) {
+					return;
+				}
+				if (!first) {
+					append(",");
+				}
+				first = false;
+				if (json) {
+					string(accessor.name);
+					append(":");
+				} else {
+					append(accessor.name);
+					append("=");
+				}
+
+				Object fieldValue;
+				try {
+					fieldValue = (Object) accessor.getter.invokeExact(object);
+				} catch (Throwable e) { // NOSONAR a getter on a cached handle only fails if the JVM is in trouble
+					string("<" + e.getClass().getSimpleName() + ">");
+					continue;
+				}
+				if (accessor.sensitive == null) {
+					value(fieldValue, depth);
+				} else {
+					masked(fieldValue, accessor.sensitive);
+				}
+			}
+			append(json ? "}" : "]");
+		}
+
+		private void masked(final Object value, final Sensitive sensitive) {
+			if (value == null) {
+				value(null, 0);
+				return;
+			}
+			Kind kind = KINDS.get(value.getClass());
+			if (kind != Kind.LITERAL && kind != Kind.SCALAR) {
+				string(MASKED);
+				return;
+			}
+			String text = value.toString();
+			switch (sensitive.value()) {
+				case START:
+					string(MaskUtil.maskStart(text));
+					break;
+				case END:
+					string(MaskUtil.maskEnd(text));
+					break;
+				default:
+					string(MaskUtil.mask(text));
+					break;
+			}
+		}
+
+		/**
+		 * Note the elements that were left out.
+		 */
+		private void more(final int count, final int size) {
+			if (count < size) {
+				if (count > 0) {
+					append(",");
+				}
+				string(TRUNCATED + "(+" + (size - count) + " more)");
+			}
+		}
+
+		/**
+		 * Append text as a string value, quoted and escaped in JSON.
+		 */
+		void string(final String text) {
+			if (truncated) {
+				return;
+			}
+			if (!json) {
+				append(text);
+				return;
+			}
+			// escaping never shortens, so only what can fit is escaped
+			int length = Math.min(text.length(), Math.max(0, maxChars - builder.length()));
+			builder.append('"');
+			for (int i = 0; i < length; i++) {
+				escape(text.charAt(i));
+			}
+			builder.append('"');
+			limit(length < text.length());
+		}
+
+		/**
+		 * Escape the same way as commons-lang StringEscapeUtils.escapeJson.
+		 */
+		private void escape(final char c) {
+			switch (c) {
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\\':
+					builder.append("\\\\");
+					break;
+				case '/':
+					builder.append("\\/");
+					break;
+				case '\b':
+					builder.append("\\b");
+					break;
+				case '\f':
+					builder.append("\\f");
+					break;
+				case '\n':
+					builder.append("\\n");
+					break;
+				case '\r':
+					builder.append("\\r");
+					break;
+				case '\t':
+					builder.append("\\t");
+					break;
+				default:
+					if (c < 32 || c > 0x7f) {
+						builder.append(String.format("\\u%04X", (int) c));
+					} else {
+						builder.append(c);
+					}
+					break;
+			}
+		}
+
+		private void append(final String text) {
+			if (truncated) {
+				return;
+			}
+			int room = maxChars - builder.length();
+			if (text.length() > room) {
+				builder.append(text, 0, Math.max(0, room));
+				truncated = true;
+			} else {
+				builder.append(text);
+			}
+		}
+
+		private void limit(final boolean cut) {
+			if (cut || builder.length() > maxChars) {
+				builder.setLength(Math.min(builder.length(), maxChars));
+				truncated = true;
+			}
+		}
+	}
+}
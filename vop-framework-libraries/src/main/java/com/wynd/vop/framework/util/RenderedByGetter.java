@@ -0,0 +1,18 @@
+package com.wynd.vop.framework.util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field that is read through its bean getter when the object is rendered by {@link ObjectRenderer}, e.g.
+ * because the getter resolves the value lazily and the field is {@code null} until then.
+ * <p>
+ * The getter is the no-argument {@code getName()} (or {@code isName()} for booleans) method declared by the class
+ * of the field. If there is none, the field is read directly.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface RenderedByGetter {
+}
@@ -0,0 +1,36 @@
+package com.wynd.vop.framework.util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field whose value must be masked when the object is rendered by {@link ObjectRenderer}.
+ * <p>
+ * Masking is done by {@link MaskUtil}, as selected by the optional {@link #value() mask} attribute:
+ * <ul>
+ * <li>{@link Mask#ALL} (default) - every character is masked
+ * <li>{@link Mask#START} - only the last few characters are left unmasked
+ * <li>{@link Mask#END} - only the first few characters are left unmasked
+ * </ul>
+ * Values that are not simple (e.g. nested objects, collections) are replaced by a fixed mask.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Sensitive {
+	/** How the value is masked */
+	Mask value() default Mask.ALL;
+
+	/**
+	 * The {@link MaskUtil} masking to apply.
+	 */
+	enum Mask {
+		/** {@link MaskUtil#mask(String)} */
+		ALL,
+		/** {@link MaskUtil#maskStart(String)} */
+		START,
+		/** {@link MaskUtil#maskEnd(String)} */
+		END
+	}
+}
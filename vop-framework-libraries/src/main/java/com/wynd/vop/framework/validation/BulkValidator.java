@@ -0,0 +1,274 @@
+package com.wynd.vop.framework.validation;
+
+import com.wynd.vop.framework.messages.MessageSeverity;
+import com.wynd.vop.framework.messages.ServiceMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link AbstractStandardValidator} for requests that carry a large list of items, which validates the items
+ * in parallel once the list reaches a size threshold.
+ * <p>
+ * The items are split into chunks that are validated on a bounded fork-join pool, with the first chunk on the
+ * calling thread. Each chunk adds its messages to its own buffer, and the buffers are merged in item order, so the
+ * messages are the same as when the items are validated one at a time.
+ * <p>
+ * In fail-fast mode, validation stops at the first item that adds an {@link MessageSeverity#ERROR} or
+ * {@link MessageSeverity#FATAL} message: the chunks after it that have not started are cancelled, those that are
+ * running stop at their next item, and the messages are again the same as when the items are validated one at a time.
+ * <p>
+ * {@link #validateItem(Object, int, List)} runs on pool threads, so it must be thread-safe and must not rely on
+ * thread-locals such as the logging MDC.
+ *
+ * @param <T> type-cast the object being validated
+ * @param <E> the type of the items
+ */
+public abstract class BulkValidator<T, E> extends AbstractStandardValidator<T> {
+
+	/** Lists with fewer items are validated on the calling thread */
+	public static final int DEFAULT_THRESHOLD = 1000;
+
+	/** Number of items validated by each task */
+	public static final int DEFAULT_CHUNK_SIZE = 250;
+
+	/** Lists with fewer items are validated on the calling thread */
+	private final int threshold;
+
+	/** Number of items validated by each task */
+	private final int chunkSize;
+
+	/** Whether validation stops at the first error */
+	private final boolean failFast;
+
+	/**
+	 * Validator with the default threshold and chunk size, that validates all items.
+	 */
+	protected BulkValidator() {
+		this(DEFAULT_THRESHOLD, DEFAULT_CHUNK_SIZE, false);
+	}
+
+	/**
+	 * Validator with the given threshold and chunk size.
+	 *
+	 * @param threshold lists with fewer items are validated on the calling thread
+	 * @param chunkSize number of items validated by each task
+	 * @param failFast whether validation stops at the first error
+	 * @throws IllegalArgumentException if the threshold or chunk size is not positive
+	 */
+	protected BulkValidator(final int threshold, final int chunkSize, final boolean failFast) {
+		if ((threshold < 1) || (chunkSize < 1)) {
+			throw new IllegalArgumentException("threshold and chunkSize must be positive: " + threshold + ", " + chunkSize);
+		}
+		this.threshold = threshold;
+		this.chunkSize = chunkSize;
+		this.failFast = failFast;
+	}
+
+	/**
+	 * The items of the object to validate.
+	 *
+	 * @param toValidate the object to validate
+	 * @return the items, may be {@code null}
+	 */
+	protected abstract List<? extends E> getItems(T toValidate);
+
+	/**
+	 * Validate one item. Runs on the calling thread or on a pool thread.
+	 *
+	 * @param item the item, may be {@code null}
+	 * @param index the index of the item in the list
+	 * @param messages the list to add validation messages to
+	 */
+	protected abstract void validateItem(E item, int index, List<ServiceMessage> messages);
+
+	/**
+	 * Validate the object itself, before its items. Does nothing by default.
+	 * <p>
+	 * In fail-fast mode, the items are not validated if this adds an error.
+	 *
+	 * @param toValidate the object to validate
+	 * @param messages the list to add validation messages to
+	 */
+	protected void validateRequest(final T toValidate, final List<ServiceMessage> messages) {
+		// nothing by default
+	}
+
+	/**
+	 * The pool the items are validated on. By default, a pool shared by all bulk validators, with one thread per
+	 * available processor.
+	 *
+	 * @return the pool
+	 */
+	protected ForkJoinPool getPool() {
+		return Pool.INSTANCE;
+	}
+
+	/**
+	 * Validate the object, then its items.
+	 */
+	@Override
+	public final void validate(final T toValidate, final List<ServiceMessage> messages) {
+		int before = messages.size();
+		validateRequest(toValidate, messages);
+		if (failFast && hasError(messages, before)) {
+			return;
+		}
+
+		List<? extends E> items = getItems(toValidate);
+		if ((items == null) || items.isEmpty()) {
+			return;
+		}
+		if (items.size() < threshold) {
+			validateItems(items, 0, items.size(), messages, 0, null);
+		} else {
+			validateParallel(items instanceof RandomAccess ? items : new ArrayList<>(items), messages);
+		}
+	}
+
+	/**
+	 * Validate a range of items, stopping at the first error in fail-fast mode.
+	 * <p>
+	 * In fail-fast mode, validation of a chunk also stops as soon as an earlier chunk has failed, as its messages
+	 * will not be merged.
+	 *
+	 * @param items the items
+	 * @param start the index of the first item
+	 * @param end the index after the last item
+	 * @param messages the list to add validation messages to
+	 * @param chunk the index of the chunk of the range
+	 * @param firstFailure the index of the first chunk that failed, {@code null} if the range is not a chunk
+	 * @return false, if validation stopped at an error
+	 */
+	private boolean validateItems(final List<? extends E> items, final int start, final int end,
+			final List<ServiceMessage> messages, final int chunk, final AtomicInteger firstFailure) {
+		for (int i = start; i < end; i++) {
+			if (failFast && (firstFailure != null) && (firstFailure.get() < chunk)) {
+				return true;
+			}
+			int before = messages.size();
+			validateItem(items.get(i), i, messages);
+			if (failFast && hasError(messages, before)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Validate the items in chunks on the pool, and merge the messages of the chunks in order.
+	 *
+	 * @param items the items, with random access
+	 * @param messages the list to add validation messages to
+	 */
+	private void validateParallel(final List<? extends E> items, final List<ServiceMessage> messages) {
+		final int size = items.size();
+		final AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+		final List<Chunk> chunks = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+		for (int start = 0, index = 0; start < size; start += chunkSize, index++) {
+			chunks.add(new Chunk(items, index, start, Math.min(size, start + chunkSize), chunks, firstFailure));
+		}
+
+		try {
+			ForkJoinPool pool = getPool();
+			for (int i = 1; i < chunks.size(); i++) {
+				pool.execute(chunks.get(i));
+			}
+			chunks.get(0).invoke();
+			for (Chunk chunk : chunks) {
+				if (chunk.index <= firstFailure.get()) {
+					try {
+						chunk.join();
+					} catch (CancellationException e) { // NOSONAR cancelled after an earlier chunk failed
+						// the chunk is not merged
+					}
+				}
+			}
+		} catch (RuntimeException | Error e) {
+			for (Chunk chunk : chunks) {
+				chunk.cancel(false);
+			}
+			throw e;
+		}
+
+		int last = Math.min(chunks.size() - 1, firstFailure.get());
+		for (int i = 0; i <= last; i++) {
+			messages.addAll(chunks.get(i).buffer);
+		}
+	}
+
+	/**
+	 * Whether a message added since {@code from} is an error.
+	 *
+	 * @param messages the messages
+	 * @param from the size of the messages before validation
+	 * @return true, if an ERROR or FATAL message was added
+	 */
+	private static boolean hasError(final List<ServiceMessage> messages, final int from) {
+		for (int i = from; i < messages.size(); i++) {
+			MessageSeverity severity = messages.get(i).getSeverity();
+			if ((severity == MessageSeverity.ERROR) || (severity == MessageSeverity.FATAL)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Validation of a range of items, with its own message buffer.
+	 */
+	private final class Chunk extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final transient List<? extends E> items;
+		private final int index;
+		private final int start;
+		private final int end;
+		private final transient List<Chunk> chunks;
+		private final AtomicInteger firstFailure;
+		private final transient List<ServiceMessage> buffer = new ArrayList<>();
+
+		Chunk(final List<? extends E> items, final int index, final int start, final int end, final List<Chunk> chunks,
+				final AtomicInteger firstFailure) {
+			this.items = items;
+			this.index = index;
+			this.start = start;
+			this.end = end;
+			this.chunks = chunks;
+			this.firstFailure = firstFailure;
+		}
+
+		@Override
+		protected void compute() {
+			// skip the chunk if an earlier chunk already failed
+			if ((firstFailure.get() > index) && !validateItems(items, start, end, buffer, index, firstFailure)) {
+				firstFailure.accumulateAndGet(index, Math::min);
+				for (int i = index + 1; i < chunks.size(); i++) {
+					chunks.get(i).cancel(false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The pool shared by all bulk validators, created on first use.
+	 */
+	private static final class Pool {
+		private static final AtomicInteger THREADS = new AtomicInteger();
+
+		static final ForkJoinPool INSTANCE = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("vop-bulk-validator-" + THREADS.incrementAndGet());
+			return thread;
+		}, null, false);
+
+		private Pool() {
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.wynd.vop.framework.validation;
+
+/**
+ * An interface for business validation classes in the service (domain) layers that keep no state between calls.
+ * <p>
+ * Unlike {@link Validator}, the calling method, supplemental objects and messages of a validation are
+ * passed in a {@link ValidationContext}, so one instance of the validator can be shared by all calls, on any thread.
+ * The service validation aspect creates one instance per validator class, or takes the validator bean from
+ * the Spring context when there is a single bean of the validator class.
+ * <p>
+ * Implementations <b>must</b> be thread-safe, and provide a no-arg constructor unless they are Spring beans.
+ * Existing {@link Validator} implementations are invoked through a {@link ValidatorAdapter}.
+ *
+ * @see ValidationContext
+ * @see ValidatorAdapter
+ *
+ * @param <T> type-cast the object being validated
+ */
+@FunctionalInterface
+public interface StatelessValidator<T> {
+
+	/**
+	 * Validate the supplied {@code toValidate} object, adding any resulting validation messages to the context.
+	 *
+	 * @param toValidate the object that is to be validated, never {@code null}
+	 * @param context the calling method, supplemental objects and messages of the validation
+	 */
+	void validate(T toValidate, ValidationContext context);
+}
@@ -0,0 +1,151 @@
+package com.wynd.vop.framework.validation;
+
+import com.wynd.vop.framework.messages.MessageKey;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import com.wynd.vop.framework.messages.ServiceMessage;
+import org.springframework.http.HttpStatus;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The per-call state of a validation by a {@link StatelessValidator}: the method that caused the validation,
+ * any supplemental objects, and the list to which validation messages are added.
+ * <p>
+ * A context is not thread-safe, and is used by one validation at a time.
+ *
+ * @see StatelessValidator
+ */
+public final class ValidationContext {
+
+	/** The method that caused the validator to be executed */
+	private final Method callingMethod;
+
+	/** The messages to be returned to the service method caller */
+	private final List<ServiceMessage> messages;
+
+	/** Supplemental objects for processing the validation */
+	private final Object[] supplemental;
+
+	/**
+	 * Create the context of a validation.
+	 *
+	 * @param callingMethod the method that caused the validation, may be {@code null}
+	 * @param messages the list to which validation messages are added, a new list is used if {@code null}
+	 * @param supplemental any additional data / information objects for use in the validation process
+	 */
+	public ValidationContext(final Method callingMethod, final List<ServiceMessage> messages, final Object... supplemental) {
+		this.callingMethod = callingMethod;
+		this.messages = messages != null ? messages : new ArrayList<>();
+		this.supplemental = supplemental;
+	}
+
+	/**
+	 * The method that caused the validation.
+	 *
+	 * @return Method null, or the method call that caused the validation
+	 */
+	public Method getCallingMethod() {
+		return callingMethod;
+	}
+
+	/**
+	 * The calling method name, in the same form as {@link AbstractStandardValidator}.
+	 *
+	 * @return {@code ClassSimpleName.methodName: }, or an empty string if there is no calling method
+	 */
+	public String getCallingMethodName() {
+		return callingMethod == null ? ""
+				: callingMethod.getDeclaringClass().getSimpleName() + "." + callingMethod.getName() + ": ";
+	}
+
+	/**
+	 * The messages to be returned to the service method caller.
+	 *
+	 * @return the messages, never {@code null}
+	 */
+	public List<ServiceMessage> getMessages() {
+		return messages;
+	}
+
+	/**
+	 * Add a validation message.
+	 *
+	 * @param message the message
+	 */
+	public void addMessage(final ServiceMessage message) {
+		messages.add(message);
+	}
+
+	/**
+	 * Add a validation message.
+	 *
+	 * @param severity the severity of the message
+	 * @param status the HTTP status of the message
+	 * @param key the key of the message
+	 * @param params the parameters of the message
+	 */
+	public void addMessage(final MessageSeverity severity, final HttpStatus status, final MessageKey key, final String... params) {
+		messages.add(new ServiceMessage(severity, status, key, params));
+	}
+
+	/**
+	 * Returns {@code true} if any validation messages have been added.
+	 *
+	 * @return boolean - true if the messages list is not empty
+	 */
+	public boolean hasMessages() {
+		return !messages.isEmpty();
+	}
+
+	/**
+	 * Returns {@code true} if any supplemental objects have been added to the context.
+	 *
+	 * @return boolean - true if the supplemental array has anything in it
+	 */
+	public boolean hasSupplemental() {
+		return (supplemental != null) && (supplemental.length > 0);
+	}
+
+	/**
+	 * Returns {@code true} if any supplemental objects of type {@code clazz} have been added to the context.
+	 * <p>
+	 * Note that {@code clazz} must be the exact type. Subclasses will not be identified.
+	 *
+	 * @param clazz - the exact type to look for
+	 * @return boolean - {@code true} if an object of type {@code clazz} was found
+	 */
+	public boolean hasSupplemental(final Class<?> clazz) {
+		return getSupplemental(clazz) != null;
+	}
+
+	/**
+	 * Get all supplemental objects.
+	 *
+	 * @return Object[] - the array of supplemental objects, may be {@code null}
+	 */
+	public Object[] getSupplemental() {
+		return supplemental;
+	}
+
+	/**
+	 * Get the first supplemental object of type {@code clazz}.
+	 * <p>
+	 * Note that {@code clazz} must be the exact type. Subclasses will not be identified.
+	 *
+	 * @param <S> the type of object to get
+	 * @param clazz - the exact type of object to get
+	 * @return the supplemental object, or {@code null} if there is none
+	 */
+	public <S> S getSupplemental(final Class<S> clazz) {
+		if ((clazz != null) && hasSupplemental()) {
+			for (Object obj : supplemental) {
+				if ((obj != null) && clazz.equals(obj.getClass())) {
+					return clazz.cast(obj);
+				}
+			}
+		}
+		return null;
+	}
+}
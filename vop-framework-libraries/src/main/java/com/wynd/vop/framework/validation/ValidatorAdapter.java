@@ -0,0 +1,66 @@
+package com.wynd.vop.framework.validation;
+
+import com.wynd.vop.framework.exception.VopRuntimeException;
+import com.wynd.vop.framework.log.VopLogger;
+import com.wynd.vop.framework.log.VopLoggerFactory;
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Invokes an existing {@link Validator} as a {@link StatelessValidator}.
+ * <p>
+ * {@link Validator} implementations such as {@link AbstractStandardValidator} keep the state of a call in
+ * their fields, so a new instance of the validator is created for each validation.
+ *
+ * @param <T> type-cast the object being validated
+ */
+public class ValidatorAdapter<T> implements StatelessValidator<T> {
+
+	/** Class logger */
+	private static final VopLogger LOGGER = VopLoggerFactory.getLogger(ValidatorAdapter.class);
+
+	/** The class of the adapted validator */
+	private final Class<? extends Validator<?>> validatorClass;
+
+	/**
+	 * Adapt a validator class.
+	 *
+	 * @param validatorClass the class of the validator, must provide a no-arg constructor
+	 */
+	public ValidatorAdapter(final Class<? extends Validator<?>> validatorClass) {
+		this.validatorClass = validatorClass;
+	}
+
+	/**
+	 * The class of the adapted validator.
+	 *
+	 * @return the validator class
+	 */
+	public Class<? extends Validator<?>> getValidatorClass() {
+		return validatorClass;
+	}
+
+	/**
+	 * Create a new instance of the validator, then set its calling method and call its
+	 * {@link Validator#initValidate(Object, java.util.List, Object...)} method.
+	 *
+	 * @throws VopRuntimeException if the validator cannot be instantiated
+	 */
+	@Override
+	public void validate(final T toValidate, final ValidationContext context) {
+		try {
+			Validator<?> validator = validatorClass.newInstance();
+			validator.setCallingMethod(context.getCallingMethod());
+			validator.initValidate(toValidate, context.getMessages(), context.getSupplemental());
+
+		} catch (InstantiationException | IllegalAccessException | NullPointerException e) {
+			// Validator programming issue - throw exception
+			MessageKeys key = MessageKeys.VOP_DEV_ILLEGAL_INVOCATION;
+			String[] params = new String[] { validatorClass.getName(), "validate",
+					(toValidate == null ? "null" : toValidate.getClass().getName()), Validator.class.getName() };
+			LOGGER.error(key.getMessage(params), e);
+			throw new VopRuntimeException(key, MessageSeverity.FATAL, HttpStatus.INTERNAL_SERVER_ERROR, e, params);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.wynd.vop.framework.validation;
+
+import com.wynd.vop.framework.log.VopLogger;
+import com.wynd.vop.framework.log.VopLoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The validators of model classes, as indexed at compile time by the {@link ValidatorIndexProcessor}.
+ * <p>
+ * Each jar compiled with the framework on its class path has a {@value #LOCATION} resource that maps the binary
+ * name of model classes to the binary name of their validator, or to an empty value if the model class has no
+ * validator. The index is authoritative for the classes in it: their validator is loaded by its indexed name, and
+ * those without a validator are not looked up at all. Only model classes compiled without annotation processing
+ * are not in the index, and must be looked up by name.
+ * <p>
+ * When resources disagree, e.g. a model indexed without a validator in its own jar and a validator of that model
+ * indexed in another jar, the validator wins.
+ */
+public final class ValidatorIndex {
+
+	private static final VopLogger LOGGER = VopLoggerFactory.getLogger(ValidatorIndex.class);
+
+	/** The location of the index resources */
+	public static final String LOCATION = "META-INF/vop/validator.index";
+
+	/** The value of model classes without a validator */
+	private static final String NO_VALIDATOR = "";
+
+	/** Validator class names by model binary name, {@link #NO_VALIDATOR} if the model class has none */
+	private final Map<String, String> validators;
+
+	/**
+	 * Create an index.
+	 *
+	 * @param validators validator class names by model binary name, empty if the model class has none
+	 */
+	ValidatorIndex(final Map<String, String> validators) {
+		this.validators = validators;
+	}
+
+	/**
+	 * Load and merge all the index resources of the class loader.
+	 *
+	 * @param classLoader the class loader
+	 * @return the index, empty if there are no resources or they cannot be read
+	 */
+	public static ValidatorIndex load(final ClassLoader classLoader) {
+		Map<String, String> validators = new HashMap<>();
+		try {
+			Enumeration<URL> resources =
+					classLoader == null ? ClassLoader.getSystemResources(LOCATION) : classLoader.getResources(LOCATION);
+			while (resources.hasMoreElements()) {
+				URL resource = resources.nextElement();
+				try (InputStream in = resource.openStream();
+						Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+					Properties properties = new Properties();
+					properties.load(reader);
+					for (String model : properties.stringPropertyNames()) {
+						String validator = properties.getProperty(model).trim();
+						if (validator.isEmpty()) {
+							validators.putIfAbsent(model, NO_VALIDATOR);
+						} else {
+							validators.put(model, validator);
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Could not read the validator index, validators will be looked up by name", e);
+			return new ValidatorIndex(Collections.emptyMap());
+		}
+		LOGGER.debug("Loaded the validator index of " + validators.size() + " classes");
+		return new ValidatorIndex(validators);
+	}
+
+	/**
+	 * Whether the model class is in the index, with or without a validator.
+	 *
+	 * @param type the model class
+	 * @return true, if {@link #getValidatorName(Class)} is authoritative for the class
+	 */
+	public boolean contains(final Class<?> type) {
+		return validators.containsKey(type.getName());
+	}
+
+	/**
+	 * The name of the indexed validator of the model class.
+	 *
+	 * @param type the model class
+	 * @return the validator class name, or {@code null} if the class has no validator or is not in the index
+	 */
+	public String getValidatorName(final Class<?> type) {
+		String validator = validators.get(type.getName());
+		return (validator == null) || validator.isEmpty() ? null : validator;
+	}
+
+	/**
+	 * The number of model classes in the index.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return validators.size();
+	}
+}
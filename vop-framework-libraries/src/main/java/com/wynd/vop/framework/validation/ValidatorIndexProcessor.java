@@ -0,0 +1,219 @@
+package com.wynd.vop.framework.validation;
+
+import com.google.auto.service.AutoService;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Annotation processor that generates the {@link ValidatorIndex} of the compiled classes, so the service
+ * validation aspect does not have to probe the class loader for validators.
+ * <p>
+ * The index maps the binary name of each model class to the name of its validator, following the same
+ * <tt><i>model.package</i>.validators.<i>ModelSimpleName</i>Validator</tt> convention as the aspect:
+ * <ul>
+ * <li>each concrete {@code DomainRequest} and {@code DomainResponse} is indexed against its conventional validator
+ * class, or with an empty value if that class does not exist, so the aspect does not look it up
+ * <li>each concrete {@link Validator} or {@link StatelessValidator} that is the conventional validator of its
+ * validated type is indexed against that type, which covers models in other modules
+ * </ul>
+ * The processor does not claim any annotation, and runs on every compilation that has the framework on its class
+ * path.
+ */
+@SupportedAnnotationTypes("*")
+@AutoService(Processor.class)
+public class ValidatorIndexProcessor extends AbstractProcessor {
+
+	private static final String DOMAIN_REQUEST = "com.wynd.vop.framework.service.DomainRequest";
+	private static final String DOMAIN_RESPONSE = "com.wynd.vop.framework.service.DomainResponse";
+
+	/** Validator class names by model binary name, collected over all rounds */
+	private final Map<String, String> index = new TreeMap<>();
+
+	/**
+	 * Process.
+	 *
+	 * @param annotations the annotations
+	 * @param roundEnv the round environment
+	 * @return false, annotations are not claimed
+	 */
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			if (!index.isEmpty()) {
+				writeIndex();
+			}
+			return false;
+		}
+		for (Element element : roundEnv.getRootElements()) {
+			processElement(element);
+		}
+		return false;
+	}
+
+	/**
+	 * Index a type and its member types.
+	 *
+	 * @param element the element
+	 */
+	private void processElement(final Element element) {
+		if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+			return;
+		}
+		TypeElement type = (TypeElement) element;
+		if ((type.getKind() == ElementKind.CLASS) && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+			if (isSubtype(type, DOMAIN_REQUEST) || isSubtype(type, DOMAIN_RESPONSE)) {
+				indexModel(type);
+			}
+			indexValidator(type, Validator.class.getName());
+			indexValidator(type, StatelessValidator.class.getName());
+		}
+		for (Element enclosed : type.getEnclosedElements()) {
+			processElement(enclosed);
+		}
+	}
+
+	/**
+	 * Index a model class against its conventional validator, or without a validator if it does not exist.
+	 * A validator indexed against the model in another round is kept.
+	 *
+	 * @param model the model class
+	 */
+	private void indexModel(final TypeElement model) {
+		TypeElement validator = processingEnv.getElementUtils().getTypeElement(validatorName(model));
+		if (validator != null) {
+			index.put(binaryName(model), binaryName(validator));
+		} else {
+			index.putIfAbsent(binaryName(model), "");
+		}
+	}
+
+	/**
+	 * Index a validator against its validated type, if it is the conventional validator of that type.
+	 *
+	 * @param validator the class that may be a validator
+	 * @param validatorInterface the name of the validator interface
+	 */
+	private void indexValidator(final TypeElement validator, final String validatorInterface) {
+		TypeMirror validated = validatedType(validator.asType(), validatorInterface);
+		if ((validated != null) && (validated.getKind() == TypeKind.DECLARED)) {
+			TypeElement model = (TypeElement) ((DeclaredType) validated).asElement();
+			if (validatorName(model).contentEquals(validator.getQualifiedName())) {
+				index.put(binaryName(model), binaryName(validator));
+			}
+		}
+	}
+
+	/**
+	 * The type argument of the validator interface on a type or its supertypes.
+	 *
+	 * @param type the type
+	 * @param validatorInterface the name of the validator interface
+	 * @return the validated type, or {@code null} if the type does not implement the interface
+	 */
+	private TypeMirror validatedType(final TypeMirror type, final String validatorInterface) {
+		Types types = processingEnv.getTypeUtils();
+		for (TypeMirror supertype : types.directSupertypes(type)) {
+			if (supertype.getKind() != TypeKind.DECLARED) {
+				continue;
+			}
+			DeclaredType declared = (DeclaredType) supertype;
+			if (((TypeElement) declared.asElement()).getQualifiedName().contentEquals(validatorInterface)) {
+				List<? extends TypeMirror> arguments = declared.getTypeArguments();
+				return arguments.isEmpty() ? null : arguments.get(0);
+			}
+			TypeMirror validated = validatedType(supertype, validatorInterface);
+			if (validated != null) {
+				return validated;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Whether a type is a subtype of the named class.
+	 *
+	 * @param type the type
+	 * @param className the class name
+	 * @return true, if the class is known and the type is a subtype of it
+	 */
+	private boolean isSubtype(final TypeElement type, final String className) {
+		TypeElement superclass = processingEnv.getElementUtils().getTypeElement(className);
+		Types types = processingEnv.getTypeUtils();
+		return (superclass != null) && types.isSubtype(types.erasure(type.asType()), types.erasure(superclass.asType()));
+	}
+
+	/**
+	 * The conventional validator name of a model class, as the service validation aspect derives it.
+	 *
+	 * @param model the model class
+	 * @return the canonical name of the validator
+	 */
+	private String validatorName(final TypeElement model) {
+		PackageElement modelPackage = processingEnv.getElementUtils().getPackageOf(model);
+		return (modelPackage.isUnnamed() ? "" : modelPackage.getQualifiedName() + ".") + "validators."
+				+ model.getSimpleName() + "Validator";
+	}
+
+	/**
+	 * The binary name of a type, as returned by {@link Class#getName()}.
+	 *
+	 * @param type the type
+	 * @return the binary name
+	 */
+	private String binaryName(final TypeElement type) {
+		Elements elements = processingEnv.getElementUtils();
+		return elements.getBinaryName(type).toString();
+	}
+
+	/**
+	 * Write the index to the class output.
+	 */
+	private void writeIndex() {
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ValidatorIndex.LOCATION);
+			try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+				writer.write("# Generated by " + ValidatorIndexProcessor.class.getName() + "\n");
+				for (Map.Entry<String, String> entry : index.entrySet()) {
+					writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.WARNING, "Could not write the validator index: " + e);
+		}
+	}
+
+	/**
+	 * Supports all source versions, as the processor only reads the type hierarchy.
+	 *
+	 * @return The latest supported source version
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latest();
+	}
+}
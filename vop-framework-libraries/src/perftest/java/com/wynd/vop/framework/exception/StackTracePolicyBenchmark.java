@@ -0,0 +1,63 @@
+package com.wynd.vop.framework.exception;
+
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests that each throw and handle a validation exception {@value #DEPTH} frames deep,
+ * with and without stack traces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StackTracePolicyBenchmark {
+
+	/** The stack depth of the throwing frame, as in a typical controller - service - validator call */
+	private static final int DEPTH = 64;
+
+	@Param({ "true", "false" })
+	private boolean stackless;
+
+	private int i;
+
+	@Setup
+	public void setUp() {
+		StackTracePolicy.setEnabled(stackless);
+	}
+
+	@TearDown
+	public void tearDown() {
+		StackTracePolicy.reset();
+	}
+
+	@Benchmark
+	public int request() {
+		try {
+			request(DEPTH, i++);
+			return 0;
+		} catch (VopValidationRuntimeException e) {
+			return e.getExceptionData().getParams().length;
+		}
+	}
+
+	private static void request(final int depth, final int i) {
+		if (depth > 0) {
+			request(depth - 1, i);
+		} else {
+			throw new VopValidationRuntimeException(MessageKeys.VOP_VALIDATOR_ASSERTION, MessageSeverity.ERROR,
+					HttpStatus.BAD_REQUEST, "request " + i);
+		}
+	}
+}
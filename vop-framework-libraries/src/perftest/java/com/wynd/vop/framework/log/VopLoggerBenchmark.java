@@ -0,0 +1,52 @@
+package com.wynd.vop.framework.log;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.event.Level;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-call cost of a typical DEBUG object dump when the logger is at INFO:
+ * an eagerly built message against the {@link VopLogger#debug(String, java.util.function.Supplier...)} overload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VopLoggerBenchmark {
+
+	private final VopLogger logger = VopLoggerFactory.getLogger(VopLoggerBenchmark.class);
+
+	private final ResponseLike response = new ResponseLike();
+
+	@Setup
+	public void setUp() {
+		logger.setLevel(Level.INFO);
+	}
+
+	@Benchmark
+	public void eager() {
+		logger.debug("responseToConsumer: " + ReflectionToStringBuilder.toString(response, null, true, true));
+	}
+
+	@Benchmark
+	public void supplier() {
+		logger.debug("responseToConsumer: {}", () -> ReflectionToStringBuilder.toString(response, null, true, true));
+	}
+
+	/** A small object graph, similar to a provider response */
+	@SuppressWarnings("unused")
+	private static class ResponseLike {
+		private final String id = "12345";
+		private final List<String> messages = Arrays.asList("message one", "message two");
+		private final Object nested = new Object();
+	}
+}
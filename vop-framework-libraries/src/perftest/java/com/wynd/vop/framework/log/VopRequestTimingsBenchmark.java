@@ -0,0 +1,46 @@
+package com.wynd.vop.framework.log;
+
+import com.wynd.vop.framework.log.VopRequestTimings.Span;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of one span: taking the start time and recording it,
+ * with the current thread recording or not.
+ * <p>
+ * Thread scoped, as the timings are held per thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VopRequestTimingsBenchmark {
+
+	@Param({ "true", "false" })
+	private boolean recording;
+
+	@Setup
+	public void setUp() {
+		if (recording) {
+			VopRequestTimings.start();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		VopRequestTimings.stop();
+	}
+
+	@Benchmark
+	public void span() {
+		VopRequestTimings.record(Span.SERVICE, System.nanoTime());
+	}
+}
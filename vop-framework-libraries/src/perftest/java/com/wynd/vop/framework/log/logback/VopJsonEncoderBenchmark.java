@@ -0,0 +1,122 @@
+package com.wynd.vop.framework.log.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import net.logstash.logback.composite.loggingevent.LoggingEventPatternJsonProvider;
+import net.logstash.logback.composite.loggingevent.LoggingEventThreadNameJsonProvider;
+import net.logstash.logback.composite.loggingevent.MdcJsonProvider;
+import net.logstash.logback.encoder.LoggingEventCompositeJsonEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-event cost of the composite encoder with the pattern provider,
+ * against {@link VopJsonEncoder} with the {@link VopFrameworkFieldsJsonProvider}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VopJsonEncoderBenchmark {
+
+	/** The pattern provider configuration that {@link VopFrameworkFieldsJsonProvider} replaces */
+	private static final String PATTERN = "{ \"logType\": \"%mdc{logType:-applogs}\", \"severity\": \"%level\","
+			+ " \"class\": \"%logger{40}\", \"pid\": \"4242\" }";
+
+	private final LoggerContext context = new LoggerContext();
+
+	private LoggingEventCompositeJsonEncoder composite;
+
+	private VopJsonEncoder vop;
+
+	private List<LoggingEvent> events;
+
+	@Setup
+	public void setUp() {
+		composite = reference();
+		vop = vop();
+		events = events();
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.stop();
+	}
+
+	@Benchmark
+	public void composite(final Blackhole blackhole) {
+		for (LoggingEvent event : events) {
+			blackhole.consume(composite.encode(event));
+		}
+	}
+
+	@Benchmark
+	public void vop(final Blackhole blackhole) {
+		for (LoggingEvent event : events) {
+			blackhole.consume(vop.encode(event));
+		}
+	}
+
+	private LoggingEventCompositeJsonEncoder reference() {
+		LoggingEventCompositeJsonEncoder encoder = new LoggingEventCompositeJsonEncoder();
+		LoggingEventPatternJsonProvider pattern = new LoggingEventPatternJsonProvider();
+		pattern.setPattern(PATTERN);
+		encoder.getProviders().addProvider(pattern);
+		return start(encoder);
+	}
+
+	private VopJsonEncoder vop() {
+		VopJsonEncoder encoder = new VopJsonEncoder();
+		VopFrameworkFieldsJsonProvider fields = new VopFrameworkFieldsJsonProvider();
+		fields.setPid("4242");
+		encoder.getProviders().addProvider(fields);
+		return start(encoder);
+	}
+
+	private <T extends LoggingEventCompositeJsonEncoder> T start(final T encoder) {
+		encoder.getProviders().addProvider(new LoggingEventThreadNameJsonProvider());
+		encoder.getProviders().addProvider(new MdcJsonProvider());
+		VopMaskingMessageProvider message = new VopMaskingMessageProvider();
+		message.setRules(VopMaskRules.defaultRules());
+		encoder.getProviders().addProvider(message);
+		encoder.setContext(context);
+		encoder.start();
+		return encoder;
+	}
+
+	private List<LoggingEvent> events() {
+		List<LoggingEvent> list = new ArrayList<>();
+		list.add(event("com.wynd.vop.framework.rest.provider.aspect.ProviderHttpAspect", Level.INFO,
+				"Request for \"/api/v1/persons\" took 12 ms", null));
+		list.add(event("short", Level.DEBUG, "card 4111111111111111 for ssn 123-45-6789", null));
+		Map<String, String> mdc = new HashMap<>();
+		mdc.put("logType", "auditlogs");
+		mdc.put("traceId", "5f2b1c");
+		list.add(event("com.wynd.vop.framework.audit.AuditLogger", Level.WARN, "audit \u00e9v\u00e9nement", mdc));
+		return list;
+	}
+
+	private LoggingEvent event(final String loggerName, final Level level, final String message,
+			final Map<String, String> mdc) {
+		Logger logger = context.getLogger(loggerName);
+		LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+		event.setThreadName("http-nio-8080-exec-1");
+		event.setMDCPropertyMap(mdc == null ? Collections.emptyMap() : mdc);
+		return event;
+	}
+}
@@ -0,0 +1,66 @@
+package com.wynd.vop.framework.log.logback;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Masking of typical log lines with the default rules:
+ * the single pass {@link VopMaskRules#apply(String)} against applying the rules one at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VopMaskRulesBenchmark {
+
+	/** Log lines with and without sensitive data */
+	private static final List<String> LINES = Arrays.asList(
+			"{\"@timestamp\":\"2020-01-01T00:00:00.000Z\",\"logType\":\"applogs\",\"severity\":\"INFO\","
+					+ "\"class\":\"c.w.v.f.r.p.a.ProviderHttpAspect\",\"message\":\"Request processed in 152 ms\"}",
+			"{\"@timestamp\":\"2020-01-01T00:00:00.000Z\",\"logType\":\"applogs\",\"severity\":\"ERROR\","
+					+ "\"message\":\"Payment failed for card 4111111111111111 ssn 123-45-6789\"}",
+			"Audit: PersonInfoRequest[participantID=6666345,ssn=123456789,accountNumber=000123456789012]",
+			"Exiting method com.wynd.vop.service.impl.SomeServiceImpl.doWork() with no sensitive data");
+
+	private VopMaskRules rules;
+
+	private List<VopMaskRule> ruleAtATime;
+
+	@Setup
+	public void setUp() {
+		rules = VopMaskRules.defaultRules();
+		ruleAtATime = new ArrayList<>();
+		ruleAtATime.add(new VopMaskRule.Definition("Credit Card", "", "", "\\d{13,19}", 4).rule());
+		ruleAtATime.add(new VopMaskRule.Definition("Bank Account USA", "", "", "\\b[0-9]{12,17}\\b", 4).rule());
+		ruleAtATime.add(new VopMaskRule.Definition("SSN", "", "",
+				"\\b(?!000)(?!666)(?!9)[0-9]{3}[ -]?(?!00)[0-9]{2}[ -]?(?!0000)[0-9]{4}\\b", 4).rule());
+	}
+
+	@Benchmark
+	public void ruleAtATime(final Blackhole blackhole) {
+		for (String line : LINES) {
+			String masked = line;
+			for (VopMaskRule rule : ruleAtATime) {
+				masked = rule.apply(masked);
+			}
+			blackhole.consume(masked);
+		}
+	}
+
+	@Benchmark
+	public void rules(final Blackhole blackhole) {
+		for (String line : LINES) {
+			blackhole.consume(rules.apply(line));
+		}
+	}
+}
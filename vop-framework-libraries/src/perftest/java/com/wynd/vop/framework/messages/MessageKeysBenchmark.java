@@ -0,0 +1,24 @@
+package com.wynd.vop.framework.messages;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of formatting a message from the catalog, with replaceable parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageKeysBenchmark {
+
+	@Benchmark
+	public String getMessage() {
+		return MessageKeys.VOP_DEV_ILLEGAL_INVOCATION.getMessage("a", "b", "c", "d");
+	}
+}
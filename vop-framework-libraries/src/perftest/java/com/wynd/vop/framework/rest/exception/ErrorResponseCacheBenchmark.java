@@ -0,0 +1,52 @@
+package com.wynd.vop.framework.rest.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import com.wynd.vop.framework.rest.provider.ProviderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering the same error body over and over, as in an error storm:
+ * a new {@link ProviderResponse} each time, against the response from the {@link ErrorResponseCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseCacheBenchmark {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private ErrorResponseCache cache;
+
+	private String text;
+
+	@Setup
+	public void setUp() {
+		cache = new ErrorResponseCache(objectMapper);
+		text = MessageKeys.NO_KEY.getMessage();
+	}
+
+	@Benchmark
+	public byte[] rendered() throws JsonProcessingException {
+		ProviderResponse apiError = new ProviderResponse();
+		apiError.addMessage(MessageSeverity.FATAL, MessageKeys.NO_KEY.getKey(), text, HttpStatus.INTERNAL_SERVER_ERROR);
+		return objectMapper.writeValueAsBytes(apiError);
+	}
+
+	@Benchmark
+	public byte[] cached() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(cache.getResponse(MessageSeverity.FATAL, MessageKeys.NO_KEY, text,
+				HttpStatus.INTERNAL_SERVER_ERROR).getBody());
+	}
+}
@@ -51,6 +51,9 @@ public class PerformanceLoggingAspectTest extends AbstractBaseLogTester {
 	@Override
 	@After
 	public void tearDown() {
+		PerformanceLoggingAspect.setLogThresholdMillis(0);
+		PerformanceLoggingAspect.setLogSampleRate(0);
+		PerformanceLoggingAspect.getTracker().reset();
 	}
 
 	@Test
@@ -117,6 +120,26 @@ public class PerformanceLoggingAspectTest extends AbstractBaseLogTester {
 		PerformanceLoggingAspect.aroundAdvice(proceedingJoinPoint);
 	}
 
+	@Test
+	public void testAroundAdviceBelowThreshold() throws Throwable {
+		super.getAppender().clear();
+		AspectLoggingLOG.setLevel(Level.INFO);
+		AspectLoggingTestLOG.setLevel(Level.INFO);
+		PerformanceLoggingAspect.setLogThresholdMillis(60_000);
+		PerformanceLoggingAspect.getTracker().reset();
+
+		PerformanceLoggingAspect.aroundAdvice(proceedingJoinPoint);
+
+		assertTrue(super.getAppender().isEmpty());
+		assertEquals(1, PerformanceLoggingAspect.getTracker().snapshot()
+				.get(PerformanceLoggingAspectTest.class.getName() + ".someMethod()").getCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSampleRate() {
+		PerformanceLoggingAspect.setLogSampleRate(2);
+	}
+
 	public Method myMethod() throws NoSuchMethodException {
 		return getClass().getDeclaredMethod("someMethod");
 	}
@@ -0,0 +1,131 @@
+package com.wynd.vop.framework.aspect;
+
+import com.wynd.vop.framework.aspect.PerformanceTracker.Invocation;
+import com.wynd.vop.framework.aspect.PerformanceTracker.MethodSnapshot;
+import com.wynd.vop.framework.log.logback.VopMaskRules;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class PerformanceTrackerTest {
+
+	private static final String NAME = PerformanceTrackerTest.class.getName() + ".someMethod(String)";
+
+	private PerformanceTracker tracker;
+
+	private Method method;
+
+	@Before
+	public void setup() throws NoSuchMethodException {
+		tracker = new PerformanceTracker();
+		method = getClass().getDeclaredMethod("someMethod", String.class);
+	}
+
+	@Test
+	public void testBuckets() {
+		long previous = -1;
+		for (int bucket = 0; bucket < PerformanceTracker.BUCKETS; bucket++) {
+			long highest = PerformanceTracker.highestValue(bucket);
+			assertTrue(highest > previous);
+			assertEquals(bucket, PerformanceTracker.bucket(highest));
+			assertEquals(bucket, PerformanceTracker.bucket(previous + 1));
+			previous = highest;
+		}
+		assertEquals(PerformanceTracker.BUCKETS - 1, PerformanceTracker.bucket(Long.MAX_VALUE));
+		// precision of about 6%
+		long value = 123_456;
+		assertTrue(PerformanceTracker.highestValue(PerformanceTracker.bucket(value)) < value * 1.07);
+	}
+
+	@Test
+	public void testSnapshot() {
+		for (int i = 1; i <= 1000; i++) {
+			tracker.record(method, i * 1_000_000L, () -> new Object[] { "arg" });
+		}
+
+		Map<String, MethodSnapshot> snapshot = tracker.snapshot();
+		assertEquals(1, snapshot.size());
+		MethodSnapshot stats = snapshot.get(NAME);
+		assertEquals(1000, stats.getCount());
+		assertEquals(500.5, stats.getMeanMillis(), 0.001);
+		assertEquals(1000.0, stats.getMaxMillis(), 0.001);
+		assertEquals(500.0, stats.getP50Millis(), 500.0 * 0.07);
+		assertEquals(900.0, stats.getP90Millis(), 900.0 * 0.07);
+		assertEquals(990.0, stats.getP99Millis(), 990.0 * 0.07);
+		assertTrue(stats.getP999Millis() <= stats.getMaxMillis());
+	}
+
+	@Test
+	public void testSlowest() {
+		AtomicInteger rendered = new AtomicInteger();
+		tracker.setCaptureArguments(true);
+		tracker.setSlowest(3);
+		for (long millis : new long[] { 5, 1, 9, 7, 3, 8, 2 }) {
+			tracker.record(method, millis * 1_000_000L, () -> {
+				rendered.incrementAndGet();
+				return new Object[] { "call" + millis };
+			});
+		}
+
+		List<Invocation> slowest = tracker.snapshot().get(NAME).getSlowest();
+		assertEquals(3, slowest.size());
+		assertEquals(9.0, slowest.get(0).getElapsedMillis(), 0.001);
+		assertEquals("[call9]", slowest.get(0).getArguments());
+		assertEquals(8.0, slowest.get(1).getElapsedMillis(), 0.001);
+		assertEquals(7.0, slowest.get(2).getElapsedMillis(), 0.001);
+		assertNotNull(slowest.get(0).getTimestamp());
+		assertEquals(Thread.currentThread().getName(), slowest.get(0).getThread());
+		// 5, 1, 9 fill the list, then 7 and 8 replace the fastest; 3 and 2 are not rendered
+		assertEquals(5, rendered.get());
+	}
+
+	@Test
+	public void testNoArgumentsByDefault() {
+		tracker.record(method, 1_000_000L, () -> {
+			throw new AssertionError("arguments should not be read");
+		});
+
+		assertNull(tracker.snapshot().get(NAME).getSlowest().get(0).getArguments());
+	}
+
+	@Test
+	public void testMaskedArguments() {
+		tracker.setCaptureArguments(true);
+		tracker.setMaskRules(VopMaskRules.defaultRules());
+		tracker.record(method, 1_000_000L, () -> new Object[] { "card 4111111111111111", "ssn 123-45-6789" });
+
+		assertEquals("[card ************1111,ssn *******6789]",
+				tracker.snapshot().get(NAME).getSlowest().get(0).getArguments());
+	}
+
+	@Test
+	public void testLimitsAndReset() throws NoSuchMethodException {
+		tracker.setMaxMethods(1);
+		tracker.record(null, 1L, null);
+		tracker.record(method, 1L, null);
+		tracker.record(getClass().getDeclaredMethod("setup"), 1L, null);
+		assertEquals(1, tracker.size());
+
+		tracker.reset();
+		assertTrue(tracker.snapshot().isEmpty());
+
+		tracker.setEnabled(false);
+		tracker.record(method, 1L, null);
+		assertEquals(0, tracker.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSlowest() {
+		tracker.setSlowest(-1);
+	}
+
+	void someMethod(final String arg) {
+		// do nothing
+	}
+}
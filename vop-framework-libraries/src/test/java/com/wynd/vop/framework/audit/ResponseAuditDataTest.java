@@ -1,7 +1,6 @@
 package com.wynd.vop.framework.audit;
 
 import com.wynd.vop.framework.audit.model.ResponseAuditData;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.junit.Test;
 
 import java.util.HashMap;
@@ -19,7 +18,7 @@ public class ResponseAuditDataTest {
 		String response = "test response";
 		responseAuditData.setResponse(response);
 		assertTrue(responseAuditData.toString()
-				.equals("ResponseAuditData{response=" + ReflectionToStringBuilder.toString(response) + "}"));
+				.equals("ResponseAuditData{response=test response}"));
 	}
 
 	@Test
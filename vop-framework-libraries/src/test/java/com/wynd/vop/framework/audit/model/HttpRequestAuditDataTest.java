@@ -1,6 +1,5 @@
 package com.wynd.vop.framework.audit.model;
 
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.junit.Test;
 
 import java.util.HashMap;
@@ -22,7 +21,7 @@ public class HttpRequestAuditDataTest {
 		requestList.add(request);
 		httpRequestAuditData.setRequest(requestList);
 		assertTrue(httpRequestAuditData.toString()
-				.equals("HttpRequestAuditData{headers=" + ReflectionToStringBuilder.toString(headers) +
+				.equals("HttpRequestAuditData{headers={testKey=testValue}" +
 						", uri='" + httpRequestAuditData.getUri() + "\'" + ", method='" + httpRequestAuditData.getMethod()
 						+ "', request='" + requestList + "', attachmentTextList='" + httpRequestAuditData.getAttachmentTextList() + "'}"));
 	}
@@ -1,6 +1,5 @@
 package com.wynd.vop.framework.audit.model;
 
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.junit.Test;
 
 import java.util.HashMap;
@@ -24,7 +23,7 @@ public class HttpResponseAuditDataTest {
 		List<String> attachmentTextList = new LinkedList<>();
 		attachmentTextList.add(testAttachment);
 		responseAuditData.setAttachmentTextList(attachmentTextList);
-		assertTrue(responseAuditData.toString().equals("HttpResponseAuditData{headers=" + ReflectionToStringBuilder.toString(headers)
+		assertTrue(responseAuditData.toString().equals("HttpResponseAuditData{headers={testKey=testValue}"
 		+ ", uri='" + "', response='" + response + "', attachmentTextList='" + responseAuditData.getAttachmentTextList()
 		+ "'}"));
 	}
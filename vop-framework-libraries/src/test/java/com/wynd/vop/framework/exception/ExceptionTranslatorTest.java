@@ -0,0 +1,94 @@
+package com.wynd.vop.framework.exception;
+
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ExceptionTranslatorTest {
+
+	private static final String NO_MESSAGE = "no message";
+
+	/** Nested, so its binary name has a '$' that a regular expression would treat as an anchor */
+	static class NestedException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		NestedException(final String message) {
+			super(message);
+		}
+	}
+
+	@Test
+	public void testTranslatorIsComputedOnce() {
+		ExceptionTranslator translator = ExceptionTranslator.of(new IllegalStateException());
+		assertSame(translator, ExceptionTranslator.of(IllegalStateException.class));
+		assertEquals("IllegalStateException", translator.getSimpleName());
+		assertEquals("NestedException", ExceptionTranslator.of(NestedException.class).getSimpleName());
+	}
+
+	@Test
+	public void testIsVopException() {
+		assertTrue(ExceptionTranslator.of(VopRuntimeException.class).isVopException());
+		assertTrue(ExceptionTranslator.of(VopPartnerRuntimeException.class).isVopException());
+		assertTrue(ExceptionTranslator.of(VopPartnerException.class).isVopException());
+		assertFalse(ExceptionTranslator.of(RuntimeException.class).isVopException());
+	}
+
+	@Test
+	public void testRuntimeExceptionIsReturned() {
+		VopRuntimeException vop = new VopValidationRuntimeException(MessageKeys.NO_KEY, MessageSeverity.ERROR,
+				HttpStatus.BAD_REQUEST);
+		assertSame(vop, ExceptionTranslator.of(vop).toRuntimeException(vop, MessageKeys.WARN_KEY));
+	}
+
+	@Test
+	public void testCheckedExceptionIsWrapped() {
+		VopException checked =
+				new VopException(MessageKeys.VOP_DEV_ILLEGAL_INSTANTIATION, MessageSeverity.WARN, HttpStatus.OK, "Foo");
+		VopRuntimeException translated = ExceptionTranslator.of(checked).toRuntimeException(checked, MessageKeys.NO_KEY);
+		assertSame(checked, translated.getCause());
+		assertSame(MessageKeys.VOP_DEV_ILLEGAL_INSTANTIATION, translated.getExceptionData().getMessageKey());
+		assertEquals(MessageSeverity.WARN, translated.getExceptionData().getSeverity());
+		assertEquals(HttpStatus.OK, translated.getExceptionData().getStatus());
+		assertEquals(checked.getMessage(), translated.getMessage());
+		assertEquals(0, translated.getStackTrace().length);
+	}
+
+	@Test
+	public void testOtherExceptionIsWrapped() {
+		IllegalStateException other = new IllegalStateException("other");
+		VopRuntimeException translated = ExceptionTranslator.of(other).toRuntimeException(other, MessageKeys.NO_KEY);
+		assertSame(other, translated.getCause());
+		assertSame(MessageKeys.NO_KEY, translated.getExceptionData().getMessageKey());
+		assertEquals(MessageSeverity.FATAL, translated.getExceptionData().getSeverity());
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, translated.getExceptionData().getStatus());
+	}
+
+	@Test
+	public void testDeriveMessage() {
+		assertEquals(NO_MESSAGE, ExceptionTranslator.deriveMessage(null, NO_MESSAGE));
+		assertEquals(NO_MESSAGE, ExceptionTranslator.deriveMessage(new Exception(), NO_MESSAGE));
+		assertEquals(NO_MESSAGE, ExceptionTranslator.deriveMessage(new Exception("  "), NO_MESSAGE));
+		assertEquals("message", ExceptionTranslator.deriveMessage(new Exception("message"), NO_MESSAGE));
+		assertEquals(" cause",
+				ExceptionTranslator.deriveMessage(new Exception(new IllegalStateException("cause")), NO_MESSAGE));
+		assertEquals(NO_MESSAGE,
+				ExceptionTranslator.deriveMessage(new Exception(new IllegalStateException("")), NO_MESSAGE));
+		assertEquals("outer", ExceptionTranslator.deriveMessage(
+				new Exception("outer", new IllegalStateException("cause")), NO_MESSAGE));
+	}
+
+	@Test
+	public void testDeriveMessageRemovesClassNameLiterally() {
+		assertEquals(" nested",
+				ExceptionTranslator.deriveMessage(new Exception(new NestedException("nested")), NO_MESSAGE));
+		// the dots of the class name are not wildcards
+		assertEquals("javaXlangXIllegalStateException: kept", ExceptionTranslator.deriveMessage(
+				new Exception("javaXlangXIllegalStateException: kept", new IllegalStateException()), NO_MESSAGE));
+	}
+}
@@ -0,0 +1,106 @@
+package com.wynd.vop.framework.exception;
+
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import com.wynd.vop.framework.validation.Defense;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StackTracePolicyTest {
+
+	@After
+	public void tearDown() {
+		StackTracePolicy.reset();
+	}
+
+	@Test
+	public void testDefaultPolicy() {
+		assertTrue(StackTracePolicy.isEnabled());
+		assertFalse(StackTracePolicy.isWritableStackTrace(MessageKeys.VOP_VALIDATOR_ASSERTION, MessageSeverity.ERROR));
+		assertFalse(StackTracePolicy.isWritableStackTrace(MessageKeys.VOP_FEIGN_MESSAGE_RECEIVED, MessageSeverity.FATAL));
+		assertFalse(StackTracePolicy.isWritableStackTrace(MessageKeys.NO_KEY, MessageSeverity.INFO));
+		assertTrue(StackTracePolicy.isWritableStackTrace(MessageKeys.NO_KEY, MessageSeverity.WARN));
+		assertTrue(StackTracePolicy.isWritableStackTrace(MessageKeys.NO_KEY, MessageSeverity.ERROR));
+		assertTrue(StackTracePolicy.isWritableStackTrace(MessageKeys.NO_KEY, MessageSeverity.FATAL));
+		assertTrue(StackTracePolicy.isWritableStackTrace(null, null));
+	}
+
+	@Test
+	public void testConfiguredPolicy() {
+		StackTracePolicy.setStacklessSeverities(MessageSeverity.ERROR);
+		StackTracePolicy.setStacklessKeys(MessageKeys.NO_KEY.getKey());
+		assertTrue(StackTracePolicy.isWritableStackTrace(MessageKeys.VOP_VALIDATOR_ASSERTION, MessageSeverity.FATAL));
+		assertTrue(StackTracePolicy.isWritableStackTrace(MessageKeys.WARN_KEY, MessageSeverity.WARN));
+		assertFalse(StackTracePolicy.isWritableStackTrace(MessageKeys.WARN_KEY, MessageSeverity.ERROR));
+		assertFalse(StackTracePolicy.isWritableStackTrace(MessageKeys.NO_KEY, MessageSeverity.FATAL));
+		assertEquals(1, StackTracePolicy.getStacklessSeverities().size());
+		assertEquals(1, StackTracePolicy.getStacklessKeys().size());
+
+		StackTracePolicy.setEnabled(false);
+		assertTrue(StackTracePolicy.isWritableStackTrace(MessageKeys.NO_KEY, MessageSeverity.ERROR));
+	}
+
+	@Test
+	public void testStacklessExceptions() {
+		Throwable cause = new IllegalStateException("cause");
+		assertStackless(new VopRuntimeException(MessageKeys.NO_KEY, MessageSeverity.DEBUG, HttpStatus.OK, cause));
+		assertStackless(new VopValidationRuntimeException(MessageKeys.VOP_VALIDATOR_ASSERTION, MessageSeverity.ERROR,
+				HttpStatus.BAD_REQUEST, cause, "assertion"));
+		assertStackless(new VopPartnerRuntimeException(MessageKeys.NO_KEY, MessageSeverity.INFO, HttpStatus.OK));
+		assertStackless(new VopFeignRuntimeException(MessageKeys.VOP_FEIGN_MESSAGE_RECEIVED, MessageSeverity.ERROR,
+				HttpStatus.NOT_FOUND, "key", "text"));
+		assertTrue(cause.getStackTrace().length > 0);
+
+		VopRuntimeException fatal =
+				new VopRuntimeException(MessageKeys.NO_KEY, MessageSeverity.FATAL, HttpStatus.INTERNAL_SERVER_ERROR);
+		assertTrue(fatal.getStackTrace().length > 0);
+		VopRuntimeException warn = new VopRuntimeException(MessageKeys.NO_KEY, MessageSeverity.WARN, HttpStatus.OK);
+		assertTrue(warn.getStackTrace().length > 0);
+	}
+
+	@Test
+	public void testStacklessDefense() {
+		try {
+			Defense.state(false, "not expected");
+			fail("Defense should have thrown");
+		} catch (VopValidationRuntimeException e) {
+			assertEquals(0, e.getStackTrace().length);
+			assertTrue(e.getCause().getStackTrace().length > 0);
+			assertEquals("not expected", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testSuppressedAndCause() {
+		Throwable cause = new IllegalStateException("cause");
+		VopRuntimeException e = new VopRuntimeException(MessageKeys.NO_KEY, MessageSeverity.WARN, HttpStatus.OK, cause);
+		e.addSuppressed(new IllegalArgumentException());
+		assertSame(cause, e.getCause());
+		assertEquals(1, e.getSuppressed().length);
+	}
+
+	@Test(expected = IllegalAccessError.class)
+	public void testConstructor() throws Throwable {
+		Constructor<StackTracePolicy> constructor = StackTracePolicy.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		try {
+			constructor.newInstance();
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static void assertStackless(final VopRuntimeException e) {
+		assertEquals(e.getClass().getSimpleName(), 0, e.getStackTrace().length);
+	}
+}
@@ -1,5 +1,6 @@
 package com.wynd.vop.framework.exception.interceptor;
 
+import com.wynd.vop.framework.exception.VopPartnerException;
 import com.wynd.vop.framework.exception.VopRuntimeException;
 import com.wynd.vop.framework.log.VopLogger;
 import com.wynd.vop.framework.log.VopLoggerFactory;
@@ -23,7 +24,10 @@ import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import java.lang.reflect.Method;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -117,6 +121,21 @@ public class ExceptionHandlingUtilsTest {
 		assertTrue(resolvedRuntimeException.getExceptionData().getStatus().equals(HttpStatus.BAD_REQUEST));
 	}
 
+	@Test
+	public void testConvertCheckedVopException() {
+		VopPartnerException checked =
+				new VopPartnerException(MessageKeys.VOP_DEV_ILLEGAL_INSTANTIATION, MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, "Foo");
+		VopRuntimeException resolvedRuntimeException =
+				ExceptionHandlingUtils.resolveRuntimeException(MessageKeys.NO_KEY, checked);
+		assertSame(checked, resolvedRuntimeException.getCause());
+		assertSame(MessageKeys.VOP_DEV_ILLEGAL_INSTANTIATION, resolvedRuntimeException.getExceptionData().getMessageKey());
+		assertEquals(checked.getMessage(), resolvedRuntimeException.getMessage());
+		assertEquals(MessageSeverity.ERROR, resolvedRuntimeException.getExceptionData().getSeverity());
+		assertEquals(HttpStatus.BAD_REQUEST, resolvedRuntimeException.getExceptionData().getStatus());
+		// the checked exception has the stack trace
+		assertEquals(0, resolvedRuntimeException.getStackTrace().length);
+	}
+
 	@Test
 	public void testConvertFromVopExceptionExtenderWithClassCastException() {
 		try {
@@ -129,6 +148,18 @@ public class ExceptionHandlingUtilsTest {
 		}
 	}
 
+	@Test
+	public void testConvertFromNonVopException() {
+		RuntimeException other = new RuntimeException();
+		try {
+			ExceptionHandlingUtils.convertFromVopExceptionExtender(other);
+			fail("Should have thrown VopRuntimeException");
+		} catch (VopRuntimeException e) {
+			assertSame(MessageKeys.VOP_EXCEPTION_HANDLER_ERROR_VALUES, e.getExceptionData().getMessageKey());
+			assertSame(other, e.getCause());
+		}
+	}
+
 	@Test
 	public void testCastToVopRuntimeException() {
 		try {
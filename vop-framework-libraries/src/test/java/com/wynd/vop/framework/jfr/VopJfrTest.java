@@ -0,0 +1,103 @@
+package com.wynd.vop.framework.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+public class VopJfrTest {
+
+	@Before
+	public void setup() {
+		assumeTrue("JFR is not available", VopJfr.AVAILABLE);
+	}
+
+	@Test
+	public void testConstructor() throws NoSuchMethodException {
+		Constructor<VopJfr> constructor = VopJfr.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		try {
+			constructor.newInstance();
+			fail("Should have thrown exception");
+		} catch (Exception e) {
+			assertEquals(InvocationTargetException.class, e.getClass());
+			assertEquals(IllegalAccessError.class, e.getCause().getClass());
+		}
+	}
+
+	@Test
+	public void testIdentifiers() {
+		assertNull(VopJfr.identify(null));
+		assertEquals("String#" + Integer.toHexString("123-45-6789".hashCode()), VopJfr.identify("123-45-6789"));
+		assertNull(VopJfr.stripQuery(null));
+		assertEquals("http://host/api/v1/persons", VopJfr.stripQuery("http://host/api/v1/persons?ssn=123456789"));
+		assertEquals("http://host/api", VopJfr.stripQuery("http://host/api#top"));
+		assertEquals("http://host/api", VopJfr.stripQuery("http://host/api"));
+	}
+
+	@Test
+	public void testEventsRecordedOnlyWhenEnabled() throws Exception {
+		Path file = Files.createTempFile("vop-jfr", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(CacheGetEvent.class).withThreshold(Duration.ZERO);
+			recording.enable(RestCallEvent.class).withThreshold(Duration.ZERO);
+			recording.start();
+
+			CacheGetEvent.start().finish("persons", "123-45-6789", true);
+			RestCallEvent.start().finish("GET", "http://partner/api?id=1", 200, null);
+			// not enabled in the recording
+			CachePutEvent.start().finish("persons", "123-45-6789", "value");
+
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			RecordedEvent get = find(events, "com.wynd.vop.CacheGet");
+			assertEquals("persons", get.getString("cacheName"));
+			assertTrue(get.getString("key").startsWith("String#"));
+			assertTrue(get.getBoolean("hit"));
+			RecordedEvent rest = find(events, "com.wynd.vop.RestCall");
+			assertEquals("http://partner/api", rest.getString("url"));
+			assertEquals(200, rest.getInt("status"));
+			assertNull(find(events, "com.wynd.vop.CachePut"));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void testBundledSettings() throws Exception {
+		try (InputStreamReader reader = new InputStreamReader(
+				getClass().getClassLoader().getResourceAsStream(VopJfr.SETTINGS), StandardCharsets.UTF_8)) {
+			Map<String, String> settings = Configuration.create(reader).getSettings();
+			for (String event : new String[] { "AuditEnqueue", "AuditSerialize", "AuditWrite", "CacheGet", "CachePut",
+					"Validation", "SoapCall", "RestCall" }) {
+				assertEquals(event, "true", settings.get("com.wynd.vop." + event + "#enabled"));
+			}
+		}
+	}
+
+	private static RecordedEvent find(final List<RecordedEvent> events, final String name) {
+		for (RecordedEvent event : events) {
+			if (name.equals(event.getEventType().getName())) {
+				return event;
+			}
+		}
+		return null;
+	}
+}
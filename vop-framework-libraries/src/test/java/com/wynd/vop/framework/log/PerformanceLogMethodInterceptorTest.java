@@ -1,6 +1,7 @@
 package com.wynd.vop.framework.log;
 
 import com.wynd.vop.framework.AbstractBaseLogTester;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.aopalliance.intercept.MethodInvocation;
 import org.junit.After;
@@ -12,6 +13,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.slf4j.event.Level;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -129,6 +131,35 @@ public class PerformanceLogMethodInterceptorTest extends AbstractBaseLogTester {
 
 	}
 
+	@Test
+	public void testTimerIsResolvedOnce() throws Throwable {
+		performanceLogMethodInterceptor.setMicrometerEnabled(true);
+		performanceLogMethodInterceptor.setServiceLevelObjectives(Duration.ofMillis(100), Duration.ofMillis(1500));
+
+		mockInvocationOf("getString", null);
+		performanceLogMethodInterceptor.invoke(invocation);
+		performanceLogMethodInterceptor.invoke(invocation);
+
+		assertEquals(1, performanceLogMethodInterceptor.getMeterRegistry().getMeters().size());
+		Timer timer = performanceLogMethodInterceptor.getMeterRegistry().get("Helper.getString").timer();
+		assertEquals(3, timer.count());
+		assertEquals(2, timer.takeSnapshot().histogramCounts().length);
+	}
+
+	@Test
+	public void testSettersResetResolvedThreshold() throws Throwable {
+		super.getAppender().clear();
+		LOG.setLevel(Level.INFO);
+
+		mockInvocationOf("getString", null);
+		assertEquals(ch.qos.logback.classic.Level.INFO, super.getAppender().get(0).getLevel());
+
+		performanceLogMethodInterceptor.setWarningThreshhold(-1);
+		performanceLogMethodInterceptor.invoke(invocation);
+		assertEquals(ch.qos.logback.classic.Level.WARN, super.getAppender().get(1).getLevel());
+		assertTrue(super.getAppender().get(1).getMessage().endsWith("is slower than configured threshold of [-1] millis "));
+	}
+
 	private MethodInvocation mockInvocationOf(String methodName, Object returnValue) throws Throwable {
 
 		Mockito.lenient().when(invocation.getMethod()).thenReturn(Helper.class.getMethod(methodName));
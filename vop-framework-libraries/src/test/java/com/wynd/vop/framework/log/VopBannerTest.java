@@ -1,13 +1,16 @@
 package com.wynd.vop.framework.log;
 
 import com.github.lalyos.jfiglet.FigletFont;
+import com.wynd.vop.framework.constants.VopConstants;
 import org.junit.Before;
 import org.junit.Test;
 import org.slf4j.event.Level;
 
 import java.io.IOException;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class VopBannerTest {
@@ -67,6 +70,32 @@ public class VopBannerTest {
 		assertTrue(Level.DEBUG.equals(level));
 	}
 
+	@Test
+	public final void testBannerIsRenderedOnce() {
+		VopBanner first = VopBanner.newBanner(TEXT, Level.WARN);
+		VopBanner second = new VopBanner(TEXT, Level.WARN);
+		assertSame(first.getBanner(), second.getBanner());
+		assertSame(first.getBanner(), new VopBanner(TEXT, Level.DEBUG).getBanner(Level.WARN));
+	}
+
+	@Test
+	public final void testPreRender() throws IOException {
+		VopBanner.preRender();
+		String compare = "\n" + FigletFont.convertOneLine(
+				VopBanner.FONT_FILE, Level.ERROR.name() + ": " + VopConstants.INTERCEPTOR_EXCEPTION.toUpperCase());
+		String banner = VopBanner.newBanner(VopConstants.INTERCEPTOR_EXCEPTION, Level.ERROR).getBanner();
+		assertEquals(compare, banner);
+		assertSame(banner, VopBanner.newBanner(VopConstants.INTERCEPTOR_EXCEPTION, Level.ERROR).getBanner());
+	}
+
+	@Test
+	public final void testCacheIsBounded() {
+		for (int i = 0; i <= VopBanner.MAX_CACHED_BANNERS; i++) {
+			assertNotNull(VopBanner.newBanner("Unable to get from cache " + i, Level.ERROR).getBanner());
+		}
+		assertTrue(VopBanner.cachedBanners() <= VopBanner.MAX_CACHED_BANNERS);
+	}
+
 //	@Test
 //	public final void testGetBanner() {
 //		fail("Not yet implemented");
@@ -0,0 +1,116 @@
+package com.wynd.vop.framework.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VopLogStormFilterTest {
+
+	private LoggerContext context;
+	private VopLogStormFilter filter;
+	private ListAppender<ILoggingEvent> appender;
+	private Logger logger;
+
+	@Before
+	public void setup() {
+		context = new LoggerContext();
+
+		filter = new VopLogStormFilter();
+		filter.setContext(context);
+		filter.setBurst(3);
+		filter.setWindowMillis(60000L);
+		filter.start();
+		context.addTurboFilter(filter);
+
+		appender = new ListAppender<>();
+		appender.setContext(context);
+		appender.start();
+
+		logger = context.getLogger("storm.test");
+		logger.setLevel(Level.DEBUG);
+		logger.addAppender(appender);
+	}
+
+	@After
+	public void teardown() {
+		context.stop();
+	}
+
+	@Test
+	public void shouldSuppressAfterBurstAndSummarize() {
+		for (int i = 0; i < 10; i++) {
+			logger.error("Redis is down, attempt " + i, new IllegalStateException("down"));
+		}
+		assertThat(appender.list).hasSize(3);
+
+		filter.closeWindow();
+		assertThat(appender.list).hasSize(4);
+		ILoggingEvent summary = appender.list.get(3);
+		assertThat(summary.getLevel()).isEqualTo(Level.ERROR);
+		assertThat(summary.getMarker()).isEqualTo(VopLogMarkers.SUPPRESSED.getMarker());
+		assertThat(summary.getFormattedMessage()).startsWith("Suppressed 7 repeated log events")
+				.contains(IllegalStateException.class.getName()).contains("Redis is down, attempt 0");
+
+		// new window lets the burst through again
+		logger.error("Redis is down, attempt 11", new IllegalStateException("down"));
+		assertThat(appender.list).hasSize(5);
+	}
+
+	@Test
+	public void shouldFingerprintByExceptionClassAndLevel() {
+		for (int i = 0; i < 5; i++) {
+			logger.warn("Partner call failed", new IllegalStateException("a"));
+			logger.warn("Partner call failed", new IllegalArgumentException("b"));
+			logger.error("Partner call failed");
+		}
+		assertThat(appender.list).hasSize(9);
+		assertThat(filter.fingerprints()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldNotSuppressBelowLevelOrDisabledEvents() {
+		for (int i = 0; i < 10; i++) {
+			logger.info("Request processed");
+		}
+		assertThat(appender.list).hasSize(10);
+
+		logger.setLevel(Level.OFF);
+		for (int i = 0; i < 10; i++) {
+			logger.error("Not logged at all");
+		}
+		assertThat(filter.fingerprints()).isZero();
+	}
+
+	@Test
+	public void shouldBoundFingerprintsAndEvictIdleOnes() {
+		filter.setMaxFingerprints(2);
+		for (int i = 0; i < 5; i++) {
+			logger.error("first message");
+			logger.error("second message");
+			logger.error("third message");
+		}
+		assertThat(filter.fingerprints()).isEqualTo(2);
+		// untracked fingerprint is never suppressed
+		assertThat(appender.list.stream().filter(e -> "third message".equals(e.getMessage()))).hasSize(5);
+
+		filter.closeWindow();
+		filter.closeWindow();
+		assertThat(filter.fingerprints()).isZero();
+	}
+
+	@Test
+	public void shouldNotStartWithInvalidConfiguration() {
+		VopLogStormFilter invalid = new VopLogStormFilter();
+		invalid.setContext(context);
+		invalid.setWindowMillis(0);
+		invalid.start();
+		assertThat(invalid.isStarted()).isFalse();
+	}
+}
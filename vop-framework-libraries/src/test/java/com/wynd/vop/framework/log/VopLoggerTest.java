@@ -28,6 +28,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
@@ -852,4 +854,39 @@ public class VopLoggerTest extends AbstractBaseLogTester {
 		List<String> strings = Arrays.asList(new String[] { "No log message provided. This log entry records the empty log event." });
 		assertConsole(logger.getLevel(), strings.get(0), null);
 	}
+
+	@Test
+	public final void testSupplierMessage() throws IOException {
+		logger.debug(() -> MESSAGE);
+		assertConsole(Level.DEBUG, MESSAGE, null);
+	}
+
+	@Test
+	public final void testSupplierArguments() throws IOException {
+		logger.warn("{} with {} arguments", () -> MESSAGE, () -> 2);
+		assertConsole(Level.WARN, MESSAGE + " with 2 arguments", null);
+	}
+
+	@Test
+	public final void testSupplierThrowable() throws IOException {
+		logger.error(() -> MESSAGE, EXCEPTION);
+		assertConsole(Level.ERROR, MESSAGE, EXCEPTION);
+	}
+
+	@Test
+	public final void testSupplierNotCalledWhenLevelDisabled() throws IOException {
+		AtomicInteger calls = new AtomicInteger();
+		Supplier<String> supplier = () -> MESSAGE + calls.incrementAndGet();
+
+		logger.setLevel(Level.INFO);
+		logger.trace(supplier);
+		logger.debug(supplier, EXCEPTION);
+		logger.debug("{}", supplier::get);
+		logger.log(Level.DEBUG, supplier);
+		assertEquals(0, calls.get());
+
+		logger.info(supplier);
+		assertEquals(1, calls.get());
+		assertConsole(Level.INFO, MESSAGE + "1", null);
+	}
 }
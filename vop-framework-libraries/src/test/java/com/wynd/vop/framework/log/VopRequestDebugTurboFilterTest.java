@@ -0,0 +1,98 @@
+package com.wynd.vop.framework.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VopRequestDebugTurboFilterTest {
+
+	private LoggerContext context;
+	private VopRequestDebugTurboFilter filter;
+	private ListAppender<ILoggingEvent> appender;
+	private Logger logger;
+
+	@Before
+	public void setup() {
+		context = new LoggerContext();
+
+		filter = new VopRequestDebugTurboFilter();
+		filter.setContext(context);
+		filter.start();
+		context.addTurboFilter(filter);
+
+		appender = new ListAppender<>();
+		appender.setContext(context);
+		appender.start();
+
+		logger = context.getLogger("com.wynd.vop.debug.test");
+		logger.setLevel(Level.INFO);
+		logger.addAppender(appender);
+	}
+
+	@After
+	public void teardown() {
+		VopRequestDebug.disable();
+		context.stop();
+	}
+
+	@Test
+	public void shouldLogDebugOnlyWhileEnabled() {
+		logger.debug("before");
+		assertThat(logger.isDebugEnabled()).isFalse();
+
+		VopRequestDebug.enable();
+		assertThat(VopRequestDebug.isEnabled()).isTrue();
+		assertThat(logger.isDebugEnabled()).isTrue();
+		assertThat(logger.isTraceEnabled()).isTrue();
+		logger.debug("during");
+		logger.trace("during trace");
+
+		VopRequestDebug.disable();
+		logger.debug("after");
+
+		assertThat(appender.list).extracting(ILoggingEvent::getMessage).containsExactly("during", "during trace");
+		assertThat(VopRequestDebug.active()).isZero();
+	}
+
+	@Test
+	public void shouldBeThreadLocal() throws InterruptedException {
+		VopRequestDebug.enable();
+		VopRequestDebug.enable();
+		assertThat(VopRequestDebug.active()).isEqualTo(1);
+
+		boolean[] enabledOnOtherThread = new boolean[1];
+		Thread other = new Thread(() -> enabledOnOtherThread[0] = logger.isDebugEnabled());
+		other.start();
+		other.join();
+		assertThat(enabledOnOtherThread[0]).isFalse();
+	}
+
+	@Test
+	public void shouldHonorLoggerPrefixes() {
+		filter.setLoggerPrefixes("com.other, com.wynd.vop.debug");
+		Logger outside = context.getLogger("org.springframework.test");
+		outside.setLevel(Level.INFO);
+
+		VopRequestDebug.enable();
+		assertThat(logger.isDebugEnabled()).isTrue();
+		assertThat(outside.isDebugEnabled()).isFalse();
+	}
+
+	@Test
+	public void shouldWorkThroughVopLogger() {
+		VopLogger vopLogger = VopLogger.getLogger(logger);
+
+		vopLogger.debug("not logged");
+		VopRequestDebug.enable();
+		vopLogger.debug(() -> "logged lazily");
+
+		assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly("logged lazily");
+	}
+}
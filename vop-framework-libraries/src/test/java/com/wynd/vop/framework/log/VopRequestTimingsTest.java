@@ -0,0 +1,70 @@
+package com.wynd.vop.framework.log;
+
+import com.wynd.vop.framework.log.VopRequestTimings.Span;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VopRequestTimingsTest {
+
+	@After
+	public void teardown() {
+		VopRequestTimings.stop();
+	}
+
+	@Test
+	public void testRecordOnlyWhileStarted() {
+		VopRequestTimings.record(Span.REST, System.nanoTime() - 1_000_000L);
+		assertFalse(VopRequestTimings.isRecording());
+
+		VopRequestTimings.start();
+		assertTrue(VopRequestTimings.isRecording());
+		assertEquals(0, VopRequestTimings.count(Span.REST));
+		VopRequestTimings.record(Span.REST, System.nanoTime() - 2_000_000L);
+		VopRequestTimings.record(Span.REST, System.nanoTime() - 1_000_000L);
+		VopRequestTimings.stop();
+		VopRequestTimings.record(Span.REST, System.nanoTime() - 1_000_000L);
+
+		assertFalse(VopRequestTimings.isRecording());
+		assertEquals(0, VopRequestTimings.active());
+		assertEquals(2, VopRequestTimings.count(Span.REST));
+		assertTrue(VopRequestTimings.nanos(Span.REST) >= 3_000_000L);
+		assertEquals(0, VopRequestTimings.count(Span.SOAP));
+	}
+
+	@Test
+	public void testServerTimingAndSummary() {
+		VopRequestTimings.start();
+		VopRequestTimings.record(Span.SERVICE, System.nanoTime() - 5_000_000L);
+		VopRequestTimings.record(Span.AUDIT, System.nanoTime() - 1_000_000L);
+		VopRequestTimings.stop();
+
+		String header = VopRequestTimings.serverTiming();
+		assertTrue(header, header.matches("total;dur=[0-9.]+, service;dur=[0-9.]+, audit;dur=[0-9.]+"));
+		String summary = VopRequestTimings.summary();
+		assertTrue(summary, summary.matches("total=[0-9.]+ms service=[0-9.]+ms/1 audit=[0-9.]+ms/1"));
+
+		VopRequestTimings.start();
+		assertTrue(VopRequestTimings.serverTiming().matches("total;dur=[0-9.]+"));
+	}
+
+	@Test
+	public void testAppendMillis() {
+		assertEquals("0", millis(0));
+		assertEquals("0", millis(-5));
+		assertEquals("0.007", millis(7_000));
+		assertEquals("0.05", millis(50_999));
+		assertEquals("1.5", millis(1_500_000));
+		assertEquals("12.345", millis(12_345_678));
+		assertEquals("2000", millis(2_000_000_000L));
+	}
+
+	private static String millis(final long nanos) {
+		StringBuilder builder = new StringBuilder();
+		VopRequestTimings.appendMillis(builder, nanos);
+		return builder.toString();
+	}
+}
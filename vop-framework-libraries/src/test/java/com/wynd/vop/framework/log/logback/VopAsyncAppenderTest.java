@@ -0,0 +1,239 @@
+package com.wynd.vop.framework.log.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VopAsyncAppenderTest {
+
+	private VopAsyncAppender appender;
+	private GatedAppender downstream;
+
+	@Before
+	public void setup() {
+		LoggerContext context = new LoggerContext();
+
+		downstream = new GatedAppender();
+		downstream.setName("GATED");
+		downstream.setContext(context);
+		downstream.start();
+
+		appender = new VopAsyncAppender();
+		appender.setName("ASYNC");
+		appender.setContext(context);
+		appender.setQueueSize(10);
+		appender.setDiscardingThreshold(4);
+		appender.setMaxBlockMillis(20);
+		appender.setMetricsEnabled(false);
+		appender.addAppender(downstream);
+		appender.start();
+	}
+
+	@After
+	public void teardown() {
+		downstream.gate.countDown();
+		appender.stop();
+	}
+
+	@Test
+	public void shouldDeliverEventsInOrder() throws Exception {
+		downstream.gate.countDown();
+		for (int i = 0; i < 5; i++) {
+			appender.doAppend(event(Level.INFO, "message " + i));
+		}
+		awaitDelivered(5);
+		assertThat(downstream.messages()).containsExactly("message 0", "message 1", "message 2", "message 3",
+				"message 4");
+		assertThat(appender.droppedCount()).isZero();
+	}
+
+	@Test
+	public void shouldDropByLevelUnderPressure() throws Exception {
+		// the worker holds the first event at the gate, the next 10 fill the queue
+		appender.doAppend(event(Level.INFO, "held"));
+		awaitQueueDepth(0);
+
+		for (int i = 0; i < 8; i++) {
+			appender.doAppend(event(Level.DEBUG, "debug " + i));
+		}
+		// 6 of the 10 slots are open to DEBUG and INFO
+		assertThat(appender.getQueueDepth()).isEqualTo(6);
+		assertThat(appender.droppedCount(Level.DEBUG)).isEqualTo(2);
+
+		appender.doAppend(event(Level.WARN, "warn 0"));
+		appender.doAppend(event(Level.WARN, "warn 1"));
+		appender.doAppend(event(Level.ERROR, "error 0"));
+		appender.doAppend(audit("audit 0"));
+		assertThat(appender.getQueueDepth()).isEqualTo(10);
+
+		appender.doAppend(event(Level.WARN, "warn 2"));
+		assertThat(appender.droppedCount(Level.WARN)).isEqualTo(1);
+
+		// ERROR waits at most maxBlockMillis, then is dropped
+		long start = System.nanoTime();
+		appender.doAppend(event(Level.ERROR, "error 1"));
+		long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertThat(waited).isGreaterThanOrEqualTo(15).isLessThan(1000);
+		assertThat(appender.droppedCount(Level.ERROR)).isEqualTo(1);
+		assertThat(appender.droppedCount()).isEqualTo(4);
+
+		downstream.gate.countDown();
+		awaitDelivered(11);
+		assertThat(downstream.messages()).contains("held", "warn 0", "warn 1", "error 0", "audit 0")
+				.doesNotContain("warn 2", "error 1");
+	}
+
+	@Test
+	public void shouldKeepErrorWhenSlotFreesBeforeDeadline() throws Exception {
+		appender.setMaxBlockMillis(5000);
+		appender.doAppend(event(Level.INFO, "held"));
+		awaitQueueDepth(0);
+		for (int i = 0; i < 10; i++) {
+			appender.doAppend(event(Level.WARN, "warn " + i));
+		}
+
+		Thread opener = new Thread(() -> {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			downstream.gate.countDown();
+		});
+		opener.start();
+		appender.doAppend(event(Level.ERROR, "error"));
+		opener.join();
+
+		awaitDelivered(12);
+		assertThat(downstream.messages()).endsWith("error");
+		assertThat(appender.droppedCount()).isZero();
+	}
+
+	@Test
+	public void shouldPublishMeters() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		appender.bindTo(registry);
+
+		appender.doAppend(event(Level.INFO, "held"));
+		awaitQueueDepth(0);
+		for (int i = 0; i < 9; i++) {
+			appender.doAppend(event(Level.INFO, "info " + i));
+		}
+
+		assertThat(registry.get(VopAsyncAppender.METER_QUEUE_DEPTH).tag("appender", "ASYNC").gauge().value())
+				.isEqualTo(6.0);
+		assertThat(registry.get(VopAsyncAppender.METER_DROPPED).tag("level", "INFO").functionCounter().count())
+				.isEqualTo(3.0);
+		assertThat(registry.get(VopAsyncAppender.METER_DROPPED).tag("level", "ERROR").functionCounter().count())
+				.isZero();
+	}
+
+	@Test
+	public void shouldClampDiscardingThresholdToQueueSize() throws Exception {
+		VopAsyncAppender clamped = new VopAsyncAppender();
+		clamped.setName("CLAMPED");
+		clamped.setContext(new LoggerContext());
+		clamped.setQueueSize(10);
+		clamped.setDiscardingThreshold(20);
+		clamped.setMetricsEnabled(false);
+		clamped.addAppender(downstream);
+		clamped.start();
+		try {
+			assertThat(clamped.getDiscardingThreshold()).isEqualTo(9);
+			assertThat(clamped.getStatusManager().getCopyOfStatusList())
+					.anyMatch(status -> status.getMessage().contains("discardingThreshold 20"));
+
+			downstream.gate.countDown();
+			clamped.doAppend(event(Level.INFO, "info"));
+			awaitDelivered(1);
+			assertThat(clamped.droppedCount()).isZero();
+		} finally {
+			clamped.stop();
+		}
+	}
+
+	@Test
+	public void shouldFlushOnStop() {
+		for (int i = 0; i < 5; i++) {
+			appender.doAppend(event(Level.WARN, "warn " + i));
+		}
+		downstream.gate.countDown();
+		appender.stop();
+		assertThat(downstream.messages()).hasSize(5);
+		assertThat(appender.isStarted()).isFalse();
+	}
+
+	private static LoggingEvent event(Level level, String message) {
+		return event(level, message, Collections.<String, String> emptyMap());
+	}
+
+	private static LoggingEvent audit(String message) {
+		return event(Level.INFO, message, Collections.singletonMap("logType", "auditlogs"));
+	}
+
+	private static LoggingEvent event(Level level, String message, Map<String, String> mdc) {
+		LoggingEvent event = new LoggingEvent();
+		event.setLevel(level);
+		event.setLoggerName("test.logger");
+		event.setMessage(message);
+		event.setMDCPropertyMap(mdc);
+		return event;
+	}
+
+	private void awaitQueueDepth(int expected) {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (appender.getQueueDepth() != expected && System.currentTimeMillis() < deadline) {
+			Thread.yield();
+		}
+		assertThat(appender.getQueueDepth()).isEqualTo(expected);
+	}
+
+	private void awaitDelivered(int expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (downstream.events.size() < expected && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(downstream.events).hasSize(expected);
+	}
+
+	/**
+	 * Holds the worker thread until the gate is opened, like a slow console.
+	 */
+	private static class GatedAppender extends AppenderBase<ILoggingEvent> {
+		private final CountDownLatch gate = new CountDownLatch(1);
+		private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		protected void append(ILoggingEvent event) {
+			try {
+				gate.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			events.add(event);
+		}
+
+		List<String> messages() {
+			List<String> messages = new CopyOnWriteArrayList<>();
+			for (ILoggingEvent event : events) {
+				messages.add(event.getFormattedMessage());
+			}
+			return messages;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.wynd.vop.framework.log.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import net.logstash.logback.composite.loggingevent.LoggingEventPatternJsonProvider;
+import net.logstash.logback.composite.loggingevent.LoggingEventThreadNameJsonProvider;
+import net.logstash.logback.composite.loggingevent.MdcJsonProvider;
+import net.logstash.logback.encoder.LoggingEventCompositeJsonEncoder;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VopJsonEncoderTest {
+
+	/** The pattern provider configuration that {@link VopFrameworkFieldsJsonProvider} replaces */
+	private static final String PATTERN = "{ \"logType\": \"%mdc{logType:-applogs}\", \"severity\": \"%level\","
+			+ " \"class\": \"%logger{40}\", \"pid\": \"4242\" }";
+
+	private final LoggerContext context = new LoggerContext();
+
+	@After
+	public void teardown() {
+		context.stop();
+	}
+
+	@Test
+	public void shouldWriteSameBytesAsCompositeEncoder() {
+		LoggingEventCompositeJsonEncoder reference = reference();
+		VopJsonEncoder encoder = vop();
+
+		for (LoggingEvent event : events()) {
+			byte[] expected = reference.encode(event);
+			byte[] actual = encoder.encode(event);
+			assertThat(new String(actual, StandardCharsets.UTF_8)).isEqualTo(new String(expected, StandardCharsets.UTF_8));
+			assertThat(actual).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void shouldCacheAbbreviatedLoggerNames() {
+		VopFrameworkFieldsJsonProvider provider = new VopFrameworkFieldsJsonProvider();
+		String name = "com.wynd.vop.framework.log.logback.VopFrameworkFieldsJsonProvider";
+
+		String abbreviated = provider.abbreviate(name);
+		assertThat(abbreviated).hasSizeLessThanOrEqualTo(VopFrameworkFieldsJsonProvider.LOGGER_LENGTH)
+				.endsWith("VopFrameworkFieldsJsonProvider");
+		assertThat(provider.abbreviate(name)).isSameAs(abbreviated);
+		assertThat(provider.cachedLoggers()).isEqualTo(1);
+		assertThat(provider.abbreviate(null)).isEmpty();
+	}
+
+	@Test
+	public void shouldNotRetainLargeBuffers() {
+		VopJsonEncoder encoder = vop();
+		LoggingEvent event = event("big.logger", Level.INFO, new String(new char[VopJsonEncoder.MAX_RETAINED_BUFFER])
+				.replace('\0', 'x'), null);
+
+		assertThat(encoder.encode(event).length).isGreaterThan(VopJsonEncoder.MAX_RETAINED_BUFFER);
+		assertThat(encoder.encode(events().get(0))).isEqualTo(reference().encode(events().get(0)));
+	}
+
+	private LoggingEventCompositeJsonEncoder reference() {
+		LoggingEventCompositeJsonEncoder encoder = new LoggingEventCompositeJsonEncoder();
+		LoggingEventPatternJsonProvider pattern = new LoggingEventPatternJsonProvider();
+		pattern.setPattern(PATTERN);
+		encoder.getProviders().addProvider(pattern);
+		return start(encoder);
+	}
+
+	private VopJsonEncoder vop() {
+		VopJsonEncoder encoder = new VopJsonEncoder();
+		VopFrameworkFieldsJsonProvider fields = new VopFrameworkFieldsJsonProvider();
+		fields.setPid("4242");
+		encoder.getProviders().addProvider(fields);
+		return start(encoder);
+	}
+
+	private <T extends LoggingEventCompositeJsonEncoder> T start(final T encoder) {
+		encoder.getProviders().addProvider(new LoggingEventThreadNameJsonProvider());
+		encoder.getProviders().addProvider(new MdcJsonProvider());
+		VopMaskingMessageProvider message = new VopMaskingMessageProvider();
+		message.setRules(VopMaskEngineTest.defaultRules());
+		encoder.getProviders().addProvider(message);
+		encoder.setContext(context);
+		encoder.start();
+		return encoder;
+	}
+
+	private List<LoggingEvent> events() {
+		List<LoggingEvent> events = new ArrayList<>();
+		events.add(event("com.wynd.vop.framework.rest.provider.aspect.ProviderHttpAspect", Level.INFO,
+				"Request for \"/api/v1/persons\" took 12 ms", null));
+		events.add(event("short", Level.DEBUG, "card 4111111111111111 for ssn 123-45-6789", null));
+		Map<String, String> mdc = new HashMap<>();
+		mdc.put("logType", "auditlogs");
+		mdc.put("traceId", "5f2b1c");
+		events.add(event("com.wynd.vop.framework.audit.AuditLogger", Level.WARN, "audit \u00e9v\u00e9nement", mdc));
+		return events;
+	}
+
+	private LoggingEvent event(final String loggerName, final Level level, final String message,
+			final Map<String, String> mdc) {
+		Logger logger = context.getLogger(loggerName);
+		LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+		event.setThreadName("http-nio-8080-exec-1");
+		event.setMDCPropertyMap(mdc == null ? Collections.emptyMap() : mdc);
+		return event;
+	}
+}
@@ -0,0 +1,148 @@
+package com.wynd.vop.framework.log.logback;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Enclosed.class)
+public class VopMaskEngineTest {
+
+	/** The rules declared in vop-framework-logback-starter.xml */
+	static VopMaskRules defaultRules() {
+		VopMaskRules rules = new VopMaskRules();
+		rules.addRule(new VopMaskRule.Definition("Credit Card", "", "", "\\d{13,19}", 4));
+		rules.addRule(new VopMaskRule.Definition("Bank Account USA", "", "", "\\b[0-9]{12,17}\\b", 4));
+		rules.addRule(new VopMaskRule.Definition("SSN", "", "",
+				"\\b(?!000)(?!666)(?!9)[0-9]{3}[ -]?(?!00)[0-9]{2}[ -]?(?!0000)[0-9]{4}\\b", 4));
+		return rules;
+	}
+
+	/**
+	 * Same expectations as {@link VopMaskRuleTest.ValidMasks}, applied through the compiled engine.
+	 */
+	@RunWith(Parameterized.class)
+	public static class SingleRule {
+		private final String pattern;
+		private final String input;
+		private final String output;
+		private final int unmasked;
+		private final String prefix;
+		private final String suffix;
+
+		public SingleRule(int unmasked, String prefix, String pattern, String suffix, String input, String output) {
+			this.unmasked = unmasked;
+			this.prefix = prefix;
+			this.pattern = pattern;
+			this.suffix = suffix;
+			this.input = input;
+			this.output = output;
+		}
+
+		@Parameters(name = "Pattern {2} - leave {0} unmasked character(s)")
+		public static Object[][] data() {
+			return VopMaskRuleTest.ValidMasks.data();
+		}
+
+		@Test
+		public void shouldMask() throws Exception {
+			VopMaskRules rules = new VopMaskRules();
+			rules.addRule(new VopMaskRule.Definition("Test", prefix, suffix, pattern, unmasked));
+			assertThat(rules.apply(input)).isEqualTo(output);
+		}
+	}
+
+	public static class MultipleRules {
+
+		private VopMaskRules rules;
+
+		@Before
+		public void setup() {
+			rules = defaultRules();
+		}
+
+		@Test
+		public void shouldMaskEveryMatch() {
+			assertThat(rules.apply("cards 4111111111111111 and 5500000000000004, ssn 123-45-6789 and 123 45 6789"))
+					.isEqualTo("cards ************1111 and ************0004, ssn *******6789 and *******6789");
+		}
+
+		@Test
+		public void shouldGiveFirstRulePriority() {
+			// 13 digits matches both Credit Card and Bank Account, both leave 4 unmasked
+			assertThat(rules.apply("acct=1234567890123.")).isEqualTo("acct=*********0123.");
+		}
+
+		@Test
+		public void shouldNotMaskUnrelatedIdenticalSubstrings() {
+			VopMaskRules prefixed = new VopMaskRules();
+			prefixed.addRule(new VopMaskRule.Definition("Tagged", "<ssn>", "</ssn>", "\\d+", 0));
+			assertThat(prefixed.apply("<ssn>1234</ssn> requestId=1234")).isEqualTo("<ssn>****</ssn> requestId=1234");
+		}
+
+		@Test
+		public void shouldReturnSameInstanceWhenNothingToMask() {
+			String input = "{\"logType\":\"applogs\",\"message\":\"no sensitive data here\"}";
+			assertThat(rules.apply(input)).isSameAs(input);
+			assertThat(rules.engine().firstCandidate(input)).isEqualTo(-1);
+
+			String digits = "status 200 in 15 ms";
+			assertThat(rules.apply(digits)).isSameAs(digits);
+		}
+
+		@Test
+		public void shouldFallBackWhenRulesCannotBeMerged() {
+			VopMaskRules backReference = new VopMaskRules();
+			backReference.addRule(new VopMaskRule.Definition("Repeated", "", "", "(\\d)\\1{3}", 0));
+			backReference.addRule(new VopMaskRule.Definition("SSN", "", "", "\\d{3}-?\\d{2}-?\\d{4}", 4));
+			assertThat(backReference.apply("pin 7777 ssn 123-12-1234")).isEqualTo("pin *777 ssn *******1234");
+		}
+
+		@Test
+		public void shouldHandleEmptyRulesAndInput() {
+			VopMaskRules empty = new VopMaskRules();
+			assertThat(empty.apply("4111111111111111")).isEqualTo("4111111111111111");
+			assertThat(rules.apply("")).isEmpty();
+			assertThat(rules.apply(null)).isNull();
+		}
+	}
+
+	/**
+	 * The engine masks typical log lines the same as applying the rules one at a time.
+	 */
+	public static class RuleAtATime {
+		static final List<String> LINES = Arrays.asList(
+				"{\"@timestamp\":\"2020-01-01T00:00:00.000Z\",\"logType\":\"applogs\",\"severity\":\"INFO\","
+						+ "\"class\":\"c.w.v.f.r.p.a.ProviderHttpAspect\",\"message\":\"Request processed in 152 ms\"}",
+				"{\"@timestamp\":\"2020-01-01T00:00:00.000Z\",\"logType\":\"applogs\",\"severity\":\"ERROR\","
+						+ "\"message\":\"Payment failed for card 4111111111111111 ssn 123-45-6789\"}",
+				"Audit: PersonInfoRequest[participantID=6666345,ssn=123456789,accountNumber=000123456789012]",
+				"Exiting method com.wynd.vop.service.impl.SomeServiceImpl.doWork() with no sensitive data");
+
+		@Test
+		public void shouldMaskAsRuleAtATime() {
+			VopMaskRules rules = defaultRules();
+			List<VopMaskRule> ruleAtATime = new ArrayList<>();
+			ruleAtATime.add(new VopMaskRule.Definition("Credit Card", "", "", "\\d{13,19}", 4).rule());
+			ruleAtATime.add(new VopMaskRule.Definition("Bank Account USA", "", "", "\\b[0-9]{12,17}\\b", 4).rule());
+			ruleAtATime.add(new VopMaskRule.Definition("SSN", "", "",
+					"\\b(?!000)(?!666)(?!9)[0-9]{3}[ -]?(?!00)[0-9]{2}[ -]?(?!0000)[0-9]{4}\\b", 4).rule());
+
+			for (String line : LINES) {
+				String expected = line;
+				for (VopMaskRule rule : ruleAtATime) {
+					expected = rule.apply(expected);
+				}
+				assertThat(rules.apply(line)).isEqualTo(expected);
+			}
+		}
+	}
+}
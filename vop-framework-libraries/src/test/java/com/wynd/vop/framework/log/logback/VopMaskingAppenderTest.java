@@ -0,0 +1,93 @@
+package com.wynd.vop.framework.log.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VopMaskingAppenderTest {
+
+	private VopMaskingAppender appender;
+	private ListAppender<ILoggingEvent> listAppender;
+
+	@Before
+	public void setup() {
+		LoggerContext context = new LoggerContext();
+
+		listAppender = new ListAppender<>();
+		listAppender.setName("LIST");
+		listAppender.setContext(context);
+		listAppender.start();
+
+		appender = new VopMaskingAppender();
+		appender.setName("MASKING");
+		appender.setContext(context);
+		appender.setRules(VopMaskEngineTest.defaultRules());
+		appender.addAppender(listAppender);
+		appender.start();
+	}
+
+	@After
+	public void teardown() {
+		appender.stop();
+	}
+
+	@Test
+	public void shouldMaskViewAndLeaveOriginalEvent() {
+		Integer number = Integer.valueOf(42);
+		LoggingEvent event = new LoggingEvent();
+		event.setLevel(Level.INFO);
+		event.setLoggerName("test.logger");
+		event.setMessage("card {} ssn 123-45-6789 count {}");
+		event.setArgumentArray(new Object[] { "4111111111111111", number });
+
+		appender.doAppend(event);
+
+		assertThat(listAppender.list).hasSize(1);
+		ILoggingEvent masked = listAppender.list.get(0);
+		assertThat(masked.getFormattedMessage()).isEqualTo("card ************1111 ssn *******6789 count 42");
+		assertThat(masked.getMessage()).isEqualTo("card {} ssn *******6789 count {}");
+		assertThat(masked.getArgumentArray()).containsExactly("************1111", number);
+		assertThat(masked.getLevel()).isEqualTo(Level.INFO);
+		assertThat(masked.getLoggerName()).isEqualTo("test.logger");
+
+		assertThat(event.getMessage()).isEqualTo("card {} ssn 123-45-6789 count {}");
+		assertThat(event.getArgumentArray()).containsExactly("4111111111111111", number);
+		assertThat(((VopMaskedLoggingEvent) masked).getDelegate()).isSameAs(event);
+	}
+
+	@Test
+	public void shouldNotCopyWhenNothingToMask() {
+		Object[] args = new Object[] { "nothing", Integer.valueOf(1) };
+		LoggingEvent event = new LoggingEvent();
+		event.setLevel(Level.DEBUG);
+		event.setMessage("plain {} {}");
+		event.setArgumentArray(args);
+
+		appender.doAppend(event);
+
+		ILoggingEvent masked = listAppender.list.get(0);
+		assertThat(masked.getArgumentArray()).isSameAs(args);
+		assertThat(masked.getMessage()).isSameAs(event.getMessage());
+		assertThat(masked.getFormattedMessage()).isEqualTo("plain nothing 1");
+	}
+
+	@Test
+	public void shouldAttachAndDetachAppenders() {
+		assertThat(appender.getAppender("LIST")).isSameAs(listAppender);
+		assertThat(appender.isAttached(listAppender)).isTrue();
+		assertThat(appender.iteratorForAppenders().hasNext()).isTrue();
+		assertThat(appender.detachAppender("LIST")).isTrue();
+		assertThat(appender.detachAppender(listAppender)).isFalse();
+		assertThat(appender.getRules()).isNotNull();
+
+		appender.setRules(null);
+		assertThat(appender.getRules()).isNotNull();
+	}
+}
@@ -93,6 +93,22 @@ public class VopMaskingFilterTest {
 		}
 	}
 
+	@Test
+	public final void testEvaluate_NonStringArguments() throws EvaluationException {
+		VopMaskingFilter testFilter = new VopMaskingFilter("Test_Args", "", "", "\\d{3}-\\d{3}", 3);
+		LoggingEvent event = new LoggingEvent();
+		Integer number = Integer.valueOf(123456);
+		event.setArgumentArray(new Object[] { "id 123-456", number, null, new StringBuilder("sb 987-654") });
+		event.setMessage("Values {} {} {} {}");
+
+		assertTrue(testFilter.evaluate(event));
+		assertEquals("Values {} {} {} {}", event.getMessage());
+		assertEquals("id ****456", event.getArgumentArray()[0]);
+		assertSame(number, event.getArgumentArray()[1]);
+		assertNull(event.getArgumentArray()[2]);
+		assertEquals("sb ****654", event.getArgumentArray()[3]);
+	}
+
 	@Test
 	public final void testHashCodeAndEqualsAndEtters()
 			throws NoSuchFieldException, SecurityException, IllegalArgumentException, IllegalAccessException {
@@ -1,5 +1,9 @@
 package com.wynd.vop.framework.log.logback;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.wynd.vop.framework.log.VopLogger;
@@ -8,6 +12,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.springframework.boot.test.system.OutputCaptureRule;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class VopMaskingMessageProviderTest {
@@ -32,4 +39,35 @@ public class VopMaskingMessageProviderTest {
 		assertThat(out.read("$.message", String.class)).contains("java.lang.RuntimeException: Error!!");
 	}
 
+	@Test
+	public void shouldWriteSameJsonWhenStreaming() throws Exception {
+		VopMaskingMessageProvider provider = new VopMaskingMessageProvider();
+		provider.setRules(VopMaskEngineTest.defaultRules());
+
+		String[] messages = { "no digits in this one", "card 4111111111111111 and \"ssn\" 123-45-6789",
+				"line one 123456789012\nline two", new String(new char[VopMaskingMessageProvider.MAX_RETAINED_BUFFER])
+						.replace('\0', '1') };
+		for (String message : messages) {
+			provider.setStreaming(true);
+			String streamed = write(provider, message);
+			provider.setStreaming(false);
+			String copied = write(provider, message);
+			assertThat(streamed).isEqualTo(copied);
+		}
+		assertThat(write(provider, "card 4111111111111111")).isEqualTo("{\"message\":\"card ************1111\"}");
+	}
+
+	private static String write(VopMaskingMessageProvider provider, String message) throws IOException {
+		LoggingEvent event = new LoggingEvent();
+		event.setLevel(Level.INFO);
+		event.setMessage(message);
+
+		StringWriter out = new StringWriter();
+		try (JsonGenerator generator = new JsonFactory().createGenerator(out)) {
+			generator.writeStartObject();
+			provider.writeTo(generator, event);
+			generator.writeEndObject();
+		}
+		return out.toString();
+	}
 }
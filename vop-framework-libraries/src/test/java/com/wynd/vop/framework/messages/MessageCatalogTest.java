@@ -0,0 +1,71 @@
+package com.wynd.vop.framework.messages;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MessageCatalogTest {
+
+	@Test
+	public void testMessagesFromPropertiesFile() {
+		assertEquals("NO_KEY", MessageKeys.NO_KEY.getMessage());
+		assertEquals("a warning", MessageKeys.WARN_KEY.getMessage("a warning"));
+		assertEquals("Foo is a class for statics. Do not instantiate it.",
+				MessageKeys.VOP_DEV_ILLEGAL_INSTANTIATION.getMessage("Foo"));
+		assertEquals(MessageKeys.VOP_DEV_ILLEGAL_INSTANTIATION.getMessage("Foo"),
+				MessageCatalog.getMessage(MessageKeys.VOP_DEV_ILLEGAL_INSTANTIATION, "Foo"));
+	}
+
+	@Test
+	public void testAllKeysHaveTemplates() {
+		Map<MessageKeys, MessageTemplate> templates = MessageCatalog.load(MessageCatalog.class.getClassLoader());
+		assertEquals(MessageKeys.values().length, templates.size());
+		for (MessageKeys key : MessageKeys.values()) {
+			assertTrue(key.name(), templates.get(key).getPattern() != null);
+		}
+	}
+
+	@Test
+	public void testLoadMissingAndOverriddenKeys() throws Exception {
+		File dir = Files.createTempDirectory("catalog").toFile();
+		File file = new File(dir, MessageCatalog.PROPERTIES_FILE);
+		Files.write(file.toPath(), "NO_KEY=Overridden {0}\n".getBytes(StandardCharsets.UTF_8));
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { dir.toURI().toURL() }, null)) {
+			Map<MessageKeys, MessageTemplate> templates = MessageCatalog.load(loader);
+			assertEquals("Overridden x", templates.get(MessageKeys.NO_KEY).format("x"));
+			// missing from the file, so the default message
+			assertEquals(MessageKeys.WARN_KEY.getDefaultMessage(), templates.get(MessageKeys.WARN_KEY).getPattern());
+		} finally {
+			file.delete();
+			dir.delete();
+		}
+	}
+
+	@Test
+	public void testReload() {
+		String before = MessageKeys.VOP_DEV_ILLEGAL_INVOCATION.getMessage("a", "b", "c", "d");
+		MessageCatalog.reload();
+		assertEquals(before, MessageKeys.VOP_DEV_ILLEGAL_INVOCATION.getMessage("a", "b", "c", "d"));
+	}
+
+	@Test(expected = IllegalAccessError.class)
+	public void testConstructor() throws Throwable {
+		Constructor<MessageCatalog> constructor = MessageCatalog.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		try {
+			constructor.newInstance();
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
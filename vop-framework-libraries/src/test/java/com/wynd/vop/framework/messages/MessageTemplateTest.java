@@ -0,0 +1,84 @@
+package com.wynd.vop.framework.messages;
+
+import org.junit.Test;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MessageTemplateTest {
+
+	private static void assertSameAsMessageFormat(final String pattern, final String... params) {
+		String expected = new MessageFormat(pattern, Locale.US).format(params);
+		assertEquals(expected, new MessageTemplate(pattern, Locale.US).format(params));
+	}
+
+	@Test
+	public void testNoParamsReturnsPattern() {
+		String pattern = "It''s {0} and {1}";
+		MessageTemplate template = new MessageTemplate(pattern, Locale.US);
+		assertSame(pattern, template.format());
+		assertSame(pattern, template.format((String[]) null));
+		assertSame(pattern, template.getPattern());
+	}
+
+	@Test
+	public void testPlainArguments() {
+		assertSameAsMessageFormat("{0} is a class for statics. Do not instantiate it.", "Foo");
+		assertSameAsMessageFormat("{1} then {0}, {1} again", "a", "b");
+		assertSameAsMessageFormat("{0}", "only");
+		assertSameAsMessageFormat("no arguments", "ignored");
+	}
+
+	@Test
+	public void testMissingAndNullArguments() {
+		assertSameAsMessageFormat("{0} and {2}", "a");
+		assertSameAsMessageFormat("{0} and {1}", "a", null);
+	}
+
+	@Test
+	public void testQuotes() {
+		assertSameAsMessageFormat("It''s {0}", "here");
+		assertSameAsMessageFormat("'{0}' is literal, {0} is not", "arg");
+		assertSameAsMessageFormat("'It''s' quoted {0}", "arg");
+		assertSameAsMessageFormat("unbalanced } brace {0}", "arg");
+	}
+
+	@Test
+	public void testFormattedArguments() {
+		assertSameAsMessageFormat("{0} of {1,number}", "a");
+		assertSameAsMessageFormat("{0} at {1,date,short}", "a");
+	}
+
+	@Test
+	public void testInvalidPattern() {
+		assertEquals("broken {0", new MessageTemplate("broken {0", Locale.US).format("a"));
+		assertEquals("spaced { 0 }", new MessageTemplate("spaced { 0 }", Locale.US).format("a"));
+	}
+
+	@Test
+	public void testConcurrentFormat() throws Exception {
+		final MessageTemplate plain = new MessageTemplate("{0}-{1}", Locale.US);
+		final MessageTemplate formatted = new MessageTemplate("{0}-{1,choice,0#a|1#b}", Locale.US);
+		Thread[] threads = new Thread[4];
+		final boolean[] failed = new boolean[1];
+		for (int t = 0; t < threads.length; t++) {
+			final String id = Integer.toString(t);
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 2000; i++) {
+					if (!(id + "-" + i).equals(plain.format(id, Integer.toString(i)))
+							|| !(id + "-{1}").equals(formatted.format(id))) {
+						failed[0] = true;
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(false, failed[0]);
+	}
+}
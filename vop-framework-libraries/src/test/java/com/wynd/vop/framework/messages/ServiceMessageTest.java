@@ -1,8 +1,14 @@
 package com.wynd.vop.framework.messages;
 
+import com.wynd.vop.framework.util.ObjectRenderer;
 import org.junit.Test;
 import org.springframework.http.HttpStatus;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import static org.junit.Assert.*;
 
 public class ServiceMessageTest {
@@ -57,6 +63,40 @@ public class ServiceMessageTest {
 		assertNull(message1.getStatus());
 	}
 
+	@Test
+	public void testTextIsResolvedOnRead() throws Exception {
+		String[] params = new String[] { "Foo" };
+		ServiceMessage serviceMessage =
+				new ServiceMessage(MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, MessageKeys.VOP_DEV_ILLEGAL_INSTANTIATION, params);
+		params[0] = "Bar";
+		String text = serviceMessage.getText();
+		assertEquals(MessageKeys.VOP_DEV_ILLEGAL_INSTANTIATION.getMessage("Foo"), text);
+		assertSame(text, serviceMessage.getText());
+	}
+
+	@Test
+	public void testRenderedWithText() throws Exception {
+		ServiceMessage serviceMessage =
+				new ServiceMessage(MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, MessageKeys.WARN_KEY, "warned");
+		assertTrue(ObjectRenderer.toString(serviceMessage).contains(",text=warned,"));
+		assertTrue(ObjectRenderer.toJson(serviceMessage).contains(",\"text\":\"warned\","));
+	}
+
+	@Test
+	public void testSerializedWithText() throws Exception {
+		ServiceMessage serviceMessage =
+				new ServiceMessage(MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, MessageKeys.WARN_KEY, "warned");
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(serviceMessage);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			ServiceMessage copy = (ServiceMessage) in.readObject();
+			assertEquals("warned", copy.getText());
+			assertEquals(serviceMessage, copy);
+		}
+	}
+
 	@Test
 	public void testMessageSeverityValueOf() throws Exception {
 
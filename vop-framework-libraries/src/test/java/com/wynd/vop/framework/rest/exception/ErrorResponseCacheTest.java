@@ -0,0 +1,109 @@
+package com.wynd.vop.framework.rest.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import com.wynd.vop.framework.rest.provider.ProviderResponse;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ErrorResponseCacheTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	public void testSameBodyAsMapper() throws Exception {
+		ErrorResponseCache cache = new ErrorResponseCache(objectMapper);
+		String text = MessageKeys.NO_KEY.getMessage();
+
+		ResponseEntity<Object> response = cache.getResponse(MessageSeverity.FATAL, MessageKeys.NO_KEY, text,
+				HttpStatus.INTERNAL_SERVER_ERROR);
+		assertNotNull(response);
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+		assertEquals(MediaType.APPLICATION_PROBLEM_JSON, response.getHeaders().getContentType());
+		assertTrue(response.getBody() instanceof ProviderResponse);
+		ProviderResponse body = (ProviderResponse) response.getBody();
+		assertTrue(body.hasFatals());
+		assertEquals(text, body.getMessages().get(0).getText());
+
+		ProviderResponse expected = new ProviderResponse();
+		expected.addMessage(MessageSeverity.FATAL, MessageKeys.NO_KEY.getKey(), text, HttpStatus.INTERNAL_SERVER_ERROR);
+		expected.getMessages().get(0).setTimestamp(body.getMessages().get(0).getTimestamp());
+		String cached = objectMapper.writeValueAsString(body);
+		assertEquals(objectMapper.writeValueAsString(expected), cached);
+		assertEquals(cached, new String(objectMapper.writeValueAsBytes(body), StandardCharsets.UTF_8));
+
+		// the body is read back as the same message
+		JsonNode messages = objectMapper.readTree(cached).get("messages");
+		assertEquals(1, messages.size());
+		assertEquals(MessageKeys.NO_KEY.getKey(), messages.get(0).get("key").asText());
+		assertEquals(text, messages.get(0).get("text").asText());
+		assertEquals("500", messages.get(0).get("status").asText());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testFreshTimestamp() throws Exception {
+		ErrorResponseCache cache = new ErrorResponseCache(objectMapper);
+		long before = System.currentTimeMillis() - 1;
+		ResponseEntity<Object> response = cache.getResponse(MessageSeverity.ERROR, MessageKeys.NO_KEY,
+				MessageKeys.NO_KEY.getMessage(), HttpStatus.BAD_REQUEST);
+		String timestamp = objectMapper.readTree(objectMapper.writeValueAsString(response.getBody())).get("messages").get(0)
+				.get("timestamp").asText();
+		SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+		format.setTimeZone(TimeZone.getTimeZone("UTC"));
+		assertTrue(format.parse(timestamp).getTime() >= before);
+	}
+
+	@Test
+	public void testChangedBodyIsRendered() throws Exception {
+		ErrorResponseCache cache = new ErrorResponseCache(objectMapper);
+		ProviderResponse body = (ProviderResponse) cache.getResponse(MessageSeverity.ERROR, MessageKeys.NO_KEY,
+				MessageKeys.NO_KEY.getMessage(), HttpStatus.BAD_REQUEST).getBody();
+		body.getMessages().get(0).setText("changed");
+		body.addMessage(MessageSeverity.WARN, "added", "added text", HttpStatus.OK);
+
+		ProviderResponse expected = new ProviderResponse();
+		expected.setMessages(body.getMessages());
+		assertEquals(objectMapper.writeValueAsString(expected), objectMapper.writeValueAsString(body));
+
+		// a generator that is not JSON gets the response, not the pre-rendered JSON
+		body.getMessages().remove(1);
+		JsonNode tree = objectMapper.valueToTree(body);
+		assertEquals("changed", tree.get("messages").get(0).get("text").asText());
+	}
+
+	@Test
+	public void testDynamicTextNotCached() {
+		ErrorResponseCache cache = new ErrorResponseCache(objectMapper);
+		assertNull(cache.getResponse(MessageSeverity.ERROR, MessageKeys.NO_KEY, "Source exception has no message.",
+				HttpStatus.BAD_REQUEST));
+		assertNull(cache.getResponse(MessageSeverity.ERROR, MessageKeys.VOP_GLOBAL_GENERAL_EXCEPTION,
+				MessageKeys.VOP_GLOBAL_GENERAL_EXCEPTION.getMessage("java.lang.Exception", "test"), HttpStatus.BAD_REQUEST));
+		assertNull(cache.getResponse(null, MessageKeys.NO_KEY, MessageKeys.NO_KEY.getMessage(), HttpStatus.BAD_REQUEST));
+		assertNull(cache.getResponse(MessageSeverity.ERROR, MessageKeys.NO_KEY, null, HttpStatus.BAD_REQUEST));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testMaxEntries() {
+		ErrorResponseCache cache = new ErrorResponseCache(objectMapper, 1);
+		String text = MessageKeys.NO_KEY.getMessage();
+		assertNotNull(cache.getResponse(MessageSeverity.ERROR, MessageKeys.NO_KEY, text, HttpStatus.BAD_REQUEST));
+		assertNull(cache.getResponse(MessageSeverity.ERROR, MessageKeys.NO_KEY, text, HttpStatus.NOT_FOUND));
+		assertNotNull(cache.getResponse(MessageSeverity.ERROR, MessageKeys.NO_KEY, text, HttpStatus.BAD_REQUEST));
+		assertEquals(1, cache.size());
+	}
+}
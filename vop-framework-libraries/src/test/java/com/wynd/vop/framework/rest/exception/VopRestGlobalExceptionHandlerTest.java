@@ -68,6 +68,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
@@ -699,6 +700,33 @@ public class VopRestGlobalExceptionHandlerTest extends AbstractBaseLogTester {
 		assertTrue(response.getStatusCode().equals(HttpStatus.INTERNAL_SERVER_ERROR));
 	}
 
+	@Test
+	public void failSafeHandlerWithErrorResponseCacheTest() {
+		VopRestGlobalExceptionHandler handler = new VopRestGlobalExceptionHandler();
+		handler.setErrorResponseCache(new ErrorResponseCache(new ObjectMapper()));
+		ResponseEntity<Object> response = ReflectionTestUtils.invokeMethod(handler, "failSafeHandler");
+		assertTrue(response.getStatusCode().equals(HttpStatus.INTERNAL_SERVER_ERROR));
+		assertTrue(response.getBody() instanceof ErrorResponseCache.CachedResponse);
+		assertTrue(((ProviderResponse) response.getBody()).hasFatals());
+		assertTrue(MediaType.APPLICATION_PROBLEM_JSON.equals(response.getHeaders().getContentType()));
+	}
+
+	@Test
+	public void standardHandlerWithErrorResponseCacheTest() {
+		VopRestGlobalExceptionHandler handler = new VopRestGlobalExceptionHandler();
+		handler.setErrorResponseCache(new ErrorResponseCache(new ObjectMapper()));
+		ResponseEntity<Object> response = ReflectionTestUtils.invokeMethod(handler, "standardHandler",
+				new VopRuntimeException(MessageKeys.NO_KEY, MessageSeverity.ERROR, HttpStatus.BAD_REQUEST),
+				MessageKeys.NO_KEY, MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, null);
+		assertTrue(response.getBody() instanceof ErrorResponseCache.CachedResponse);
+
+		// the message of the exception is not the parameterless message of the key
+		response = ReflectionTestUtils.invokeMethod(handler, "standardHandler", new Exception("dynamic message"),
+				MessageKeys.NO_KEY, MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, null);
+		assertTrue(response.getBody() instanceof ProviderResponse);
+		assertFalse(response.getBody() instanceof ErrorResponseCache.CachedResponse);
+	}
+
 	static class DummyObjectToBeValidated {
 
 		@NotBlank
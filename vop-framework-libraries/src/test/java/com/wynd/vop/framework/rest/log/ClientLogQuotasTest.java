@@ -0,0 +1,56 @@
+package com.wynd.vop.framework.rest.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class ClientLogQuotasTest {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	@Test
+	public void testBurstThenRefill() {
+		ClientLogQuotas quotas = new ClientLogQuotas(2, 1, 10, clock::get);
+
+		assertEquals(0, quotas.tryAcquire("a"));
+		assertEquals(0, quotas.tryAcquire("a"));
+		assertEquals(1000, quotas.tryAcquire("a"));
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+		assertEquals(500, quotas.tryAcquire("a"));
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+		assertEquals(0, quotas.tryAcquire("a"));
+	}
+
+	@Test
+	public void testRefillIsCappedAtCapacity() {
+		ClientLogQuotas quotas = new ClientLogQuotas(2, 1, 10, clock::get);
+
+		clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+		assertEquals(0, quotas.tryAcquire("a"));
+		assertEquals(0, quotas.tryAcquire("a"));
+		assertTrue(quotas.tryAcquire("a") > 0);
+	}
+
+	@Test
+	public void testOriginsAreBounded() {
+		ClientLogQuotas quotas = new ClientLogQuotas(1, 1, 2, clock::get);
+
+		assertEquals(0, quotas.tryAcquire("a"));
+		assertEquals(0, quotas.tryAcquire("b"));
+		// further origins share the overflow bucket
+		assertEquals(0, quotas.tryAcquire("c"));
+		assertTrue(quotas.tryAcquire("d") > 0);
+		assertEquals(3, quotas.buckets());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidQuota() {
+		new ClientLogQuotas(0, 1, 1);
+	}
+}
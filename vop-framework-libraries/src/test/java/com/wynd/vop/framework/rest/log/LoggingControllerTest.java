@@ -1,11 +1,15 @@
 package com.wynd.vop.framework.rest.log;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -15,6 +19,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.http.MediaType;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -58,4 +64,96 @@ public class LoggingControllerTest {
 		.andExpect(status().isOk())
 		.andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN_VALUE));
 	}
+
+	@Test
+	public void testLoggingControllerPostAllFields() throws Exception {
+		ClientLogEntry entry = ClientLogEntry.builder()
+				.message("Log message {} with braces")
+				.level("ERROR")
+				.timestamp("2021-10-20T00:00:00Z")
+				.logger("app.component")
+				.stacktrace("Error: failed\n    at component.js:1")
+				.traceId("abc")
+				.spanId("def")
+				.build();
+		String jsonValue = "{\"ignored\":{\"nested\":[1,2]},\"logs\":["
+				+ new ObjectMapper().writeValueAsString(entry) + ",null]}";
+
+		postLogs(jsonValue, "https://app.example.com:8443/page?q=1")
+		.andExpect(status().isOk());
+	}
+
+	@Test
+	public void testLoggingControllerPostInvalidEntries() throws Exception {
+		postLogs("{\"logs\":[{\"level\":\"warn\",\"timestamp\":\"now\"}]}", "localhost")
+		.andExpect(status().isBadRequest());
+		postLogs("{\"logs\":[{\"message\":\"m\",\"level\":\"fatal\",\"timestamp\":\"now\"}]}", "localhost")
+		.andExpect(status().isBadRequest());
+		postLogs("{\"logs\":[{\"message\":\"m\",\"level\":\"warn\"", "localhost")
+		.andExpect(status().isBadRequest());
+		postLogs("[]", "localhost")
+		.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void testLoggingControllerPostBatchTooLarge() throws Exception {
+		loggingController = new LoggingController(2, 100, 1, 10);
+		this.mockMvc = MockMvcBuilders.standaloneSetup(loggingController).build();
+
+		postLogs(new ObjectMapper().writeValueAsString(entries(3)), "localhost")
+		.andExpect(status().isPayloadTooLarge());
+	}
+
+	@Test
+	public void testLoggingControllerPostQuotaExceeded() throws Exception {
+		loggingController = new LoggingController(100, 3, 0.5, 10);
+		this.mockMvc = MockMvcBuilders.standaloneSetup(loggingController).build();
+
+		postLogs(new ObjectMapper().writeValueAsString(entries(2)), "http://localhost:3000/a")
+		.andExpect(status().isOk());
+		postLogs(new ObjectMapper().writeValueAsString(entries(2)), "http://localhost:3000/b")
+		.andExpect(status().isTooManyRequests())
+		.andExpect(header().string("Retry-After", "2"));
+
+		// other origins have their own quota
+		postLogs(new ObjectMapper().writeValueAsString(entries(2)), "http://localhost:4000/a")
+		.andExpect(status().isOk());
+	}
+
+	@Test
+	public void testFieldsAreMasked() {
+		ClientLogEntry entry = ClientLogEntry.builder()
+				.message("Log message")
+				.level("error")
+				.timestamp("2021-10-20T00:00:00Z")
+				.logger("app.4111111111111111")
+				.stacktrace("Error: card 4111111111111111 declined")
+				.traceId("123-45-6789")
+				.build();
+
+		Map<String, Object> fields = loggingController.fieldsOf("http://4111111111111111.example.com", entry);
+
+		assertEquals("2021-10-20T00:00:00Z", fields.get("client_timestamp"));
+		assertFalse(fields.containsKey("client_span_id"));
+		for (String name : new String[] { "client_origin", "client_logger", "client_stacktrace", "client_trace_id" }) {
+			String value = (String) fields.get(name);
+			assertFalse(name + ": " + value, value.contains("4111111111111111") || value.contains("123-45-6789"));
+		}
+	}
+
+	private ClientLogEntryList entries(int count) {
+		List<ClientLogEntry> entries = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			entries.add(entryList.getLogs().get(0));
+		}
+		return new ClientLogEntryList(entries);
+	}
+
+	private ResultActions postLogs(String body, String referer) throws Exception {
+		return this.mockMvc.perform(
+				MockMvcRequestBuilders.post("/log")
+				.header("Referer", referer)
+				.contentType(MediaType.APPLICATION_JSON_VALUE)
+				.content(body));
+	}
 }
@@ -0,0 +1,80 @@
+package com.wynd.vop.framework.rest.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.wynd.vop.framework.log.VopRequestDebug;
+
+public class VopRequestDebugFilterTest {
+
+	private static final String SECRET = "test-secret";
+
+	private final long now = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+
+	@Test
+	public void testSignedHeaderEnablesDebugForTheRequestOnly() throws Exception {
+		VopRequestDebugFilter filter = new VopRequestDebugFilter(SECRET, 0, 3600);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/thing");
+		request.addHeader(VopRequestDebugFilter.DEBUG_HEADER, VopRequestDebugFilter.sign(SECRET, now + 60));
+
+		boolean[] enabled = new boolean[1];
+		String[] mdc = new String[1];
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			enabled[0] = VopRequestDebug.isEnabled();
+			mdc[0] = MDC.get(VopRequestDebugFilter.MDC_KEY);
+		});
+
+		assertTrue(enabled[0]);
+		assertEquals("header", mdc[0]);
+		assertFalse(VopRequestDebug.isEnabled());
+		assertNull(MDC.get(VopRequestDebugFilter.MDC_KEY));
+	}
+
+	@Test
+	public void testInvalidHeaders() {
+		VopRequestDebugFilter filter = new VopRequestDebugFilter(SECRET, 0, 3600);
+
+		assertTrue(filter.isValid(VopRequestDebugFilter.sign(SECRET, now + 60), now));
+		// expired
+		assertFalse(filter.isValid(VopRequestDebugFilter.sign(SECRET, now - 1), now));
+		// lives too long
+		assertFalse(filter.isValid(VopRequestDebugFilter.sign(SECRET, now + 7200), now));
+		// wrong secret
+		assertFalse(filter.isValid(VopRequestDebugFilter.sign("other", now + 60), now));
+		// tampered expiry
+		String signed = VopRequestDebugFilter.sign(SECRET, now + 60);
+		assertFalse(filter.isValid((now + 61) + signed.substring(signed.indexOf('.')), now));
+		// malformed
+		assertFalse(filter.isValid("true", now));
+		assertFalse(filter.isValid("abc.def", now));
+	}
+
+	@Test
+	public void testHeaderIgnoredWithoutSecret() {
+		VopRequestDebugFilter filter = new VopRequestDebugFilter("", 0, 3600);
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(VopRequestDebugFilter.DEBUG_HEADER, VopRequestDebugFilter.sign(SECRET, now + 60));
+
+		assertNull(filter.debugReason(request));
+	}
+
+	@Test
+	public void testSampleRate() {
+		assertEquals("sample", new VopRequestDebugFilter(null, 1, 3600).debugReason(new MockHttpServletRequest()));
+		assertNull(new VopRequestDebugFilter(null, 0, 3600).debugReason(new MockHttpServletRequest()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSampleRate() {
+		new VopRequestDebugFilter(SECRET, 1.5, 3600);
+	}
+}
@@ -0,0 +1,58 @@
+package com.wynd.vop.framework.rest.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.wynd.vop.framework.log.VopRequestTimings;
+
+public class VopServerTimingFilterTest {
+
+	@Test
+	public void testHeaderAddedBeforeCommit() throws Exception {
+		VopServerTimingFilter filter = new VopServerTimingFilter(true, false);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		boolean[] recording = new boolean[1];
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/thing"), response, (req, res) -> {
+			recording[0] = VopRequestTimings.isRecording();
+			VopRequestTimings.record(VopRequestTimings.Span.REST, System.nanoTime() - 1_000_000L);
+			res.getWriter().write("body");
+			res.flushBuffer();
+		});
+
+		assertTrue(recording[0]);
+		assertFalse(VopRequestTimings.isRecording());
+		assertTrue(response.isCommitted());
+		String header = response.getHeader(VopServerTimingFilter.SERVER_TIMING_HEADER);
+		assertTrue(header, header.startsWith("total;dur=") && header.contains(", rest;dur="));
+		assertEquals(1, response.getHeaders(VopServerTimingFilter.SERVER_TIMING_HEADER).size());
+	}
+
+	@Test
+	public void testHeaderAddedWithoutBody() throws Exception {
+		VopServerTimingFilter filter = new VopServerTimingFilter(true, true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> ((HttpServletResponse) res).setStatus(204));
+
+		assertTrue(response.getHeader(VopServerTimingFilter.SERVER_TIMING_HEADER).startsWith("total;dur="));
+	}
+
+	@Test
+	public void testHeaderDisabled() throws Exception {
+		VopServerTimingFilter filter = new VopServerTimingFilter(false, false);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> res.getWriter().write("body"));
+
+		assertNull(response.getHeader(VopServerTimingFilter.SERVER_TIMING_HEADER));
+	}
+}
@@ -1,12 +1,18 @@
 package com.wynd.vop.framework.rest.provider;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wynd.vop.framework.messages.MessageSeverity;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.http.HttpStatus;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -107,4 +113,76 @@ public class ProviderResponseTest {
 		assertTrue(testResponse.hasInfos());
 	}
 
+	@Test
+	public void testHasMessagesOfTypeWithoutMessages() {
+		assertFalse(testResponse.hasErrors());
+		assertFalse(testResponse.hasFatals());
+		assertTrue(testResponse.getMessagesIfAny().isEmpty());
+	}
+
+	@Test
+	public void testSetMessagesCopiesMessages() {
+		testResponse.setMessages(testMessages);
+		testMessages.remove(fatalMessage);
+		assertEquals(4, testResponse.getMessages().size());
+		testResponse.getMessages().remove(fatalMessage);
+		assertFalse(testResponse.hasFatals());
+		assertTrue(testResponse.hasErrors());
+	}
+
+	@Test
+	public void testSeverityChangedAfterAdd() {
+		testResponse.addMessage(MessageSeverity.WARN, "WarnKey", "Dummy warning text", HttpStatus.OK);
+		assertFalse(testResponse.hasErrors());
+		testResponse.getMessages().get(0).setSeverity(MessageSeverity.ERROR.name());
+		assertTrue(testResponse.hasErrors());
+		assertFalse(testResponse.hasWarnings());
+	}
+
+	@Test
+	public void testSeverityChangedInEachResponse() {
+		testResponse.setMessages(testMessages);
+		ProviderResponse other = new ProviderResponse();
+		other.addMessages(Collections.singletonList(warnMessage));
+		warnMessage.setSeverity(MessageSeverity.DEBUG.name());
+		assertFalse(testResponse.hasWarnings());
+		assertFalse(other.hasWarnings());
+
+		// a removed message no longer changes the response
+		other.getMessages().clear();
+		warnMessage.setSeverity(MessageSeverity.WARN.name());
+		assertTrue(testResponse.hasWarnings());
+		assertFalse(other.hasWarnings());
+
+		// nor does a message that is not a severity
+		warnMessage.setSeverity("NOT_A_SEVERITY");
+		assertFalse(testResponse.hasWarnings());
+		assertTrue(testResponse.hasErrors());
+	}
+
+	@Test
+	public void testSeverityChangedAfterSerialization() throws Exception {
+		testResponse.setMessages(testMessages);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(testResponse);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			ProviderResponse read = (ProviderResponse) in.readObject();
+			assertTrue(read.hasFatals());
+			read.getMessages().get(3).setSeverity(MessageSeverity.INFO.name());
+			assertFalse(read.hasFatals());
+			assertTrue(testResponse.hasFatals());
+		}
+	}
+
+	@Test
+	public void testJsonSameAsList() throws Exception {
+		ObjectMapper mapper = new ObjectMapper();
+		testResponse.setMessages(testMessages);
+		String json = mapper.writeValueAsString(testResponse);
+		assertEquals(mapper.writeValueAsString(Collections.singletonMap("messages", testMessages)), json);
+		assertEquals("{\"messages\":[]}", mapper.writeValueAsString(new ProviderResponse()));
+	}
+
 }
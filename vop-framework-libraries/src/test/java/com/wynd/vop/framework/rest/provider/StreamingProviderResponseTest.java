@@ -0,0 +1,126 @@
+package com.wynd.vop.framework.rest.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class StreamingProviderResponseTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	public void testWriteItemsThenMessages() throws Exception {
+		StreamingProviderResponse<String> response = new StreamingProviderResponse<>(Arrays.asList("a", "b").iterator());
+		response.addMessage(MessageSeverity.INFO, "InfoKey", "Dummy info text", HttpStatus.OK);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		response.writeTo(out);
+
+		String json = out.toString("UTF-8");
+		assertTrue(json.startsWith("{\"items\":[\"a\",\"b\"],\"messages\":[{"));
+		JsonNode messages = objectMapper.readTree(json).get("messages");
+		assertEquals(1, messages.size());
+		assertEquals("InfoKey", messages.get(0).get("key").asText());
+	}
+
+	@Test
+	public void testSameAsMapper() throws Exception {
+		StreamingProviderResponse<Integer> response = new StreamingProviderResponse<>(Stream.of(1, 2, 3));
+		assertEquals("{\"items\":[1,2,3],\"messages\":[]}", objectMapper.writeValueAsString(response));
+	}
+
+	@Test
+	public void testStreamClosedAndOutputNotClosed() throws Exception {
+		AtomicBoolean streamClosed = new AtomicBoolean();
+		AtomicBoolean outputClosed = new AtomicBoolean();
+		StreamingProviderResponse<Integer> response = new StreamingProviderResponse<>(
+				Stream.of(1).onClose(() -> streamClosed.set(true)));
+		response.writeTo(new OutputStream() {
+			@Override
+			public void write(final int b) {
+				// discard
+			}
+
+			@Override
+			public void close() {
+				outputClosed.set(true);
+			}
+		});
+		assertTrue(streamClosed.get());
+		assertFalse(outputClosed.get());
+	}
+
+	@Test
+	public void testReadFailureAddsMessage() throws Exception {
+		Iterator<Integer> items = IntStream.range(0, 10).map(i -> {
+			if (i == 3) {
+				throw new IllegalStateException("cursor closed");
+			}
+			return i;
+		}).iterator();
+		StreamingProviderResponse<Integer> response = new StreamingProviderResponse<>(items);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		response.writeTo(out);
+
+		JsonNode json = objectMapper.readTree(out.toByteArray());
+		assertEquals(3, json.get("items").size());
+		assertEquals(MessageKeys.VOP_GLOBAL_GENERAL_EXCEPTION.getKey(), json.get("messages").get(0).get("key").asText());
+		assertTrue(response.hasFatals());
+	}
+
+	@Test
+	public void testSummaryHasBoundedHead() throws Exception {
+		StreamingProviderResponse<Integer> response = new StreamingProviderResponse<>(IntStream.range(0, 100_000).boxed());
+		response.setAuditHeadSize(3);
+		AtomicReference<StreamingProviderResponse.Summary<Integer>> summary = new AtomicReference<>();
+		response.setCompletionListener(summary::set);
+
+		response.writeTo(new ByteArrayOutputStream());
+
+		assertEquals(Arrays.asList(0, 1, 2), summary.get().getHead());
+		assertEquals(100_000, summary.get().getItemCount());
+		assertTrue(summary.get().getMessages().isEmpty());
+	}
+
+	@Test
+	public void testWriterSetsMapperUnlessSet() {
+		StreamingProviderResponseWriter writer = new StreamingProviderResponseWriter(objectMapper);
+		StreamingProviderResponse<Integer> response = new StreamingProviderResponse<>(Stream.empty());
+		writer.prepare(response);
+		assertSame(objectMapper, response.getObjectMapper());
+
+		ObjectMapper own = new ObjectMapper();
+		response.setObjectMapper(own);
+		writer.prepare(response);
+		assertSame(own, response.getObjectMapper());
+	}
+
+	@Test
+	public void testToResponseEntity() {
+		StreamingProviderResponse<Integer> response = new StreamingProviderResponse<>(Stream.empty());
+		ResponseEntity<StreamingProviderResponse<Integer>> entity = response.toResponseEntity();
+		assertEquals(HttpStatus.OK, entity.getStatusCode());
+		assertEquals(MediaType.APPLICATION_JSON, entity.getHeaders().getContentType());
+		assertTrue(entity.getBody() == response);
+	}
+}
@@ -1,20 +1,25 @@
 package com.wynd.vop.framework.rest.provider.aspect;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wynd.vop.framework.AbstractBaseLogTester;
 import com.wynd.vop.framework.aspect.AuditableAnnotationAspect;
 import com.wynd.vop.framework.audit.AuditEventData;
+import com.wynd.vop.framework.audit.BaseAsyncAudit;
 import com.wynd.vop.framework.log.VopLogger;
 import com.wynd.vop.framework.log.VopLoggerFactory;
 import com.wynd.vop.framework.messages.MessageKeys;
 import com.wynd.vop.framework.messages.MessageSeverity;
 import com.wynd.vop.framework.messages.ServiceMessage;
 import com.wynd.vop.framework.rest.provider.ProviderResponse;
+import com.wynd.vop.framework.rest.provider.StreamingProviderResponse;
+import com.wynd.vop.framework.rest.provider.StreamingProviderResponseWriter;
 import com.wynd.vop.framework.service.DomainResponse;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -29,13 +34,23 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ProviderHttpAspectTest extends AbstractBaseLogTester {
@@ -197,6 +212,34 @@ public class ProviderHttpAspectTest extends AbstractBaseLogTester {
 		}
 	}
 
+	@Test
+	public void testAfterreturningAuditAdvice_withStreamingProviderResponseReturnType() throws Exception {
+		super.getAppender().clear();
+
+		providerHttpAspect = new ProviderHttpAspect();
+		BaseAsyncAudit baseAsyncAudit = mock(BaseAsyncAudit.class);
+		ReflectionTestUtils.setField(providerHttpAspect, "baseAsyncAudit", baseAsyncAudit);
+		ObjectMapper objectMapper = new ObjectMapper();
+		providerHttpAspect.setStreamingResponseWriter(new StreamingProviderResponseWriter(objectMapper));
+		Mockito.lenient().when(joinPoint.getSignature()).thenReturn(mockSignature);
+		Mockito.lenient().when(mockSignature.getMethod()).thenReturn(myMethod());
+		StreamingProviderResponse<Integer> response = new StreamingProviderResponse<>(IntStream.range(0, 1000).boxed());
+		response.setAuditHeadSize(3);
+		providerHttpAspect.afterreturningAuditAdvice(joinPoint, response.toResponseEntity());
+		assertSame(objectMapper, response.getObjectMapper());
+
+		// the response is audited once it is written
+		verify(baseAsyncAudit, never()).writeResponseAuditLog(any(), any(), any(), any(), any());
+		response.writeTo(new ByteArrayOutputStream());
+
+		ArgumentCaptor<Object> audited = ArgumentCaptor.forClass(Object.class);
+		verify(baseAsyncAudit).writeResponseAuditLog(audited.capture(), any(), any(AuditEventData.class),
+				eq(MessageSeverity.INFO), isNull());
+		StreamingProviderResponse.Summary<?> summary = (StreamingProviderResponse.Summary<?>) audited.getValue();
+		assertEquals(Arrays.asList(0, 1, 2), summary.getHead());
+		assertEquals(1000, summary.getItemCount());
+	}
+
 	@Test
 	public void testAfterreturningAuditAdvice_withNullReturned() {
 		super.getAppender().clear();
@@ -9,6 +9,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.springframework.http.HttpStatus;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -114,4 +118,28 @@ public class DomainResponseTest {
 		assertTrue(mockServiceResponse.hasInfos());
 	}
 
+	@Test
+	public void testHasMessagesOfTypeAfterRemove() {
+		assertFalse(mockServiceResponse.hasErrors());
+		mockServiceResponse.addMessages(testMessages);
+		mockServiceResponse.getMessages().remove(errorMessage);
+		assertFalse(mockServiceResponse.hasErrors());
+		assertTrue(mockServiceResponse.hasFatals());
+	}
+
+	@Test
+	public void testJavaSerialization() throws Exception {
+		mockServiceResponse.addMessages(testMessages);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(mockServiceResponse);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			DomainResponse read = (DomainResponse) in.readObject();
+			assertEquals(mockServiceResponse.getMessages(), read.getMessages());
+			assertTrue(read.hasErrors());
+			assertFalse(new DomainResponse().hasErrors());
+		}
+	}
+
 }
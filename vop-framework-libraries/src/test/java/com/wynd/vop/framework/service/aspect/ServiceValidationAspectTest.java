@@ -1,10 +1,15 @@
 package com.wynd.vop.framework.service.aspect;
 
 import com.wynd.vop.framework.exception.VopRuntimeException;
+import com.wynd.vop.framework.messages.MessageKeys;
 import com.wynd.vop.framework.messages.ServiceMessage;
 import com.wynd.vop.framework.service.DomainResponse;
 import com.wynd.vop.framework.service.aspect.validators.TestRequestValidator;
+import com.wynd.vop.framework.service.aspect.validators.TestStatelessRequestValidator;
+import com.wynd.vop.framework.validation.StatelessValidator;
+import com.wynd.vop.framework.validation.ValidationContext;
 import com.wynd.vop.framework.validation.Validator;
+import com.wynd.vop.framework.validation.ValidatorAdapter;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
 import org.aspectj.lang.reflect.MethodSignature;
@@ -14,11 +19,14 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Method;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
@@ -64,6 +72,11 @@ public class ServiceValidationAspectTest {
 		return dr;
 	}
 
+	DomainResponse testMethodStatelessSad(final TestStatelessRequest test) {
+		DomainResponse dr = null;
+		return dr;
+	}
+
 	@Test
 	public final void testAroundAdviceOneArgHappy() {
 		Object[] args = new Object[1];
@@ -105,7 +118,7 @@ public class ServiceValidationAspectTest {
 			}
 
 			ReflectionTestUtils.invokeMethod(aspect, "callPostValidationBasedOnDomainResponse", proceedingJoinPoint, domainResponse,
-					method);
+					planFor(method));
 		} catch (VopRuntimeException e) {
 			e.printStackTrace();
 			fail("VopRuntimeException should not be thrown when validator class does not exist.");
@@ -146,7 +159,7 @@ public class ServiceValidationAspectTest {
 		Method mockMethod;
 		try {
 			mockMethod = this.getClass().getMethod("testMethodThrowingInstantiationException", String.class);
-			ReflectionTestUtils.invokeMethod(aspect, "addValidationErrorMessages", mockMethod, null);
+			ReflectionTestUtils.invokeMethod(aspect, "addValidationErrorMessages", planFor(mockMethod), null);
 		} catch (NoSuchMethodException | SecurityException e) {
 			fail("Unexpected exception");
 		}
@@ -157,7 +170,7 @@ public class ServiceValidationAspectTest {
 		Method mockMethod;
 		try {
 			mockMethod = this.getClass().getMethod("testMethodThrowingIllegalAccessException", String.class);
-			ReflectionTestUtils.invokeMethod(aspect, "addValidationErrorMessages", mockMethod, null);
+			ReflectionTestUtils.invokeMethod(aspect, "addValidationErrorMessages", planFor(mockMethod), null);
 		} catch (NoSuchMethodException | SecurityException e) {
 			fail("Unexpected exception");
 		}
@@ -199,12 +212,96 @@ public class ServiceValidationAspectTest {
 				returned.getMessages().get(0).getHttpStatus()));
 	}
 
+	@Test
+	public final void testAroundAdviceNullAndSubclassArgs() throws Throwable {
+		Object[] args = new Object[] { null };
+
+		when(proceedingJoinPoint.getArgs()).thenReturn(args);
+		when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+		when(signature.getName()).thenReturn("testMethodSad");
+		when(signature.getDeclaringType()).thenReturn(this.getClass());
+
+		// null args are not validated
+		assertNull(aspect.aroundAdvice(proceedingJoinPoint));
+
+		// there is no validator for the subclass
+		args[0] = new TestSubRequest();
+		assertNull(aspect.aroundAdvice(proceedingJoinPoint));
+	}
+
+	@Test
+	public final void testValidationPlanIsReused() throws Throwable {
+		when(proceedingJoinPoint.getArgs()).thenReturn(new Object[] { new TestRequest() });
+		when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+		when(signature.getName()).thenReturn("testMethodSad");
+		when(signature.getDeclaringType()).thenReturn(this.getClass());
+
+		DomainResponse first = (DomainResponse) aspect.aroundAdvice(proceedingJoinPoint);
+		Map<?, ?> plans = (Map<?, ?>) ReflectionTestUtils.getField(ServiceValidationAspect.class, "PLANS");
+		Method method = this.getClass().getDeclaredMethod("testMethodSad", TestRequest.class);
+		Object plan = plans.get(method);
+		assertNotNull(plan);
+
+		DomainResponse second = (DomainResponse) aspect.aroundAdvice(proceedingJoinPoint);
+		assertSame(plan, plans.get(method));
+		assertNotSame(first, second);
+		assertEquals(1, second.getMessages().size());
+	}
+
+	@Test
+	public final void testAroundAdviceStatelessValidatorIsShared() throws Throwable {
+		when(proceedingJoinPoint.getArgs()).thenReturn(new Object[] { new TestStatelessRequest() });
+		when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+		when(signature.getName()).thenReturn("testMethodStatelessSad");
+		when(signature.getDeclaringType()).thenReturn(this.getClass());
+
+		DomainResponse first = (DomainResponse) aspect.aroundAdvice(proceedingJoinPoint);
+		int instances = TestStatelessRequestValidator.INSTANCES.get();
+		DomainResponse second = (DomainResponse) aspect.aroundAdvice(proceedingJoinPoint);
+
+		assertEquals(instances, TestStatelessRequestValidator.INSTANCES.get());
+		assertEquals(1, first.getMessages().size());
+		assertEquals(1, second.getMessages().size());
+		assertEquals(MessageKeys.NO_KEY.getKey(), second.getMessages().get(0).getKey());
+	}
+
+	@Test
+	public final void testAroundAdviceStatelessValidatorBean() throws Throwable {
+		AtomicInteger calls = new AtomicInteger();
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("testStatelessRequestValidator", new TestStatelessRequestValidator() {
+			@Override
+			public void validate(final TestStatelessRequest toValidate, final ValidationContext context) {
+				calls.incrementAndGet();
+			}
+		});
+		aspect.setBeanFactory(beanFactory);
+
+		when(proceedingJoinPoint.getArgs()).thenReturn(new Object[] { new TestStatelessRequest() });
+		when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+		when(signature.getName()).thenReturn("testMethodStatelessSad");
+		when(signature.getDeclaringType()).thenReturn(this.getClass());
+
+		assertNull(aspect.aroundAdvice(proceedingJoinPoint));
+		assertNull(aspect.aroundAdvice(proceedingJoinPoint));
+		assertEquals(2, calls.get());
+	}
+
+	@Test(expected = VopRuntimeException.class)
+	public final void testInvokeStatelessValidatorException() throws NoSuchMethodException {
+		StatelessValidator<Object> failing = (toValidate, context) -> {
+			throw new IllegalStateException("test");
+		};
+		ReflectionTestUtils.invokeMethod(aspect, "invokeValidator", new TestStatelessRequest(), failing,
+				new ValidationContext(this.getClass().getMethod("testMethod", String.class), new LinkedList<ServiceMessage>()));
+	}
+
 	@Test
 	public final void testValidateResponse() {
 		try {
-			ReflectionTestUtils.invokeMethod(aspect, "validateResponse", new DomainResponse(),
-					new LinkedList<ServiceMessage>(),
-					this.getClass().getMethod("testMethod", String.class), new Object[] {});
+			when(proceedingJoinPoint.getArgs()).thenReturn(new Object[] {});
+			ReflectionTestUtils.invokeMethod(aspect, "callPostValidationBasedOnDomainResponse", proceedingJoinPoint,
+					new DomainResponse(), planFor(this.getClass().getMethod("testMethod", String.class)));
 		} catch (NoSuchMethodException e) {
 			e.printStackTrace();
 			fail("unable to find method named testMethod");
@@ -220,8 +317,9 @@ public class ServiceValidationAspectTest {
 	@Test
 	public final void testInvokeValidator() {
 		try {
-			ReflectionTestUtils.invokeMethod(aspect, "invokeValidator", new DomainResponse(), new LinkedList<ServiceMessage>(),
-					this.getClass().getMethod("testMethod", String.class), DomainResponseValidatorForTest.class, new Object[] {});
+			ReflectionTestUtils.invokeMethod(aspect, "invokeValidator", new DomainResponse(),
+					new ValidatorAdapter<Object>(DomainResponseValidatorForTest.class),
+					new ValidationContext(this.getClass().getMethod("testMethod", String.class), new LinkedList<ServiceMessage>()));
 		} catch (NoSuchMethodException e) {
 			e.printStackTrace();
 			fail("unable to find method named testMethod");
@@ -233,11 +331,11 @@ public class ServiceValidationAspectTest {
 
 	@Test
 	public final void testValidateRequest() {
-		LinkedList<ServiceMessage> messages = new LinkedList<ServiceMessage>();
 		Method testMethod = null;
 		try {
 			testMethod = this.getClass().getMethod("testMethod", String.class);
-			ReflectionTestUtils.invokeMethod(aspect, "validateRequest", new DomainResponse(), messages, testMethod);
+			assertNull(ReflectionTestUtils.invokeMethod(aspect, "validateInputsToTheMethod",
+					new Object[] { new DomainResponse() }, planFor(testMethod)));
 		} catch (NoSuchMethodException e) {
 			e.printStackTrace();
 			fail("unable to find method named testMethod");
@@ -252,7 +350,7 @@ public class ServiceValidationAspectTest {
 
 	@Test
 	public void testValidateInputsToTheMethodWithNullMethodParams() {
-		List<Object> methodParams = null;
+		Object[] methodParams = null;
 		Method testMethod = null;
 		try {
 			testMethod = this.getClass().getMethod("testMethod", String.class);
@@ -263,8 +361,21 @@ public class ServiceValidationAspectTest {
 			e.printStackTrace();
 			fail("unable to find method named testMethod");
 		}
-		assertNull(ReflectionTestUtils.invokeMethod(aspect, "validateInputsToTheMethod", methodParams, testMethod));
+		assertNull(ReflectionTestUtils.invokeMethod(aspect, "validateInputsToTheMethod", methodParams, planFor(testMethod)));
+
+	}
 
+	/**
+	 * The validation plan of a method, as the aspect builds it.
+	 */
+	private static Object planFor(final Method method) {
+		return ReflectionTestUtils.invokeMethod(ServiceValidationAspect.class, "planFor", method);
+	}
+
+	public static class TestSubRequest extends TestRequest {
+
+		/** The Constant serialVersionUID. */
+		private static final long serialVersionUID = 1L;
 	}
 
 	public void testMethod(final String testParam) {
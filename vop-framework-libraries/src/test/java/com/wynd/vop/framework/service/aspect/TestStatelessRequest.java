@@ -0,0 +1,10 @@
+package com.wynd.vop.framework.service.aspect;
+
+import com.wynd.vop.framework.service.DomainRequest;
+
+/**
+ * USED BY ServiceValidationAspectTest to test ServiceValidationAspect and StatelessValidator.
+ */
+public class TestStatelessRequest extends DomainRequest {
+	private static final long serialVersionUID = -2650731916385720263L;
+}
@@ -0,0 +1,30 @@
+package com.wynd.vop.framework.service.aspect.validators;
+
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import com.wynd.vop.framework.service.aspect.TestStatelessRequest;
+import com.wynd.vop.framework.validation.StatelessValidator;
+import com.wynd.vop.framework.validation.ValidationContext;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * USED BY ServiceValidationAspectTest to test ServiceValidationAspect and StatelessValidator.
+ */
+public class TestStatelessRequestValidator implements StatelessValidator<TestStatelessRequest> {
+
+	/** The number of instances created */
+	public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+	public TestStatelessRequestValidator() {
+		INSTANCES.incrementAndGet();
+	}
+
+	@Override
+	public void validate(final TestStatelessRequest toValidate, final ValidationContext context) {
+		if ((context.getCallingMethod() != null) && context.getCallingMethod().getName().contains("Sad")) {
+			context.addMessage(MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, MessageKeys.NO_KEY);
+		}
+	}
+}
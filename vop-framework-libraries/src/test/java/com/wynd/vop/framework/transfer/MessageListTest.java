@@ -0,0 +1,145 @@
+package com.wynd.vop.framework.transfer;
+
+import com.wynd.vop.framework.messages.MessageSeverity;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MessageListTest {
+
+	/** A list of severities, each being its own severity */
+	static class SeverityList extends MessageList<MessageSeverity> {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected MessageSeverity severityOf(final MessageSeverity message) {
+			return message;
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		SeverityList list = new SeverityList();
+		assertTrue(list.isEmpty());
+		for (MessageSeverity severity : MessageSeverity.values()) {
+			assertFalse(list.hasSeverity(severity));
+		}
+		assertEquals(new LinkedList<MessageSeverity>(), list);
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		SeverityList list = new SeverityList();
+		list.add(MessageSeverity.WARN);
+		list.addAll(Arrays.asList(MessageSeverity.ERROR, MessageSeverity.INFO, MessageSeverity.ERROR, null,
+				MessageSeverity.DEBUG));
+		list.add(0, MessageSeverity.FATAL);
+		assertEquals(Arrays.asList(MessageSeverity.FATAL, MessageSeverity.WARN, MessageSeverity.ERROR, MessageSeverity.INFO,
+				MessageSeverity.ERROR, null, MessageSeverity.DEBUG), list);
+		assertTrue(list.hasSeverity(MessageSeverity.FATAL));
+		assertTrue(list.hasSeverity(MessageSeverity.ERROR));
+		assertFalse(list.hasSeverity(MessageSeverity.TRACE));
+
+		list.remove(MessageSeverity.ERROR);
+		assertTrue(list.hasSeverity(MessageSeverity.ERROR));
+		list.remove(MessageSeverity.ERROR);
+		assertFalse(list.hasSeverity(MessageSeverity.ERROR));
+
+		list.set(0, MessageSeverity.TRACE);
+		assertFalse(list.hasSeverity(MessageSeverity.FATAL));
+		assertTrue(list.hasSeverity(MessageSeverity.TRACE));
+
+		Iterator<MessageSeverity> it = list.iterator();
+		while (it.hasNext()) {
+			if (it.next() == MessageSeverity.WARN) {
+				it.remove();
+			}
+		}
+		assertFalse(list.hasSeverity(MessageSeverity.WARN));
+		assertEquals(Arrays.asList(MessageSeverity.TRACE, MessageSeverity.INFO, null, MessageSeverity.DEBUG), list);
+
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertFalse(list.hasSeverity(MessageSeverity.INFO));
+	}
+
+	@Test
+	public void testSeverityChanged() {
+		MessageSeverity[] severity = { MessageSeverity.WARN };
+		MessageList<Object> list = new MessageList<Object>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected MessageSeverity severityOf(final Object message) {
+				return message == null ? null : severity[0];
+			}
+		};
+		list.add("message");
+		list.add(null);
+		assertTrue(list.hasSeverity(MessageSeverity.WARN));
+		severity[0] = MessageSeverity.ERROR;
+		assertFalse(list.hasSeverity(MessageSeverity.ERROR));
+		list.severityChanged();
+		assertTrue(list.hasSeverity(MessageSeverity.ERROR));
+		assertFalse(list.hasSeverity(MessageSeverity.WARN));
+		assertFalse(list.hasSeverity(null));
+	}
+
+	@Test
+	public void testAddAllToItself() {
+		SeverityList list = new SeverityList();
+		list.add(MessageSeverity.INFO);
+		list.add(MessageSeverity.WARN);
+		list.addAll(list);
+		assertEquals(Arrays.asList(MessageSeverity.INFO, MessageSeverity.WARN, MessageSeverity.INFO, MessageSeverity.WARN),
+				list);
+	}
+
+	@Test
+	public void testIndexOutOfBounds() {
+		SeverityList list = new SeverityList();
+		list.add(MessageSeverity.INFO);
+		try {
+			list.get(1);
+			fail("get(1) should throw");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+		try {
+			list.add(2, MessageSeverity.INFO);
+			fail("add(2) should throw");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		SeverityList list = new SeverityList();
+		list.addAll(Arrays.asList(MessageSeverity.ERROR, MessageSeverity.INFO));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(list);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			SeverityList read = (SeverityList) in.readObject();
+			assertEquals(list, read);
+			assertTrue(read.hasSeverity(MessageSeverity.ERROR));
+			assertFalse(read.hasSeverity(MessageSeverity.WARN));
+			read.add(MessageSeverity.WARN);
+			assertEquals(3, read.size());
+		}
+	}
+}
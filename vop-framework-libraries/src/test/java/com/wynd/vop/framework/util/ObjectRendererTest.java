@@ -0,0 +1,152 @@
+package com.wynd.vop.framework.util;
+
+import org.junit.Test;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ObjectRendererTest {
+
+	static class Parent {
+		private String parentField = "p";
+	}
+
+	static class Child extends Parent {
+		private static final String CONSTANT = "c";
+		private String name = "child";
+		private int count = 2;
+		private transient String skipped = "t";
+		private Child next;
+		private List<Object> items = new ArrayList<>();
+		private Map<String, Object> attributes = new LinkedHashMap<>();
+		@Sensitive(Sensitive.Mask.START)
+		private String ssn = "123456789";
+		@Sensitive
+		private Object password = new Parent();
+	}
+
+	static class Lazy {
+		@RenderedByGetter
+		private String text;
+		@RenderedByGetter
+		private String noGetter;
+
+		public String getText() {
+			if (text == null) {
+				text = "resolved";
+			}
+			return text;
+		}
+	}
+
+	@Test
+	public final void testObjectRenderer() throws NoSuchMethodException {
+		Constructor<ObjectRenderer> constructor = ReflectionUtils.accessibleConstructor(ObjectRenderer.class);
+		constructor.setAccessible(true);
+		try {
+			constructor.newInstance();
+			fail("Should have thrown exception");
+		} catch (Exception e) {
+			assertEquals(InvocationTargetException.class, e.getClass());
+			assertEquals(IllegalAccessError.class, e.getCause().getClass());
+			assertTrue(e.getCause().getMessage().contains("Do not instantiate"));
+		}
+	}
+
+	@Test
+	public final void testToString() {
+		Child child = new Child();
+		child.items.add("a");
+		child.attributes.put("k", null);
+
+		assertEquals("Child[attributes={k=<null>},count=2,items=[a],name=child,next=<null>,password=******,"
+				+ "ssn=*****6789,parentField=p]", ObjectRenderer.toString(child));
+	}
+
+	@Test
+	public final void testToJson() {
+		Child child = new Child();
+		child.name = "a \"quoted\" /path";
+		child.items.add(1);
+
+		assertEquals("{\"attributes\":{},\"count\":2,\"items\":[1],\"name\":\"a \\\"quoted\\\" \\/path\",\"next\":null,"
+				+ "\"password\":\"******\",\"ssn\":\"*****6789\",\"parentField\":\"p\"}", ObjectRenderer.toJson(child));
+	}
+
+	@Test
+	public final void testScalars() {
+		assertEquals(ObjectRenderer.NULL, ObjectRenderer.toString(null));
+		assertEquals("null", ObjectRenderer.toJson(null));
+		assertEquals("text", ObjectRenderer.toString("text"));
+		assertEquals("\"text\"", ObjectRenderer.toJson("text"));
+		assertEquals("42", ObjectRenderer.toJson(42));
+		assertEquals("[1,2]", ObjectRenderer.toString(new int[] { 1, 2 }));
+	}
+
+	@Test
+	public final void testCycles() {
+		Child child = new Child();
+		child.next = child;
+		child.items.add(child.items);
+
+		String rendered = ObjectRenderer.toString(child);
+		assertTrue(rendered.contains("items=[<cycle ArrayList@"));
+		assertTrue(rendered.contains("next=<cycle Child@"));
+	}
+
+	@Test
+	public final void testDepthLimit() {
+		Child child = new Child();
+		child.next = new Child();
+		child.next.next = new Child();
+
+		String rendered = ObjectRenderer.toString(child, 2, 10, 10000);
+		assertTrue(rendered.startsWith("Child[attributes={},count=2,items=[],name=child,next=Child[attributes="));
+		assertTrue(rendered.contains(",next=Child@"));
+	}
+
+	@Test
+	public final void testElementLimit() {
+		List<Integer> list = Arrays.asList(1, 2, 3, 4, 5);
+
+		assertEquals("[1,2,...(+3 more)]", ObjectRenderer.toString(list, 5, 2, 1000));
+		assertEquals("[1,2,\"...(+3 more)\"]", ObjectRenderer.toJson(list, 5, 2, 1000));
+		Map<String, Integer> map = new LinkedHashMap<>();
+		map.put("a", 1);
+		map.put("b", 2);
+		assertEquals("{a=1,...(+1 more)}", ObjectRenderer.toString(map, 5, 1, 1000));
+		assertEquals("{\"a\":1,\"...\":\"+1 more\"}", ObjectRenderer.toJson(map, 5, 1, 1000));
+	}
+
+	@Test
+	public final void testCharLimit() {
+		char[] chars = new char[100];
+		Arrays.fill(chars, 'x');
+		String rendered = ObjectRenderer.toString(Collections.singletonList(new String(chars)), 5, 10, 20);
+
+		assertEquals(20 + ObjectRenderer.TRUNCATED.length(), rendered.length());
+		assertTrue(rendered.endsWith(ObjectRenderer.TRUNCATED));
+		assertEquals(20 + ObjectRenderer.TRUNCATED.length(),
+				ObjectRenderer.toJson(Collections.singletonList(new String(chars)), 5, 10, 20).length());
+	}
+
+	@Test
+	public final void testRenderedByGetter() {
+		assertEquals("Lazy[noGetter=<null>,text=resolved]", ObjectRenderer.toString(new Lazy()));
+		assertEquals("{\"noGetter\":null,\"text\":\"resolved\"}", ObjectRenderer.toJson(new Lazy()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public final void testInvalidLimits() {
+		ObjectRenderer.toString("x", -1, 1, 1);
+	}
+}
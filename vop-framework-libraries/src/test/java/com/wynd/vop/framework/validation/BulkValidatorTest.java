@@ -0,0 +1,205 @@
+package com.wynd.vop.framework.validation;
+
+import com.wynd.vop.framework.messages.MessageKey;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import com.wynd.vop.framework.messages.ServiceMessage;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class BulkValidatorTest {
+
+	/** A message key whose text is the first param */
+	private static final MessageKey ITEM = new MessageKey() {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public String getKey() {
+			return "item";
+		}
+
+		@Override
+		public String getMessage(final String... params) {
+			return params[0];
+		}
+	};
+
+	@Test
+	public void testSequentialAndParallelMessagesAreTheSame() {
+		List<Integer> items = items(10_000);
+		for (boolean failFast : new boolean[] { false, true }) {
+			List<ServiceMessage> sequential = validate(new ItemValidator(items.size() + 1, 7, failFast), items);
+			List<ServiceMessage> parallel = validate(new ItemValidator(100, 7, failFast), items);
+			assertEquals(texts(sequential), texts(parallel));
+		}
+	}
+
+	@Test
+	public void testMessagesInItemOrder() {
+		List<ServiceMessage> messages = validate(new ItemValidator(100, 7, false), items(10_000));
+		// warnings for multiples of 1000, errors for 1234 and 5678
+		assertEquals(12, messages.size());
+		assertEquals("0", messages.get(0).getText());
+		assertEquals("1000", messages.get(1).getText());
+		assertEquals("1234", messages.get(2).getText());
+		assertEquals(MessageSeverity.ERROR, messages.get(2).getSeverity());
+		assertEquals("9000", messages.get(11).getText());
+	}
+
+	@Test
+	public void testFailFastStopsAtFirstError() {
+		List<ServiceMessage> messages = validate(new ItemValidator(100, 7, true), items(10_000));
+		assertEquals(3, messages.size());
+		assertEquals("1234", messages.get(2).getText());
+	}
+
+	@Test
+	public void testParallelValidationUsesPool() {
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		ItemValidator validator = new ItemValidator(10, 10, false) {
+			@Override
+			protected void validateItem(final Integer item, final int index, final List<ServiceMessage> messages) {
+				threads.add(Thread.currentThread().getName());
+			}
+		};
+		// not random access, is copied
+		validate(validator, new LinkedList<>(items(1000)));
+		assertTrue(threads.contains(Thread.currentThread().getName()));
+		if (Runtime.getRuntime().availableProcessors() > 1) {
+			assertTrue(threads.stream().anyMatch(name -> name.startsWith("vop-bulk-validator-")));
+		}
+	}
+
+	@Test
+	public void testRequestErrorInFailFastMode() {
+		ItemValidator validator = new ItemValidator(100, 10, true) {
+			@Override
+			protected void validateRequest(final List<Integer> toValidate, final List<ServiceMessage> messages) {
+				messages.add(new ServiceMessage(MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, ITEM, "request"));
+			}
+		};
+		List<ServiceMessage> messages = validate(validator, items(1000));
+		assertEquals(1, messages.size());
+		assertEquals("request", messages.get(0).getText());
+	}
+
+	@Test
+	public void testEmptyItems() {
+		assertTrue(validate(new ItemValidator(10, 10, false), Collections.emptyList()).isEmpty());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testItemException() {
+		ItemValidator validator = new ItemValidator(10, 10, false) {
+			@Override
+			protected void validateItem(final Integer item, final int index, final List<ServiceMessage> messages) {
+				if (item == 555) {
+					throw new IllegalStateException("item " + item);
+				}
+			}
+		};
+		validator.validate(items(1000), new ArrayList<>());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidChunkSize() {
+		new ItemValidator(10, 0, false);
+	}
+
+	@Test
+	public void testFailFastStopsRunningChunks() throws Exception {
+		ForkJoinPool pool = new ForkJoinPool(1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch failed = new CountDownLatch(1);
+		AtomicInteger validatedAfterFailure = new AtomicInteger();
+		ItemValidator validator = new ItemValidator(100, 100, true) {
+			@Override
+			protected ForkJoinPool getPool() {
+				return pool;
+			}
+
+			@Override
+			protected void validateItem(final Integer item, final int index, final List<ServiceMessage> messages) {
+				try {
+					if (item == 0) {
+						// fail once the second chunk is running
+						assertTrue(started.await(10, TimeUnit.SECONDS));
+						messages.add(new ServiceMessage(MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, ITEM, "0"));
+					} else if (item == 100) {
+						started.countDown();
+						assertTrue(failed.await(10, TimeUnit.SECONDS));
+					} else if (item > 100) {
+						validatedAfterFailure.incrementAndGet();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		List<ServiceMessage> messages = validate(validator, items(200));
+		failed.countDown();
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(Collections.singletonList("0"), texts(messages));
+		assertEquals(0, validatedAfterFailure.get());
+	}
+
+	private static List<ServiceMessage> validate(final ItemValidator validator, final List<Integer> items) {
+		List<ServiceMessage> messages = new ArrayList<>();
+		validator.initValidate(items, messages);
+		return messages;
+	}
+
+	private static List<Integer> items(final int size) {
+		List<Integer> items = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			items.add(i);
+		}
+		return items;
+	}
+
+	private static List<String> texts(final List<ServiceMessage> messages) {
+		List<String> texts = new ArrayList<>();
+		for (ServiceMessage message : messages) {
+			texts.add(message.getText());
+		}
+		return texts;
+	}
+
+	/**
+	 * Adds a warning for multiples of 1000, and an error for 1234 and 5678.
+	 */
+	private static class ItemValidator extends BulkValidator<List<Integer>, Integer> {
+
+		ItemValidator(final int threshold, final int chunkSize, final boolean failFast) {
+			super(threshold, chunkSize, failFast);
+		}
+
+		@Override
+		protected List<Integer> getItems(final List<Integer> toValidate) {
+			return toValidate;
+		}
+
+		@Override
+		protected void validateItem(final Integer item, final int index, final List<ServiceMessage> messages) {
+			if ((item == 1234) || (item == 5678)) {
+				messages.add(new ServiceMessage(MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, ITEM, item.toString()));
+			} else if ((item % 1000) == 0) {
+				messages.add(new ServiceMessage(MessageSeverity.WARN, HttpStatus.OK, ITEM, item.toString()));
+			}
+		}
+	}
+}
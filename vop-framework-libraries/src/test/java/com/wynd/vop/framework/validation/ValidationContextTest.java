@@ -0,0 +1,69 @@
+package com.wynd.vop.framework.validation;
+
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import com.wynd.vop.framework.messages.ServiceMessage;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ValidationContextTest {
+
+	@Test
+	public void testCallingMethod() throws NoSuchMethodException {
+		Method method = ValidationContextTest.class.getMethod("testMethod", String.class);
+		ValidationContext context = new ValidationContext(method, null);
+		assertEquals(method, context.getCallingMethod());
+		assertEquals("ValidationContextTest.testMethod: ", context.getCallingMethodName());
+
+		assertNull(new ValidationContext(null, null).getCallingMethod());
+		assertEquals("", new ValidationContext(null, null).getCallingMethodName());
+	}
+
+	@Test
+	public void testMessages() {
+		List<ServiceMessage> messages = new ArrayList<>();
+		ValidationContext context = new ValidationContext(null, messages);
+		assertSame(messages, context.getMessages());
+		assertFalse(context.hasMessages());
+
+		context.addMessage(MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, MessageKeys.NO_KEY);
+		context.addMessage(new ServiceMessage(MessageSeverity.WARN, HttpStatus.OK, MessageKeys.NO_KEY));
+		assertTrue(context.hasMessages());
+		assertEquals(2, messages.size());
+		assertEquals(MessageSeverity.ERROR, messages.get(0).getSeverity());
+
+		ValidationContext noList = new ValidationContext(null, null);
+		assertNotNull(noList.getMessages());
+		noList.addMessage(MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, MessageKeys.NO_KEY);
+		assertEquals(1, noList.getMessages().size());
+	}
+
+	@Test
+	public void testSupplemental() {
+		ValidationContext empty = new ValidationContext(null, null);
+		assertFalse(empty.hasSupplemental());
+		assertFalse(empty.hasSupplemental(String.class));
+		assertNull(empty.getSupplemental(String.class));
+
+		Integer number = 1;
+		ValidationContext context = new ValidationContext(null, null, "request", null, number);
+		assertTrue(context.hasSupplemental());
+		assertEquals(3, context.getSupplemental().length);
+		assertTrue(context.hasSupplemental(String.class));
+		assertEquals("request", context.getSupplemental(String.class));
+		assertSame(number, context.getSupplemental(Integer.class));
+		// exact type only
+		assertFalse(context.hasSupplemental(Number.class));
+		assertNull(context.getSupplemental(null));
+	}
+
+	public void testMethod(final String testParam) {
+		// do nothing
+	}
+}
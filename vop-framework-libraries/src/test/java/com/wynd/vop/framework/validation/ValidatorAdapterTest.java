@@ -0,0 +1,56 @@
+package com.wynd.vop.framework.validation;
+
+import com.wynd.vop.framework.exception.VopRuntimeException;
+import com.wynd.vop.framework.messages.MessageKeys;
+import com.wynd.vop.framework.messages.MessageSeverity;
+import com.wynd.vop.framework.messages.ServiceMessage;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ValidatorAdapterTest {
+
+	@Test
+	public void testValidate() throws NoSuchMethodException {
+		Method method = ValidatorAdapterTest.class.getMethod("testMethod", String.class);
+		List<ServiceMessage> messages = new ArrayList<>();
+		ValidatorAdapter<Object> adapter = new ValidatorAdapter<>(StringValidator.class);
+		assertEquals(StringValidator.class, adapter.getValidatorClass());
+
+		adapter.validate("", new ValidationContext(method, messages, "supplemental"));
+		assertEquals(1, messages.size());
+		assertEquals(MessageKeys.NO_KEY.getKey(), messages.get(0).getKey());
+
+		adapter.validate("valid", new ValidationContext(method, messages));
+		assertEquals(1, messages.size());
+	}
+
+	@Test(expected = VopRuntimeException.class)
+	public void testValidateNotInstantiable() {
+		new ValidatorAdapter<Object>(AbstractStringValidator.class).validate("", new ValidationContext(null, null));
+	}
+
+	public void testMethod(final String testParam) {
+		// do nothing
+	}
+
+	public abstract static class AbstractStringValidator extends AbstractStandardValidator<String> {
+	}
+
+	public static class StringValidator extends AbstractStringValidator {
+
+		@Override
+		public void validate(final String toValidate, final List<ServiceMessage> messages) {
+			// the calling method and supplemental objects come from the context
+			if (toValidate.isEmpty() && "ValidatorAdapterTest.testMethod: ".equals(getCallingMethodName())
+					&& "supplemental".equals(getSupplemental(String.class))) {
+				messages.add(new ServiceMessage(MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, MessageKeys.NO_KEY));
+			}
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.wynd.vop.framework.validation;
+
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+
+/**
+ * The Class ValidatorIndexProcessorTest.
+ */
+public class ValidatorIndexProcessorTest {
+
+	private static final JavaFileObject REQUEST =
+			JavaFileObjects.forSourceLines(
+					"test.model.PersonRequest",
+					"package test.model;",
+					"",
+					"public class PersonRequest extends com.wynd.vop.framework.service.DomainRequest {",
+					"  public static class Address extends com.wynd.vop.framework.service.DomainRequest {",
+					"  }",
+					"}");
+
+	private static final JavaFileObject RESPONSE =
+			JavaFileObjects.forSourceLines(
+					"test.model.PersonResponse",
+					"package test.model;",
+					"",
+					"public class PersonResponse extends com.wynd.vop.framework.service.DomainResponse {",
+					"}");
+
+	private static final JavaFileObject ABSTRACT_REQUEST =
+			JavaFileObjects.forSourceLines(
+					"test.model.AbstractRequest",
+					"package test.model;",
+					"",
+					"public abstract class AbstractRequest extends com.wynd.vop.framework.service.DomainRequest {",
+					"}");
+
+	private static final JavaFileObject REQUEST_VALIDATOR =
+			JavaFileObjects.forSourceLines(
+					"test.model.validators.PersonRequestValidator",
+					"package test.model.validators;",
+					"",
+					"import com.wynd.vop.framework.messages.ServiceMessage;",
+					"import com.wynd.vop.framework.validation.AbstractStandardValidator;",
+					"import test.model.PersonRequest;",
+					"",
+					"public class PersonRequestValidator extends AbstractStandardValidator<PersonRequest> {",
+					"  @Override",
+					"  public void validate(final PersonRequest toValidate, final java.util.List<ServiceMessage> messages) {",
+					"  }",
+					"}");
+
+	private static final JavaFileObject ADDRESS_VALIDATOR =
+			JavaFileObjects.forSourceLines(
+					"test.model.validators.AddressValidator",
+					"package test.model.validators;",
+					"",
+					"import com.wynd.vop.framework.validation.StatelessValidator;",
+					"import com.wynd.vop.framework.validation.ValidationContext;",
+					"import test.model.PersonRequest;",
+					"",
+					"public class AddressValidator implements StatelessValidator<PersonRequest.Address> {",
+					"  @Override",
+					"  public void validate(final PersonRequest.Address toValidate, final ValidationContext context) {",
+					"  }",
+					"}");
+
+	private static final JavaFileObject OTHER_VALIDATOR =
+			JavaFileObjects.forSourceLines(
+					"test.other.StringCheck",
+					"package test.other;",
+					"",
+					"import com.wynd.vop.framework.validation.StatelessValidator;",
+					"import com.wynd.vop.framework.validation.ValidationContext;",
+					"",
+					"public class StringCheck implements StatelessValidator<String> {",
+					"  @Override",
+					"  public void validate(final String toValidate, final ValidationContext context) {",
+					"  }",
+					"}");
+
+	@Test
+	public void testIndex() {
+		assertAbout(javaSources())
+				.that(Arrays.asList(REQUEST, RESPONSE, ABSTRACT_REQUEST, REQUEST_VALIDATOR, ADDRESS_VALIDATOR, OTHER_VALIDATOR))
+				.processedWith(new ValidatorIndexProcessor())
+				.compilesWithoutError()
+				.and()
+				.generatesFileNamed(StandardLocation.CLASS_OUTPUT, "", ValidatorIndex.LOCATION)
+				.withStringContents(StandardCharsets.UTF_8,
+						"# Generated by com.wynd.vop.framework.validation.ValidatorIndexProcessor\n"
+								+ "test.model.PersonRequest=test.model.validators.PersonRequestValidator\n"
+								+ "test.model.PersonRequest$Address=test.model.validators.AddressValidator\n"
+								+ "test.model.PersonResponse=\n");
+	}
+
+	@Test
+	public void testNoIndexWithoutModels() {
+		assertAbout(javaSources())
+				.that(Arrays.asList(OTHER_VALIDATOR))
+				.processedWith(new ValidatorIndexProcessor())
+				.compilesWithoutError();
+	}
+}
@@ -0,0 +1,71 @@
+package com.wynd.vop.framework.validation;
+
+import com.wynd.vop.framework.service.DomainRequest;
+import com.wynd.vop.framework.service.DomainResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class ValidatorIndexTest {
+
+	private Path root;
+
+	@Before
+	public void setUp() throws IOException {
+		root = Files.createTempDirectory("vop-validator-index");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(root)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Test
+	public void testLoadAndMerge() throws IOException {
+		URL api = writeIndex("api", DomainRequest.class.getName() + "=\n" + DomainResponse.class.getName() + "=\n");
+		URL service = writeIndex("service", "# comment\n" + DomainRequest.class.getName() + "=test.validators.DomainRequestValidator\n");
+
+		// a validator wins over an empty value, in either order
+		for (URL[] urls : new URL[][] { { api, service }, { service, api } }) {
+			try (URLClassLoader classLoader = new URLClassLoader(urls, null)) {
+				ValidatorIndex index = ValidatorIndex.load(classLoader);
+				assertEquals(2, index.size());
+				assertEquals("test.validators.DomainRequestValidator", index.getValidatorName(DomainRequest.class));
+				assertTrue(index.contains(DomainResponse.class));
+				assertNull(index.getValidatorName(DomainResponse.class));
+				assertFalse(index.contains(String.class));
+				assertNull(index.getValidatorName(String.class));
+			}
+		}
+	}
+
+	@Test
+	public void testLoadWithoutIndex() throws IOException {
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() }, null)) {
+			ValidatorIndex index = ValidatorIndex.load(classLoader);
+			assertEquals(0, index.size());
+			assertNull(index.getValidatorName(DomainRequest.class));
+		}
+	}
+
+	private URL writeIndex(final String jar, final String contents) throws IOException {
+		Path dir = root.resolve(jar);
+		Path file = dir.resolve(ValidatorIndex.LOCATION);
+		Files.createDirectories(file.getParent());
+		Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+		return dir.toUri().toURL();
+	}
+}